@@ -0,0 +1,66 @@
+package com.loa.scheduler.benchmark;
+
+import com.loa.scheduler.controller.EventController;
+import com.loa.scheduler.service.DataVersionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.lang.reflect.Field;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EventController.broadcastUpdate fan-out 비용 (연결 수별)
+ * 네트워크 대신 이벤트를 만들기만 하고 버리는 emitter 를 사용하므로
+ * 루프, 이벤트 생성, 메트릭 기록 비용만 측정된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BroadcastBenchmark {
+
+    @Param({"10", "50", "500"})
+    public int emitterCount;
+
+    private EventController eventController;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        eventController = new EventController(new SimpleMeterRegistry());
+        Field versions = EventController.class.getDeclaredField("dataVersionService");
+        versions.setAccessible(true);
+        versions.set(eventController, new DataVersionService());
+
+        // 연결 등록은 HTTP 요청(subscribe)으로만 가능하므로 내부 집합에 직접 추가
+        Field field = EventController.class.getDeclaredField("emitters");
+        field.setAccessible(true);
+        @SuppressWarnings("unchecked")
+        Set<SseEmitter> emitters = (Set<SseEmitter>) field.get(eventController);
+        for (int i = 0; i < emitterCount; i++) {
+            emitters.add(new DiscardingEmitter());
+        }
+    }
+
+    @Benchmark
+    public void broadcastUpdate() {
+        eventController.broadcastUpdate("schedule-batch-saved", "스케줄이 일괄 저장되었습니다.");
+    }
+
+    /**
+     * 이벤트를 직렬화까지만 하고 버리는 emitter
+     */
+    static final class DiscardingEmitter extends SseEmitter {
+        @Override
+        public void send(SseEventBuilder builder) {
+            builder.build();
+        }
+    }
+}
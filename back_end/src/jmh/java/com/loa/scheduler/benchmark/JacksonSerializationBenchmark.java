@@ -0,0 +1,94 @@
+package com.loa.scheduler.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loa.scheduler.entity.Charactors;
+import com.loa.scheduler.entity.Schedule;
+import com.loa.scheduler.entity.UserSchedule;
+import com.loa.scheduler.service.JsonResponseCache;
+import com.loa.scheduler.service.JsonResponseCache.CachedBody;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 조회 API 응답(엔티티 목록) Jackson 직렬화 비용
+ * ObjectMapper 는 Spring 과 같은 빌더로 만들어서 등록 모듈과 기본 설정을 맞춘다.
+ * cachedSchedules 는 같은 목록을 JsonResponseCache 에서 꺼내 출력 스트림에 쓰는 비용 (schedules 와 비교)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JacksonSerializationBenchmark {
+
+    private static final String[] DAYS = {"WEDNESDAY", "THURSDAY", "FRIDAY", "SATURDAY", "SUNDAY", "MONDAY", "TUESDAY"};
+
+    @Param({"100", "1000"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private List<Schedule> schedules;
+    private List<Charactors> characters;
+    private List<UserSchedule> userSchedules;
+    private JsonResponseCache responseCache;
+
+    @Setup
+    public void setup() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        schedules = new ArrayList<>(size);
+        characters = new ArrayList<>(size);
+        userSchedules = new ArrayList<>(size);
+        LocalDate weekStart = LocalDate.of(2025, 1, 1);
+        for (int i = 0; i < size; i++) {
+            schedules.add(new Schedule((i / 32 + 1) + "파티", "레이드" + (i % 8), "캐릭터" + i, i % 3 == 0 ? "Y" : "N"));
+            characters.add(new Charactors("캐릭터" + i, i % 4 == 0 ? "Y" : "N", "유저" + (i % 10), i % 6 + 1));
+            UserSchedule userSchedule = new UserSchedule("유저" + (i % 10), DAYS[i % DAYS.length], 1, "21시 이후 가능", "Y");
+            userSchedule.setWeekStart(weekStart);
+            userSchedules.add(userSchedule);
+        }
+
+        responseCache = new JsonResponseCache(new SimpleMeterRegistry(), true, Long.MAX_VALUE, Long.MAX_VALUE / 1_000_000);
+        try {
+            responseCache.put("schedule:all", CachedBody.of(1, objectMapper.writeValueAsBytes(schedules)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Benchmark
+    public byte[] schedules() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(schedules);
+    }
+
+    @Benchmark
+    public int cachedSchedules() {
+        CachedBody body = responseCache.get("schedule:all", 1);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.getGzipped().length);
+        out.writeBytes(body.getGzipped());
+        return out.size();
+    }
+
+    @Benchmark
+    public byte[] characters() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(characters);
+    }
+
+    @Benchmark
+    public byte[] userSchedules() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(userSchedules);
+    }
+}
@@ -0,0 +1,151 @@
+package com.loa.scheduler.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import com.loa.scheduler.util.SamplingTurboFilter;
+import net.logstash.logback.encoder.LogstashEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.slf4j.Logger;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 스레드 입장에서의 로그 한 줄 비용 비교 (SSE 브로드캐스트 로그 기준)
+ * - systemOut: 기존 System.out.println (autoflush, 줄마다 write 시스템 콜 + 스트림 잠금)
+ * - syncPattern: SLF4J + 동기 appender
+ * - asyncJson: SLF4J + AsyncAppender + JSON Lines (docker 프로필 설정)
+ * - asyncJsonSampled: 위 설정 + 카테고리 샘플링 (20건 중 1건)
+ * 출력은 모두 null 장치로 보내므로 터미널 속도는 결과에 포함되지 않는다.
+ * async 는 운영 설정과 같이 neverBlock 이므로 큐가 가득 차면 INFO 는 버려진다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class LoggingBenchmark {
+
+    private static final String CATEGORY = "com.loa.scheduler.sse.broadcast";
+    private static final String EVENT_TYPE = "schedule-batch-saved";
+
+    private PrintStream stdout;
+    private LoggerContext syncContext;
+    private LoggerContext asyncContext;
+    private LoggerContext sampledContext;
+    private Logger syncLogger;
+    private Logger asyncLogger;
+    private Logger sampledLogger;
+
+    private int connections = 42;
+
+    @Setup
+    public void setup() throws FileNotFoundException {
+        stdout = new PrintStream(new FileOutputStream(nullDevice()), true, StandardCharsets.UTF_8);
+
+        syncContext = createContext(false, false, 1);
+        asyncContext = createContext(true, true, 1);
+        sampledContext = createContext(true, true, 20);
+        syncLogger = syncContext.getLogger(CATEGORY);
+        asyncLogger = asyncContext.getLogger(CATEGORY);
+        sampledLogger = sampledContext.getLogger(CATEGORY);
+    }
+
+    @TearDown
+    public void tearDown() {
+        syncContext.stop();
+        asyncContext.stop();
+        sampledContext.stop();
+        stdout.close();
+    }
+
+    @Benchmark
+    public void systemOut() {
+        stdout.println("SSE 브로드캐스트: " + EVENT_TYPE + " - 활성 연결 수: " + connections);
+    }
+
+    @Benchmark
+    public void syncPattern() {
+        syncLogger.info("SSE 브로드캐스트: {} - 활성 연결 수: {}", EVENT_TYPE, connections);
+    }
+
+    @Benchmark
+    public void asyncJson() {
+        asyncLogger.info("SSE 브로드캐스트: {} - 활성 연결 수: {}", EVENT_TYPE, connections);
+    }
+
+    @Benchmark
+    public void asyncJsonSampled() {
+        sampledLogger.info("SSE 브로드캐스트: {} - 활성 연결 수: {}", EVENT_TYPE, connections);
+    }
+
+    private static LoggerContext createContext(boolean json, boolean async, int sampleRate) throws FileNotFoundException {
+        LoggerContext context = new LoggerContext();
+
+        Encoder<ILoggingEvent> encoder;
+        if (json) {
+            LogstashEncoder jsonEncoder = new LogstashEncoder();
+            jsonEncoder.setIncludeCallerData(false);
+            encoder = jsonEncoder;
+        } else {
+            PatternLayoutEncoder patternEncoder = new PatternLayoutEncoder();
+            patternEncoder.setPattern("%d %-5level [%thread] %logger - %msg%n");
+            encoder = patternEncoder;
+        }
+        encoder.setContext(context);
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> output = new OutputStreamAppender<>();
+        output.setContext(context);
+        output.setEncoder(encoder);
+        output.setOutputStream(new FileOutputStream(nullDevice()));
+        output.start();
+
+        Appender<ILoggingEvent> appender = output;
+        if (async) {
+            AsyncAppender asyncAppender = new AsyncAppender();
+            asyncAppender.setContext(context);
+            asyncAppender.setQueueSize(8192);
+            asyncAppender.setNeverBlock(true);
+            asyncAppender.setIncludeCallerData(false);
+            asyncAppender.addAppender(output);
+            asyncAppender.start();
+            appender = asyncAppender;
+        }
+
+        if (sampleRate > 1) {
+            SamplingTurboFilter filter = new SamplingTurboFilter();
+            filter.setContext(context);
+            filter.setLoggerPrefix(CATEGORY);
+            filter.setSampleRate(sampleRate);
+            filter.start();
+            context.addTurboFilter(filter);
+        }
+
+        ch.qos.logback.classic.Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(appender);
+        return context;
+    }
+
+    private static File nullDevice() {
+        return new File(System.getProperty("os.name").startsWith("Windows") ? "NUL" : "/dev/null");
+    }
+}
@@ -0,0 +1,64 @@
+package com.loa.scheduler.benchmark;
+
+import com.loa.scheduler.entity.ScheduleId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ScheduleId (raid_schedule 복합 키) hashCode / equals 비용
+ * 영속성 컨텍스트와 일괄 저장 중복 제거에서 키마다 호출된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ScheduleIdBenchmark {
+
+    private static final int MAP_SIZE = 1000;
+
+    private ScheduleId id;
+    private ScheduleId equalId;
+    private ScheduleId differentId;
+    private Map<ScheduleId, Integer> map;
+
+    @Setup
+    public void setup() {
+        id = new ScheduleId("3파티", "하기르", "캐릭터500");
+        // 같은 값의 다른 인스턴스 (동일 참조 비교로 끝나지 않도록)
+        equalId = new ScheduleId(new String("3파티"), new String("하기르"), new String("캐릭터500"));
+        differentId = new ScheduleId("3파티", "하기르", "캐릭터501");
+
+        map = new HashMap<>();
+        for (int i = 0; i < MAP_SIZE; i++) {
+            map.put(new ScheduleId((i / 100 + 1) + "파티", "하기르", "캐릭터" + i), i);
+        }
+    }
+
+    @Benchmark
+    public int hashCodeOnly() {
+        return id.hashCode();
+    }
+
+    @Benchmark
+    public boolean equalsSameValue() {
+        return id.equals(equalId);
+    }
+
+    @Benchmark
+    public boolean equalsDifferentValue() {
+        return id.equals(differentId);
+    }
+
+    @Benchmark
+    public Integer hashMapLookup() {
+        return map.get(equalId);
+    }
+}
@@ -0,0 +1,71 @@
+package com.loa.scheduler.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loa.scheduler.entity.Schedule;
+import com.loa.scheduler.entity.ScheduleId;
+import com.loa.scheduler.util.SchedulePayloadParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스케줄 일괄 저장 요청(Map<String, Object>) 변환 비용
+ * - parse: 이미 역직렬화된 Map 을 행 목록으로 변환
+ * - readAndParse: 요청 본문 JSON 역직렬화 + 변환 (컨트롤러가 실제로 하는 일)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SchedulePayloadBenchmark {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    // 파티-레이드 칸 수 (칸마다 캐릭터 4명)
+    @Param({"16", "128"})
+    public int slotCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Map<String, Object> payload;
+    private byte[] payloadJson;
+
+    @Setup
+    public void setup() throws IOException {
+        Map<String, Object> schedules = new LinkedHashMap<>();
+        Map<String, Boolean> scheduleFinish = new HashMap<>();
+        for (int slot = 0; slot < slotCount; slot++) {
+            String key = (slot / 8 + 1) + "파티-레이드" + (slot % 8);
+            List<Map<String, Object>> characters = new ArrayList<>();
+            for (int member = 0; member < 4; member++) {
+                characters.add(Map.of("name", "캐릭터" + slot + "_" + member, "isSupporter", member == 3 ? "Y" : "N"));
+            }
+            schedules.put(key, characters);
+            scheduleFinish.put(key, slot % 3 == 0);
+        }
+        payload = Map.of("schedules", schedules, "scheduleFinish", scheduleFinish);
+        payloadJson = objectMapper.writeValueAsBytes(payload);
+    }
+
+    @Benchmark
+    public Map<ScheduleId, Schedule> parse() {
+        return SchedulePayloadParser.parse(payload);
+    }
+
+    @Benchmark
+    public Map<ScheduleId, Schedule> readAndParse() throws IOException {
+        return SchedulePayloadParser.parse(objectMapper.readValue(payloadJson, MAP_TYPE));
+    }
+}
@@ -0,0 +1,380 @@
+package com.loa.scheduler.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.loa.scheduler.entity.Schedule;
+import com.loa.scheduler.repository.ScheduleRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.File;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 편집 지연 비교 - REST(/api/batch) + SSE 경로와 편집 웹소켓(/api/ws) 경로
+ * 편집자 한 명이 드래그 저장(schedule-replace)을 순서대로 보내고, 두 경로를 번갈아 가며 측정한다.
+ * - ack: 명령을 보낸 뒤 응답(REST 응답 / 웹소켓 ack)을 받을 때까지
+ * - ownEvent: 명령을 보낸 뒤 편집자 자신의 연결(SSE / 웹소켓)에 변경 이벤트가 올 때까지
+ * - observerLag: 명령을 보낸 뒤 다른 구독자에 변경 이벤트가 올 때까지 (SSE / 웹소켓 구독자 각각 같은 수)
+ *   변경 이벤트는 어느 경로의 명령이든 두 채널에 모두 가므로 명령 경로가 아닌 전달 채널별 지연이고,
+ *   SSE 구독자에게 먼저 보낸 뒤 웹소켓 연결에 보내므로 웹소켓 쪽에는 SSE fan-out 시간이 더해진다.
+ *
+ * 실행: ./gradlew editLatency [-Ploadtest.edit-samples=300 -Ploadtest.edit-observers=200]
+ * 결과: build/reports/loadtest/edit-latency.json
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+class EditLatencyTest {
+
+    private static final Logger log = LoggerFactory.getLogger(EditLatencyTest.class);
+
+    private static final int SAMPLES = Integer.getInteger("loadtest.edit-samples", 300);
+    private static final int WARMUP = Integer.getInteger("loadtest.edit-warmup", 30);
+    private static final int OBSERVERS = Integer.getInteger("loadtest.edit-observers", 200);
+
+    private static final String REPORT_PATH = System.getProperty("loadtest.edit-report", "build/reports/loadtest/edit-latency.json");
+
+    private static final int PARTIES = 6;
+    private static final String[] RAIDS = {"발탄", "비아키스", "쿠크세이튼", "아브렐슈드", "일리아칸", "카멘", "에키드나", "베히모스"};
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @DynamicPropertySource
+    static void connectionLimits(DynamicPropertyRegistry registry) {
+        registry.add("sse.max-connections", () -> OBSERVERS + 10);
+        registry.add("websocket.max-sessions", () -> OBSERVERS + 10);
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final HttpClient client = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(10))
+        .build();
+
+    private final Path rest = new Path();
+    private final Path socket = new Path();
+    private final LongAdder errors = new LongAdder();
+    private final List<AutoCloseable> connections = new ArrayList<>();
+
+    // 편집자 연결이 받은 변경 이벤트 수신 시각, 웹소켓 ack
+    private final BlockingQueue<Long> restEvents = new LinkedBlockingQueue<>();
+    private final BlockingQueue<Long> socketEvents = new LinkedBlockingQueue<>();
+    private final BlockingQueue<JsonNode> socketAcks = new LinkedBlockingQueue<>();
+
+    // 진행 중인 명령 - 구독자는 이 명령의 전송 시각 기준으로 지연을 기록
+    private volatile Round currentRound = new Round(System.nanoTime(), 0, false);
+
+    private String baseUrl;
+
+    @BeforeEach
+    void seed() {
+        baseUrl = "http://localhost:" + port;
+        List<Schedule> schedules = new ArrayList<>();
+        for (int p = 1; p <= PARTIES; p++) {
+            for (String raid : RAIDS) {
+                schedules.add(new Schedule(p + "파티", raid, "캐릭터" + p, "N"));
+            }
+        }
+        scheduleRepository.saveAll(schedules);
+    }
+
+    @AfterEach
+    void closeConnections() throws Exception {
+        for (AutoCloseable connection : connections) {
+            connection.close();
+        }
+    }
+
+    @Test
+    void compareRestSseWithWebSocket() throws Exception {
+        // 편집자: REST 용 SSE 연결 1개, 웹소켓 연결 1개
+        openSse("10.0.0.1", restEvents, null);
+        WebSocket editor = openSocket(socketEvents, socketAcks, null);
+
+        // 다른 구독자: 경로마다 같은 수
+        for (int i = 0; i < OBSERVERS; i++) {
+            openSse("10.1." + (i >> 8 & 255) + "." + (i & 255), null, rest.observerLag);
+            openSocket(null, null, socket.observerLag);
+        }
+
+        for (int i = 0; i < WARMUP + SAMPLES; i++) {
+            boolean record = i >= WARMUP;
+            // 순서에 따른 편향을 줄이기 위해 매번 먼저 보내는 경로를 바꿈
+            if (i % 2 == 0) {
+                editOverRest(i, record);
+                editOverSocket(i, editor, record);
+            } else {
+                editOverSocket(i, editor, record);
+                editOverRest(i, record);
+            }
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("samples", SAMPLES);
+        report.put("observersPerChannel", OBSERVERS);
+        report.put("errors", errors.sum());
+        report.put("restSse", rest.summary(2));
+        report.put("webSocket", socket.summary(1));
+        File file = new File(REPORT_PATH);
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        objectMapper.writeValue(file, report);
+        log.info("편집 지연 비교 결과 ({}): {}", REPORT_PATH, objectMapper.writeValueAsString(report));
+
+        assertThat(errors.sum()).as("실패한 명령 수").isZero();
+        assertThat(rest.ownEvent.count()).isEqualTo(SAMPLES);
+        assertThat(socket.ownEvent.count()).isEqualTo(SAMPLES);
+    }
+
+    private void editOverRest(int sample, boolean record) throws Exception {
+        byte[] body = objectMapper.writeValueAsBytes(Map.of("operations", List.of(operation(sample))));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/batch"))
+            .timeout(Duration.ofSeconds(TIMEOUT_SECONDS))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+            .build();
+
+        long start = begin(record);
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        long acked = System.nanoTime();
+        if (response.statusCode() >= 400) {
+            errors.increment();
+            return;
+        }
+        finish(rest, start, acked, restEvents.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS), record);
+    }
+
+    private void editOverSocket(int sample, WebSocket editor, boolean record) throws Exception {
+        Map<String, Object> command = Map.of("id", "c" + sample, "type", "batch", "operations", List.of(operation(sample)));
+        String json = objectMapper.writeValueAsString(command);
+
+        long start = begin(record);
+        editor.sendText(json, true).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        JsonNode ack = socketAcks.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        long acked = System.nanoTime();
+        if (ack == null || !"ack".equals(ack.path("type").asText())) {
+            errors.increment();
+            return;
+        }
+        finish(socket, start, acked, socketEvents.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS), record);
+    }
+
+    /**
+     * 명령 시작 - 이전 명령의 이벤트는 모든 연결이 받은 뒤이므로 편집자 이벤트 큐를 비우고 시작
+     * (변경 이벤트는 명령 경로와 관계없이 편집자의 SSE, 웹소켓 연결 모두에 옴)
+     */
+    private long begin(boolean record) {
+        restEvents.clear();
+        socketEvents.clear();
+        long start = System.nanoTime();
+        currentRound = new Round(start, OBSERVERS * 2 + 2, record);
+        return start;
+    }
+
+    /**
+     * 편집자 지연 기록 후 모든 연결이 이벤트를 받을 때까지 대기 (다음 명령과 섞이지 않도록)
+     */
+    private void finish(Path path, long start, long acked, Long eventAt, boolean record) throws InterruptedException {
+        if (eventAt == null) {
+            errors.increment();
+            return;
+        }
+        if (record) {
+            path.ack.recordNanos(acked - start);
+            path.ownEvent.recordNanos(eventAt - start);
+        }
+        currentRound.arrived.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 드래그 저장 한 번 - 칸 하나의 캐릭터 목록 교체
+     */
+    private Map<String, Object> operation(int sample) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<String> characters = new ArrayList<>();
+        for (int member = random.nextInt(1, 5); member > 0; member--) {
+            characters.add("캐릭터" + random.nextInt(40));
+        }
+        return Map.of(
+            "type", "schedule-replace",
+            "party", (sample % PARTIES + 1) + "파티",
+            "raidName", RAIDS[sample % RAIDS.length],
+            "characters", characters,
+            "isFinish", false);
+    }
+
+    /**
+     * SSE 연결 - batch-saved 이벤트 수신 시각을 events 에 넣거나 구독자 지연으로 기록
+     */
+    private void openSse(String clientIp, BlockingQueue<Long> events, LatencyRecorder observerLag) throws Exception {
+        CountDownLatch connected = new CountDownLatch(1);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/events/updates"))
+            .header("Accept", "text/event-stream")
+            .header("X-Forwarded-For", clientIp)
+            .GET()
+            .build();
+        Flow.Subscriber<String> lines = new Flow.Subscriber<>() {
+            private String eventName;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(String line) {
+                if (line.startsWith("event:")) {
+                    eventName = line.substring(6).trim();
+                    if ("connected".equals(eventName)) {
+                        connected.countDown();
+                    }
+                } else if (line.startsWith("data:") && "batch-saved".equals(eventName)) {
+                    received(System.nanoTime(), events, observerLag);
+                } else if (line.isEmpty()) {
+                    eventName = null;
+                }
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        };
+        CompletableFuture<HttpResponse<Void>> response = client.sendAsync(request, HttpResponse.BodyHandlers.fromLineSubscriber(lines));
+        connections.add(() -> response.cancel(true));
+        assertThat(connected.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).as("SSE 연결").isTrue();
+    }
+
+    /**
+     * 편집 웹소켓 연결 - 변경 이벤트 수신 시각은 events 또는 구독자 지연으로, ack/error 는 acks 로
+     */
+    private WebSocket openSocket(BlockingQueue<Long> events, BlockingQueue<JsonNode> acks, LatencyRecorder observerLag)
+            throws Exception {
+        WebSocket.Listener listener = new WebSocket.Listener() {
+            private final StringBuilder partial = new StringBuilder();
+
+            @Override
+            public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+                long now = System.nanoTime();
+                partial.append(data);
+                if (last) {
+                    String message = partial.toString();
+                    partial.setLength(0);
+                    if (message.startsWith("{\"type\":\"event\"")) {
+                        received(now, events, observerLag);
+                    } else if (acks != null) {
+                        try {
+                            acks.add(objectMapper.readTree(message));
+                        } catch (Exception e) {
+                            errors.increment();
+                        }
+                    }
+                }
+                webSocket.request(1);
+                return null;
+            }
+        };
+        WebSocket webSocket = client.newWebSocketBuilder()
+            .buildAsync(URI.create("ws://localhost:" + port + "/api/ws"), listener)
+            .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        connections.add(webSocket::abort);
+        return webSocket;
+    }
+
+    private void received(long now, BlockingQueue<Long> events, LatencyRecorder observerLag) {
+        Round current = currentRound;
+        if (events != null) {
+            events.add(now);
+        } else if (current.record) {
+            observerLag.recordNanos(now - current.startNanos);
+        }
+        current.arrived.countDown();
+    }
+
+    private static Map<String, Object> latencySummary(LatencyRecorder recorder) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", recorder.count());
+        summary.put("meanMs", round(recorder.meanMillis()));
+        summary.put("p50Ms", round(recorder.percentileMillis(50)));
+        summary.put("p99Ms", round(recorder.percentileMillis(99)));
+        summary.put("maxMs", round(recorder.percentileMillis(100)));
+        return summary;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    /**
+     * 경로별 지연 기록
+     */
+    private static final class Path {
+        private final LatencyRecorder ack = new LatencyRecorder();
+        private final LatencyRecorder ownEvent = new LatencyRecorder();
+        private final LatencyRecorder observerLag = new LatencyRecorder();
+
+        Map<String, Object> summary(int connectionsPerClient) {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("connectionsPerClient", connectionsPerClient);
+            summary.put("ack", latencySummary(ack));
+            summary.put("ownEvent", latencySummary(ownEvent));
+            summary.put("observerLag", latencySummary(observerLag));
+            return summary;
+        }
+    }
+
+    /**
+     * 명령 하나 - 전송 시각, 이벤트를 받아야 할 구독자 수, 기록 여부 (워밍업은 기록하지 않음)
+     */
+    private static final class Round {
+        private final long startNanos;
+        private final CountDownLatch arrived;
+        private final boolean record;
+
+        Round(long startNanos, int observers, boolean record) {
+            this.startNanos = startNanos;
+            this.arrived = new CountDownLatch(observers);
+            this.record = record;
+        }
+    }
+}
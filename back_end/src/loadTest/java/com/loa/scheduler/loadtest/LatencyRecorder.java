@@ -0,0 +1,77 @@
+package com.loa.scheduler.loadtest;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 지연 시간 히스토그램 (마이크로초, 로그-선형 버킷, 오차 약 0.2%)
+ * 여러 스레드에서 동시에 기록해도 잠금이 없고 표본을 저장하지 않는다.
+ */
+class LatencyRecorder {
+
+    private static final int LINEAR_LIMIT = 1024;
+    private static final int SUB_BUCKET_BITS = 9;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = LINEAR_LIMIT + (63 - 10) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder total = new LongAdder();
+    private final LongAdder sumMicros = new LongAdder();
+
+    void recordMicros(long micros) {
+        long value = Math.max(micros, 0);
+        counts.incrementAndGet(bucketOf(value));
+        total.increment();
+        sumMicros.add(value);
+    }
+
+    void recordNanos(long nanos) {
+        recordMicros(nanos / 1_000);
+    }
+
+    long count() {
+        return total.sum();
+    }
+
+    double meanMillis() {
+        long count = count();
+        return count == 0 ? 0 : sumMicros.sum() / 1000.0 / count;
+    }
+
+    /**
+     * 백분위 (ms) - percentile 은 0~100
+     */
+    double percentileMillis(double percentile) {
+        long count = count();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(percentile / 100.0 * count);
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts.get(bucket);
+            if (seen >= Math.max(rank, 1)) {
+                return valueOf(bucket) / 1000.0;
+            }
+        }
+        return valueOf(BUCKETS - 1) / 1000.0;
+    }
+
+    private static int bucketOf(long micros) {
+        if (micros < LINEAR_LIMIT) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros); // 10 이상
+        int sub = (int) ((micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+        return LINEAR_LIMIT + (exponent - 10) * SUB_BUCKETS + sub;
+    }
+
+    private static long valueOf(int bucket) {
+        if (bucket < LINEAR_LIMIT) {
+            return bucket;
+        }
+        int exponent = (bucket - LINEAR_LIMIT) / SUB_BUCKETS + 10;
+        int sub = (bucket - LINEAR_LIMIT) % SUB_BUCKETS;
+        return (1L << exponent) | ((long) sub << (exponent - SUB_BUCKET_BITS));
+    }
+}
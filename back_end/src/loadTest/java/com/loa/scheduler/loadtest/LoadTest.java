@@ -0,0 +1,392 @@
+package com.loa.scheduler.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.loa.scheduler.entity.Charactors;
+import com.loa.scheduler.entity.Raid;
+import com.loa.scheduler.entity.Schedule;
+import com.loa.scheduler.entity.User;
+import com.loa.scheduler.repository.CharactorsRepository;
+import com.loa.scheduler.repository.RaidRepository;
+import com.loa.scheduler.repository.ScheduleRepository;
+import com.loa.scheduler.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 종단 간 부하 테스트
+ * 인메모리 DB(H2, MariaDB 모드)로 앱을 띄우고 수천 개의 SSE 구독자를 연결한 뒤,
+ * 프론트엔드 자동 저장 흐름과 같은 쓰기 요청을 여러 스레드에서 일정 시간 보낸다.
+ * - 드래그 앤 드롭: 파티-레이드 칸 삭제 후 캐릭터별 스케줄 생성 (useAutoSave.saveScheduleChange)
+ * - 유저 일정 자동 저장: /api/user_schedule/single (useAutoSave.saveUserScheduleChange)
+ * - 완료 토글: /api/Schedule/finish/{party}/{raid}
+ * - 레이드 순서 변경: /api/raid/{name}/order
+ * 요청 지연(p50/p99), 처리량, SSE 전달 지연, 힙 사용량을 보고하고 기준을 넘으면 실패한다.
+ *
+ * 가상 스레드 모드(-Ploadtest.virtual-threads=true)에서는 JFR 로 carrier 스레드 고정(pinning) 이벤트도 수집한다.
+ *
+ * 실행: ./gradlew loadTest [-Ploadtest.sse-clients=3000 -Ploadtest.duration-seconds=60 ...]
+ * 결과: build/reports/loadtest/results.json
+ * 스레드 모드 비교: ./gradlew loadTestThreadModes
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+class LoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTest.class);
+
+    private static final int SSE_CLIENTS = Integer.getInteger("loadtest.sse-clients", 2000);
+    private static final int WRITERS = Integer.getInteger("loadtest.writers", 16);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration-seconds", 30);
+    private static final boolean VIRTUAL_THREADS = Boolean.getBoolean("loadtest.virtual-threads");
+
+    // 기준 (넘으면 실패)
+    private static final double MAX_P99_MS = doubleProperty("loadtest.max-p99-ms", 500);
+    private static final double MAX_SSE_LAG_P99_MS = doubleProperty("loadtest.max-sse-lag-p99-ms", 1000);
+    private static final double MIN_THROUGHPUT = doubleProperty("loadtest.min-throughput", 50);
+    private static final double MAX_HEAP_MB = doubleProperty("loadtest.max-heap-mb", 768);
+    private static final double MAX_ERROR_RATE = doubleProperty("loadtest.max-error-rate", 0.01);
+
+    private static final String REPORT_PATH = System.getProperty("loadtest.report", "build/reports/loadtest/results.json");
+
+    private static final int PARTIES = 6;
+    private static final int USERS = 10;
+    private static final int CHARACTERS_PER_USER = 6;
+    private static final String[] RAIDS = {"발탄", "비아키스", "쿠크세이튼", "아브렐슈드", "일리아칸", "카멘", "에키드나", "베히모스"};
+    private static final String[] DAYS = {"WEDNESDAY", "THURSDAY", "FRIDAY", "SATURDAY", "SUNDAY", "MONDAY", "TUESDAY"};
+
+    @DynamicPropertySource
+    static void sseLimits(DynamicPropertyRegistry registry) {
+        registry.add("sse.max-connections", () -> SSE_CLIENTS + 100);
+        registry.add("spring.threads.virtual.enabled", () -> VIRTUAL_THREADS);
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CharactorsRepository charactorsRepository;
+
+    @Autowired
+    private RaidRepository raidRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final HttpClient writerClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(10))
+        .build();
+
+    private final Map<String, LatencyRecorder> latencies = new LinkedHashMap<>();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    private SseSubscribers subscribers;
+    private PinnedThreadMonitor pinnedThreads;
+    private String baseUrl;
+
+    @BeforeEach
+    void seed() {
+        baseUrl = "http://localhost:" + port;
+        for (String operation : new String[] {"drag-drop", "autosave", "finish-toggle", "raid-order"}) {
+            latencies.put(operation, new LatencyRecorder());
+        }
+
+        List<User> users = new ArrayList<>();
+        List<Charactors> characters = new ArrayList<>();
+        for (int u = 0; u < USERS; u++) {
+            users.add(new User("유저" + u, "#4080c0", u + 1));
+            for (int c = 0; c < CHARACTERS_PER_USER; c++) {
+                characters.add(new Charactors(characterName(u, c), c == 0 ? "Y" : "N", "유저" + u, c + 1));
+            }
+        }
+        userRepository.saveAll(users);
+        charactorsRepository.saveAll(characters);
+
+        List<Raid> raids = new ArrayList<>();
+        for (int r = 0; r < RAIDS.length; r++) {
+            Raid raid = new Raid(RAIDS[r]);
+            raid.setSeq((long) r + 1);
+            raids.add(raid);
+        }
+        raidRepository.saveAll(raids);
+
+        List<Schedule> schedules = new ArrayList<>();
+        for (int p = 1; p <= PARTIES; p++) {
+            for (String raid : RAIDS) {
+                for (int member = 0; member < 4; member++) {
+                    schedules.add(new Schedule(p + "파티", raid, characterName((p + member) % USERS, member), "N"));
+                }
+            }
+        }
+        scheduleRepository.saveAll(schedules);
+    }
+
+    @AfterEach
+    void closeSubscribers() {
+        if (subscribers != null) {
+            subscribers.close();
+        }
+        if (pinnedThreads != null) {
+            pinnedThreads.close();
+        }
+    }
+
+    @Test
+    void sustainsWriteMixWithManySseSubscribers() throws Exception {
+        resetHeapPeaks();
+        if (VIRTUAL_THREADS) {
+            pinnedThreads = PinnedThreadMonitor.start();
+        }
+
+        subscribers = new SseSubscribers();
+        long connectStart = System.nanoTime();
+        subscribers.open(baseUrl, SSE_CLIENTS, Duration.ofSeconds(60));
+        double connectSeconds = (System.nanoTime() - connectStart) / 1e9;
+        assertThat(subscribers.connected())
+            .as("SSE 연결 수 (실패 %d)", subscribers.failed())
+            .isEqualTo(SSE_CLIENTS);
+
+        // 쓰기 부하
+        ExecutorService writers = Executors.newFixedThreadPool(WRITERS);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(DURATION_SECONDS);
+        long writeStart = System.nanoTime();
+        for (int i = 0; i < WRITERS; i++) {
+            writers.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    runRandomOperation();
+                }
+                return null;
+            });
+        }
+        writers.shutdown();
+        assertThat(writers.awaitTermination(DURATION_SECONDS + 120L, TimeUnit.SECONDS)).isTrue();
+        double writeSeconds = (System.nanoTime() - writeStart) / 1e9;
+
+        // 마지막 브로드캐스트가 전달될 시간
+        TimeUnit.SECONDS.sleep(2);
+
+        long peakHeap = peakHeapBytes();
+        System.gc();
+        long heapAfterGc = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+
+        double throughput = requests.sum() / writeSeconds;
+        double errorRate = requests.sum() == 0 ? 1 : (double) errors.sum() / requests.sum();
+        int stillOpen = subscribers.open();
+
+        Map<String, Object> report = report(connectSeconds, writeSeconds, throughput, errorRate, stillOpen, peakHeap, heapAfterGc);
+        writeReport(report);
+        log.info("부하 테스트 결과 ({}): {}", REPORT_PATH, objectMapper.writeValueAsString(report));
+
+        assertThat(errorRate).as("오류율").isLessThanOrEqualTo(MAX_ERROR_RATE);
+        assertThat(throughput).as("처리량 (req/s)").isGreaterThanOrEqualTo(MIN_THROUGHPUT);
+        latencies.forEach((operation, recorder) ->
+            assertThat(recorder.percentileMillis(99)).as(operation + " p99 (ms)").isLessThanOrEqualTo(MAX_P99_MS));
+        assertThat(subscribers.deliveryLag().percentileMillis(99)).as("SSE 전달 지연 p99 (ms)").isLessThanOrEqualTo(MAX_SSE_LAG_P99_MS);
+        assertThat(stillOpen).as("부하 후 유지된 SSE 연결 수").isEqualTo(SSE_CLIENTS);
+        assertThat(heapAfterGc / 1024.0 / 1024.0).as("GC 후 힙 (MB)").isLessThanOrEqualTo(MAX_HEAP_MB);
+    }
+
+    /**
+     * 프론트엔드 자동 저장 빈도에 맞춘 쓰기 비율
+     * (드래그 앤 드롭 45%, 유저 일정 35%, 완료 토글 15%, 레이드 순서 5%)
+     */
+    private void runRandomOperation() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int roll = random.nextInt(100);
+        String party = (random.nextInt(PARTIES) + 1) + "파티";
+        String raid = RAIDS[random.nextInt(RAIDS.length)];
+
+        if (roll < 45) {
+            timed("drag-drop", () -> {
+                boolean ok = send("DELETE", "/api/Schedule/party/" + encode(party) + "/raid/" + encode(raid), null);
+                int members = random.nextInt(1, 5);
+                for (int member = 0; member < members; member++) {
+                    ok &= send("POST", "/api/Schedule", Map.of(
+                        "id", party,
+                        "raidName", raid,
+                        "characterName", characterName(random.nextInt(USERS), random.nextInt(CHARACTERS_PER_USER)),
+                        "isFinish", "N"));
+                }
+                return ok;
+            });
+        } else if (roll < 80) {
+            timed("autosave", () -> send("POST", "/api/user_schedule/single", Map.of(
+                "userId", "유저" + random.nextInt(USERS),
+                "dayOfWeek", DAYS[random.nextInt(DAYS.length)],
+                "weekNumber", random.nextInt(1, 3),
+                "scheduleText", random.nextInt(24) + "시 이후 가능",
+                "enabled", random.nextBoolean() ? "Y" : "N")));
+        } else if (roll < 95) {
+            timed("finish-toggle", () -> send("PUT", "/api/Schedule/finish/" + encode(party) + "/" + encode(raid),
+                Map.of("isFinish", random.nextBoolean())));
+        } else {
+            timed("raid-order", () -> send("PUT", "/api/raid/" + encode(raid) + "/order",
+                Map.of("seq", random.nextInt(1, RAIDS.length + 1))));
+        }
+    }
+
+    private void timed(String operation, Operation action) {
+        long start = System.nanoTime();
+        boolean ok;
+        try {
+            ok = action.run();
+        } catch (Exception e) {
+            ok = false;
+        }
+        latencies.get(operation).recordNanos(System.nanoTime() - start);
+        if (!ok) {
+            errors.increment();
+        }
+    }
+
+    private boolean send(String method, String path, Object body) throws IOException, InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(Duration.ofSeconds(30))
+            .header("Content-Type", "application/json");
+        builder.method(method, body == null
+            ? HttpRequest.BodyPublishers.noBody()
+            : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        requests.increment();
+        HttpResponse<Void> response = writerClient.send(builder.build(), HttpResponse.BodyHandlers.discarding());
+        return response.statusCode() < 400;
+    }
+
+    private Map<String, Object> report(double connectSeconds, double writeSeconds, double throughput, double errorRate,
+                                       int stillOpen, long peakHeap, long heapAfterGc) {
+        Map<String, Object> operations = new LinkedHashMap<>();
+        latencies.forEach((operation, recorder) -> operations.put(operation, latencySummary(recorder)));
+
+        Map<String, Object> sse = new LinkedHashMap<>();
+        sse.put("clients", SSE_CLIENTS);
+        sse.put("connectSeconds", round(connectSeconds));
+        sse.put("openAfterLoad", stillOpen);
+        sse.put("eventsReceived", subscribers.events());
+        sse.put("deliveryLag", latencySummary(subscribers.deliveryLag()));
+
+        Map<String, Object> heap = new LinkedHashMap<>();
+        heap.put("peakMb", round(peakHeap / 1024.0 / 1024.0));
+        heap.put("afterGcMb", round(heapAfterGc / 1024.0 / 1024.0));
+
+        Map<String, Object> thresholds = new LinkedHashMap<>();
+        thresholds.put("maxP99Ms", MAX_P99_MS);
+        thresholds.put("maxSseLagP99Ms", MAX_SSE_LAG_P99_MS);
+        thresholds.put("minThroughput", MIN_THROUGHPUT);
+        thresholds.put("maxHeapMb", MAX_HEAP_MB);
+        thresholds.put("maxErrorRate", MAX_ERROR_RATE);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("threadMode", VIRTUAL_THREADS ? "virtual" : "platform");
+        report.put("writers", WRITERS);
+        report.put("durationSeconds", round(writeSeconds));
+        report.put("requests", requests.sum());
+        report.put("errors", errors.sum());
+        report.put("errorRate", round(errorRate));
+        report.put("throughputPerSecond", round(throughput));
+        report.put("operations", operations);
+        report.put("sse", sse);
+        report.put("heap", heap);
+        if (pinnedThreads != null) {
+            report.put("pinnedThreads", pinnedThreads.summary());
+        }
+        report.put("thresholds", thresholds);
+        return report;
+    }
+
+    private static Map<String, Object> latencySummary(LatencyRecorder recorder) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", recorder.count());
+        summary.put("meanMs", round(recorder.meanMillis()));
+        summary.put("p50Ms", round(recorder.percentileMillis(50)));
+        summary.put("p99Ms", round(recorder.percentileMillis(99)));
+        summary.put("maxMs", round(recorder.percentileMillis(100)));
+        return summary;
+    }
+
+    private void writeReport(Map<String, Object> report) throws IOException {
+        File file = new File(REPORT_PATH);
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        objectMapper.writeValue(file, report);
+    }
+
+    private static void resetHeapPeaks() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    private static long peakHeapBytes() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+
+    private static String characterName(int user, int index) {
+        return "캐릭터" + user + "_" + index;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty(name);
+        return value != null ? Double.parseDouble(value) : defaultValue;
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        boolean run() throws Exception;
+    }
+}
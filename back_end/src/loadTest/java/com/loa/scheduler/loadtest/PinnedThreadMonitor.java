@@ -0,0 +1,77 @@
+package com.loa.scheduler.loadtest;
+
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가상 스레드 pinning 감시 (JFR jdk.VirtualThreadPinned 이벤트)
+ * 가상 스레드가 synchronized 블록이나 native 호출 안에서 대기해 carrier 스레드를 붙잡은 경우를
+ * 위치(우리 코드의 가장 가까운 프레임)별로 센다.
+ */
+class PinnedThreadMonitor implements AutoCloseable {
+
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "com.loa.scheduler.";
+    private static final int TOP_LOCATIONS = 10;
+
+    private final RecordingStream stream = new RecordingStream();
+    private final LongAdder events = new LongAdder();
+    private final Map<String, LongAdder> locations = new ConcurrentHashMap<>();
+
+    private PinnedThreadMonitor() {
+        // 기본 기준(20ms) 대신 짧은 고정도 모두 기록
+        stream.enable(EVENT).withThreshold(Duration.ofMillis(1)).withStackTrace();
+        stream.onEvent(EVENT, event -> {
+            events.increment();
+            locations.computeIfAbsent(location(event.getStackTrace()), key -> new LongAdder()).increment();
+        });
+    }
+
+    static PinnedThreadMonitor start() {
+        PinnedThreadMonitor monitor = new PinnedThreadMonitor();
+        monitor.stream.startAsync();
+        return monitor;
+    }
+
+    Map<String, Object> summary() {
+        Map<String, Object> top = new LinkedHashMap<>();
+        locations.entrySet().stream()
+            .sorted((a, b) -> Long.compare(b.getValue().sum(), a.getValue().sum()))
+            .limit(TOP_LOCATIONS)
+            .forEach(entry -> top.put(entry.getKey(), entry.getValue().sum()));
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("events", events.sum());
+        summary.put("locations", top);
+        return summary;
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+    }
+
+    /**
+     * 우리 코드 프레임이 있으면 그 위치, 없으면 가장 위 프레임
+     */
+    private static String location(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "unknown";
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith(APP_PACKAGE)) {
+                return type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+            }
+        }
+        RecordedFrame top = stackTrace.getFrames().get(0);
+        return top.getMethod().getType().getName() + "." + top.getMethod().getName();
+    }
+}
@@ -0,0 +1,152 @@
+package com.loa.scheduler.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 모의 SSE 구독자 묶음
+ * 브라우저 EventSource 처럼 /api/events/updates 에 연결을 유지하고 이벤트를 줄 단위로 읽는다.
+ * 스레드를 연결마다 두지 않도록 HttpClient 의 비동기 line subscriber 를 사용한다.
+ * 이벤트 id 는 서버가 전송 시각(ms)으로 채우므로 수신 시각과의 차이를 전달 지연으로 기록한다.
+ */
+class SseSubscribers implements AutoCloseable {
+
+    private final HttpClient client = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(10))
+        .build();
+
+    private final List<Subscription> subscriptions = new ArrayList<>();
+    private final AtomicInteger connected = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final LongAdder events = new LongAdder();
+    private final LatencyRecorder deliveryLag = new LatencyRecorder();
+
+    /**
+     * count 개 연결 - 모두 connected 이벤트를 받을 때까지 대기
+     */
+    void open(String baseUrl, int count, Duration timeout) throws InterruptedException {
+        URI uri = URI.create(baseUrl + "/api/events/updates");
+        for (int i = 0; i < count; i++) {
+            // 같은 IP 연결 제한에 걸리지 않도록 클라이언트마다 다른 주소
+            String clientIp = "10." + (i >> 16 & 255) + "." + (i >> 8 & 255) + "." + (i & 255);
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Accept", "text/event-stream")
+                .header("X-Forwarded-For", clientIp)
+                .GET()
+                .build();
+            Subscription subscription = new Subscription();
+            subscriptions.add(subscription);
+            subscription.response = client.sendAsync(request, HttpResponse.BodyHandlers.fromLineSubscriber(subscription))
+                .whenComplete((response, error) -> {
+                    if (error != null || response.statusCode() != 200) {
+                        failed.incrementAndGet();
+                    }
+                });
+        }
+
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (connected.get() + failed.get() < count && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+    }
+
+    int connected() {
+        return connected.get();
+    }
+
+    int failed() {
+        return failed.get();
+    }
+
+    // 아직 연결이 살아 있는 구독자 수
+    int open() {
+        int open = 0;
+        for (Subscription subscription : subscriptions) {
+            if (subscription.connected && !subscription.closed) {
+                open++;
+            }
+        }
+        return open;
+    }
+
+    long events() {
+        return events.sum();
+    }
+
+    LatencyRecorder deliveryLag() {
+        return deliveryLag;
+    }
+
+    @Override
+    public void close() {
+        for (Subscription subscription : subscriptions) {
+            subscription.cancel();
+        }
+    }
+
+    private final class Subscription implements Flow.Subscriber<String> {
+        private volatile Flow.Subscription upstream;
+        private volatile CompletableFuture<?> response;
+        private volatile boolean connected;
+        private volatile boolean closed;
+        private String eventName;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            upstream = subscription;
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(String line) {
+            if (line.startsWith("event:")) {
+                eventName = line.substring(6).trim();
+                if (!connected && "connected".equals(eventName)) {
+                    connected = true;
+                    SseSubscribers.this.connected.incrementAndGet();
+                }
+                events.increment();
+            } else if (line.startsWith("id:") && eventName != null) {
+                try {
+                    long sentAtMillis = Long.parseLong(line.substring(3).trim());
+                    deliveryLag.recordMicros((System.currentTimeMillis() - sentAtMillis) * 1000);
+                } catch (NumberFormatException e) {
+                    // 시각이 아닌 id 는 무시
+                }
+            } else if (line.isEmpty()) {
+                eventName = null;
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            closed = true;
+        }
+
+        @Override
+        public void onComplete() {
+            closed = true;
+        }
+
+        void cancel() {
+            closed = true;
+            if (upstream != null) {
+                upstream.cancel();
+            }
+            if (response != null) {
+                response.cancel(true);
+            }
+        }
+    }
+}
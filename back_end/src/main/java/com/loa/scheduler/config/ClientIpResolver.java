@@ -0,0 +1,148 @@
+package com.loa.scheduler.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 클라이언트 IP 확인
+ * X-Forwarded-For / X-Real-IP 는 누구나 넣을 수 있으므로 신뢰하는 프록시(nginx 등)에서 온 요청일 때만 사용한다.
+ * X-Forwarded-For 는 오른쪽(가장 가까운 프록시)부터 신뢰하는 프록시를 건너뛰고 처음 만나는 주소를 클라이언트로 본다.
+ */
+@Component
+public class ClientIpResolver {
+
+    private final List<Cidr> trustedProxies = new ArrayList<>();
+
+    public ClientIpResolver(@Value("${client-ip.trusted-proxies:127.0.0.0/8,::1}") List<String> trustedProxies) {
+        for (String cidr : trustedProxies) {
+            if (!cidr.isBlank()) {
+                this.trustedProxies.add(Cidr.parse(cidr.trim()));
+            }
+        }
+    }
+
+    public String resolve(HttpServletRequest request) {
+        return resolve(request.getRemoteAddr(), request.getHeader("X-Forwarded-For"), request.getHeader("X-Real-IP"));
+    }
+
+    /**
+     * 요청 객체가 없는 곳(웹소켓 세션 등)에서 접속 주소와 헤더 값으로 확인
+     */
+    public String resolve(String remoteAddr, String xForwardedFor, String xRealIp) {
+        if (!isTrusted(remoteAddr)) {
+            return remoteAddr;
+        }
+
+        if (xForwardedFor != null && !xForwardedFor.isBlank()) {
+            String[] hops = xForwardedFor.split(",");
+            String client = remoteAddr;
+            for (int i = hops.length - 1; i >= 0; i--) {
+                String hop = hops[i].trim();
+                if (parseLiteral(hop) == null) {
+                    // 주소가 아닌 값 - 그 앞쪽은 믿을 수 없음
+                    break;
+                }
+                client = hop;
+                if (!isTrusted(hop)) {
+                    break;
+                }
+            }
+            return client;
+        }
+
+        if (xRealIp != null && parseLiteral(xRealIp.trim()) != null) {
+            return xRealIp.trim();
+        }
+
+        return remoteAddr;
+    }
+
+    private boolean isTrusted(String address) {
+        byte[] bytes = parseLiteral(address);
+        if (bytes == null) {
+            return false;
+        }
+        for (Cidr cidr : trustedProxies) {
+            if (cidr.contains(bytes)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * IP 문자열 -> 바이트 (IP 형식이 아니면 null)
+     * 호스트 이름이면 InetAddress 가 DNS 조회를 하므로 숫자/점/콜론만 있는 값만 변환
+     */
+    private static byte[] parseLiteral(String address) {
+        if (address == null || address.isEmpty() || address.length() > 45) {
+            return null;
+        }
+        boolean hasColon = false;
+        for (int i = 0; i < address.length(); i++) {
+            char c = address.charAt(i);
+            boolean hex = (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+            if (c == ':') {
+                hasColon = true;
+            } else if (!hex && c != '.') {
+                return null;
+            }
+        }
+        if (!hasColon && address.chars().anyMatch(Character::isLetter)) {
+            return null;
+        }
+        try {
+            return InetAddress.getByName(address).getAddress();
+        } catch (UnknownHostException e) {
+            return null;
+        }
+    }
+
+    private static final class Cidr {
+        private final byte[] network;
+        private final int prefixLength;
+
+        private Cidr(byte[] network, int prefixLength) {
+            this.network = network;
+            this.prefixLength = prefixLength;
+        }
+
+        private static Cidr parse(String value) {
+            int slash = value.indexOf('/');
+            String address = slash < 0 ? value : value.substring(0, slash);
+            byte[] network = parseLiteral(address);
+            if (network == null) {
+                throw new IllegalArgumentException("client-ip.trusted-proxies 형식이 올바르지 않습니다: " + value);
+            }
+            int prefixLength = slash < 0 ? network.length * 8 : Integer.parseInt(value.substring(slash + 1));
+            if (prefixLength < 0 || prefixLength > network.length * 8) {
+                throw new IllegalArgumentException("client-ip.trusted-proxies 형식이 올바르지 않습니다: " + value);
+            }
+            return new Cidr(network, prefixLength);
+        }
+
+        private boolean contains(byte[] address) {
+            if (address.length != network.length) {
+                return false;
+            }
+            int fullBytes = prefixLength / 8;
+            for (int i = 0; i < fullBytes; i++) {
+                if (address[i] != network[i]) {
+                    return false;
+                }
+            }
+            int remainingBits = prefixLength % 8;
+            if (remainingBits == 0) {
+                return true;
+            }
+            int mask = 0xFF << (8 - remainingBits);
+            return (address[fullBytes] & mask) == (network[fullBytes] & mask);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.loa.scheduler.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨트롤러 메서드별 실행 시간/호출 수 측정
+ * (http.server.requests 는 URI 기준이므로 메서드 단위 집계를 별도로 남김)
+ */
+public class ControllerMetricsInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = ControllerMetricsInterceptor.class.getName() + ".start";
+
+    private final MeterRegistry meterRegistry;
+
+    public ControllerMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        if (!(start instanceof Long) || !(handler instanceof HandlerMethod)) {
+            return;
+        }
+
+        HandlerMethod handlerMethod = (HandlerMethod) handler;
+        Timer.builder("api.controller.invocations")
+            .description("컨트롤러 메서드 실행 시간")
+            .tag("controller", handlerMethod.getBeanType().getSimpleName())
+            .tag("method", handlerMethod.getMethod().getName())
+            .tag("status", String.valueOf(response.getStatus()))
+            .tag("exception", ex != null ? ex.getClass().getSimpleName() : "none")
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(System.nanoTime() - (Long) start, TimeUnit.NANOSECONDS);
+    }
+}
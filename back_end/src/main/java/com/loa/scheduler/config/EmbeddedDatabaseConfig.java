@@ -0,0 +1,75 @@
+package com.loa.scheduler.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * 내장 DB (embedded 프로필)
+ * - 시작 시 DB 파일이 없고 스냅샷이 있으면 DataSource 가 만들어지기 전에 스냅샷에서 복원
+ * - 스냅샷 생성은 EmbeddedSnapshotService
+ */
+@Configuration
+@Profile("embedded")
+public class EmbeddedDatabaseConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(EmbeddedDatabaseConfig.class);
+
+    public static final String DATABASE_NAME = "loa_scheduler";
+    public static final String DATABASE_FILE = DATABASE_NAME + ".mv.db";
+    public static final String SNAPSHOT_FILE = "snapshot/" + DATABASE_NAME + ".zip";
+
+    @Bean
+    public static BeanFactoryPostProcessor embeddedSnapshotRestorer(Environment environment) {
+        Path dataDir = Path.of(Binder.get(environment).bind("embedded.data-dir", String.class).orElse("./data/db"));
+        return beanFactory -> restoreIfMissing(dataDir);
+    }
+
+    /**
+     * DB 파일이 없으면 스냅샷 zip 에서 꺼냄 - 임시 파일에 푼 뒤 이름을 바꿔 중간에 종료돼도 반쪽 파일이 남지 않게 함
+     */
+    static void restoreIfMissing(Path dataDir) {
+        Path database = dataDir.resolve(DATABASE_FILE);
+        Path snapshot = dataDir.resolve(SNAPSHOT_FILE);
+        if (Files.exists(database) || !Files.exists(snapshot)) {
+            return;
+        }
+        long startNanos = System.nanoTime();
+        Path temp = dataDir.resolve(DATABASE_FILE + ".restore");
+        try (ZipInputStream zip = new ZipInputStream(Files.newInputStream(snapshot))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (!entry.getName().equals(DATABASE_FILE)) {
+                    continue;
+                }
+                Files.copy(zip, temp, StandardCopyOption.REPLACE_EXISTING);
+                Files.move(temp, database, StandardCopyOption.ATOMIC_MOVE);
+                log.info("내장 DB 스냅샷에서 복원: {} ({}ms, 스냅샷 이후 변경은 변경 저널로 확인)",
+                    snapshot, (System.nanoTime() - startNanos) / 1_000_000);
+                return;
+            }
+            log.warn("내장 DB 스냅샷에 {} 이 없습니다: {}", DATABASE_FILE, snapshot);
+        } catch (IOException e) {
+            // 중간에 실패한 임시 파일은 지움 (다음 시작 때 다시 복원)
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException deleteError) {
+                e.addSuppressed(deleteError);
+            }
+            throw new UncheckedIOException("내장 DB 스냅샷 복원 실패: " + snapshot, e);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.loa.scheduler.config;
+
+import com.loa.scheduler.util.SamplingTurboFilter;
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * 빠른 시작 (fast-startup 프로필)
+ * - 부팅에 필요 없는 컨트롤러(fast-startup.lazy-beans)는 첫 요청 때 생성
+ * - AOT 처리 / 네이티브 이미지에서 리플렉션, JDK 프록시로 만드는 객체 힌트 등록
+ */
+@Configuration
+@Profile("fast-startup")
+@ImportRuntimeHints(FastStartupConfig.NativeHints.class)
+public class FastStartupConfig {
+
+    @Bean
+    public static BeanFactoryPostProcessor lazyBeansPostProcessor(Environment environment) {
+        List<String> lazyBeans = Binder.get(environment)
+            .bind("fast-startup.lazy-beans", Bindable.listOf(String.class))
+            .orElse(List.of());
+        return beanFactory -> {
+            for (String beanName : lazyBeans) {
+                if (beanFactory.containsBeanDefinition(beanName)) {
+                    beanFactory.getBeanDefinition(beanName).setLazyInit(true);
+                }
+            }
+        };
+    }
+
+    static class NativeHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // logback-spring.xml 에서 이름으로 생성하는 필터
+            hints.reflection().registerType(SamplingTurboFilter.class,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+
+            // SQL 통계용 JDBC 프록시 (datasource-proxy 가 JDK 동적 프록시로 생성)
+            for (Class<?> jdbcType : new Class<?>[] {Connection.class, Statement.class, PreparedStatement.class,
+                    CallableStatement.class, ResultSet.class}) {
+                hints.proxies().registerJdkProxy(ProxyJdbcObject.class, jdbcType);
+            }
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.loa.scheduler.config;
+
+import com.loa.scheduler.service.IdempotencyStore;
+import com.loa.scheduler.service.IdempotencyStore.StoredResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Idempotency-Key 헤더 처리 필터
+ * 프론트엔드 재시도 요청이 같은 키로 들어오면 저장된 응답을 그대로 돌려주고
+ * 컨트롤러(DB 쓰기, SSE 브로드캐스트)는 다시 실행하지 않는다.
+ * 키마다 요청 본문 해시를 함께 저장해서, 같은 키를 다른 본문으로 재사용하면 422 로 거부한다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    // 키 길이 제한 (UUID 등 일반적인 키 기준)
+    private static final int MAX_KEY_LENGTH = 128;
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String method = request.getMethod();
+        boolean isWrite = "POST".equals(method) || "PUT".equals(method)
+            || "DELETE".equals(method) || "PATCH".equals(method);
+        return !isWrite || request.getHeader(HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(HEADER).trim();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, 400, "Idempotency-Key 형식이 올바르지 않습니다.");
+            return;
+        }
+
+        // 같은 키라도 다른 엔드포인트 요청과는 구분
+        String storeKey = request.getMethod() + " " + request.getRequestURI() + " " + idempotencyKey;
+
+        // 본문을 미리 읽어 해시 - 같은 키를 다른 내용으로 재사용하면 이전 응답을 돌려주지 않고 거부
+        byte[] body = request.getInputStream().readAllBytes();
+        String requestHash = sha256(body);
+        HttpServletRequest cachedRequest = new CachedBodyRequest(request, body);
+
+        Optional<String> existingHash = idempotencyStore.requestHash(storeKey);
+        if (existingHash.isPresent() && !existingHash.get().equals(requestHash)) {
+            writeError(response, 422, "같은 Idempotency-Key 로 다른 내용의 요청을 보낼 수 없습니다.");
+            return;
+        }
+
+        Optional<StoredResponse> stored = idempotencyStore.find(storeKey);
+        if (stored.isPresent()) {
+            replay(response, stored.get());
+            return;
+        }
+
+        if (!idempotencyStore.reserve(storeKey, requestHash)) {
+            // 완료 직후 선점에 실패했을 수 있으므로 한 번 더 확인
+            existingHash = idempotencyStore.requestHash(storeKey);
+            stored = idempotencyStore.find(storeKey);
+            if (existingHash.isPresent() && !existingHash.get().equals(requestHash)) {
+                writeError(response, 422, "같은 Idempotency-Key 로 다른 내용의 요청을 보낼 수 없습니다.");
+            } else if (stored.isPresent()) {
+                replay(response, stored.get());
+            } else {
+                writeError(response, 409, "같은 Idempotency-Key 요청이 처리 중입니다.");
+            }
+            return;
+        }
+
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(cachedRequest, responseWrapper);
+
+            // 5xx 는 저장하지 않음 (재시도 시 다시 처리)
+            int status = responseWrapper.getStatus();
+            if (status < 500) {
+                idempotencyStore.complete(storeKey, new StoredResponse(
+                    status, responseWrapper.getContentType(), responseWrapper.getContentAsByteArray(), requestHash));
+                completed = true;
+            }
+        } finally {
+            if (!completed) {
+                idempotencyStore.release(storeKey);
+            }
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    private void replay(HttpServletResponse response, StoredResponse stored) throws IOException {
+        response.setStatus(stored.getStatus());
+        if (stored.getContentType() != null) {
+            response.setContentType(stored.getContentType());
+        }
+        response.setHeader("Idempotent-Replayed", "true");
+        response.setContentLength(stored.getBody().length);
+        response.getOutputStream().write(stored.getBody());
+    }
+
+    private static String sha256(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private void writeError(HttpServletResponse response, int status, String message) throws IOException {
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("{\"error\": \"" + message + "\"}");
+    }
+
+    /**
+     * 미리 읽어 둔 본문을 다시 읽을 수 있게 하는 요청 래퍼
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return in.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.loa.scheduler.config;
+
+import com.loa.scheduler.service.JournalReplayService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 변경 저널 재생 도구 - 기동 시 DB 테이블을 저널로 다시 만든 뒤 종료
+ *
+ * java -jar app.jar --journal.replay=true --spring.main.web-application-type=none
+ *   [--journal.replay-until=2026-10-01T04:00:00]   (이 시각까지의 기록만 적용)
+ *
+ * 실행 중인 서버와 같은 저널 디렉터리를 동시에 쓰면 안 되므로 서버를 멈춘 뒤 실행한다.
+ */
+@Component
+@ConditionalOnProperty(name = "journal.replay", havingValue = "true")
+public class JournalReplayRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(JournalReplayRunner.class);
+
+    @Autowired
+    private JournalReplayService journalReplayService;
+
+    @Autowired
+    private ConfigurableApplicationContext applicationContext;
+
+    @Value("${journal.replay-until:}")
+    private String replayUntil;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int exitCode = 0;
+        try {
+            LocalDateTime until = replayUntil.isBlank() ? null : LocalDateTime.parse(replayUntil);
+            Map<String, Integer> applied = journalReplayService.replay(until);
+            log.info("저널 재생 도구 종료 - 적용 건수: {}", applied);
+        } catch (Exception e) {
+            log.error("저널 재생 실패 - 기존 데이터는 변경되지 않았습니다.", e);
+            exitCode = 1;
+        }
+        int code = exitCode;
+        System.exit(SpringApplication.exit(applicationContext, () -> code));
+    }
+}
@@ -0,0 +1,75 @@
+package com.loa.scheduler.config;
+
+import com.loa.scheduler.service.RateLimitService;
+import com.loa.scheduler.service.RateLimitService.EndpointClass;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * /api/** 요청 속도 제한 - 엔드포인트 종류를 나눠 RateLimitService 의 클라이언트 IP 버킷에서 토큰을 사용
+ * 토큰이 없으면 컨트롤러(DB, 브로드캐스트)까지 가지 않고 429 + Retry-After 로 응답한다.
+ * 멱등성 필터보다 먼저 실행되므로 거부된 요청은 Idempotency-Key 가 저장되지 않아 같은 키로 다시 보낼 수 있다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 3)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private final RateLimitService rateLimitService;
+    private final ClientIpResolver clientIpResolver;
+
+    public RateLimitFilter(RateLimitService rateLimitService, ClientIpResolver clientIpResolver) {
+        this.rateLimitService = rateLimitService;
+        this.clientIpResolver = clientIpResolver;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !rateLimitService.isEnabled() || "OPTIONS".equals(request.getMethod()) || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        EndpointClass endpointClass = classify(request);
+        String clientIp = clientIpResolver.resolve(request);
+        long retryAfterSeconds = rateLimitService.tryAcquire(endpointClass, clientIp);
+        if (retryAfterSeconds == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        log.debug("요청 속도 제한 [IP: {}, {} {}] {}초 후 재시도", clientIp, request.getMethod(), request.getRequestURI(), retryAfterSeconds);
+        response.setStatus(429);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("{\"error\": \"" + RateLimitService.rejectionMessage(retryAfterSeconds) + "\"}");
+    }
+
+    static EndpointClass classify(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        if (uri.startsWith("/api/events/updates") || uri.startsWith("/api/ws")) {
+            return EndpointClass.STREAM;
+        }
+        String method = request.getMethod();
+        if ("GET".equals(method) || "HEAD".equals(method)) {
+            return EndpointClass.READ;
+        }
+        return EndpointClass.WRITE;
+    }
+}
@@ -0,0 +1,73 @@
+package com.loa.scheduler.config;
+
+import com.loa.scheduler.util.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 분리 (replica 프로필)
+ * - primaryDataSource: spring.datasource.* (쓰기, 읽기-쓰기 트랜잭션)
+ * - replicaDataSource: replica.datasource.* (@Transactional(readOnly = true))
+ * - dataSource: 트랜잭션 속성을 보고 둘 중 하나를 고르는 라우팅 DataSource (JPA 가 사용)
+ */
+@Configuration
+@Profile("replica")
+public class ReadWriteRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("replica.datasource.hikari")
+    public HikariDataSource replicaDataSource(
+            @Value("${replica.datasource.url}") String url,
+            @Value("${replica.datasource.username:${spring.datasource.username:}}") String username,
+            @Value("${replica.datasource.password:${spring.datasource.password:}}") String password,
+            @Value("${replica.datasource.driver-class-name:${spring.datasource.driver-class-name:}}") String driverClassName) {
+        DataSourceBuilder<HikariDataSource> builder = DataSourceBuilder.create().type(HikariDataSource.class)
+            .url(url)
+            .username(username)
+            .password(password);
+        if (!driverClassName.isBlank()) {
+            builder.driverClassName(driverClassName);
+        }
+        HikariDataSource dataSource = builder.build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 MeterRegistry meterRegistry) {
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(meterRegistry);
+        routingDataSource.setTargetDataSources(Map.of(
+            ReadWriteRoutingDataSource.PRIMARY, primaryDataSource,
+            ReadWriteRoutingDataSource.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        // 실제 커넥션은 첫 SQL 실행 시점(트랜잭션 readOnly 여부가 정해진 뒤)에 가져옴
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
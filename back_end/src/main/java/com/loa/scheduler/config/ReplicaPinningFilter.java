@@ -0,0 +1,52 @@
+package com.loa.scheduler.config;
+
+import com.loa.scheduler.service.ReplicaLagGuard;
+import com.loa.scheduler.util.ReadWriteRouting;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청마다 읽기/쓰기 라우팅 상태 설정
+ * 최근에 쓰기를 한 클라이언트면 읽기도 primary 로 보내고,
+ * 이 요청에서 쓰기 트랜잭션을 사용했으면 요청이 끝난 뒤 클라이언트 고정을 시작한다.
+ */
+@Component
+@Profile("replica")
+@Order(Ordered.HIGHEST_PRECEDENCE + 7)
+public class ReplicaPinningFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private ReplicaLagGuard replicaLagGuard;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String clientKey = replicaLagGuard.clientKey(request);
+        boolean writeMethod = !"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())
+            && !"OPTIONS".equals(request.getMethod());
+        if (writeMethod) {
+            // 응답을 받은 클라이언트의 바로 다음 조회보다 먼저 고정되도록 요청 시작 시에도 기록
+            replicaLagGuard.recordWrite(clientKey);
+        }
+        ReadWriteRouting routing = ReadWriteRouting.begin(replicaLagGuard.isPinned(clientKey));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadWriteRouting.end();
+            // 고정 시간은 실제 쓰기가 끝난 시점부터
+            if (routing.hasWritten() || writeMethod) {
+                replicaLagGuard.recordWrite(clientKey);
+            }
+        }
+    }
+}
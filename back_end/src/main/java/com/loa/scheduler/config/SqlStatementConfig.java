@@ -0,0 +1,42 @@
+package com.loa.scheduler.config;
+
+import com.loa.scheduler.util.SqlStatementListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+
+/**
+ * DataSource 를 JDBC 프록시로 감싸서 요청별 SQL 통계 수집
+ * 다른 DataSource 를 감싸는 DataSource(읽기/쓰기 라우팅 등)는 대상 쪽이 이미 감싸지므로 건너뛴다 (중복 집계 방지).
+ */
+@Configuration
+public class SqlStatementConfig {
+
+    @Bean
+    public static BeanPostProcessor sqlStatementDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DelegatingDataSource || bean instanceof AbstractRoutingDataSource) {
+                    return bean;
+                }
+                if (bean instanceof DataSource && !(bean instanceof ProxyDataSource)) {
+                    SqlStatementListener listener = new SqlStatementListener();
+                    return ProxyDataSourceBuilder.create((DataSource) bean)
+                        .name(beanName)
+                        .listener(listener)
+                        .methodListener(listener)
+                        .proxyResultSet()
+                        .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,108 @@
+package com.loa.scheduler.config;
+
+import com.loa.scheduler.util.SqlStatementStats;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP 요청별 SQL 실행 통계
+ * - 개발: X-Sql-Statements / X-Sql-Rows / X-Sql-Time-Ms 응답 헤더
+ * - 운영: http.server.sql.* 메트릭 (URI 패턴별)
+ * - 요청당 SQL 수가 경고 기준을 넘으면 N+1 의심 로그
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementFilter.class);
+
+    public static final String HEADER_STATEMENTS = "X-Sql-Statements";
+    public static final String HEADER_ROWS = "X-Sql-Rows";
+    public static final String HEADER_TIME = "X-Sql-Time-Ms";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // 응답 헤더 노출 여부 (개발 환경에서만 켬)
+    @Value("${sql-stats.response-headers:false}")
+    private boolean responseHeaders;
+
+    // 요청당 SQL 수 경고 기준
+    @Value("${sql-stats.warn-threshold:30}")
+    private int warnThreshold;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // SSE 스트림, 웹소켓 핸드셰이크는 응답을 버퍼링하면 안 되므로 제외
+        String uri = request.getRequestURI();
+        return uri.startsWith("/api/events/updates") || uri.startsWith("/api/ws");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // 헤더는 응답 커밋 전에 붙여야 하므로 본문을 버퍼링
+        ContentCachingResponseWrapper responseWrapper = responseHeaders ? new ContentCachingResponseWrapper(response) : null;
+        SqlStatementStats stats = SqlStatementStats.begin();
+        try {
+            filterChain.doFilter(request, responseWrapper != null ? responseWrapper : response);
+        } finally {
+            SqlStatementStats.end(stats);
+            if (responseWrapper != null) {
+                responseWrapper.setHeader(HEADER_STATEMENTS, String.valueOf(stats.getStatements()));
+                responseWrapper.setHeader(HEADER_ROWS, String.valueOf(stats.getRows()));
+                responseWrapper.setHeader(HEADER_TIME, String.valueOf(stats.getJdbcMillis()));
+                responseWrapper.copyBodyToResponse();
+            }
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatementStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+
+        DistributionSummary.builder("http.server.sql.statements")
+            .description("요청당 SQL 실행 수")
+            .tag("uri", uri)
+            .tag("method", method)
+            .register(meterRegistry)
+            .record(stats.getStatements());
+        DistributionSummary.builder("http.server.sql.rows")
+            .description("요청당 조회/변경 행 수")
+            .tag("uri", uri)
+            .tag("method", method)
+            .register(meterRegistry)
+            .record(stats.getRows());
+        Timer.builder("http.server.sql.time")
+            .description("요청당 JDBC 실행 시간")
+            .tag("uri", uri)
+            .tag("method", method)
+            .register(meterRegistry)
+            .record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+
+        if (stats.getStatements() > warnThreshold) {
+            log.warn("SQL 실행 수 경고 (N+1 의심): {} {} - {}건, {}행, {}ms",
+                method, uri, stats.getStatements(), stats.getRows(), stats.getJdbcMillis());
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.loa.scheduler.config;
+
+import com.loa.scheduler.service.TraceCollector;
+import com.loa.scheduler.util.RequestTrace;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * /actuator/traces - 가장 느린 요청과 최근 요청의 구간 트리
+ * /actuator/traces/{correlationId} - 특정 요청 조회
+ */
+@Component
+@Endpoint(id = "traces")
+public class TracesEndpoint {
+
+    @Autowired
+    private TraceCollector traceCollector;
+
+    @ReadOperation
+    public Map<String, Object> traces() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("slowest", toMaps(traceCollector.getSlowest()));
+        result.put("recent", toMaps(traceCollector.getRecent()));
+        return result;
+    }
+
+    @ReadOperation
+    public Map<String, Object> trace(@Selector String correlationId) {
+        return traceCollector.getSlowest().stream()
+            .filter(trace -> trace.getCorrelationId().equals(correlationId))
+            .findFirst()
+            .or(() -> traceCollector.getRecent().stream()
+                .filter(trace -> trace.getCorrelationId().equals(correlationId))
+                .findFirst())
+            .map(RequestTrace::toMap)
+            .orElse(null);
+    }
+
+    @DeleteOperation
+    public void clear() {
+        traceCollector.clear();
+    }
+
+    private static List<Map<String, Object>> toMaps(List<RequestTrace> traces) {
+        return traces.stream().map(RequestTrace::toMap).collect(Collectors.toList());
+    }
+}
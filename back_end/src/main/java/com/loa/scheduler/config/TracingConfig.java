@@ -0,0 +1,65 @@
+package com.loa.scheduler.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loa.scheduler.util.RequestTrace;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 추적 구간 수집
+ * - 리포지토리 메서드 호출 (db)
+ * - 응답 JSON 직렬화 (serialization)
+ * SSE 브로드캐스트 구간은 EventController 에서 직접 기록한다.
+ */
+@Configuration
+public class TracingConfig {
+
+    /**
+     * 모든 리포지토리에 호출 리스너 등록 (호출이 끝난 뒤 소요 시간으로 구간 기록)
+     */
+    @Bean
+    public static BeanPostProcessor repositoryTracingPostProcessor() {
+        RepositoryMethodInvocationListener listener = invocation -> RequestTrace.recordCompleted(
+            RequestTrace.CATEGORY_DB,
+            invocation.getRepositoryInterface().getSimpleName() + "." + invocation.getMethod().getName(),
+            invocation.getDuration(TimeUnit.NANOSECONDS));
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport) {
+                    ((RepositoryFactoryBeanSupport<?, ?, ?>) bean).addRepositoryFactoryCustomizer(
+                        factory -> factory.addInvocationListener(listener));
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * 응답 직렬화 구간을 기록하는 Jackson 컨버터 (Spring Boot 기본 컨버터 대신 사용)
+     */
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new MappingJackson2HttpMessageConverter(objectMapper) {
+            @Override
+            protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+                    throws IOException, HttpMessageNotWritableException {
+                String name = object != null ? object.getClass().getSimpleName() : "null";
+                try (RequestTrace.Span span = RequestTrace.span(RequestTrace.CATEGORY_SERIALIZATION, name)) {
+                    super.writeInternal(object, type, outputMessage);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,66 @@
+package com.loa.scheduler.config;
+
+import com.loa.scheduler.service.TraceCollector;
+import com.loa.scheduler.util.RequestTrace;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * 요청 추적 시작/종료
+ * - X-Correlation-Id 헤더를 이어받거나 새로 만들어 응답 헤더와 로그(MDC)에 넣음
+ * - 요청이 끝나면 trace 를 TraceCollector 로 전달
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TracingFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Correlation-Id";
+    public static final String MDC_KEY = "correlationId";
+
+    // 외부에서 받은 값은 로그에 그대로 들어가므로 형식 제한
+    private static final Pattern VALID_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    @Autowired
+    private TraceCollector traceCollector;
+
+    @Value("${tracing.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String correlationId = request.getHeader(HEADER);
+        if (correlationId == null || !VALID_ID.matcher(correlationId).matches()) {
+            correlationId = UUID.randomUUID().toString();
+        }
+        response.setHeader(HEADER, correlationId);
+        MDC.put(MDC_KEY, correlationId);
+
+        RequestTrace trace = RequestTrace.begin(correlationId, request.getMethod(), request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            trace.end(response.getStatus());
+            MDC.remove(MDC_KEY);
+            traceCollector.offer(trace);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.loa.scheduler.config;
+
+import com.loa.scheduler.service.ChangeJournal;
+import com.loa.scheduler.service.CoalescedReadService;
+import com.loa.scheduler.service.ReplicaLagGuard;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import org.springframework.web.filter.CorsFilter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // 프론트엔드 접속 주소 (컨트롤러마다 있던 @CrossOrigin 목록을 한 곳으로)
+    @Value("${cors.allowed-origins}")
+    private String[] allowedOrigins;
+
+    // preflight 결과 캐시 시간 - 같은 요청의 OPTIONS 왕복을 줄임 (브라우저별 상한: Chrome 2시간, Firefox 24시간)
+    @Value("${cors.max-age-seconds:86400}")
+    private long maxAgeSeconds;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 컨트롤러 메서드별 메트릭
+        registry.addInterceptor(new ControllerMetricsInterceptor(meterRegistry)).addPathPatterns("/api/**");
+    }
+
+    /**
+     * CORS 는 MVC 가 아닌 필터로 처리 - 속도 제한(429), 멱등성(409, 422)처럼 필터가 직접 보내는 응답에도
+     * CORS 헤더가 있어야 브라우저가 응답(Retry-After 등)을 읽을 수 있으므로 추적 필터 바로 다음, 다른 필터보다 먼저 실행
+     */
+    @Bean
+    public FilterRegistrationBean<CorsFilter> corsFilter() {
+        CorsConfiguration config = new CorsConfiguration();
+        config.setAllowedOrigins(List.of(allowedOrigins));
+        config.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
+        config.setAllowedHeaders(List.of("Content-Type", "Accept", IdempotencyFilter.HEADER, TracingFilter.HEADER,
+            ReplicaLagGuard.CLIENT_ID_HEADER, ChangeJournal.USER_HEADER));
+        config.setExposedHeaders(List.of(TracingFilter.HEADER, "Idempotent-Replayed", HttpHeaders.RETRY_AFTER, CoalescedReadService.VERSION_HEADER,
+            SqlStatementFilter.HEADER_STATEMENTS, SqlStatementFilter.HEADER_ROWS, SqlStatementFilter.HEADER_TIME));
+        config.setMaxAge(maxAgeSeconds);
+
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/api/**", config);
+        FilterRegistrationBean<CorsFilter> registration = new FilterRegistrationBean<>(new CorsFilter(source));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
@@ -0,0 +1,55 @@
+package com.loa.scheduler.config;
+
+import com.loa.scheduler.controller.EditSocketHandler;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.thread.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.task.SimpleAsyncTaskSchedulerBuilder;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+/**
+ * 편집 웹소켓 (/api/ws) - websocket.enabled=false 면 등록하지 않음 (REST + SSE 만 사용)
+ */
+@Configuration
+@EnableWebSocket
+@ConditionalOnProperty(name = "websocket.enabled", havingValue = "true", matchIfMissing = true)
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    @Autowired
+    private EditSocketHandler editSocketHandler;
+
+    // CORS 와 같은 프론트엔드 접속 주소만 허용
+    @Value("${cors.allowed-origins}")
+    private String[] allowedOrigins;
+
+    /**
+     * @EnableWebSocket 이 등록하는 SockJS 스케줄러 빈(TaskScheduler 타입) 때문에 Spring Boot 기본 스케줄러가 빠지므로
+     * @Scheduled 작업(주간 초기화 등)이 쓰던 스케줄러를 같은 이름, 같은 설정으로 직접 등록
+     */
+    @Bean(name = "taskScheduler")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean(name = "taskScheduler")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskScheduler taskSchedulerVirtualThreads(SimpleAsyncTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(editSocketHandler, "/api/ws")
+            .setAllowedOrigins(allowedOrigins);
+    }
+}
@@ -0,0 +1,72 @@
+package com.loa.scheduler.controller;
+
+import com.loa.scheduler.service.BatchOperation;
+import com.loa.scheduler.service.BatchOperationService;
+import com.loa.scheduler.service.BatchOperationService.BatchOperationException;
+import com.loa.scheduler.service.BatchOperationService.BatchResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 쓰기 작업을 요청 하나, 트랜잭션 하나로 실행 (드래그 한 번에 필요한 삭제/저장/순서 변경 등)
+ * 변경 이벤트는 작업 수와 관계없이 batch-saved 한 번만 보낸다.
+ */
+@RestController
+@RequestMapping("/api/batch")
+public class BatchController {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchController.class);
+
+    @Autowired
+    private BatchOperationService batchOperationService;
+
+    @Autowired
+    private EventController eventController;
+
+    // 일괄 작업 실행
+    @PostMapping
+    public ResponseEntity<Map<String, Object>> applyBatch(@RequestBody BatchRequest request) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        try {
+            BatchResult result = batchOperationService.apply(request.getOperations());
+            SystemController.updateTimestamp(); // 자동갱신을 위한 timestamp 업데이트
+
+            // SSE 이벤트 브로드캐스트 (오류 발생해도 응답에는 영향 없음)
+            try {
+                eventController.broadcastUpdate(BatchOperationService.EVENT_TYPE,
+                    "작업 " + result.getApplied() + "건이 저장되었습니다.", result.getResources());
+            } catch (Exception e) {
+                log.warn("SSE 브로드캐스트 실패 (일괄 작업은 성공): {}", e.getMessage());
+            }
+
+            body.put("message", "작업 " + result.getApplied() + "건이 저장되었습니다.");
+            body.put("applied", result.getApplied());
+            body.put("resources", result.getResources());
+            return ResponseEntity.ok(body);
+        } catch (BatchOperationException e) {
+            log.warn("일괄 작업 실패 (작업 {}): {}", e.getIndex(), e.getMessage());
+            body.put("error", "일괄 작업 실패: " + e.getMessage());
+            body.put("index", e.getIndex());
+            return ResponseEntity.badRequest().body(body);
+        } catch (Exception e) {
+            log.error("일괄 작업 처리 실패", e);
+            body.put("error", "일괄 작업 처리 중 오류가 발생했습니다.");
+            return ResponseEntity.status(500).body(body);
+        }
+    }
+
+    // 일괄 작업 요청 DTO
+    public static class BatchRequest {
+        private List<BatchOperation> operations;
+
+        public List<BatchOperation> getOperations() { return operations; }
+        public void setOperations(List<BatchOperation> operations) { this.operations = operations; }
+    }
+}
@@ -0,0 +1,84 @@
+package com.loa.scheduler.controller;
+
+import com.loa.scheduler.service.BatchOperationService.BatchOperationException;
+import com.loa.scheduler.service.BoardMergeService;
+import com.loa.scheduler.service.BoardMergeService.MergeResult;
+import com.loa.scheduler.service.BoardOperation;
+import com.loa.scheduler.service.DataVersionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 레이드 보드 작업 (캐릭터 배치/제외, 완료 여부) - 칸 전체를 덮어쓰지 않고 요소 단위로 병합
+ * 반영된 작업은 board-ops 이벤트에 담아 보내고, 받은 클라이언트는 재조회 없이 같은 규칙으로 적용한다.
+ */
+@RestController
+@RequestMapping("/api/board")
+public class BoardController {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardController.class);
+
+    @Autowired
+    private BoardMergeService boardMergeService;
+
+    @Autowired
+    private EventController eventController;
+
+    // 서버 Lamport 시각 - 새로 연 탭은 첫 작업 전에 이 값 이후로 시각을 맞춤 (기존 작업에 밀리지 않도록)
+    @GetMapping("/clock")
+    public Map<String, Object> getClock() {
+        return Map.of("lamport", boardMergeService.currentLamport());
+    }
+
+    // 보드 작업 병합
+    @PostMapping("/ops")
+    public ResponseEntity<Map<String, Object>> applyOperations(@RequestBody BoardRequest request) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        try {
+            MergeResult result = boardMergeService.apply(request.getOperations());
+
+            // 모두 이전 작업에 밀렸으면 바뀐 것이 없으므로 알림도 없음
+            if (!result.getApplied().isEmpty()) {
+                SystemController.updateTimestamp(); // 자동갱신을 위한 timestamp 업데이트
+
+                // SSE 이벤트 브로드캐스트 (오류 발생해도 응답에는 영향 없음)
+                try {
+                    eventController.broadcastUpdate(BoardMergeService.EVENT_TYPE,
+                        "보드 작업 " + result.getApplied().size() + "건이 반영되었습니다.",
+                        List.of(DataVersionService.SCHEDULE),
+                        Map.of("operations", result.getApplied(), "lamport", result.getLamport()));
+                } catch (Exception e) {
+                    log.warn("SSE 브로드캐스트 실패 (보드 작업은 성공): {}", e.getMessage());
+                }
+            }
+
+            body.put("applied", result.getApplied().size());
+            body.put("lamport", result.getLamport());
+            return ResponseEntity.ok(body);
+        } catch (BatchOperationException e) {
+            log.warn("보드 작업 실패 (작업 {}): {}", e.getIndex(), e.getMessage());
+            body.put("error", "보드 작업 실패: " + e.getMessage());
+            body.put("index", e.getIndex());
+            return ResponseEntity.badRequest().body(body);
+        } catch (Exception e) {
+            log.error("보드 작업 처리 실패", e);
+            body.put("error", "보드 작업 처리 중 오류가 발생했습니다.");
+            return ResponseEntity.status(500).body(body);
+        }
+    }
+
+    // 보드 작업 요청 DTO
+    public static class BoardRequest {
+        private List<BoardOperation> operations;
+
+        public List<BoardOperation> getOperations() { return operations; }
+        public void setOperations(List<BoardOperation> operations) { this.operations = operations; }
+    }
+}
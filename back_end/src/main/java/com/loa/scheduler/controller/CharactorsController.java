@@ -2,17 +2,30 @@ package com.loa.scheduler.controller;
 
 import com.loa.scheduler.entity.Charactors;
 import com.loa.scheduler.repository.CharactorsRepository;
+import com.loa.scheduler.service.CoalescedReadService;
+import com.loa.scheduler.service.DataVersionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import jakarta.validation.Valid;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/charactors")
-@CrossOrigin(origins = {"http://localhost:19014", "http://192.168.219.100:19014", "http://192.168.219.102:19014", "http://192.168.219.103:19014", "http://1.213.234.164:19014", "http://112.149.7.35:19014", "http://172.30.96.1:19014", "http://localhost:5174"})
 public class CharactorsController {
+
+    private static final Logger log = LoggerFactory.getLogger(CharactorsController.class);
     
     @Autowired
     private CharactorsRepository CharactorsRepository;
@@ -20,10 +33,13 @@ public class CharactorsController {
     @Autowired
     private EventController eventController;
     
+    @Autowired
+    private CoalescedReadService coalescedReadService;
+    
     // 모든 캐릭터 조회 (user seq 순으로 정렬)
     @GetMapping
-    public List<Charactors> getAllCharactors() {
-        return CharactorsRepository.findAllOrderByUserSeqAndCharacterSeq();
+    public void getAllCharactors(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        coalescedReadService.write(DataVersionService.CHARACTORS, CharactorsRepository::findAllOrderByUserSeqAndCharacterSeq, request, response);
     }
     
     // 사용자별 캐릭터 조회 (seq 순서대로)
@@ -59,7 +75,7 @@ public class CharactorsController {
         try {
             eventController.broadcastUpdate("character-created", "캐릭터 '" + character.getName() + "'이 추가되었습니다.");
         } catch (Exception e) {
-            System.err.println("SSE 브로드캐스트 실패 (캐릭터 생성은 성공): " + e.getMessage());
+            log.warn("SSE 브로드캐스트 실패 (캐릭터 생성은 성공): {}", e.getMessage());
         }
         
         return ResponseEntity.ok(savedCharacter);
@@ -82,7 +98,7 @@ public class CharactorsController {
             try {
                 eventController.broadcastUpdate("character-updated", "캐릭터 '" + name + "'이 수정되었습니다.");
             } catch (Exception e) {
-                System.err.println("SSE 브로드캐스트 실패 (캐릭터 수정은 성공): " + e.getMessage());
+                log.warn("SSE 브로드캐스트 실패 (캐릭터 수정은 성공): {}", e.getMessage());
             }
             
             return ResponseEntity.ok(updatedCharacter);
@@ -101,7 +117,7 @@ public class CharactorsController {
             try {
                 eventController.broadcastUpdate("character-deleted", "캐릭터 '" + name + "'이 삭제되었습니다.");
             } catch (Exception e) {
-                System.err.println("SSE 브로드캐스트 실패 (캐릭터 삭제는 성공): " + e.getMessage());
+                log.warn("SSE 브로드캐스트 실패 (캐릭터 삭제는 성공): {}", e.getMessage());
             }
             
             return ResponseEntity.ok().build();
@@ -111,14 +127,22 @@ public class CharactorsController {
     
     // 캐릭터 일괄 저장 (upsert)
     @PutMapping("/batch")
+    @Transactional
     public ResponseEntity<List<Charactors>> saveAllCharacters(@RequestBody List<Charactors> characters) {
         try {
-            // 각 캐릭터별로 seq 설정 (신규 캐릭터의 경우)
+            // 기존 캐릭터를 한 번에 조회 (캐릭터마다 존재 여부를 조회하지 않음)
+            List<String> names = characters.stream().map(Charactors::getName).collect(Collectors.toList());
+            Set<String> existingNames = CharactorsRepository.findAllById(names).stream()
+                .map(Charactors::getName)
+                .collect(Collectors.toSet());
+            
+            // 신규 캐릭터 seq 자동 생성 (유저별 max seq 는 한 번만 조회하고 이후 증가)
+            Map<String, Integer> nextSeqByUser = new HashMap<>();
             for (Charactors character : characters) {
-                if (!CharactorsRepository.existsById(character.getName())) {
-                    // 신규 캐릭터인 경우 seq 자동 생성
-                    Optional<Integer> maxSeq = CharactorsRepository.findMaxSeqByUserId(character.getUserId());
-                    int nextSeq = maxSeq.orElse(0) + 1;
+                if (!existingNames.contains(character.getName())) {
+                    int nextSeq = nextSeqByUser.computeIfAbsent(character.getUserId(),
+                        userId -> CharactorsRepository.findMaxSeqByUserId(userId).orElse(0)) + 1;
+                    nextSeqByUser.put(character.getUserId(), nextSeq);
                     character.setSeq(nextSeq);
                 }
             }
@@ -130,7 +154,7 @@ public class CharactorsController {
             try {
                 eventController.broadcastUpdate("character-batch-saved", "캐릭터 목록이 일괄 저장되었습니다.");
             } catch (Exception e) {
-                System.err.println("SSE 브로드캐스트 실패 (캐릭터 일괄 저장은 성공): " + e.getMessage());
+                log.warn("SSE 브로드캐스트 실패 (캐릭터 일괄 저장은 성공): {}", e.getMessage());
             }
             
             return ResponseEntity.ok(savedCharacters);
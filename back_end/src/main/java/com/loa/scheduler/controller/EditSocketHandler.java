@@ -0,0 +1,429 @@
+package com.loa.scheduler.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loa.scheduler.config.ClientIpResolver;
+import com.loa.scheduler.service.BatchOperation;
+import com.loa.scheduler.service.BatchOperationService;
+import com.loa.scheduler.service.BatchOperationService.BatchOperationException;
+import com.loa.scheduler.service.BatchOperationService.BatchResult;
+import com.loa.scheduler.service.BoardMergeService;
+import com.loa.scheduler.service.BoardMergeService.MergeResult;
+import com.loa.scheduler.service.BoardOperation;
+import com.loa.scheduler.service.ChangeJournal;
+import com.loa.scheduler.service.DataVersionService;
+import com.loa.scheduler.service.IdempotencyStore;
+import com.loa.scheduler.service.IdempotencyStore.StoredResponse;
+import com.loa.scheduler.service.RateLimitService;
+import com.loa.scheduler.service.RateLimitService.EndpointClass;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 편집 웹소켓 (/api/ws) - 연결 하나로 편집 명령, 명령별 응답(ack), 변경 이벤트를 주고받음
+ *
+ * 클라이언트 -> 서버: {"id": "c1", "type": "batch", "operations": [ /api/batch 와 같은 작업 목록 ]}
+ *                    {"id": "c2", "type": "board", "operations": [ /api/board/ops 와 같은 보드 작업 목록 ]}
+ *                    {"id": "c3", "type": "ping"}
+ * 서버 -> 클라이언트: {"type": "ack", "id": "c1", "applied": 1, "versions": {"schedule": 1718000000124}}
+ *                    {"type": "ack", "id": "c2", "applied": 2, "lamport": 43, "versions": {"schedule": 1718000000125}}
+ *                    {"type": "error", "id": "c1", "error": "...", "index": 0}
+ *                    {"type": "error", "id": "c1", "error": "...", "retryAfter": 3}   (요청 속도 제한 - /api 쓰기와 같은 IP 버킷)
+ *                    {"type": "event", "event": "batch-saved", "data": { SSE 이벤트 데이터와 동일 }}
+ *                    {"type": "presence", "data": { 접속 현황 변경분, SSE presence 이벤트와 동일 }}
+ *
+ * 쓰기는 /api/batch, /api/board/ops 와 같은 서비스로 실행하고, 변경 이벤트는 EventController 를 거쳐
+ * SSE 구독자와 웹소켓 연결에 같은 시점에 전달된다. ack 는 변경 이벤트 전송 후에 보낸다.
+ * 같은 클라이언트(연결 주소의 client 파라미터, 없으면 연결)가 같은 명령 id 를 다시 보내면 실행하지 않고 처음 응답을 다시 보낸다.
+ */
+@Component
+@ConditionalOnProperty(name = "websocket.enabled", havingValue = "true", matchIfMissing = true)
+public class EditSocketHandler extends TextWebSocketHandler implements EventController.ChangeListener {
+
+    private static final Logger log = LoggerFactory.getLogger(EditSocketHandler.class);
+    private static final Logger connectionLog = LoggerFactory.getLogger("com.loa.scheduler.sse.connection");
+
+    // 세션 속성 - 변경 저널에 남길 작업자, 명령 중복 확인용 클라이언트 id, 속도 제한용 클라이언트 IP
+    private static final String ACTOR_ATTRIBUTE = "journalActor";
+    private static final String CLIENT_ATTRIBUTE = "commandClient";
+    private static final String CLIENT_IP_ATTRIBUTE = "clientIp";
+    private static final int MAX_CLIENT_ID_LENGTH = 64;
+
+    @Autowired
+    private BatchOperationService batchOperationService;
+
+    @Autowired
+    private BoardMergeService boardMergeService;
+
+    @Autowired
+    private EventController eventController;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ChangeJournal changeJournal;
+
+    @Autowired
+    private ClientIpResolver clientIpResolver;
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @Autowired
+    private RateLimitService rateLimitService;
+
+    // 최대 연결 수
+    @Value("${websocket.max-sessions:1000}")
+    private int maxSessions;
+
+    // 느린 클라이언트 보호 - 전송이 이 시간(ms)을 넘기거나 대기 버퍼가 이 크기를 넘으면 연결 종료
+    @Value("${websocket.send-time-limit-ms:10000}")
+    private int sendTimeLimitMillis;
+
+    @Value("${websocket.send-buffer-bytes:524288}")
+    private int sendBufferBytes;
+
+    // 명령 메시지 최대 크기 (일괄 작업 200건 기준 여유 있게)
+    @Value("${websocket.max-message-bytes:262144}")
+    private int maxMessageBytes;
+
+    // 세션 id -> 동시 전송 가능한 세션 (브로드캐스트와 ack 가 서로 다른 스레드에서 보내도 안전)
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+    // 연결 수 - 확인과 증가를 한 번에 해서 동시 연결이 함께 제한을 통과하지 않도록 (거절하면 되돌림)
+    private final AtomicInteger sessionCount = new AtomicInteger();
+
+    private final MeterRegistry meterRegistry;
+
+    public EditSocketHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("ws.sessions.active", sessions, Map::size)
+            .description("활성 편집 웹소켓 연결 수")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void register() {
+        eventController.addChangeListener(this);
+    }
+
+    @PreDestroy
+    void unregister() {
+        eventController.removeChangeListener(this);
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        int count = sessionCount.incrementAndGet();
+        if (count > maxSessions) {
+            sessionCount.decrementAndGet();
+            connectionLog.warn("웹소켓 연결 수 제한 초과: {}", count - 1);
+            session.close(CloseStatus.SERVICE_OVERLOAD);
+            return;
+        }
+        session.setTextMessageSizeLimit(maxMessageBytes);
+        String clientIp = clientIpOf(session);
+        session.getAttributes().put(CLIENT_IP_ATTRIBUTE, clientIp);
+        session.getAttributes().put(ACTOR_ATTRIBUTE, actorOf(session, clientIp));
+        session.getAttributes().put(CLIENT_ATTRIBUTE, clientOf(session));
+        sessions.put(session.getId(), new ConcurrentWebSocketSessionDecorator(session, sendTimeLimitMillis, sendBufferBytes));
+        connectionLog.info("웹소켓 클라이언트 연결됨 [{}] 총 연결 수: {}", session.getRemoteAddress(), sessions.size());
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        removeSession(session.getId());
+        connectionLog.info("웹소켓 클라이언트 연결 종료 [{}] {} 총 연결 수: {}", session.getRemoteAddress(), status, sessions.size());
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        removeSession(session.getId());
+        connectionLog.info("웹소켓 클라이언트 에러: {}", exception.getMessage());
+    }
+
+    /**
+     * 편집 명령 처리 - 명령마다 ack 또는 error 로 응답
+     */
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+        WebSocketSession target = sessions.get(session.getId());
+        if (target == null) {
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        String outcome = "ok";
+        Map<String, Object> reply = new LinkedHashMap<>();
+        reply.put("type", "ack");
+        // 중복 확인 키 (실행을 선점한 경우에만 값이 있음), 이미 처리된 명령의 응답
+        String commandKey = null;
+        byte[] replayed = null;
+        try {
+            JsonNode command = objectMapper.readTree(message.getPayload());
+            String commandId = command.path("id").asText(null);
+            reply.put("id", commandId);
+            String type = command.path("type").asText("batch");
+            String key = "ping".equals(type) || commandId == null ? null : "WS " + client(session) + " " + commandId;
+            Optional<StoredResponse> stored = key == null ? Optional.empty() : idempotencyStore.find(key);
+            // 이미 처리된 명령의 응답 재전송과 ping 은 토큰을 쓰지 않음
+            long retryAfterSeconds = "ping".equals(type) || stored.isPresent() ? 0
+                : rateLimitService.tryAcquire(EndpointClass.WRITE, clientIp(session));
+
+            if ("ping".equals(type)) {
+                reply.put("type", "pong");
+            } else if (stored.isPresent()) {
+                outcome = "replayed";
+                replayed = stored.get().getBody();
+            } else if (retryAfterSeconds > 0) {
+                // 실행하지 않았으므로 중복 확인 키도 남기지 않음 (같은 id 로 다시 보낼 수 있음)
+                outcome = "rejected";
+                reply.put("type", "error");
+                reply.put("error", RateLimitService.rejectionMessage(retryAfterSeconds));
+                reply.put("retryAfter", retryAfterSeconds);
+            } else if (key != null && !idempotencyStore.reserve(key, null)) {
+                // 같은 명령을 다른 스레드가 처리 중 (완료되면 그쪽에서 응답)
+                outcome = "rejected";
+                reply.put("type", "error");
+                reply.put("error", "같은 명령을 처리 중입니다.");
+            } else {
+                commandKey = key;
+                if (!executeCommand(session, type, command, reply)) {
+                    outcome = "rejected";
+                    reply.put("type", "error");
+                    reply.put("error", "지원하지 않는 명령입니다: " + type);
+                }
+            }
+        } catch (JsonProcessingException e) {
+            outcome = "rejected";
+            reply.put("type", "error");
+            reply.put("error", "명령 형식 오류: " + e.getOriginalMessage());
+        } catch (BatchOperationException e) {
+            outcome = "rejected";
+            log.warn("웹소켓 일괄 작업 실패 (작업 {}): {}", e.getIndex(), e.getMessage());
+            reply.put("type", "error");
+            reply.put("error", "일괄 작업 실패: " + e.getMessage());
+            reply.put("index", e.getIndex());
+        } catch (Exception e) {
+            outcome = "error";
+            log.error("웹소켓 명령 처리 실패", e);
+            reply.put("type", "error");
+            reply.put("error", "명령 처리 중 오류가 발생했습니다.");
+        }
+
+        byte[] json = replayed != null ? replayed : objectMapper.writeValueAsBytes(reply);
+        if (commandKey != null) {
+            // 서버 오류는 저장하지 않음 (다시 보내면 다시 실행)
+            if ("error".equals(outcome)) {
+                idempotencyStore.release(commandKey);
+            } else {
+                idempotencyStore.complete(commandKey, new StoredResponse(200, "application/json", json, null));
+            }
+        }
+        send(target, new String(json, StandardCharsets.UTF_8));
+        Timer.builder("ws.command.duration")
+            .description("웹소켓 편집 명령 처리 시간 (ack 전송까지)")
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 쓰기 명령 실행 - 결과는 reply 에 채움, 지원하지 않는 명령이면 false
+     */
+    private boolean executeCommand(WebSocketSession session, String type, JsonNode command,
+                                   Map<String, Object> reply) throws JsonProcessingException {
+        if ("batch".equals(type)) {
+            List<BatchOperation> operations = new ArrayList<>();
+            for (JsonNode operation : command.path("operations")) {
+                operations.add(objectMapper.treeToValue(operation, BatchOperation.class));
+            }
+            BatchResult result = changeJournal.runAs(actor(session), () -> batchOperationService.apply(operations));
+            SystemController.updateTimestamp(); // 자동갱신을 위한 timestamp 업데이트
+
+            // 변경 이벤트 브로드캐스트 (오류 발생해도 ack 에는 영향 없음)
+            try {
+                eventController.broadcastUpdate(BatchOperationService.EVENT_TYPE,
+                    "작업 " + result.getApplied() + "건이 저장되었습니다.", result.getResources());
+            } catch (Exception e) {
+                log.warn("변경 이벤트 브로드캐스트 실패 (일괄 작업은 성공): {}", e.getMessage());
+            }
+
+            // 브로드캐스트에서 올린 버전 (그 사이 다른 쓰기가 있었다면 그 이후 버전)
+            Map<String, Long> versions = new LinkedHashMap<>();
+            for (String resource : result.getResources()) {
+                versions.put(resource, dataVersionService.current(resource));
+            }
+            reply.put("applied", result.getApplied());
+            reply.put("versions", versions);
+        } else if ("board".equals(type)) {
+            List<BoardOperation> operations = new ArrayList<>();
+            for (JsonNode operation : command.path("operations")) {
+                operations.add(objectMapper.treeToValue(operation, BoardOperation.class));
+            }
+            MergeResult result = changeJournal.runAs(actor(session), () -> boardMergeService.apply(operations));
+
+            // 모두 이전 작업에 밀렸으면 바뀐 것이 없으므로 알림도 없음
+            if (!result.getApplied().isEmpty()) {
+                SystemController.updateTimestamp(); // 자동갱신을 위한 timestamp 업데이트
+                try {
+                    eventController.broadcastUpdate(BoardMergeService.EVENT_TYPE,
+                        "보드 작업 " + result.getApplied().size() + "건이 반영되었습니다.",
+                        List.of(DataVersionService.SCHEDULE),
+                        Map.of("operations", result.getApplied(), "lamport", result.getLamport()));
+                } catch (Exception e) {
+                    log.warn("변경 이벤트 브로드캐스트 실패 (보드 작업은 성공): {}", e.getMessage());
+                }
+            }
+            reply.put("applied", result.getApplied().size());
+            reply.put("lamport", result.getLamport());
+            reply.put("versions", Map.of(DataVersionService.SCHEDULE, dataVersionService.current(DataVersionService.SCHEDULE)));
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 클라이언트 IP - 신뢰하는 프록시를 거친 연결이면 핸드셰이크 헤더의 주소
+     */
+    private String clientIpOf(WebSocketSession session) {
+        HttpHeaders headers = session.getHandshakeHeaders();
+        InetSocketAddress remote = session.getRemoteAddress();
+        String remoteAddr = remote == null || remote.getAddress() == null ? "unknown" : remote.getAddress().getHostAddress();
+        return clientIpResolver.resolve(remoteAddr, headers.getFirst("X-Forwarded-For"), headers.getFirst("X-Real-IP"));
+    }
+
+    /**
+     * 변경 저널 작업자 - 연결 주소의 user 파라미터와 클라이언트 IP (HTTP 요청의 X-User-Name 헤더 대신)
+     */
+    private static String actorOf(WebSocketSession session, String clientIp) {
+        String user = session.getUri() == null ? null
+            : UriComponentsBuilder.fromUri(session.getUri()).build().getQueryParams().getFirst("user");
+        return ChangeJournal.actorOf(user, clientIp);
+    }
+
+    private static String clientIp(WebSocketSession session) {
+        Object clientIp = session.getAttributes().get(CLIENT_IP_ATTRIBUTE);
+        return clientIp != null ? clientIp.toString() : "unknown";
+    }
+
+    private static String actor(WebSocketSession session) {
+        Object actor = session.getAttributes().get(ACTOR_ATTRIBUTE);
+        return actor != null ? actor.toString() : ChangeJournal.SYSTEM_ACTOR;
+    }
+
+    /**
+     * 명령 중복 확인용 클라이언트 id - 연결 주소의 client 파라미터 (재연결해도 같은 값), 없으면 연결 id
+     */
+    private static String clientOf(WebSocketSession session) {
+        String client = session.getUri() == null ? null
+            : UriComponentsBuilder.fromUri(session.getUri()).build().getQueryParams().getFirst("client");
+        if (client == null || client.isBlank() || client.length() > MAX_CLIENT_ID_LENGTH) {
+            return "session:" + session.getId();
+        }
+        return client;
+    }
+
+    private static String client(WebSocketSession session) {
+        Object client = session.getAttributes().get(CLIENT_ATTRIBUTE);
+        return client != null ? client.toString() : "session:" + session.getId();
+    }
+
+    private void removeSession(String sessionId) {
+        if (sessions.remove(sessionId) != null) {
+            sessionCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * 변경 이벤트를 모든 웹소켓 연결에 전송 (EventController 의 SSE 브로드캐스트와 같은 시점)
+     */
+    @Override
+    public void onChange(String eventType, Supplier<String> data) {
+        String prefix;
+        try {
+            prefix = "{\"type\":\"event\",\"event\":" + objectMapper.writeValueAsString(eventType) + ",\"data\":";
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("웹소켓 이벤트 생성 실패", e);
+        }
+        for (WebSocketSession session : sessions.values()) {
+            send(session, prefix + data.get() + "}");
+        }
+    }
+
+    /**
+     * 접속 현황 변경분을 모든 웹소켓 연결에 전송 (SSE 하트비트와 같은 시점)
+     */
+    @Override
+    public void onPresence(String delta) {
+        String message = "{\"type\":\"presence\",\"data\":" + delta + "}";
+        for (WebSocketSession session : sessions.values()) {
+            send(session, message);
+        }
+    }
+
+    /**
+     * 종료 전 모든 연결을 닫음 - 클라이언트는 무작위 지연 후 다른 인스턴스로 재연결
+     */
+    @Override
+    public void onShutdown() {
+        for (WebSocketSession session : sessions.values()) {
+            removeSession(session.getId());
+            try {
+                session.close(CloseStatus.SERVICE_RESTARTED);
+            } catch (IOException e) {
+                // 이미 닫힌 연결
+            }
+        }
+    }
+
+    private void send(WebSocketSession session, String json) {
+        try {
+            session.sendMessage(new TextMessage(json));
+        } catch (Exception e) {
+            // 전송 실패, 전송 시간/버퍼 초과 - 연결을 닫고 목록에서 제거
+            removeSession(session.getId());
+            connectionLog.debug("웹소켓 전송 실패: {}", e.getMessage());
+            try {
+                session.close(CloseStatus.SESSION_NOT_RELIABLE);
+            } catch (IOException closeError) {
+                // 무시
+            }
+        }
+    }
+}
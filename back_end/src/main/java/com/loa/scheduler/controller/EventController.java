@@ -1,22 +1,57 @@
 package com.loa.scheduler.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loa.scheduler.config.ClientIpResolver;
+import com.loa.scheduler.service.DataVersionService;
+import com.loa.scheduler.service.PresenceService;
+import com.loa.scheduler.util.RequestTrace;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
 import org.springframework.http.MediaType;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import jakarta.servlet.http.HttpServletRequest;
 
 @RestController
 @RequestMapping("/api/events")
-@CrossOrigin(origins = {"http://localhost:5174", "http://localhost:19014"})
-public class EventController {
+public class EventController implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(EventController.class);
+    
+    // 고빈도 이벤트 로그 카테고리 (logback-spring.xml 에서 카테고리별 샘플링)
+    private static final Logger connectionLog = LoggerFactory.getLogger("com.loa.scheduler.sse.connection");
+    private static final Logger broadcastLog = LoggerFactory.getLogger("com.loa.scheduler.sse.broadcast");
     
     // 연결된 모든 클라이언트를 저장
     private final CopyOnWriteArraySet<SseEmitter> emitters = new CopyOnWriteArraySet<>();
@@ -25,10 +60,12 @@ public class EventController {
     private final ConcurrentHashMap<String, Integer> ipConnectionCount = new ConcurrentHashMap<>();
     
     // 최대 연결 수 제한
-    private static final int MAX_CONNECTIONS = 50;
+    @Value("${sse.max-connections:50}")
+    private int maxConnections;
     
     // 동일 IP 연결 제한 로직 - 같은 IP에서 최대 5개 연결만 허용
-    private static final int MAX_CONNECTIONS_PER_IP = 5;
+    @Value("${sse.max-connections-per-ip:5}")
+    private int maxConnectionsPerIp;
     
     // 하트비트 메커니즘 - 30초마다 ping 전송
     private static final int HEARTBEAT_INTERVAL = 30; // seconds
@@ -37,87 +74,303 @@ public class EventController {
     private volatile LocalDateTime lastUpdated = LocalDateTime.now();
     
     // 하트비트 메커니즘 - 주기적 ping 전송을 위한 스케줄러
-    private final ScheduledExecutorService heartbeatScheduler = Executors.newSingleThreadScheduledExecutor();
+    private final ScheduledExecutorService heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "sse-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    // 가상 스레드 모드 - 연결별 전송을 각각 가상 스레드에서 실행 (느린 클라이언트가 다른 연결 전송을 막지 않음)
+    // 플랫폼 스레드 모드에서는 null 이고 호출 스레드에서 순차 전송
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+    
+    @Value("${sse.write-timeout-ms:10000}")
+    private long writeTimeoutMillis = 10000;
+    
+    private volatile ExecutorService sseWriter;
+    
+    // 종료 시 연결 정리 - 재연결 지연을 클라이언트마다 이 범위에서 무작위로 정해 다음 인스턴스로의 재연결을 분산
+    @Value("${sse.drain.min-retry-ms:1000}")
+    private long drainMinRetryMillis = 1000;
+    
+    @Value("${sse.drain.max-retry-ms:15000}")
+    private long drainMaxRetryMillis = 15000;
+    
+    // 진행 중인 전송(브로드캐스트, 하트비트)이 끝나기를 기다리는 최대 시간
+    @Value("${sse.drain.flush-timeout-ms:5000}")
+    private long drainFlushTimeoutMillis = 5000;
+    
+    // 변경 이벤트 후 재조회 분산 - 클라이언트마다 0~이 값(ms) 사이의 재조회 지연을 이벤트 데이터에 담아 보냄
+    @Value("${sse.refetch-jitter-ms:1000}")
+    private long refetchJitterMillis = 1000;
+    
+    private static final ObjectMapper payloadMapper = new ObjectMapper();
+    
+    @Autowired
+    private DataVersionService dataVersionService;
+    
+    @Autowired
+    private PresenceService presenceService;
+
+    @Autowired
+    private ClientIpResolver clientIpResolver;
+    
+    // 접속 현황이 바뀌면 다음 하트비트를 이 시간(ms) 후로 당김 (그 사이 바뀐 것은 한 번에 전송)
+    @Value("${presence.flush-delay-ms:1000}")
+    private long presenceFlushDelayMillis = 1000;
+    
+    private final AtomicBoolean earlyHeartbeatScheduled = new AtomicBoolean();
+    
+    // SSE 외에 변경 이벤트를 받는 채널 (웹소켓 등)
+    private final CopyOnWriteArraySet<ChangeListener> changeListeners = new CopyOnWriteArraySet<>();
+    
+    private volatile boolean running = false;
+    private volatile boolean draining = false;
+    private final AtomicInteger inFlightSends = new AtomicInteger();
+    
+    // 메트릭
+    private final MeterRegistry meterRegistry;
+    private final Counter rejectedPerIpCounter;
+    private final Counter rejectedMaxCounter;
+    private final Counter drainedCounter;
     
     /**
      * 하트비트 메커니즘 - 생성자에서 주기적 ping 시작
      */
-    public EventController() {
+    public EventController(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("sse.connections.active", emitters, CopyOnWriteArraySet::size)
+            .description("활성 SSE 연결 수")
+            .register(meterRegistry);
+        // IP 를 태그로 쓰면 시계열 수가 클라이언트 수만큼 늘어나므로 최대값과 IP 수만 노출
+        Gauge.builder("sse.connections.per_ip.max", ipConnectionCount, EventController::maxIpConnections)
+            .description("한 IP 의 최대 SSE 연결 수")
+            .register(meterRegistry);
+        Gauge.builder("sse.connections.ips", ipConnectionCount, ConcurrentHashMap::size)
+            .description("SSE 연결 중인 IP 수")
+            .register(meterRegistry);
+        this.rejectedPerIpCounter = Counter.builder("sse.connections.rejected").tag("reason", "per_ip").register(meterRegistry);
+        this.rejectedMaxCounter = Counter.builder("sse.connections.rejected").tag("reason", "max").register(meterRegistry);
+        this.drainedCounter = Counter.builder("sse.connections.drained").description("종료 시 재연결 안내 후 닫은 SSE 연결 수").register(meterRegistry);
+        
+
         // 하트비트 메커니즘 - 30초마다 모든 연결에 ping 전송
         heartbeatScheduler.scheduleAtFixedRate(this::sendHeartbeat, 
             HEARTBEAT_INTERVAL, HEARTBEAT_INTERVAL, TimeUnit.SECONDS);
     }
     
+    @PostConstruct
+    void startWriter() {
+        if (virtualThreads) {
+            sseWriter = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sse-writer-", 0).factory());
+            log.info("SSE 전송 가상 스레드 모드 사용");
+        }
+    }
+    
+    /**
+     * 종료 시 연결 정리 - graceful shutdown(진행 중 요청 대기, DEFAULT_PHASE - 1024) 보다 먼저 실행
+     * 열려 있는 SSE 요청이 graceful shutdown 대기 시간을 다 쓰지 않도록 여기서 먼저 닫는다.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 512;
+    }
+    
+    @Override
+    public void start() {
+        running = true;
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+    
     /**
-     * 동일 IP 연결 제한 로직 - 클라이언트 IP 추출
+     * 새 구독 거부 -> 진행 중인 전송 완료 대기 -> reconnect 이벤트 전송 후 연결 종료 -> 실행기 종료
      */
-    private String getClientIp(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
+    @Override
+    public void stop() {
+        draining = true;
+        
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(drainFlushTimeoutMillis);
+        while (inFlightSends.get() > 0 && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
         }
         
-        String xRealIp = request.getHeader("X-Real-IP");
-        if (xRealIp != null && !xRealIp.isEmpty()) {
-            return xRealIp;
+        int clients = emitters.size();
+        sendToAll(emitter -> emitter.send(reconnectEvent()));
+        changeListeners.forEach(ChangeListener::onShutdown);
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.complete();
+            } catch (Exception e) {
+                // 이미 닫힌 연결
+            }
         }
+        emitters.clear();
+        ipConnectionCount.clear();
+        drainedCounter.increment(clients);
         
-        return request.getRemoteAddr();
+        shutdownExecutors(deadline);
+        running = false;
+        log.info("종료 전 SSE 연결 {}개에 재연결 안내 ({}~{}ms 분산)", clients, drainMinRetryMillis, drainMaxRetryMillis);
+    }
+    
+    private void shutdownExecutors(long deadline) {
+        heartbeatScheduler.shutdown();
+        ExecutorService writer = sseWriter;
+        if (writer != null) {
+            writer.shutdown();
+        }
+        try {
+            heartbeatScheduler.awaitTermination(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+            if (writer != null) {
+                writer.awaitTermination(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * 재연결 안내 이벤트 - 데이터와 retry 필드에 무작위 재연결 지연(ms)
+     */
+    private SseEmitter.SseEventBuilder reconnectEvent() {
+        long delay = ThreadLocalRandom.current().nextLong(drainMinRetryMillis, Math.max(drainMaxRetryMillis, drainMinRetryMillis) + 1);
+        return SseEmitter.event()
+            .name("reconnect")
+            .reconnectTime(delay)
+            .data(String.valueOf(delay));
+    }
+    
+    @PreDestroy
+    void shutdown() {
+        heartbeatScheduler.shutdownNow();
+        ExecutorService writer = sseWriter;
+        if (writer != null) {
+            writer.shutdownNow();
+        }
     }
     
     /**
      * 하트비트 메커니즘 - 모든 연결에 ping 전송하여 죽은 연결 감지
      */
     private void sendHeartbeat() {
-        CopyOnWriteArraySet<SseEmitter> deadEmitters = new CopyOnWriteArraySet<>();
+        // 접속 현황 변경분을 하트비트에 함께 실어 보냄 (바뀐 것이 없으면 ping 만)
+        String presence;
+        try {
+            presence = presenceService.drainDelta();
+        } catch (Exception e) {
+            // 하트비트는 계속 (예외가 나가면 주기 실행이 멈춤)
+            log.warn("접속 현황 변경분 생성 실패: {}", e.getMessage());
+            presence = null;
+        }
+        String presenceDelta = presence;
         
-        for (SseEmitter emitter : emitters) {
-            try {
+        Set<SseEmitter> deadEmitters = sendToAll(emitter -> {
+            emitter.send(SseEmitter.event()
+                .name("heartbeat")
+                .data("ping"));
+            if (presenceDelta != null) {
                 emitter.send(SseEmitter.event()
-                    .name("heartbeat")
-                    .data("ping"));
-            } catch (Exception e) {
-                deadEmitters.add(emitter);
+                    .name("presence")
+                    .data(presenceDelta));
+            }
+        });
+        
+        if (presenceDelta != null) {
+            for (ChangeListener listener : changeListeners) {
+                try {
+                    listener.onPresence(presenceDelta);
+                } catch (Exception e) {
+                    broadcastLog.warn("접속 현황 전달 실패: {}", e.getMessage());
+                }
             }
         }
         
         // 하트비트 메커니즘 - 응답하지 않는 연결들 정리
         if (!deadEmitters.isEmpty()) {
             emitters.removeAll(deadEmitters);
-            System.out.println("하트비트로 감지된 죽은 연결 " + deadEmitters.size() + "개 제거됨");
+            countDeadEmitters("heartbeat", deadEmitters.size());
+            log.info("하트비트로 감지된 죽은 연결 {}개 제거됨", deadEmitters.size());
+        }
+    }
+    /**
+     * 접속 현황이 바뀌었을 때 다음 하트비트를 앞당김 - 정기 하트비트와 같은 스레드에서 실행되고, 예약은 한 번만
+     */
+    public void requestHeartbeat() {
+        if (draining || !earlyHeartbeatScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            heartbeatScheduler.schedule(() -> {
+                earlyHeartbeatScheduled.set(false);
+                sendHeartbeat();
+            }, presenceFlushDelayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            earlyHeartbeatScheduled.set(false);
         }
     }
+    
     /**
      * SSE 연결 엔드포인트
      */
     @GetMapping(value = "/updates", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public SseEmitter subscribe(HttpServletRequest request) {
-        // 동일 IP 연결 제한 로직 - 클라이언트 IP 확인
-        String clientIp = getClientIp(request);
-        int currentIpConnections = ipConnectionCount.getOrDefault(clientIp, 0);
+        // 종료 중에는 새 구독 대신 다른 인스턴스로 재연결 안내
+        if (draining) {
+            SseEmitter emitter = new SseEmitter(1000L);
+            try {
+                emitter.send(reconnectEvent());
+                emitter.complete();
+            } catch (IOException e) {
+                // 무시
+            }
+            return emitter;
+        }
+        
+        // 동일 IP 연결 제한 로직 - 클라이언트 IP 확인 (신뢰하는 프록시를 거친 경우에만 X-Forwarded-For 사용)
+        String clientIp = clientIpResolver.resolve(request);
         
-        // 동일 IP 연결 제한 로직 - IP별 연결 수 체크
-        if (currentIpConnections >= MAX_CONNECTIONS_PER_IP) {
+        // 동일 IP 연결 제한 로직 - 확인과 증가를 한 번에 (동시 연결이 함께 제한을 통과하지 않도록)
+        boolean[] reserved = new boolean[1];
+        int currentIpConnections = ipConnectionCount.compute(clientIp, (key, count) -> {
+            int current = count == null ? 0 : count;
+            reserved[0] = current < maxConnectionsPerIp;
+            return reserved[0] ? current + 1 : current;
+        });
+        if (!reserved[0]) {
             SseEmitter rejectedEmitter = new SseEmitter(1000L);
             try {
                 rejectedEmitter.send(SseEmitter.event()
                     .name("error")
-                    .data("동일 IP에서 너무 많은 연결 (" + currentIpConnections + "/" + MAX_CONNECTIONS_PER_IP + ")"));
+                    .data("동일 IP에서 너무 많은 연결 (" + currentIpConnections + "/" + maxConnectionsPerIp + ")"));
                 rejectedEmitter.complete();
             } catch (IOException e) {
                 // 무시
             }
-            System.out.println("IP " + clientIp + " 연결 제한 초과: " + currentIpConnections);
+            rejectedPerIpCounter.increment();
+            connectionLog.warn("IP {} 연결 제한 초과: {}", clientIp, currentIpConnections);
             return rejectedEmitter;
         }
         
         // 연결 수 제한 체크
-        if (emitters.size() >= MAX_CONNECTIONS) {
+        if (emitters.size() >= maxConnections) {
             // 오래된 연결들을 정리
             cleanupOldConnections();
             
             // 여전히 제한을 초과하면 새 연결 거부
-            if (emitters.size() >= MAX_CONNECTIONS) {
+            if (emitters.size() >= maxConnections) {
+                decreaseIpConnectionCount(clientIp);
+                rejectedMaxCounter.increment();
                 SseEmitter emitter = new SseEmitter(1000L); // 짧은 타임아웃
                 try {
                     emitter.send(SseEmitter.event()
@@ -148,13 +401,11 @@ public class EventController {
             
             emitters.add(emitter);
             
-            // 동일 IP 연결 제한 로직 - IP별 연결 수 증가
-            ipConnectionCount.put(clientIp, currentIpConnections + 1);
-            
-            System.out.println("SSE 클라이언트 연결됨 [IP: " + clientIp + "] 총 연결 수: " + emitters.size() + ", IP별 연결 수: " + (currentIpConnections + 1));
+            connectionLog.info("SSE 클라이언트 연결됨 [IP: {}] 총 연결 수: {}, IP별 연결 수: {}", clientIp, emitters.size(), currentIpConnections);
             
         } catch (IOException e) {
-            System.err.println("SSE 연결 초기화 실패: " + e.getMessage());
+            decreaseIpConnectionCount(clientIp);
+            connectionLog.warn("SSE 연결 초기화 실패: {}", e.getMessage());
             emitter.completeWithError(e);
             return emitter;
         }
@@ -164,21 +415,21 @@ public class EventController {
             emitters.remove(emitter);
             // 동일 IP 연결 제한 로직 - IP별 연결 수 감소
             decreaseIpConnectionCount(clientIp);
-            System.out.println("SSE 클라이언트 연결 종료 [IP: " + clientIp + "] 총 연결 수: " + emitters.size());
+            connectionLog.info("SSE 클라이언트 연결 종료 [IP: {}] 총 연결 수: {}", clientIp, emitters.size());
         });
         
         emitter.onTimeout(() -> {
             emitters.remove(emitter);
             // 동일 IP 연결 제한 로직 - IP별 연결 수 감소
             decreaseIpConnectionCount(clientIp);
-            System.out.println("SSE 클라이언트 타임아웃 [IP: " + clientIp + "] 총 연결 수: " + emitters.size());
+            connectionLog.info("SSE 클라이언트 타임아웃 [IP: {}] 총 연결 수: {}", clientIp, emitters.size());
         });
         
         emitter.onError((ex) -> {
             emitters.remove(emitter);
             // 동일 IP 연결 제한 로직 - IP별 연결 수 감소
             decreaseIpConnectionCount(clientIp);
-            System.out.println("SSE 클라이언트 에러 [IP: " + clientIp + "]: " + ex.getMessage());
+            connectionLog.info("SSE 클라이언트 에러 [IP: {}]: {}", clientIp, ex.getMessage());
         });
         
         return emitter;
@@ -196,70 +447,246 @@ public class EventController {
         });
     }
     
+    private static double maxIpConnections(Map<String, Integer> counts) {
+        int max = 0;
+        for (Integer count : counts.values()) {
+            max = Math.max(max, count);
+        }
+        return max;
+    }
+    
+    private void countDeadEmitters(String source, int count) {
+        meterRegistry.counter("sse.emitters.dead", "source", source).increment(count);
+    }
+    
     /**
      * 모든 클라이언트에게 업데이트 알림 브로드캐스트
+     * 트랜잭션 안에서 호출되면 커밋 후에 전송 (알림을 받은 클라이언트가 커밋 전 데이터를 다시 읽지 않도록)
      */
     public void broadcastUpdate(String eventType, String data) {
-        lastUpdated = LocalDateTime.now();
+        broadcastUpdate(eventType, data, DataVersionService.resourcesOf(eventType));
+    }
+    
+    /**
+     * 바뀐 리소스를 직접 지정하는 브로드캐스트 (여러 리소스를 한 번에 바꾸는 일괄 작업용)
+     */
+    public void broadcastUpdate(String eventType, String data, Collection<String> resources) {
+        broadcastUpdate(eventType, data, resources, Map.of());
+    }
+    
+    /**
+     * 이벤트 데이터에 필드를 더 싣는 브로드캐스트 (보드 작업처럼 받은 쪽이 재조회 없이 반영할 변경 내용)
+     */
+    public void broadcastUpdate(String eventType, String data, Collection<String> resources, Map<String, ?> fields) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    // 이미 커밋된 요청의 응답에는 영향 없음
+                    try {
+                        publish(eventType, data, resources, fields);
+                    } catch (Exception e) {
+                        log.warn("커밋 후 SSE 브로드캐스트 실패: {}", e.getMessage());
+                    }
+                }
+            });
+            return;
+        }
+        publish(eventType, data, resources, fields);
+    }
+    
+    private void publish(String eventType, String data, Collection<String> resources, Map<String, ?> fields) {
+        try (RequestTrace.Span span = RequestTrace.span(RequestTrace.CATEGORY_SSE, "broadcast " + eventType)) {
+            long startNanos = System.nanoTime();
+            lastUpdated = LocalDateTime.now();
         
-        // 죽은 연결 제거용 임시 리스트
-        CopyOnWriteArraySet<SseEmitter> deadEmitters = new CopyOnWriteArraySet<>();
+            String updatedAt = lastUpdated.toString();
+            String payload = eventPayload(data, resources, fields);
         
-        for (SseEmitter emitter : emitters) {
-            try {
+            // 전송에 실패한 연결은 죽은 연결로 수집
+            Set<SseEmitter> deadEmitters = sendToAll(emitter -> {
                 // 하트비트 메커니즘 - 연결 상태 먼저 체크 (불필요한 전송 방지)
                 if (isEmitterClosed(emitter)) {
-                    deadEmitters.add(emitter);
-                    continue;
+                    throw new IOException("이미 닫힌 연결");
                 }
                 
                 emitter.send(SseEmitter.event()
                     .name(eventType)
-                    .data(data)
+                    .data(payload + ",\"refetchDelayMs\":" + refetchDelay() + "}")
                     .id(String.valueOf(System.currentTimeMillis())));
-                    
+                
                 // 업데이트 시간도 함께 전송
                 emitter.send(SseEmitter.event()
                     .name("lastUpdated")
-                    .data(lastUpdated.toString())
+                    .data(updatedAt)
                     .id(String.valueOf(System.currentTimeMillis())));
-                    
-            } catch (Exception e) {
-                // 모든 예외를 잡아서 deadEmitters에 추가
-                deadEmitters.add(emitter);
-                System.err.println("SSE 전송 실패: " + e.getMessage());
+            });
+        
+            // 죽은 연결 정리
+            emitters.removeAll(deadEmitters);
+        
+            // 다른 채널에도 같은 이벤트 데이터 전달 (재조회 지연은 수신자마다 따로)
+            for (ChangeListener listener : changeListeners) {
+                try {
+                    listener.onChange(eventType, () -> payload + ",\"refetchDelayMs\":" + refetchDelay() + "}");
+                } catch (Exception e) {
+                    broadcastLog.warn("변경 이벤트 전달 실패: {}", e.getMessage());
+                }
+            }
+        
+            if (!deadEmitters.isEmpty()) {
+                countDeadEmitters("broadcast", deadEmitters.size());
+                log.info("죽은 SSE 연결 {}개 제거됨", deadEmitters.size());
             }
+        
+            Timer.builder("sse.broadcast.duration")
+                .description("SSE 브로드캐스트 fan-out 시간")
+                .tag("event", eventType)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        
+            broadcastLog.info("SSE 브로드캐스트: {} - 활성 연결 수: {}", eventType, emitters.size());
         }
+    }
+    
+    /**
+     * 변경 이벤트 수신자 등록 (SSE 와 같은 시점, 같은 이벤트 데이터로 호출)
+     */
+    public void addChangeListener(ChangeListener listener) {
+        changeListeners.add(listener);
+    }
+    
+    public void removeChangeListener(ChangeListener listener) {
+        changeListeners.remove(listener);
+    }
+    
+    /**
+     * SSE 외의 변경 이벤트 채널
+     */
+    public interface ChangeListener {
+        /**
+         * 변경 이벤트 - data 는 호출할 때마다 재조회 지연이 새로 정해진 이벤트 데이터 JSON
+         */
+        void onChange(String eventType, Supplier<String> data);
         
-        // 죽은 연결 정리
-        emitters.removeAll(deadEmitters);
+        /**
+         * 종료 전 연결 정리 (SSE 재연결 안내와 같은 시점)
+         */
+        default void onShutdown() {
+        }
         
-        if (!deadEmitters.isEmpty()) {
-            System.out.println("죽은 SSE 연결 " + deadEmitters.size() + "개 제거됨");
+        /**
+         * 접속 현황 변경분 (SSE 하트비트와 같은 시점)
+         */
+        default void onPresence(String delta) {
+        }
+    }
+    
+    /**
+     * 이벤트 데이터 JSON (마지막 refetchDelayMs 필드와 닫는 괄호는 연결마다 붙임)
+     * 예: {"message":"스케줄이 일괄 저장되었습니다.","versions":{"schedule":1718000000123},"refetchDelayMs":420}
+     */
+    private String eventPayload(String message, Collection<String> resources, Map<String, ?> fields) {
+        // 바뀐 리소스의 버전을 올려 이후 목록 조회가 이전 조회 결과를 공유받지 않게 함
+        Map<String, Long> versions = new LinkedHashMap<>();
+        for (String resource : resources) {
+            versions.put(resource, dataVersionService.bumpNow(resource));
         }
         
-        System.out.println("SSE 브로드캐스트: " + eventType + " - 활성 연결 수: " + emitters.size());
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("message", message);
+        payload.put("versions", versions);
+        payload.putAll(fields);
+        try {
+            String json = payloadMapper.writeValueAsString(payload);
+            return json.substring(0, json.length() - 1);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("SSE 이벤트 데이터 생성 실패", e);
+        }
+    }
+    
+    private long refetchDelay() {
+        return refetchJitterMillis > 0 ? ThreadLocalRandom.current().nextLong(refetchJitterMillis + 1) : 0;
     }
     
     /**
      * 하트비트 메커니즘 - 오래된 연결들을 적극적으로 정리
      */
     private void cleanupOldConnections() {
-        CopyOnWriteArraySet<SseEmitter> deadEmitters = new CopyOnWriteArraySet<>();
+        // 하트비트 메커니즘 - ping 메시지로 연결 상태 확인
+        Set<SseEmitter> deadEmitters = sendToAll(emitter -> emitter.send(SseEmitter.event()
+            .name("ping")
+            .data("connection-check")));
         
+        emitters.removeAll(deadEmitters);
+        countDeadEmitters("cleanup", deadEmitters.size());
+        log.info("정리된 오래된 연결 수: {}", deadEmitters.size());
+    }
+    
+    /**
+     * 모든 연결에 전송하고 실패한 연결 목록 반환
+     * - 플랫폼 스레드 모드: 호출 스레드에서 순차 전송
+     * - 가상 스레드 모드: 연결별 가상 스레드에서 동시에 전송하고 sse.write-timeout-ms 까지 완료 대기
+     */
+    private Set<SseEmitter> sendToAll(SseSend send) {
+        inFlightSends.incrementAndGet();
+        try {
+            return sendToAllNow(send);
+        } finally {
+            inFlightSends.decrementAndGet();
+        }
+    }
+    
+    private Set<SseEmitter> sendToAllNow(SseSend send) {
+        Set<SseEmitter> deadEmitters = ConcurrentHashMap.newKeySet();
+        ExecutorService writer = sseWriter;
+        
+        if (writer == null) {
+            for (SseEmitter emitter : emitters) {
+                try {
+                    send.to(emitter);
+                } catch (Exception e) {
+                    deadEmitters.add(emitter);
+                    broadcastLog.debug("SSE 전송 실패: {}", e.getMessage());
+                }
+            }
+            return deadEmitters;
+        }
+        
+        Map<SseEmitter, Future<?>> pending = new LinkedHashMap<>();
         for (SseEmitter emitter : emitters) {
             try {
-                // 하트비트 메커니즘 - ping 메시지로 연결 상태 확인
-                emitter.send(SseEmitter.event()
-                    .name("ping")
-                    .data("connection-check"));
+                pending.put(emitter, writer.submit(() -> {
+                    send.to(emitter);
+                    return null;
+                }));
             } catch (Exception e) {
+                // 종료 중이라 작업을 받지 않는 경우
                 deadEmitters.add(emitter);
             }
         }
         
-        emitters.removeAll(deadEmitters);
-        System.out.println("정리된 오래된 연결 수: " + deadEmitters.size());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(writeTimeoutMillis);
+        for (Map.Entry<SseEmitter, Future<?>> entry : pending.entrySet()) {
+            try {
+                entry.getValue().get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                // 전송 실패 또는 시간 초과 - 남은 전송은 중단
+                entry.getValue().cancel(true);
+                deadEmitters.add(entry.getKey());
+                broadcastLog.debug("SSE 전송 실패: {}", e.getMessage());
+            }
+        }
+        return deadEmitters;
+    }
+    
+    @FunctionalInterface
+    private interface SseSend {
+        void to(SseEmitter emitter) throws IOException;
     }
     
     /**
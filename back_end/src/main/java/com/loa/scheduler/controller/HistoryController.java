@@ -0,0 +1,91 @@
+package com.loa.scheduler.controller;
+
+import com.loa.scheduler.entity.CharacterClearStat;
+import com.loa.scheduler.entity.UserAvailabilityStat;
+import com.loa.scheduler.entity.WeeklyArchive;
+import com.loa.scheduler.service.HistoryArchiveService;
+import com.loa.scheduler.util.RaidWeek;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/history")
+public class HistoryController {
+    
+    // 추이 조회 최대 주차 수
+    private static final int MAX_TREND_WEEKS = 104;
+    
+    @Autowired
+    private HistoryArchiveService historyArchiveService;
+    
+    // 캐릭터별 클리어율 (누적 집계)
+    @GetMapping("/clear-rates")
+    public List<CharacterClearStat> getClearRates() {
+        return historyArchiveService.getClearRates();
+    }
+    
+    // 특정 캐릭터 클리어율
+    @GetMapping("/clear-rates/{characterName}")
+    public ResponseEntity<CharacterClearStat> getClearRate(@PathVariable String characterName) {
+        return historyArchiveService.getClearRate(characterName)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
+    
+    // 전체 유저 주차별 가용 요일 추이
+    @GetMapping("/availability")
+    public List<UserAvailabilityStat> getAvailabilityTrends(@RequestParam(defaultValue = "12") int weeks) {
+        return historyArchiveService.getAvailabilityTrends(trendFrom(weeks));
+    }
+    
+    // 특정 유저 주차별 가용 요일 추이
+    @GetMapping("/availability/{userId}")
+    public List<UserAvailabilityStat> getAvailabilityTrend(@PathVariable String userId, @RequestParam(defaultValue = "12") int weeks) {
+        return historyArchiveService.getAvailabilityTrend(userId, trendFrom(weeks));
+    }
+    
+    // 보관된 주차 레이드 스케줄 스냅샷
+    @GetMapping("/weeks/{weekStart}/raid-schedule")
+    public ResponseEntity<List<Map<String, String>>> getRaidScheduleSnapshot(
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate weekStart) {
+        return toResponse(historyArchiveService.getSnapshot(weekStart, WeeklyArchive.KIND_RAID_SCHEDULE),
+            "id", "raidName", "characterName", "isFinish");
+    }
+    
+    // 보관된 주차 유저 일정 스냅샷
+    @GetMapping("/weeks/{weekStart}/user-schedule")
+    public ResponseEntity<List<Map<String, String>>> getUserScheduleSnapshot(
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate weekStart) {
+        return toResponse(historyArchiveService.getSnapshot(weekStart, WeeklyArchive.KIND_USER_SCHEDULE),
+            "userId", "dayOfWeek", "enabled", "scheduleText");
+    }
+    
+    private LocalDate trendFrom(int weeks) {
+        int limited = Math.max(1, Math.min(weeks, MAX_TREND_WEEKS));
+        return RaidWeek.currentWeekStart().minusWeeks(limited);
+    }
+    
+    private ResponseEntity<List<Map<String, String>>> toResponse(Optional<List<String[]>> snapshot, String... fieldNames) {
+        if (snapshot.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        List<Map<String, String>> rows = new ArrayList<>(snapshot.get().size());
+        for (String[] values : snapshot.get()) {
+            Map<String, String> row = new LinkedHashMap<>();
+            for (int i = 0; i < fieldNames.length && i < values.length; i++) {
+                row.put(fieldNames[i], values[i]);
+            }
+            rows.add(row);
+        }
+        return ResponseEntity.ok(rows);
+    }
+}
@@ -0,0 +1,87 @@
+package com.loa.scheduler.controller;
+
+import com.loa.scheduler.service.ChangeJournal;
+import com.loa.scheduler.util.JournalRecord;
+import com.loa.scheduler.util.JournalTable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/journal")
+public class JournalController {
+
+    private static final Logger log = LoggerFactory.getLogger(JournalController.class);
+
+    // 기본 조회 기간 (일), 최대 조회 건수
+    private static final int DEFAULT_RANGE_DAYS = 7;
+    private static final int MAX_LIMIT = 1000;
+
+    @Autowired
+    private ChangeJournal changeJournal;
+
+    // 변경 기록 시각 범위 조회 (table: 테이블 이름, q: 캐릭터/유저/파티 이름 등 값 검색)
+    @GetMapping
+    public ResponseEntity<?> getRecords(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String table,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "200") int limit) {
+        if (!changeJournal.isEnabled()) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "변경 저널이 꺼져 있습니다.");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+        }
+        try {
+            LocalDateTime end = to != null ? to : LocalDateTime.now();
+            LocalDateTime start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS);
+            if (start.isAfter(end)) {
+                throw new IllegalArgumentException("조회 시작 시각이 끝 시각보다 늦습니다.");
+            }
+            JournalTable journalTable = table == null || table.isBlank() ? null : JournalTable.fromName(table);
+            String keyword = q == null || q.isBlank() ? null : q.trim();
+            int limited = Math.max(1, Math.min(limit, MAX_LIMIT));
+
+            List<JournalRecord> records = changeJournal.scan(toMillis(start), toMillis(end), journalTable, keyword, limited);
+            List<Map<String, Object>> body = new ArrayList<>(records.size());
+            for (JournalRecord record : records) {
+                body.add(record.toMap());
+            }
+            Map<String, Object> response = new HashMap<>();
+            response.put("records", body);
+            response.put("count", body.size());
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        } catch (Exception e) {
+            log.error("변경 기록 조회 실패", e);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "변경 기록 조회 실패: " + e.getMessage());
+            return ResponseEntity.internalServerError().body(error);
+        }
+    }
+
+    // 저널 상태 (마지막 번호, 세그먼트 수, 크기, 대기 중인 기록 수)
+    @GetMapping("/status")
+    public Map<String, Object> getStatus() {
+        return changeJournal.status();
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,74 @@
+package com.loa.scheduler.controller;
+
+import com.loa.scheduler.service.PresenceService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * 접속 현황 - 탭마다 지금 보고 있거나 편집 중인 대상을 알리고, 변경분은 SSE 하트비트로 받는다.
+ */
+@RestController
+@RequestMapping("/api/presence")
+public class PresenceController {
+
+    private static final Logger log = LoggerFactory.getLogger(PresenceController.class);
+
+    @Autowired
+    private PresenceService presenceService;
+
+    @Autowired
+    private EventController eventController;
+
+    // 전체 접속 현황 조회 (처음 접속 시, 변경분 번호가 건너뛰었을 때)
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getPresence() {
+        return ResponseEntity.ok(presenceService.snapshot());
+    }
+
+    // 보고 있는/편집 중인 대상 알림 (같은 내용을 다시 보내면 만료 시각만 연장)
+    @PostMapping
+    public ResponseEntity<Map<String, Object>> updatePresence(@RequestBody PresenceRequest request) {
+        try {
+            if (presenceService.update(request.getSessionId(), request.getUser(), request.getMode(), request.getTarget())) {
+                eventController.requestHeartbeat();
+            }
+            return ResponseEntity.ok(Map.of("message", "접속 현황이 갱신되었습니다."));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            log.error("접속 현황 갱신 실패", e);
+            return ResponseEntity.status(500).body(Map.of("error", "접속 현황 갱신 중 오류가 발생했습니다."));
+        }
+    }
+
+    // 탭 종료 (페이지 언로드 시 sendBeacon 으로 호출)
+    @PostMapping("/leave")
+    public ResponseEntity<Map<String, Object>> leave(@RequestBody PresenceRequest request) {
+        if (presenceService.leave(request.getSessionId())) {
+            eventController.requestHeartbeat();
+        }
+        return ResponseEntity.ok(Map.of("message", "접속 현황에서 제외되었습니다."));
+    }
+
+    // 접속 현황 요청 DTO
+    public static class PresenceRequest {
+        private String sessionId;
+        private String user;
+        private String mode;
+        private String target;
+
+        public String getSessionId() { return sessionId; }
+        public void setSessionId(String sessionId) { this.sessionId = sessionId; }
+        public String getUser() { return user; }
+        public void setUser(String user) { this.user = user; }
+        public String getMode() { return mode; }
+        public void setMode(String mode) { this.mode = mode; }
+        public String getTarget() { return target; }
+        public void setTarget(String target) { this.target = target; }
+    }
+}
@@ -2,18 +2,29 @@ package com.loa.scheduler.controller;
 
 import com.loa.scheduler.entity.Raid;
 import com.loa.scheduler.repository.RaidRepository;
+import com.loa.scheduler.service.CoalescedReadService;
+import com.loa.scheduler.service.DataVersionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import jakarta.validation.Valid;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/raid")
-@CrossOrigin(origins = {"http://localhost:19014", "http://192.168.219.100:19014", "http://192.168.219.102:19014", "http://192.168.219.103:19014", "http://1.213.234.164:19014", "http://112.149.7.35:19014", "http://172.30.96.1:19014", "http://localhost:5174"})
 public class RaidController {
+
+    private static final Logger log = LoggerFactory.getLogger(RaidController.class);
     
     @Autowired
     private RaidRepository raidRepository;
@@ -21,10 +32,13 @@ public class RaidController {
     @Autowired
     private EventController eventController;
     
+    @Autowired
+    private CoalescedReadService coalescedReadService;
+    
     // 모든 레이드 조회 (seq 순으로 정렬)
     @GetMapping
-    public List<Raid> getAllRaids() {
-        return raidRepository.findAllOrderBySeq();
+    public void getAllRaids(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        coalescedReadService.write(DataVersionService.RAID, raidRepository::findAllOrderBySeq, request, response);
     }
     
     // 레이드 생성
@@ -46,7 +60,7 @@ public class RaidController {
         try {
             eventController.broadcastUpdate("raid-created", "레이드 '" + raid.getName() + "'이 추가되었습니다.");
         } catch (Exception e) {
-            System.err.println("SSE 브로드캐스트 실패 (레이드 생성은 성공): " + e.getMessage());
+            log.warn("SSE 브로드캐스트 실패 (레이드 생성은 성공): {}", e.getMessage());
         }
         
         return ResponseEntity.ok(savedRaid);
@@ -66,7 +80,7 @@ public class RaidController {
             try {
                 eventController.broadcastUpdate("raid-updated", "레이드 '" + name + "'이 수정되었습니다.");
             } catch (Exception e) {
-                System.err.println("SSE 브로드캐스트 실패 (레이드 수정은 성공): " + e.getMessage());
+                log.warn("SSE 브로드캐스트 실패 (레이드 수정은 성공): {}", e.getMessage());
             }
             
             return ResponseEntity.ok(updatedRaid);
@@ -84,7 +98,7 @@ public class RaidController {
             try {
                 eventController.broadcastUpdate("raid-deleted", "레이드 '" + name + "'이 삭제되었습니다.");
             } catch (Exception e) {
-                System.err.println("SSE 브로드캐스트 실패 (레이드 삭제는 성공): " + e.getMessage());
+                log.warn("SSE 브로드캐스트 실패 (레이드 삭제는 성공): {}", e.getMessage());
             }
             
             return ResponseEntity.ok().build();
@@ -94,26 +108,32 @@ public class RaidController {
     
     // 레이드 순서 업데이트 (일괄)
     @PutMapping("/order")
+    @Transactional
     public ResponseEntity<List<Raid>> updateRaidOrder(@Valid @RequestBody List<RaidOrderUpdate> updates) {
         try {
+            // 대상 레이드를 한 번에 조회 (레이드마다 조회하지 않음)
+            List<String> names = updates.stream().map(RaidOrderUpdate::getName).collect(Collectors.toList());
+            Map<String, Raid> raids = raidRepository.findAllById(names).stream()
+                .collect(Collectors.toMap(Raid::getName, raid -> raid));
+            
+            List<Raid> changedRaids = new ArrayList<>();
             for (RaidOrderUpdate update : updates) {
-                Optional<Raid> optionalRaid = raidRepository.findById(update.getName());
-                if (optionalRaid.isPresent()) {
-                    Raid raid = optionalRaid.get();
+                Raid raid = raids.get(update.getName());
+                if (raid != null) {
                     raid.setSeq(Long.valueOf(update.getSeq()));
-                    raidRepository.save(raid);
+                    changedRaids.add(raid);
                 }
             }
+            raidRepository.saveAll(changedRaids);
             
             // 업데이트된 전체 레이드 목록을 seq 순으로 반환
-            List<Raid> updatedRaids = raidRepository.findAll();
-            updatedRaids.sort((a, b) -> Long.compare(a.getSeq(), b.getSeq()));
+            List<Raid> updatedRaids = raidRepository.findAllOrderBySeq();
             
             // SSE 이벤트 브로드캐스트 (오류 발생해도 응답에는 영향 없음)
             try {
                 eventController.broadcastUpdate("raid-order-updated", "레이드 순서가 변경되었습니다.");
             } catch (Exception e) {
-                System.err.println("SSE 브로드캐스트 실패 (레이드 순서 변경은 성공): " + e.getMessage());
+                log.warn("SSE 브로드캐스트 실패 (레이드 순서 변경은 성공): {}", e.getMessage());
             }
             
             return ResponseEntity.ok(updatedRaids);
@@ -1,10 +1,23 @@
 package com.loa.scheduler.controller;
 
 import com.loa.scheduler.entity.Schedule;
+import com.loa.scheduler.entity.ScheduleId;
+import com.loa.scheduler.repository.BoardClockRepository;
 import com.loa.scheduler.repository.ScheduleRepository;
+import com.loa.scheduler.service.ChangeJournal;
+import com.loa.scheduler.service.CoalescedReadService;
+import com.loa.scheduler.service.DataVersionService;
+import com.loa.scheduler.util.JournalRecord;
+import com.loa.scheduler.util.JournalTable;
+import com.loa.scheduler.util.SchedulePayloadParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import org.springframework.transaction.annotation.Transactional;
 import jakarta.validation.Valid;
 import java.util.List;
@@ -12,19 +25,29 @@ import java.util.Map;
 
 @RestController
 @RequestMapping("/api/Schedule")
-@CrossOrigin(origins = {"http://localhost:19014", "http://192.168.219.100:19014", "http://192.168.219.102:19014", "http://192.168.219.103:19014", "http://1.213.234.164:19014", "http://112.149.7.35:19014", "http://172.30.96.1:19014", "http://localhost:5174"})
 public class ScheduleController {
+
+    private static final Logger log = LoggerFactory.getLogger(ScheduleController.class);
     
     @Autowired
     private ScheduleRepository scheduleRepository;
     
+    @Autowired
+    private BoardClockRepository boardClockRepository;
+    
     @Autowired
     private EventController eventController;
     
+    @Autowired
+    private CoalescedReadService coalescedReadService;
+    
+    @Autowired
+    private ChangeJournal changeJournal;
+    
     // 모든 스케줄 조회
     @GetMapping
-    public List<Schedule> getAllSchedules() {
-        return scheduleRepository.findAll();
+    public void getAllSchedules(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        coalescedReadService.write(DataVersionService.SCHEDULE, scheduleRepository::findAll, request, response);
     }
     
     // 파티별 스케줄 조회
@@ -53,15 +76,18 @@ public class ScheduleController {
     
     // 스케줄 생성
     @PostMapping
+    @Transactional
     public ResponseEntity<Schedule> createSchedule(@Valid @RequestBody Schedule schedule) {
         Schedule savedSchedule = scheduleRepository.save(schedule);
+        // 이 캐릭터 배치의 보드 작업 시각 삭제 (이전 제외 작업이 새 행을 이기지 않도록)
+        boardClockRepository.deleteByIdAndRaidNameAndElement(schedule.getId(), schedule.getRaidName(), schedule.getCharacterName());
         SystemController.updateTimestamp(); // 자동갱신을 위한 timestamp 업데이트
         
         // SSE 이벤트 브로드캐스트 (오류 발생해도 응답에는 영향 없음)
         try {
             eventController.broadcastUpdate("schedule-created", "스케줄이 추가되었습니다: " + schedule.getId() + "-" + schedule.getRaidName());
         } catch (Exception e) {
-            System.err.println("SSE 브로드캐스트 실패 (스케줄 저장은 성공): " + e.getMessage());
+            log.warn("SSE 브로드캐스트 실패 (스케줄 저장은 성공): {}", e.getMessage());
         }
         
         return ResponseEntity.ok(savedSchedule);
@@ -72,40 +98,18 @@ public class ScheduleController {
     @Transactional
     public ResponseEntity<String> saveSchedules(@RequestBody Map<String, Object> scheduleData) {
         try {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> schedules = (Map<String, Object>) scheduleData.get("schedules");
-            @SuppressWarnings("unchecked")
-            Map<String, Boolean> scheduleFinish = (Map<String, Boolean>) scheduleData.get("scheduleFinish");
+            // 요청 변환을 먼저 해서 형식이 잘못된 요청이면 기존 스케줄을 지우지 않음
+            Map<ScheduleId, Schedule> newSchedules = SchedulePayloadParser.parse(scheduleData);
             
-            // 기존 스케줄 모두 삭제
-            scheduleRepository.deleteAll();
+            // 기존 스케줄 모두 삭제 (한 번의 DELETE 문, 엔티티 이벤트가 없으므로 저널에 직접 기록)
+            scheduleRepository.deleteAllInBatch();
+            changeJournal.record(JournalRecord.delete(JournalTable.RAID_SCHEDULE));
+            // 보드 전체를 새로 저장했으므로 이전 보드 작업 시각도 삭제 (남겨두면 새 행이 이전 작업에 밀림)
+            boardClockRepository.deleteAllInBatch();
             
-            // 새 스케줄 저장
-            for (Map.Entry<String, Object> entry : schedules.entrySet()) {
-                String key = entry.getKey(); // "1파티-하기르" 형태
-                String[] parts = key.split("-");
-                if (parts.length == 2) {
-                    String partyName = parts[0];
-                    String raidName = parts[1];
-                    
-                    @SuppressWarnings("unchecked")
-                    List<Map<String, Object>> characters = (List<Map<String, Object>>) entry.getValue();
-                    
-                    // 완료 상태 확인
-                    String isFinish = (scheduleFinish != null && scheduleFinish.getOrDefault(key, false)) ? "Y" : "N";
-                    
-                    // 각 캐릭터를 별도 행으로 저장
-                    for (Map<String, Object> character : characters) {
-                        String characterName = (String) character.get("name");
-                        
-                        if (characterName != null && !characterName.trim().isEmpty()) {
-                            Schedule schedule = new Schedule(partyName, raidName, characterName, isFinish);
-                            scheduleRepository.save(schedule);
-                            System.out.println("저장된 스케줄: " + partyName + "-" + raidName + "-" + characterName);
-                        }
-                    }
-                }
-            }
+            // 새 스케줄 일괄 삽입 (행마다 SELECT 하지 않음)
+            scheduleRepository.insertAll(newSchedules.values());
+            log.debug("저장된 스케줄: {}건", newSchedules.size());
             
             SystemController.updateTimestamp(); // 자동갱신을 위한 timestamp 업데이트
             
@@ -113,12 +117,12 @@ public class ScheduleController {
             try {
                 eventController.broadcastUpdate("schedule-batch-saved", "스케줄이 일괄 저장되었습니다.");
             } catch (Exception e) {
-                System.err.println("SSE 브로드캐스트 실패 (스케줄 저장은 성공): " + e.getMessage());
+                log.warn("SSE 브로드캐스트 실패 (스케줄 저장은 성공): {}", e.getMessage());
             }
             
             return ResponseEntity.ok().body("{\"message\": \"스케줄이 성공적으로 저장되었습니다.\"}");
         } catch (Exception e) {
-            e.printStackTrace(); // 상세 오류 로그
+            log.error("스케줄 일괄 저장 실패", e);
             return ResponseEntity.badRequest().body("{\"error\": \"스케줄 저장 실패: " + e.getMessage() + "\"}");
         }
     }
@@ -131,13 +135,18 @@ public class ScheduleController {
             Boolean isFinish = request.get("isFinish");
             String finishStatus = (isFinish != null && isFinish) ? "Y" : "N";
             scheduleRepository.updateIsFinishByIdAndRaidName(partyName, raidName, finishStatus);
+            // 일괄 UPDATE 는 엔티티 이벤트가 없으므로 직접 기록
+            changeJournal.record(JournalRecord.update(JournalTable.RAID_SCHEDULE)
+                .where("id", partyName).where("raid_name", raidName).set("is_finish", finishStatus));
+            // 이 칸의 완료 여부 작업 시각 삭제 - 남겨두면 이후 보드 작업이 이전 완료 여부 시각과 비교됨
+            boardClockRepository.deleteFinishByIdAndRaidName(partyName, raidName);
             SystemController.updateTimestamp(); // 자동갱신을 위한 timestamp 업데이트
             
             // SSE 이벤트 브로드캐스트 (오류 발생해도 응답에는 영향 없음)
             try {
                 eventController.broadcastUpdate("schedule-finish-updated", partyName + "-" + raidName + " 완료 상태가 변경되었습니다.");
             } catch (Exception e) {
-                System.err.println("SSE 브로드캐스트 실패 (완료 상태 업데이트는 성공): " + e.getMessage());
+                log.warn("SSE 브로드캐스트 실패 (완료 상태 업데이트는 성공): {}", e.getMessage());
             }
             
             return ResponseEntity.ok().body("{\"message\": \"완료 상태가 업데이트되었습니다.\"}");
@@ -154,13 +163,14 @@ public class ScheduleController {
             List<Schedule> schedules = scheduleRepository.findByIdAndRaidName(partyName, raidName);
             if (!schedules.isEmpty()) {
                 scheduleRepository.deleteAll(schedules);
+                boardClockRepository.deleteByIdAndRaidName(partyName, raidName);
                 SystemController.updateTimestamp(); // 자동갱신을 위한 timestamp 업데이트
                 
                 // SSE 이벤트 브로드캐스트 (오류 발생해도 응답에는 영향 없음)
                 try {
                     eventController.broadcastUpdate("schedule-deleted", partyName + "-" + raidName + " 스케줄이 삭제되었습니다.");
                 } catch (Exception e) {
-                    System.err.println("SSE 브로드캐스트 실패 (스케줄 삭제는 성공): " + e.getMessage());
+                    log.warn("SSE 브로드캐스트 실패 (스케줄 삭제는 성공): {}", e.getMessage());
                 }
                 
                 return ResponseEntity.ok().body("{\"message\": \"스케줄이 삭제되었습니다.\"}");
@@ -168,7 +178,7 @@ public class ScheduleController {
                 return ResponseEntity.ok().body("{\"message\": \"삭제할 스케줄이 없습니다.\"}");
             }
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("스케줄 삭제 실패", e);
             return ResponseEntity.status(500).body("{\"error\": \"스케줄 삭제 중 오류가 발생했습니다.\"}");
         }
     }
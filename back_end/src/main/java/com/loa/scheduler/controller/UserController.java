@@ -2,17 +2,24 @@ package com.loa.scheduler.controller;
 
 import com.loa.scheduler.entity.User;
 import com.loa.scheduler.repository.UserRepository;
+import com.loa.scheduler.service.CoalescedReadService;
+import com.loa.scheduler.service.DataVersionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 
-import java.util.List;
 import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/user")
-@CrossOrigin(origins = {"http://localhost:19014", "http://192.168.219.100:19014", "http://192.168.219.102:19014", "http://192.168.219.103:19014", "http://1.213.234.164:19014", "http://112.149.7.35:19014", "http://172.30.96.1:19014", "http://localhost:5174"})
 public class UserController {
+
+    private static final Logger log = LoggerFactory.getLogger(UserController.class);
     
     @Autowired
     private UserRepository userRepository;
@@ -20,21 +27,20 @@ public class UserController {
     @Autowired
     private EventController eventController;
     
+    @Autowired
+    private CoalescedReadService coalescedReadService;
+    
     // 모든 유저 조회
     @GetMapping
-    public ResponseEntity<List<User>> getAllUsers() {
-        System.out.println("📋 getAllUsers API 호출됨");
+    public void getAllUsers(HttpServletRequest request, HttpServletResponse response) throws IOException {
         try {
-            System.out.println("📋 userRepository 상태: " + (userRepository != null ? "정상" : "null"));
-            List<User> users = userRepository.findAllOrderBySeq();
-            System.out.println("📋 조회된 유저 수: " + users.size());
-            return ResponseEntity.ok(users);
+            coalescedReadService.write(DataVersionService.USER, userRepository::findAllOrderBySeq, request, response);
         } catch (Exception e) {
-            System.err.println("❌ getAllUsers 에러 발생:");
-            e.printStackTrace();
-            System.err.println("❌ 에러 메시지: " + e.getMessage());
-            System.err.println("❌ 에러 클래스: " + e.getClass().getName());
-            return ResponseEntity.status(500).build();
+            log.error("유저 목록 조회 실패", e);
+            if (!response.isCommitted()) {
+                response.reset();
+                response.setStatus(500);
+            }
         }
     }
     
@@ -49,7 +55,7 @@ public class UserController {
                 return ResponseEntity.status(404).build();
             }
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("유저 조회 실패", e);
             return ResponseEntity.status(500).build();
         }
     }
@@ -67,12 +73,12 @@ public class UserController {
             try {
                 eventController.broadcastUpdate("user-created", "유저 '" + user.getName() + "'이 추가되었습니다.");
             } catch (Exception e) {
-                System.err.println("SSE 브로드캐스트 실패 (유저 생성은 성공): " + e.getMessage());
+                log.warn("SSE 브로드캐스트 실패 (유저 생성은 성공): {}", e.getMessage());
             }
             
             return ResponseEntity.ok(savedUser);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("유저 생성 실패", e);
             return ResponseEntity.status(500).build();
         }
     }
@@ -92,14 +98,14 @@ public class UserController {
                 try {
                     eventController.broadcastUpdate("user-updated", "유저 '" + name + "'이 수정되었습니다.");
                 } catch (Exception e) {
-                    System.err.println("SSE 브로드캐스트 실패 (유저 수정은 성공): " + e.getMessage());
+                    log.warn("SSE 브로드캐스트 실패 (유저 수정은 성공): {}", e.getMessage());
                 }
                 return ResponseEntity.ok(updatedUser);
             } else {
                 return ResponseEntity.status(404).build();
             }
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("유저 수정 실패", e);
             return ResponseEntity.status(500).build();
         }
     }
@@ -116,7 +122,7 @@ public class UserController {
                 try {
                     eventController.broadcastUpdate("user-deleted", "유저 '" + name + "'이 삭제되었습니다.");
                 } catch (Exception e) {
-                    System.err.println("SSE 브로드캐스트 실패 (유저 삭제는 성공): " + e.getMessage());
+                    log.warn("SSE 브로드캐스트 실패 (유저 삭제는 성공): {}", e.getMessage());
                 }
                 
                 return ResponseEntity.ok("유저가 삭제되었습니다.");
@@ -124,7 +130,7 @@ public class UserController {
                 return ResponseEntity.status(404).body("해당 유저를 찾을 수 없습니다.");
             }
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("유저 삭제 실패", e);
             return ResponseEntity.status(500).body("유저 삭제에 실패했습니다.");
         }
     }
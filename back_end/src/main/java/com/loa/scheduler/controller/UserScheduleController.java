@@ -2,37 +2,66 @@ package com.loa.scheduler.controller;
 
 import com.loa.scheduler.entity.UserSchedule;
 import com.loa.scheduler.repository.UserScheduleRepository;
-import com.loa.scheduler.service.WeeklyScheduleService;
+import com.loa.scheduler.service.CoalescedReadService;
+import com.loa.scheduler.service.DataVersionService;
+import com.loa.scheduler.service.UserScheduleWeekService;
+import com.loa.scheduler.service.WeeklyResetService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/user_schedule")
-@CrossOrigin(origins = {"*", "http://localhost:5174"})
 public class UserScheduleController {
+
+    private static final Logger log = LoggerFactory.getLogger(UserScheduleController.class);
     
     @Autowired
     private UserScheduleRepository userScheduleRepository;
     
     @Autowired
-    private WeeklyScheduleService weeklyScheduleService;
+    private WeeklyResetService weeklyResetService;
+    
+    @Autowired
+    private UserScheduleWeekService userScheduleWeekService;
     
     @Autowired
     private EventController eventController;
     
-    // 모든 유저 일정 조회
+    @Autowired
+    private CoalescedReadService coalescedReadService;
+    
+    // 모든 유저 일정 조회 (현재 주차 ~ 설정된 주차 수)
     @GetMapping
-    public ResponseEntity<List<UserSchedule>> getAllUserSchedules() {
+    public void getAllUserSchedules(HttpServletRequest request, HttpServletResponse response) throws IOException {
         try {
-            List<UserSchedule> schedules = userScheduleRepository.findAllOrderedByUserAndDay();
-            return ResponseEntity.ok(schedules);
+            LocalDate currentWeekStart = userScheduleWeekService.currentWeekStart();
+            LocalDate lastWeekStart = userScheduleWeekService.lastVisibleWeekStart(currentWeekStart);
+            // 주차가 바뀌면 조회 범위도 바뀌므로 범위를 조회 키에 포함
+            coalescedReadService.write(DataVersionService.USER_SCHEDULE, currentWeekStart + "~" + lastWeekStart,
+                () -> userScheduleRepository.findInWeekRangeOrderedByUserAndDay(currentWeekStart, lastWeekStart),
+                request, response);
         } catch (Exception e) {
-            e.printStackTrace();
-            return ResponseEntity.status(500).build();
+            log.error("유저 일정 조회 실패", e);
+            if (!response.isCommitted()) {
+                response.reset();
+                response.setStatus(500);
+            }
         }
     }
     
@@ -40,10 +69,12 @@ public class UserScheduleController {
     @GetMapping("/{userId}")
     public ResponseEntity<List<UserSchedule>> getUserSchedules(@PathVariable String userId) {
         try {
-            List<UserSchedule> schedules = userScheduleRepository.findByUserId(userId);
+            LocalDate currentWeekStart = userScheduleWeekService.currentWeekStart();
+            List<UserSchedule> schedules = userScheduleRepository.findByUserIdAndWeekStartBetween(
+                userId, currentWeekStart, userScheduleWeekService.lastVisibleWeekStart(currentWeekStart));
             return ResponseEntity.ok(schedules);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("유저 일정 조회 실패", e);
             return ResponseEntity.status(500).build();
         }
     }
@@ -52,17 +83,17 @@ public class UserScheduleController {
     @PostMapping
     public ResponseEntity<UserSchedule> saveUserSchedule(@RequestBody UserSchedule userSchedule) {
         try {
-            // weekNumber가 없으면 기본값 1로 설정
-            if (userSchedule.getWeekNumber() == null) {
-                userSchedule.setWeekNumber(1);
+            // 상대 주차(weekNumber, 없으면 1주차)를 주차 시작일로 변환
+            if (!assignWeekStart(userSchedule)) {
+                return ResponseEntity.badRequest().build();
             }
             
-            // 기존 데이터 확인 (userId, dayOfWeek, weekNumber로 찾기)
+            // 기존 데이터 확인 (userId, dayOfWeek, weekStart로 찾기)
             Optional<UserSchedule> existing = userScheduleRepository
-                .findByUserIdAndDayOfWeekAndWeekNumber(
+                .findByUserIdAndDayOfWeekAndWeekStart(
                     userSchedule.getUserId(), 
                     userSchedule.getDayOfWeek(), 
-                    userSchedule.getWeekNumber()
+                    userSchedule.getWeekStart()
                 );
             
             UserSchedule savedSchedule;
@@ -81,45 +112,53 @@ public class UserScheduleController {
             
             return ResponseEntity.ok(savedSchedule);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("유저 일정 저장 실패", e);
             return ResponseEntity.status(500).build();
         }
     }
     
     // 일괄 저장
     @PostMapping("/batch")
+    @Transactional
     public ResponseEntity<String> saveAllUserSchedules(@RequestBody List<UserSchedule> userSchedules) {
         try {
+            // 조회 범위를 벗어난 주차는 저장하지 않음
+            List<UserSchedule> targets = new ArrayList<>();
             for (UserSchedule userSchedule : userSchedules) {
-                // weekNumber가 없으면 기본값 1로 설정
-                if (userSchedule.getWeekNumber() == null) {
-                    userSchedule.setWeekNumber(1);
+                if (assignWeekStart(userSchedule)) {
+                    targets.add(userSchedule);
                 }
-                
-                // 기존 데이터 확인 (userId, dayOfWeek, weekNumber로 찾기)
-                Optional<UserSchedule> existing = userScheduleRepository
-                    .findByUserIdAndDayOfWeekAndWeekNumber(
-                        userSchedule.getUserId(), 
-                        userSchedule.getDayOfWeek(), 
-                        userSchedule.getWeekNumber()
-                    );
-                
-                if (existing.isPresent()) {
+            }
+            
+            // 기존 데이터를 한 번에 조회 (userId, dayOfWeek, weekStart 기준으로 매칭)
+            LocalDate currentWeekStart = userScheduleWeekService.currentWeekStart();
+            Set<String> userIds = targets.stream().map(UserSchedule::getUserId).collect(Collectors.toSet());
+            Map<String, UserSchedule> existingByKey = new HashMap<>();
+            if (!userIds.isEmpty()) {
+                userScheduleRepository.findByUserIdInAndWeekStartBetween(
+                        userIds, currentWeekStart, userScheduleWeekService.lastVisibleWeekStart(currentWeekStart))
+                    .forEach(existing -> existingByKey.put(scheduleKey(existing), existing));
+            }
+            
+            List<UserSchedule> toSave = new ArrayList<>();
+            for (UserSchedule userSchedule : targets) {
+                UserSchedule existingSchedule = existingByKey.get(scheduleKey(userSchedule));
+                if (existingSchedule != null) {
                     // 업데이트
-                    UserSchedule existingSchedule = existing.get();
                     existingSchedule.setScheduleText(userSchedule.getScheduleText());
                     existingSchedule.setEnabled(userSchedule.getEnabled());
-                    userScheduleRepository.save(existingSchedule);
                 } else {
-                    // 새로 생성
-                    userScheduleRepository.save(userSchedule);
+                    // 새로 생성 (같은 요청 안의 중복은 마지막 값으로)
+                    existingByKey.put(scheduleKey(userSchedule), userSchedule);
+                    toSave.add(userSchedule);
                 }
             }
+            userScheduleRepository.saveAll(toSave);
             
             eventController.broadcastUpdate("user-schedule-batch-saved", "유저 일정이 일괄 저장되었습니다.");
             return ResponseEntity.ok("일정이 성공적으로 저장되었습니다.");
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("유저 일정 일괄 저장 실패", e);
             return ResponseEntity.status(500).body("일정 저장에 실패했습니다.");
         }
     }
@@ -131,8 +170,12 @@ public class UserScheduleController {
             @PathVariable String dayOfWeek, 
             @PathVariable Integer weekNumber) {
         try {
+            Optional<LocalDate> weekStart = userScheduleWeekService.weekStartOfSlot(weekNumber);
+            if (weekStart.isEmpty()) {
+                return ResponseEntity.status(404).body("해당 일정을 찾을 수 없습니다.");
+            }
             Optional<UserSchedule> existing = userScheduleRepository
-                .findByUserIdAndDayOfWeekAndWeekNumber(userId, dayOfWeek, weekNumber);
+                .findByUserIdAndDayOfWeekAndWeekStart(userId, dayOfWeek, weekStart.get());
             if (existing.isPresent()) {
                 userScheduleRepository.delete(existing.get());
                 eventController.broadcastUpdate("user-schedule-deleted", "유저 일정이 삭제되었습니다: " + userId + " - " + dayOfWeek);
@@ -141,7 +184,7 @@ public class UserScheduleController {
                 return ResponseEntity.status(404).body("해당 일정을 찾을 수 없습니다.");
             }
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("유저 일정 삭제 실패", e);
             return ResponseEntity.status(500).body("일정 삭제에 실패했습니다.");
         }
     }
@@ -156,11 +199,14 @@ public class UserScheduleController {
     @PostMapping("/advance-week")
     public ResponseEntity<String> advanceWeek() {
         try {
-            weeklyScheduleService.manualAdvanceWeek();
-            eventController.broadcastUpdate("week-advanced", "주차 전환이 완료되었습니다.");
-            return ResponseEntity.ok("주차 전환이 완료되었습니다.");
+            // 정기 배치와 같은 엔진으로 실행 (이번 주차에 이미 실행됐으면 건너뜀)
+            WeeklyResetService.ResetResult result = weeklyResetService.runWeeklyReset(WeeklyResetService.TRIGGER_MANUAL);
+            if (result.isExecuted()) {
+                eventController.broadcastUpdate("week-advanced", "주차 전환이 완료되었습니다.");
+            }
+            return ResponseEntity.ok(result.getMessage());
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("주차 전환 실패", e);
             return ResponseEntity.status(500).body("주차 전환에 실패했습니다: " + e.getMessage());
         }
     }
@@ -169,11 +215,15 @@ public class UserScheduleController {
     @PostMapping("/single")
     public ResponseEntity<UserSchedule> saveSingleUserSchedule(@RequestBody UserSchedule userSchedule) {
         try {
+            if (!assignWeekStart(userSchedule)) {
+                return ResponseEntity.badRequest().build();
+            }
+            
             // 기존 스케줄이 있는지 확인
-            Optional<UserSchedule> existing = userScheduleRepository.findByUserIdAndDayOfWeekAndWeekNumber(
+            Optional<UserSchedule> existing = userScheduleRepository.findByUserIdAndDayOfWeekAndWeekStart(
                 userSchedule.getUserId(), 
                 userSchedule.getDayOfWeek(), 
-                userSchedule.getWeekNumber()
+                userSchedule.getWeekStart()
             );
             
             UserSchedule scheduleToSave;
@@ -197,8 +247,29 @@ public class UserScheduleController {
             
             return ResponseEntity.ok(savedSchedule);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("유저 일정 저장 실패", e);
             return ResponseEntity.status(500).build();
         }
     }
-}
+    
+    /**
+     * 요청의 상대 주차(weekNumber)를 주차 시작일로 변환해서 설정
+     * 조회 범위를 벗어난 주차면 false
+     */
+    private boolean assignWeekStart(UserSchedule userSchedule) {
+        Optional<LocalDate> weekStart = userScheduleWeekService.weekStartOfSlot(userSchedule.getWeekNumber());
+        if (weekStart.isEmpty()) {
+            return false;
+        }
+        int weekNumber = userSchedule.getWeekNumber() != null ? userSchedule.getWeekNumber() : 1;
+        userSchedule.setWeekNumber(weekNumber);
+        userSchedule.setLegacyWeekNumber(weekNumber);
+        userSchedule.setWeekStart(weekStart.get());
+        return true;
+    }
+    
+    // 일괄 저장 매칭 키 (userId, dayOfWeek, weekStart)
+    private static String scheduleKey(UserSchedule userSchedule) {
+        return userSchedule.getUserId() + "|" + userSchedule.getDayOfWeek() + "|" + userSchedule.getWeekStart();
+    }
+}
\ No newline at end of file
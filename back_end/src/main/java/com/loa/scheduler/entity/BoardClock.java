@@ -0,0 +1,64 @@
+package com.loa.scheduler.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * 레이드 보드 칸 요소별 마지막으로 반영된 보드 작업 시각 (Lamport 시각 + 작업을 만든 클라이언트 id)
+ * - element 가 캐릭터 이름이면 그 캐릭터의 배치 여부, 빈 문자열이면 칸의 완료 여부
+ * - 이 시각보다 이전의 보드 작업은 반영하지 않음 (last-writer-wins)
+ */
+@Entity
+@Table(name = "board_clock")
+@IdClass(BoardClockId.class)
+public class BoardClock {
+    
+    @Id
+    @Column(name = "id", nullable = false)
+    private String id;
+    
+    @Id
+    @Column(name = "raid_name", nullable = false)
+    private String raidName;
+    
+    @Id
+    @Column(name = "element", nullable = false)
+    private String element;
+    
+    @Column(name = "lamport", nullable = false)
+    private long lamport;
+    
+    @Column(name = "replica", nullable = false, length = 64)
+    private String replica;
+    
+    @Column(name = "state", nullable = false, length = 1)
+    private String state = "N"; // 'Y' 또는 'N'
+    
+    // 기본 생성자
+    public BoardClock() {}
+    
+    // 생성자
+    public BoardClock(String id, String raidName, String element) {
+        this.id = id;
+        this.raidName = raidName;
+        this.element = element;
+    }
+    
+    // Getter & Setter
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+    
+    public String getRaidName() { return raidName; }
+    public void setRaidName(String raidName) { this.raidName = raidName; }
+    
+    public String getElement() { return element; }
+    public void setElement(String element) { this.element = element; }
+    
+    public long getLamport() { return lamport; }
+    public void setLamport(long lamport) { this.lamport = lamport; }
+    
+    public String getReplica() { return replica; }
+    public void setReplica(String replica) { this.replica = replica; }
+    
+    public String getState() { return state; }
+    public void setState(String state) { this.state = state; }
+}
@@ -0,0 +1,43 @@
+package com.loa.scheduler.entity;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+public class BoardClockId implements Serializable {
+    private String id;
+    private String raidName;
+    private String element;
+    
+    public BoardClockId() {}
+    
+    public BoardClockId(String id, String raidName, String element) {
+        this.id = id;
+        this.raidName = raidName;
+        this.element = element;
+    }
+    
+    // Getters and Setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+    
+    public String getRaidName() { return raidName; }
+    public void setRaidName(String raidName) { this.raidName = raidName; }
+    
+    public String getElement() { return element; }
+    public void setElement(String element) { this.element = element; }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BoardClockId that = (BoardClockId) o;
+        return Objects.equals(id, that.id) &&
+               Objects.equals(raidName, that.raidName) &&
+               Objects.equals(element, that.element);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, raidName, element);
+    }
+}
@@ -0,0 +1,61 @@
+package com.loa.scheduler.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+
+/**
+ * 캐릭터별 누적 레이드 클리어 집계 (주간 보관 시점에 증가)
+ */
+@Entity
+@Table(name = "character_clear_stat")
+public class CharacterClearStat {
+    
+    @Id
+    @Column(name = "character_name", nullable = false)
+    private String characterName;
+    
+    // 배치된 레이드 수 (주차 누적)
+    @Column(name = "assigned_count", nullable = false)
+    private long assignedCount;
+    
+    // 완료된 레이드 수 (주차 누적)
+    @Column(name = "cleared_count", nullable = false)
+    private long clearedCount;
+    
+    // 집계된 주차 수
+    @Column(name = "week_count", nullable = false)
+    private long weekCount;
+    
+    @Column(name = "last_week_start")
+    private LocalDate lastWeekStart;
+    
+    // 기본 생성자
+    public CharacterClearStat() {}
+    
+    public CharacterClearStat(String characterName) {
+        this.characterName = characterName;
+    }
+    
+    /**
+     * 한 주차 집계 반영
+     */
+    public void addWeek(LocalDate weekStart, long assigned, long cleared) {
+        this.assignedCount += assigned;
+        this.clearedCount += cleared;
+        this.weekCount++;
+        this.lastWeekStart = weekStart;
+    }
+    
+    // 클리어율 (0.0 ~ 1.0)
+    public double getClearRate() {
+        return assignedCount == 0 ? 0.0 : (double) clearedCount / assignedCount;
+    }
+    
+    // Getter
+    public String getCharacterName() { return characterName; }
+    public long getAssignedCount() { return assignedCount; }
+    public long getClearedCount() { return clearedCount; }
+    public long getWeekCount() { return weekCount; }
+    public LocalDate getLastWeekStart() { return lastWeekStart; }
+}
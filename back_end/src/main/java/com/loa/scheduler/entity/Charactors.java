@@ -1,11 +1,13 @@
 package com.loa.scheduler.entity;
 
+import com.loa.scheduler.service.ChangeJournalListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
 @Entity
 @Table(name = "charactors")
+@EntityListeners(ChangeJournalListener.class)
 public class Charactors {
     
     @Id
@@ -1,11 +1,13 @@
 // filepath: d:\로스트아크 스케줄러ver_2\back_end\src\main\java\com\loa\scheduler\entity\Raid.java
 package com.loa.scheduler.entity;
 
+import com.loa.scheduler.service.ChangeJournalListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 
 @Entity
 @Table(name = "raid")
+@EntityListeners(ChangeJournalListener.class)
 public class Raid {
     
     @Id
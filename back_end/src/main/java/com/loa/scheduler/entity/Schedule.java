@@ -1,11 +1,13 @@
 package com.loa.scheduler.entity;
 
+import com.loa.scheduler.service.ChangeJournalListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 
 @Entity
 @Table(name = "raid_schedule")
 @IdClass(ScheduleId.class)
+@EntityListeners(ChangeJournalListener.class)
 public class Schedule {
     
     @Id
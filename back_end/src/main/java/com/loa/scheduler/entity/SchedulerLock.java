@@ -0,0 +1,54 @@
+package com.loa.scheduler.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * 스케줄 작업 리더 잠금 (작업 이름당 1행)
+ * lease_until 이 지나면 다른 노드가 가져갈 수 있고, 가져갈 때마다 fencing_token 이 증가한다.
+ */
+@Entity
+@Table(name = "scheduler_lock")
+public class SchedulerLock {
+
+    @Id
+    @Column(name = "lock_name", nullable = false, length = 64)
+    private String name;
+
+    @Column(name = "owner", length = 128)
+    private String owner;
+
+    // lease 만료 시각 (epoch millis)
+    @Column(name = "lease_until", nullable = false)
+    private long leaseUntil;
+
+    @Column(name = "fencing_token", nullable = false)
+    private long fencingToken;
+
+    // 최초 insert 시 중복 생성 방지 (null 이면 신규 insert)
+    @Version
+    @Column(name = "version")
+    private Long version;
+
+    // 기본 생성자
+    public SchedulerLock() {}
+
+    public SchedulerLock(String name) {
+        this.name = name;
+    }
+
+    // Getter & Setter
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getOwner() { return owner; }
+    public void setOwner(String owner) { this.owner = owner; }
+
+    public long getLeaseUntil() { return leaseUntil; }
+    public void setLeaseUntil(long leaseUntil) { this.leaseUntil = leaseUntil; }
+
+    public long getFencingToken() { return fencingToken; }
+    public void setFencingToken(long fencingToken) { this.fencingToken = fencingToken; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+}
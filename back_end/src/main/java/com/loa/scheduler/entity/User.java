@@ -1,5 +1,6 @@
 package com.loa.scheduler.entity;
 
+import com.loa.scheduler.service.ChangeJournalListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import org.springframework.data.annotation.CreatedDate;
@@ -10,6 +11,7 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "user")
 // @EntityListeners(AuditingEntityListener.class)
+@EntityListeners(ChangeJournalListener.class)
 public class User {
     
     @Id
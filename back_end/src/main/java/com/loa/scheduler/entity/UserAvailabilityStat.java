@@ -0,0 +1,46 @@
+package com.loa.scheduler.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+
+/**
+ * 유저별 주차 가용 요일 집계 (주간 보관 시점에 1행 생성)
+ */
+@Entity
+@Table(name = "user_availability_stat")
+@IdClass(UserAvailabilityStatId.class)
+public class UserAvailabilityStat {
+    
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private String userId;
+    
+    @Id
+    @Column(name = "week_start", nullable = false)
+    private LocalDate weekStart;
+    
+    // 가능(enabled = 'Y')으로 표시한 요일 수
+    @Column(name = "enabled_days", nullable = false)
+    private int enabledDays;
+    
+    // 일정 메모가 입력된 요일 수
+    @Column(name = "scheduled_days", nullable = false)
+    private int scheduledDays;
+    
+    // 기본 생성자
+    public UserAvailabilityStat() {}
+    
+    public UserAvailabilityStat(String userId, LocalDate weekStart, int enabledDays, int scheduledDays) {
+        this.userId = userId;
+        this.weekStart = weekStart;
+        this.enabledDays = enabledDays;
+        this.scheduledDays = scheduledDays;
+    }
+    
+    // Getter
+    public String getUserId() { return userId; }
+    public LocalDate getWeekStart() { return weekStart; }
+    public int getEnabledDays() { return enabledDays; }
+    public int getScheduledDays() { return scheduledDays; }
+}
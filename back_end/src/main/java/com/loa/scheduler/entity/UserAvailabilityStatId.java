@@ -0,0 +1,38 @@
+package com.loa.scheduler.entity;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+public class UserAvailabilityStatId implements Serializable {
+    private String userId;
+    private LocalDate weekStart;
+    
+    public UserAvailabilityStatId() {}
+    
+    public UserAvailabilityStatId(String userId, LocalDate weekStart) {
+        this.userId = userId;
+        this.weekStart = weekStart;
+    }
+    
+    // Getters and Setters
+    public String getUserId() { return userId; }
+    public void setUserId(String userId) { this.userId = userId; }
+    
+    public LocalDate getWeekStart() { return weekStart; }
+    public void setWeekStart(LocalDate weekStart) { this.weekStart = weekStart; }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        UserAvailabilityStatId that = (UserAvailabilityStatId) o;
+        return Objects.equals(userId, that.userId) &&
+               Objects.equals(weekStart, that.weekStart);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId, weekStart);
+    }
+}
@@ -1,5 +1,8 @@
 package com.loa.scheduler.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.loa.scheduler.service.ChangeJournalListener;
+import com.loa.scheduler.util.RaidWeek;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -7,11 +10,14 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "user_schedule")
-@EntityListeners(AuditingEntityListener.class)
+@Table(name = "user_schedule", indexes = {
+    @Index(name = "idx_user_schedule_week_start", columnList = "week_start, user_id, day_of_week")
+})
+@EntityListeners({AuditingEntityListener.class, ChangeJournalListener.class})
 public class UserSchedule {
     
     @Id
@@ -26,7 +32,17 @@ public class UserSchedule {
     @Column(nullable = false, name = "day_of_week")
     private String dayOfWeek;
     
+    // 레이드 주차 시작일 (수요일) - 주차 전환 시 행을 옮기지 않고 조회 시점에 현재/다음 주차를 판단
+    @Column(name = "week_start")
+    private LocalDate weekStart;
+    
+    // 기존 상대 주차 컬럼 (1/2) - week_start 이관 및 NOT NULL 제약 유지용
+    @JsonIgnore
     @Column(name = "week_number", nullable = false)
+    private Integer legacyWeekNumber = 1;
+    
+    // 응답 호환용 상대 주차 (현재 주차 = 1), week_start 기준으로 조회 시 계산
+    @Transient
     private Integer weekNumber = 1; // 기본값 1주차
     
     @Column(columnDefinition = "TEXT", name = "schedule_text")
@@ -51,10 +67,21 @@ public class UserSchedule {
         this.userId = userId;
         this.dayOfWeek = dayOfWeek;
         this.weekNumber = weekNumber;
+        this.legacyWeekNumber = weekNumber;
         this.scheduleText = scheduleText;
         this.enabled = enabled;
     }
     
+    /**
+     * 조회 시 week_start 기준으로 상대 주차 계산
+     */
+    @PostLoad
+    void resolveWeekNumber() {
+        if (weekStart != null) {
+            weekNumber = RaidWeek.slotOf(weekStart, RaidWeek.currentWeekStart());
+        }
+    }
+    
     // Getter & Setter
     public Long getId() {
         return id;
@@ -88,6 +115,24 @@ public class UserSchedule {
         this.weekNumber = weekNumber;
     }
     
+    public LocalDate getWeekStart() {
+        return weekStart;
+    }
+    
+    public void setWeekStart(LocalDate weekStart) {
+        this.weekStart = weekStart;
+    }
+    
+    @JsonIgnore
+    public Integer getLegacyWeekNumber() {
+        return legacyWeekNumber;
+    }
+    
+    @JsonIgnore
+    public void setLegacyWeekNumber(Integer legacyWeekNumber) {
+        this.legacyWeekNumber = legacyWeekNumber;
+    }
+    
     public String getScheduleText() {
         return scheduleText;
     }
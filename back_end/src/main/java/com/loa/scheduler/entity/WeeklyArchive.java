@@ -0,0 +1,57 @@
+package com.loa.scheduler.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 주간 스냅샷 보관 (append-only, 주차 + 종류당 1행)
+ * payload 는 탭 구분 행들을 gzip 으로 압축한 값
+ */
+@Entity
+@Table(name = "weekly_archive")
+@IdClass(WeeklyArchiveId.class)
+public class WeeklyArchive {
+    
+    public static final String KIND_RAID_SCHEDULE = "RAID_SCHEDULE";
+    public static final String KIND_USER_SCHEDULE = "USER_SCHEDULE";
+    
+    @Id
+    @Column(name = "week_start", nullable = false)
+    private LocalDate weekStart;
+    
+    @Id
+    @Column(name = "kind", nullable = false, length = 16)
+    private String kind;
+    
+    @Column(name = "row_count", nullable = false)
+    private int rowCount;
+    
+    @JsonIgnore
+    @Lob
+    @Column(name = "payload", nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] payload;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    // 기본 생성자
+    public WeeklyArchive() {}
+    
+    public WeeklyArchive(LocalDate weekStart, String kind, int rowCount, byte[] payload) {
+        this.weekStart = weekStart;
+        this.kind = kind;
+        this.rowCount = rowCount;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+    }
+    
+    // Getter (append-only 이므로 setter 없음)
+    public LocalDate getWeekStart() { return weekStart; }
+    public String getKind() { return kind; }
+    public int getRowCount() { return rowCount; }
+    public byte[] getPayload() { return payload; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
@@ -0,0 +1,38 @@
+package com.loa.scheduler.entity;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+public class WeeklyArchiveId implements Serializable {
+    private LocalDate weekStart;
+    private String kind;
+    
+    public WeeklyArchiveId() {}
+    
+    public WeeklyArchiveId(LocalDate weekStart, String kind) {
+        this.weekStart = weekStart;
+        this.kind = kind;
+    }
+    
+    // Getters and Setters
+    public LocalDate getWeekStart() { return weekStart; }
+    public void setWeekStart(LocalDate weekStart) { this.weekStart = weekStart; }
+    
+    public String getKind() { return kind; }
+    public void setKind(String kind) { this.kind = kind; }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        WeeklyArchiveId that = (WeeklyArchiveId) o;
+        return Objects.equals(weekStart, that.weekStart) &&
+               Objects.equals(kind, that.kind);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(weekStart, kind);
+    }
+}
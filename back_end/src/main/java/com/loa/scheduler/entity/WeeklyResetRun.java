@@ -0,0 +1,111 @@
+package com.loa.scheduler.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주간 초기화 실행 기록 (주차별 1건)
+ * week_key 가 PK 이므로 같은 주차에 두 번 실행되지 않는다.
+ */
+@Entity
+@Table(name = "weekly_reset_run")
+public class WeeklyResetRun {
+
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+
+    @Id
+    @Column(name = "week_key", nullable = false, length = 10)
+    private String weekKey;
+
+    @Column(name = "status", nullable = false, length = 16)
+    private String status;
+
+    // 마지막으로 완료된 단계 (중단 후 재실행 시 이어서 진행)
+    @Column(name = "completed_step", length = 32)
+    private String completedStep;
+
+    @Column(name = "trigger_type", nullable = false, length = 16)
+    private String triggerType;
+
+    @Column(name = "finish_reset_rows", nullable = false)
+    private long finishResetRows;
+
+    // 지난 주차 보관 행 수
+    @Column(name = "archived_rows")
+    private Long archivedRows;
+
+    // 보관 기간이 지나 삭제된 유저 일정 수
+    @Column(name = "deleted_rows", nullable = false)
+    private long deletedRows;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "duration_ms")
+    private Long durationMs;
+    
+    // 실행한 노드의 스케줄 잠금 fencing token
+    @Column(name = "fencing_token")
+    private Long fencingToken;
+    
+    // 동시 실행 시 중복 기록 방지 (null 이면 신규 insert)
+    @Version
+    @Column(name = "version")
+    private Long version;
+
+    // 기본 생성자
+    public WeeklyResetRun() {}
+
+    public WeeklyResetRun(String weekKey, String triggerType) {
+        this.weekKey = weekKey;
+        this.triggerType = triggerType;
+        this.status = STATUS_RUNNING;
+        this.startedAt = LocalDateTime.now();
+    }
+
+    // Getter & Setter
+    public String getWeekKey() { return weekKey; }
+    public void setWeekKey(String weekKey) { this.weekKey = weekKey; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public String getCompletedStep() { return completedStep; }
+    public void setCompletedStep(String completedStep) { this.completedStep = completedStep; }
+
+    public String getTriggerType() { return triggerType; }
+    public void setTriggerType(String triggerType) { this.triggerType = triggerType; }
+
+    public long getFinishResetRows() { return finishResetRows; }
+    public void setFinishResetRows(long finishResetRows) { this.finishResetRows = finishResetRows; }
+
+    public Long getArchivedRows() { return archivedRows; }
+    public void setArchivedRows(Long archivedRows) { this.archivedRows = archivedRows; }
+
+    public long getDeletedRows() { return deletedRows; }
+    public void setDeletedRows(long deletedRows) { this.deletedRows = deletedRows; }
+
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(LocalDateTime finishedAt) { this.finishedAt = finishedAt; }
+
+    public Long getDurationMs() { return durationMs; }
+    public void setDurationMs(Long durationMs) { this.durationMs = durationMs; }
+
+    public Long getFencingToken() { return fencingToken; }
+    public void setFencingToken(Long fencingToken) { this.fencingToken = fencingToken; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
+    public boolean isCompleted() {
+        return STATUS_COMPLETED.equals(status);
+    }
+}
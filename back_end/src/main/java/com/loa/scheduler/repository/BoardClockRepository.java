@@ -0,0 +1,42 @@
+package com.loa.scheduler.repository;
+
+import com.loa.scheduler.entity.BoardClock;
+import com.loa.scheduler.entity.BoardClockId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface BoardClockRepository extends JpaRepository<BoardClock, BoardClockId>, BoardClockRepositoryCustom {
+    
+    // 특정 파티와 레이드 칸의 요소별 시각 조회
+    List<BoardClock> findByIdAndRaidName(String id, String raidName);
+    
+    // 가장 마지막 보드 작업 시각 (서버 Lamport 시각 초기값)
+    @Query("SELECT COALESCE(MAX(c.lamport), 0) FROM BoardClock c")
+    long findMaxLamport();
+    
+    // 특정 칸의 모든 요소 시각 삭제 (칸을 보드 작업이 아닌 방법으로 바꿨을 때)
+    @Modifying
+    @Query("DELETE FROM BoardClock c WHERE c.id = :id AND c.raidName = :raidName")
+    int deleteByIdAndRaidName(@Param("id") String id, @Param("raidName") String raidName);
+    
+    // 특정 칸의 요소 하나의 시각 삭제
+    @Modifying
+    @Query("DELETE FROM BoardClock c WHERE c.id = :id AND c.raidName = :raidName AND c.element = :element")
+    int deleteByIdAndRaidNameAndElement(@Param("id") String id, @Param("raidName") String raidName, @Param("element") String element);
+    
+    // 특정 칸의 완료 여부 시각 삭제 (완료 여부 요소 이름은 빈 문자열 - BoardMerge.FINISH)
+    @Modifying
+    @Query("DELETE FROM BoardClock c WHERE c.id = :id AND c.raidName = :raidName AND c.element = ''")
+    int deleteFinishByIdAndRaidName(@Param("id") String id, @Param("raidName") String raidName);
+    
+    // 모든 칸의 완료 여부 시각 삭제 (주간 초기화)
+    @Modifying
+    @Query("DELETE FROM BoardClock c WHERE c.element = ''")
+    int deleteAllFinish();
+}
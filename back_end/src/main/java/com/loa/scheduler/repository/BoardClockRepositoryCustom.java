@@ -0,0 +1,11 @@
+package com.loa.scheduler.repository;
+
+import com.loa.scheduler.entity.BoardClock;
+
+import java.util.Collection;
+
+public interface BoardClockRepositoryCustom {
+
+    // 신규 시각 행 persist 만 하고 flush 는 미룸 (같은 트랜잭션의 스케줄 변경과 함께 JDBC 배치로 실행)
+    void persistAll(Collection<BoardClock> clocks);
+}
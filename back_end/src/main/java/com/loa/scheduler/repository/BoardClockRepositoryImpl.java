@@ -0,0 +1,25 @@
+package com.loa.scheduler.repository;
+
+import com.loa.scheduler.entity.BoardClock;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.Collection;
+
+/**
+ * BoardClockRepository 사용자 정의 구현
+ * 복합 키를 직접 지정하는 엔티티라 save() 는 merge(SELECT 후 INSERT)가 되므로
+ * 조회해서 없던 것을 확인한 신규 행은 persist 로 바로 삽입한다.
+ */
+public class BoardClockRepositoryImpl implements BoardClockRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void persistAll(Collection<BoardClock> clocks) {
+        for (BoardClock clock : clocks) {
+            entityManager.persist(clock);
+        }
+    }
+}
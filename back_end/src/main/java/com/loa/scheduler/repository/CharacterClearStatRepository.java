@@ -0,0 +1,16 @@
+package com.loa.scheduler.repository;
+
+import com.loa.scheduler.entity.CharacterClearStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CharacterClearStatRepository extends JpaRepository<CharacterClearStat, String> {
+    
+    // 클리어 수 많은 순으로 조회
+    @Query("SELECT c FROM CharacterClearStat c ORDER BY c.clearedCount DESC, c.characterName ASC")
+    List<CharacterClearStat> findAllOrderByClearedCount();
+}
@@ -11,7 +11,7 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
-public interface ScheduleRepository extends JpaRepository<Schedule, ScheduleId> {
+public interface ScheduleRepository extends JpaRepository<Schedule, ScheduleId>, ScheduleRepositoryCustom {
     
     // 특정 파티와 레이드로 스케줄 조회
     List<Schedule> findByIdAndRaidName(String id, String raidName);
@@ -40,8 +40,8 @@ public interface ScheduleRepository extends JpaRepository<Schedule, ScheduleId>
     @Query("UPDATE Schedule s SET s.isFinish = :isFinish WHERE s.id = :id AND s.raidName = :raidName")
     void updateIsFinishByIdAndRaidName(@Param("id") String id, @Param("raidName") String raidName, @Param("isFinish") String isFinish);
     
-    // 모든 스케줄의 isFinish를 'N'으로 일괄 변경
+    // 주간 초기화 - 완료 상태를 'N'으로 변경 (최대 limit 건씩 나눠서 실행)
     @Modifying
-    @Query("UPDATE Schedule s SET s.isFinish = 'N'")
-    void updateAllIsFinishToN();
+    @Query(value = "UPDATE raid_schedule SET is_finish = 'N' WHERE is_finish <> 'N' LIMIT :limit", nativeQuery = true)
+    int resetIsFinishChunk(@Param("limit") int limit);
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.loa.scheduler.repository;
+
+import com.loa.scheduler.entity.Schedule;
+
+import java.util.Collection;
+
+public interface ScheduleRepositoryCustom {
+
+    // 신규 스케줄 일괄 삽입 (merge 전 SELECT 없이 persist, JDBC 배치로 실행)
+    void insertAll(Collection<Schedule> schedules);
+
+    // 신규 스케줄 persist 만 하고 flush 는 미룸 (같은 트랜잭션의 다른 변경과 함께 JDBC 배치로 실행)
+    void persistAll(Collection<Schedule> schedules);
+}
@@ -0,0 +1,33 @@
+package com.loa.scheduler.repository;
+
+import com.loa.scheduler.entity.Schedule;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.Collection;
+
+/**
+ * ScheduleRepository 사용자 정의 구현
+ * 복합 키를 직접 지정하는 엔티티라 save() 는 항상 merge(SELECT 후 INSERT)가 되므로
+ * 삭제 후 다시 채우는 일괄 저장에서는 persist 로 바로 삽입한다.
+ */
+public class ScheduleRepositoryImpl implements ScheduleRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void insertAll(Collection<Schedule> schedules) {
+        for (Schedule schedule : schedules) {
+            entityManager.persist(schedule);
+        }
+        entityManager.flush();
+    }
+
+    @Override
+    public void persistAll(Collection<Schedule> schedules) {
+        for (Schedule schedule : schedules) {
+            entityManager.persist(schedule);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.loa.scheduler.repository;
+
+import com.loa.scheduler.entity.SchedulerLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    // lease 가 만료된 잠금을 가져가면서 fencing token 증가
+    @Modifying
+    @Query("UPDATE SchedulerLock l SET l.owner = :owner, l.leaseUntil = :leaseUntil, l.fencingToken = l.fencingToken + 1 " +
+           "WHERE l.name = :name AND l.leaseUntil < :now")
+    int acquire(@Param("name") String name, @Param("owner") String owner,
+                @Param("now") long now, @Param("leaseUntil") long leaseUntil);
+
+    // 보유 중인 잠금의 lease 연장 (token 이 바뀌었으면 실패)
+    @Modifying
+    @Query("UPDATE SchedulerLock l SET l.leaseUntil = :leaseUntil " +
+           "WHERE l.name = :name AND l.owner = :owner AND l.fencingToken = :token AND l.leaseUntil >= :now")
+    int renew(@Param("name") String name, @Param("owner") String owner, @Param("token") long token,
+              @Param("now") long now, @Param("leaseUntil") long leaseUntil);
+
+    // 잠금 해제 (lease 를 즉시 만료 처리)
+    @Modifying
+    @Query("UPDATE SchedulerLock l SET l.leaseUntil = 0 " +
+           "WHERE l.name = :name AND l.owner = :owner AND l.fencingToken = :token")
+    int release(@Param("name") String name, @Param("owner") String owner, @Param("token") long token);
+
+    // 현재 유효한 잠금의 token 조회
+    @Query("SELECT l.fencingToken FROM SchedulerLock l " +
+           "WHERE l.name = :name AND l.owner = :owner AND l.leaseUntil >= :now")
+    Optional<Long> findValidToken(@Param("name") String name, @Param("owner") String owner, @Param("now") long now);
+}
@@ -0,0 +1,17 @@
+package com.loa.scheduler.repository;
+
+import com.loa.scheduler.entity.UserAvailabilityStat;
+import com.loa.scheduler.entity.UserAvailabilityStatId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface UserAvailabilityStatRepository extends JpaRepository<UserAvailabilityStat, UserAvailabilityStatId> {
+    
+    List<UserAvailabilityStat> findByUserIdAndWeekStartGreaterThanEqualOrderByWeekStartAsc(String userId, LocalDate from);
+    
+    List<UserAvailabilityStat> findByWeekStartGreaterThanEqualOrderByUserIdAscWeekStartAsc(LocalDate from);
+}
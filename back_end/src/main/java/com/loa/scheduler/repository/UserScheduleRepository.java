@@ -7,6 +7,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,15 +17,22 @@ public interface UserScheduleRepository extends JpaRepository<UserSchedule, Long
     
     List<UserSchedule> findByUserId(String userId);
     
-    Optional<UserSchedule> findByUserIdAndDayOfWeek(String userId, String dayOfWeek);
+    Optional<UserSchedule> findByUserIdAndDayOfWeekAndWeekStart(String userId, String dayOfWeek, LocalDate weekStart);
     
-    Optional<UserSchedule> findByUserIdAndDayOfWeekAndWeekNumber(String userId, String dayOfWeek, Integer weekNumber);
+    List<UserSchedule> findByWeekStart(LocalDate weekStart);
     
-    List<UserSchedule> findByWeekNumber(Integer weekNumber);
+    // 특정 유저의 주차 범위 일정 조회 (week_start 인덱스 범위 조건)
+    List<UserSchedule> findByUserIdAndWeekStartBetween(String userId, LocalDate from, LocalDate to);
+    
+    // 여러 유저의 주차 범위 일정 조회 (일괄 저장 시 기존 데이터 매칭용)
+    List<UserSchedule> findByUserIdInAndWeekStartBetween(Collection<String> userIds, LocalDate from, LocalDate to);
     
     void deleteByUserId(String userId);
     
-    @Query("SELECT us FROM UserSchedule us JOIN User u ON us.userId = u.name ORDER BY u.seq, us.weekNumber, " +
+    // 주차 범위 내 전체 일정 조회 (현재 주차 ~ 설정된 주차 수)
+    @Query("SELECT us FROM UserSchedule us JOIN User u ON us.userId = u.name " +
+           "WHERE us.weekStart BETWEEN :from AND :to " +
+           "ORDER BY u.seq, us.weekStart, " +
            "CASE us.dayOfWeek " +
            "WHEN 'WEDNESDAY' THEN 1 " +
            "WHEN 'THURSDAY' THEN 2 " +
@@ -33,16 +42,15 @@ public interface UserScheduleRepository extends JpaRepository<UserSchedule, Long
            "WHEN 'MONDAY' THEN 6 " +
            "WHEN 'TUESDAY' THEN 7 " +
            "END")
-    List<UserSchedule> findAllOrderedByUserAndDay();
+    List<UserSchedule> findInWeekRangeOrderedByUserAndDay(@Param("from") LocalDate from, @Param("to") LocalDate to);
     
-    // 주간 리셋을 위한 메서드들
-    // 1주차 데이터 삭제
+    // week_start 이관 - 기존 상대 주차(1/2) 데이터에 주차 시작일 부여
     @Modifying
-    @Query("DELETE FROM UserSchedule us WHERE us.weekNumber = 1")
-    void deleteWeek1Data();
+    @Query("UPDATE UserSchedule us SET us.weekStart = :weekStart WHERE us.weekStart IS NULL AND us.legacyWeekNumber = :weekNumber")
+    int assignWeekStartToLegacy(@Param("weekNumber") Integer weekNumber, @Param("weekStart") LocalDate weekStart);
     
-    // 2주차 데이터를 1주차로 이동
+    // 보관 기간이 지난 주차 삭제 (최대 limit 건씩 나눠서 실행)
     @Modifying
-    @Query("UPDATE UserSchedule us SET us.weekNumber = 1 WHERE us.weekNumber = 2")
-    void moveWeek2ToWeek1();
+    @Query(value = "DELETE FROM user_schedule WHERE week_start < :cutoff LIMIT :limit", nativeQuery = true)
+    int deleteExpiredChunk(@Param("cutoff") LocalDate cutoff, @Param("limit") int limit);
 }
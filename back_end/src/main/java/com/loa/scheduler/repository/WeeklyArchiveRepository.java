@@ -0,0 +1,10 @@
+package com.loa.scheduler.repository;
+
+import com.loa.scheduler.entity.WeeklyArchive;
+import com.loa.scheduler.entity.WeeklyArchiveId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface WeeklyArchiveRepository extends JpaRepository<WeeklyArchive, WeeklyArchiveId> {
+}
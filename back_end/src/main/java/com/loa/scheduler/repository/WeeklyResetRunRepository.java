@@ -0,0 +1,9 @@
+package com.loa.scheduler.repository;
+
+import com.loa.scheduler.entity.WeeklyResetRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface WeeklyResetRunRepository extends JpaRepository<WeeklyResetRun, String> {
+}
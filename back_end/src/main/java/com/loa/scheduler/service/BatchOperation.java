@@ -0,0 +1,130 @@
+package com.loa.scheduler.service;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+import java.util.List;
+
+/**
+ * 일괄 작업(/api/batch) 한 건 - JSON 의 type 필드로 종류 구분
+ * 예: {"type": "schedule-replace", "party": "1파티", "raidName": "카멘", "characters": ["캐릭터A"], "isFinish": false}
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+@JsonSubTypes({
+    @JsonSubTypes.Type(value = BatchOperation.ScheduleReplace.class, name = "schedule-replace"),
+    @JsonSubTypes.Type(value = BatchOperation.ScheduleFinish.class, name = "schedule-finish"),
+    @JsonSubTypes.Type(value = BatchOperation.CharacterUpdate.class, name = "character-update"),
+    @JsonSubTypes.Type(value = BatchOperation.RaidOrder.class, name = "raid-order"),
+    @JsonSubTypes.Type(value = BatchOperation.UserScheduleSave.class, name = "user-schedule-save")
+})
+public abstract class BatchOperation {
+
+    /**
+     * 이 작업으로 바뀌는 리소스 (DataVersionService 리소스 이름)
+     */
+    public abstract String resource();
+
+    /**
+     * 파티-레이드 칸의 캐릭터 목록 교체 (기존 칸 삭제 후 다시 저장하던 드래그 앤 드롭 저장)
+     */
+    public static class ScheduleReplace extends BatchOperation {
+        private String party;
+        private String raidName;
+        private List<String> characters;
+        private Boolean isFinish;
+
+        @Override
+        public String resource() { return DataVersionService.SCHEDULE; }
+
+        public String getParty() { return party; }
+        public void setParty(String party) { this.party = party; }
+        public String getRaidName() { return raidName; }
+        public void setRaidName(String raidName) { this.raidName = raidName; }
+        public List<String> getCharacters() { return characters; }
+        public void setCharacters(List<String> characters) { this.characters = characters; }
+        public Boolean getIsFinish() { return isFinish; }
+        public void setIsFinish(Boolean isFinish) { this.isFinish = isFinish; }
+    }
+
+    /**
+     * 파티-레이드 칸 완료 상태 변경
+     */
+    public static class ScheduleFinish extends BatchOperation {
+        private String party;
+        private String raidName;
+        private Boolean isFinish;
+
+        @Override
+        public String resource() { return DataVersionService.SCHEDULE; }
+
+        public String getParty() { return party; }
+        public void setParty(String party) { this.party = party; }
+        public String getRaidName() { return raidName; }
+        public void setRaidName(String raidName) { this.raidName = raidName; }
+        public Boolean getIsFinish() { return isFinish; }
+        public void setIsFinish(Boolean isFinish) { this.isFinish = isFinish; }
+    }
+
+    /**
+     * 캐릭터 수정 - 값이 있는 필드만 변경 (유저 이동, 순서 변경)
+     */
+    public static class CharacterUpdate extends BatchOperation {
+        private String name;
+        private String isSupporter;
+        private String userId;
+        private Integer seq;
+
+        @Override
+        public String resource() { return DataVersionService.CHARACTORS; }
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+        public String getIsSupporter() { return isSupporter; }
+        public void setIsSupporter(String isSupporter) { this.isSupporter = isSupporter; }
+        public String getUserId() { return userId; }
+        public void setUserId(String userId) { this.userId = userId; }
+        public Integer getSeq() { return seq; }
+        public void setSeq(Integer seq) { this.seq = seq; }
+    }
+
+    /**
+     * 레이드 순서 변경
+     */
+    public static class RaidOrder extends BatchOperation {
+        private String name;
+        private Long seq;
+
+        @Override
+        public String resource() { return DataVersionService.RAID; }
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+        public Long getSeq() { return seq; }
+        public void setSeq(Long seq) { this.seq = seq; }
+    }
+
+    /**
+     * 유저 일정 저장 (없으면 생성, 있으면 수정)
+     */
+    public static class UserScheduleSave extends BatchOperation {
+        private String userId;
+        private String dayOfWeek;
+        private Integer weekNumber = 1;
+        private String scheduleText;
+        private String enabled = "Y";
+
+        @Override
+        public String resource() { return DataVersionService.USER_SCHEDULE; }
+
+        public String getUserId() { return userId; }
+        public void setUserId(String userId) { this.userId = userId; }
+        public String getDayOfWeek() { return dayOfWeek; }
+        public void setDayOfWeek(String dayOfWeek) { this.dayOfWeek = dayOfWeek; }
+        public Integer getWeekNumber() { return weekNumber; }
+        public void setWeekNumber(Integer weekNumber) { this.weekNumber = weekNumber; }
+        public String getScheduleText() { return scheduleText; }
+        public void setScheduleText(String scheduleText) { this.scheduleText = scheduleText; }
+        public String getEnabled() { return enabled; }
+        public void setEnabled(String enabled) { this.enabled = enabled; }
+    }
+}
@@ -0,0 +1,227 @@
+package com.loa.scheduler.service;
+
+import com.loa.scheduler.entity.Charactors;
+import com.loa.scheduler.entity.Raid;
+import com.loa.scheduler.entity.Schedule;
+import com.loa.scheduler.entity.UserSchedule;
+import com.loa.scheduler.repository.BoardClockRepository;
+import com.loa.scheduler.repository.CharactorsRepository;
+import com.loa.scheduler.repository.RaidRepository;
+import com.loa.scheduler.repository.ScheduleRepository;
+import com.loa.scheduler.repository.UserScheduleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 여러 종류의 쓰기 작업을 순서대로 한 트랜잭션에서 실행
+ * - 하나라도 실패하면 전체 롤백
+ * - 변경은 영속성 컨텍스트에 모았다가 flush 시 JDBC 배치로 실행 (같은 표를 다시 조회하는 작업 앞에서는 Hibernate 가 먼저 flush)
+ * - 브로드캐스트는 호출한 쪽에서 결과의 리소스 목록으로 한 번만 보낸다
+ */
+@Service
+public class BatchOperationService {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchOperationService.class);
+
+    public static final String EVENT_TYPE = "batch-saved";
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private BoardClockRepository boardClockRepository;
+
+    @Autowired
+    private CharactorsRepository charactorsRepository;
+
+    @Autowired
+    private RaidRepository raidRepository;
+
+    @Autowired
+    private UserScheduleRepository userScheduleRepository;
+
+    @Autowired
+    private UserScheduleWeekService userScheduleWeekService;
+
+    // 요청 하나에 담을 수 있는 작업 수
+    @Value("${batch.max-operations:200}")
+    private int maxOperations;
+
+    @Transactional
+    public BatchResult apply(List<BatchOperation> operations) {
+        if (operations == null || operations.isEmpty()) {
+            throw new BatchOperationException(-1, "실행할 작업이 없습니다.");
+        }
+        if (operations.size() > maxOperations) {
+            throw new BatchOperationException(-1, "작업 수 제한 초과 (" + operations.size() + "/" + maxOperations + ")");
+        }
+
+        Set<String> resources = new LinkedHashSet<>();
+        for (int i = 0; i < operations.size(); i++) {
+            BatchOperation operation = operations.get(i);
+            try {
+                applyOne(operation);
+            } catch (BatchOperationException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                throw new BatchOperationException(i, e.getMessage(), e);
+            }
+            resources.add(operation.resource());
+        }
+
+        // 커밋 전에 남은 변경을 실행해서 DB 오류도 여기서 작업 실패로 돌려줌
+        try {
+            scheduleRepository.flush();
+        } catch (RuntimeException e) {
+            throw new BatchOperationException(-1, "저장 실패: " + e.getMessage(), e);
+        }
+        log.debug("일괄 작업 {}건 실행 (리소스: {})", operations.size(), resources);
+        return new BatchResult(operations.size(), new ArrayList<>(resources));
+    }
+
+    private void applyOne(BatchOperation operation) {
+        if (operation instanceof BatchOperation.ScheduleReplace replace) {
+            replaceSchedule(replace);
+        } else if (operation instanceof BatchOperation.ScheduleFinish finish) {
+            String isFinish = Boolean.TRUE.equals(finish.getIsFinish()) ? "Y" : "N";
+            String party = required(finish.getParty(), "party");
+            String raidName = required(finish.getRaidName(), "raidName");
+            for (Schedule schedule : scheduleRepository.findByIdAndRaidName(party, raidName)) {
+                schedule.setIsFinish(isFinish);
+            }
+            // 이 칸의 완료 여부 보드 작업 시각 삭제 - 남겨두면 이후 보드 작업이 이전 완료 여부로 칸을 다시 만듦
+            boardClockRepository.deleteFinishByIdAndRaidName(party, raidName);
+        } else if (operation instanceof BatchOperation.CharacterUpdate update) {
+            updateCharacter(update);
+        } else if (operation instanceof BatchOperation.RaidOrder order) {
+            Raid raid = raidRepository.findById(required(order.getName(), "name"))
+                .orElseThrow(() -> new IllegalArgumentException("레이드가 없습니다: " + order.getName()));
+            raid.setSeq(required(order.getSeq(), "seq"));
+        } else if (operation instanceof BatchOperation.UserScheduleSave save) {
+            saveUserSchedule(save);
+        } else {
+            throw new IllegalArgumentException("지원하지 않는 작업입니다.");
+        }
+    }
+
+    /**
+     * 칸의 기존 행과 비교해서 빠진 캐릭터만 삭제하고 새 캐릭터만 삽입 (남는 캐릭터는 완료 상태만 갱신)
+     */
+    private void replaceSchedule(BatchOperation.ScheduleReplace replace) {
+        String party = required(replace.getParty(), "party");
+        String raidName = required(replace.getRaidName(), "raidName");
+        String isFinish = Boolean.TRUE.equals(replace.getIsFinish()) ? "Y" : "N";
+
+        Set<String> wanted = new LinkedHashSet<>();
+        if (replace.getCharacters() != null) {
+            for (String name : replace.getCharacters()) {
+                if (name != null && !name.trim().isEmpty()) {
+                    wanted.add(name.trim());
+                }
+            }
+        }
+
+        List<Schedule> removed = new ArrayList<>();
+        for (Schedule existing : scheduleRepository.findByIdAndRaidName(party, raidName)) {
+            if (wanted.remove(existing.getCharacterName())) {
+                existing.setIsFinish(isFinish);
+            } else {
+                removed.add(existing);
+            }
+        }
+        scheduleRepository.deleteAll(removed);
+
+        List<Schedule> added = new ArrayList<>();
+        for (String name : wanted) {
+            added.add(new Schedule(party, raidName, name, isFinish));
+        }
+        scheduleRepository.persistAll(added);
+        // 칸 전체를 새로 정했으므로 이 칸의 보드 작업 시각도 삭제
+        boardClockRepository.deleteByIdAndRaidName(party, raidName);
+    }
+
+    private void updateCharacter(BatchOperation.CharacterUpdate update) {
+        Charactors character = charactorsRepository.findById(required(update.getName(), "name"))
+            .orElseThrow(() -> new IllegalArgumentException("캐릭터가 없습니다: " + update.getName()));
+        // name 은 primary key 이므로 변경 불가, 값이 있는 필드만 변경
+        if (update.getIsSupporter() != null) {
+            character.setIsSupporter(update.getIsSupporter());
+        }
+        if (update.getUserId() != null) {
+            character.setUserId(update.getUserId());
+        }
+        if (update.getSeq() != null) {
+            character.setSeq(update.getSeq());
+        }
+    }
+
+    private void saveUserSchedule(BatchOperation.UserScheduleSave save) {
+        String userId = required(save.getUserId(), "userId");
+        String dayOfWeek = required(save.getDayOfWeek(), "dayOfWeek");
+        LocalDate weekStart = userScheduleWeekService.weekStartOfSlot(save.getWeekNumber())
+            .orElseThrow(() -> new IllegalArgumentException("조회 범위를 벗어난 주차입니다: " + save.getWeekNumber()));
+
+        Optional<UserSchedule> existing = userScheduleRepository.findByUserIdAndDayOfWeekAndWeekStart(userId, dayOfWeek, weekStart);
+        if (existing.isPresent()) {
+            existing.get().setScheduleText(save.getScheduleText());
+            existing.get().setEnabled(save.getEnabled());
+        } else {
+            UserSchedule userSchedule = new UserSchedule(userId, dayOfWeek, save.getWeekNumber(), save.getScheduleText(), save.getEnabled());
+            userSchedule.setWeekStart(weekStart);
+            userScheduleRepository.save(userSchedule);
+        }
+    }
+
+    private static <T> T required(T value, String field) {
+        if (value == null) {
+            throw new IllegalArgumentException(field + " 값이 없습니다.");
+        }
+        return value;
+    }
+
+    /**
+     * 일괄 작업 결과 - 실행한 작업 수와 바뀐 리소스
+     */
+    public static class BatchResult {
+        private final int applied;
+        private final List<String> resources;
+
+        public BatchResult(int applied, List<String> resources) {
+            this.applied = applied;
+            this.resources = resources;
+        }
+
+        public int getApplied() { return applied; }
+        public List<String> getResources() { return resources; }
+    }
+
+    /**
+     * 작업 실패 - 전체 롤백, index 는 실패한 작업 위치 (요청 전체 문제면 -1)
+     */
+    public static class BatchOperationException extends RuntimeException {
+        private final int index;
+
+        public BatchOperationException(int index, String message) {
+            super(message);
+            this.index = index;
+        }
+
+        public BatchOperationException(int index, String message, Throwable cause) {
+            super(message, cause);
+            this.index = index;
+        }
+
+        public int getIndex() { return index; }
+    }
+}
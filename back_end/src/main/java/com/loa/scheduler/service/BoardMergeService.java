@@ -0,0 +1,246 @@
+package com.loa.scheduler.service;
+
+import com.loa.scheduler.entity.BoardClock;
+import com.loa.scheduler.entity.Schedule;
+import com.loa.scheduler.repository.BoardClockRepository;
+import com.loa.scheduler.repository.ScheduleRepository;
+import com.loa.scheduler.service.BatchOperationService.BatchOperationException;
+import com.loa.scheduler.util.BoardMerge;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 레이드 보드 작업 병합 - 칸 전체를 덮어쓰지 않고 요소(캐릭터 배치, 완료 여부) 단위로 반영
+ * - 요소마다 마지막으로 반영된 작업 시각을 board_clock 에 두고, 그보다 나중 작업만 반영 (BoardMerge)
+ * - 반영된 작업만 raid_schedule 에 차이로 적용 (추가된 캐릭터만 삽입, 빠진 캐릭터만 삭제)
+ * - 동시에 편집한 두 클라이언트의 작업이 어떤 순서로 도착해도 같은 보드가 되고, 반영된 작업을 받은 클라이언트도 같은 규칙으로 적용하면 재조회 없이 수렴
+ *
+ * board_clock 이 없는 기존 행(칸 교체, 전체 저장으로 만든 행)은 가장 오래된 작업으로 본다.
+ */
+@Service
+public class BoardMergeService {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardMergeService.class);
+
+    public static final String EVENT_TYPE = "board-ops";
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private BoardClockRepository boardClockRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // 요청 하나에 담을 수 있는 작업 수
+    @Value("${board.max-operations:200}")
+    private int maxOperations;
+
+    // 작업 시각이 서버 시각보다 이만큼 넘게 앞서면 거부 (잘못된 시각 하나로 이후 작업이 모두 밀리지 않도록)
+    @Value("${board.max-lamport-ahead:100000}")
+    private long maxLamportAhead;
+
+    // 서버 Lamport 시각 - 커밋된 작업 시각 중 최댓값 (응답으로 돌려줘서 클라이언트 시각이 뒤처지지 않게 함)
+    private volatile long lamport = -1;
+
+    // 조회 → 비교 → 저장 사이에 다른 병합이 끼어들면 서로의 시각을 못 보고 덮어쓰므로 커밋까지 하나씩 실행
+    private final ReentrantLock mergeLock = new ReentrantLock();
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public MergeResult apply(List<BoardOperation> operations) {
+        if (operations == null || operations.isEmpty()) {
+            throw new BatchOperationException(-1, "실행할 작업이 없습니다.");
+        }
+        if (operations.size() > maxOperations) {
+            throw new BatchOperationException(-1, "작업 수 제한 초과 (" + operations.size() + "/" + maxOperations + ")");
+        }
+        for (int i = 0; i < operations.size(); i++) {
+            validate(i, operations.get(i));
+        }
+
+        mergeLock.lock();
+        try {
+            return transactionTemplate.execute(status -> merge(operations));
+        } finally {
+            mergeLock.unlock();
+        }
+    }
+
+    private MergeResult merge(List<BoardOperation> operations) {
+        // 재시작 후 첫 병합에서 저장된 마지막 시각으로 초기화
+        if (lamport < 0) {
+            lamport = boardClockRepository.findMaxLamport();
+        }
+        for (int i = 0; i < operations.size(); i++) {
+            if (operations.get(i).getLamport() > lamport + maxLamportAhead) {
+                // 거부하기 전에 저장된 시각으로 다시 맞춤 (다른 인스턴스나 일괄 작업으로 시각이 앞서 있을 수 있음)
+                lamport = Math.max(lamport, boardClockRepository.findMaxLamport());
+                if (operations.get(i).getLamport() > lamport + maxLamportAhead) {
+                    throw new BatchOperationException(i, "작업 시각(lamport)이 서버 시각보다 너무 앞서 있습니다. (서버 " + lamport + ")");
+                }
+            }
+        }
+
+        // 칸별로 모아서 칸마다 시각과 행을 한 번씩만 조회
+        Map<List<String>, List<BoardOperation>> byCell = new LinkedHashMap<>();
+        long observed = lamport;
+        for (BoardOperation operation : operations) {
+            byCell.computeIfAbsent(List.of(operation.getParty(), operation.getRaidName()), key -> new ArrayList<>()).add(operation);
+            observed = Math.max(observed, operation.getLamport());
+        }
+
+        List<BoardOperation> applied = new ArrayList<>();
+        for (Map.Entry<List<String>, List<BoardOperation>> entry : byCell.entrySet()) {
+            applied.addAll(mergeCell(entry.getKey().get(0), entry.getKey().get(1), entry.getValue()));
+        }
+
+        // 커밋 전에 남은 변경을 실행해서 DB 오류도 여기서 작업 실패로 돌려줌
+        try {
+            scheduleRepository.flush();
+        } catch (RuntimeException e) {
+            throw new BatchOperationException(-1, "저장 실패: " + e.getMessage(), e);
+        }
+        // 서버 시각은 커밋된 뒤에만 올림 - 롤백된 작업의 시각으로 이후 작업 허용 범위가 밀리지 않도록
+        long committed = observed;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                lamport = Math.max(lamport, committed);
+            }
+        });
+        log.debug("보드 작업 {}건 중 {}건 반영 (lamport {})", operations.size(), applied.size(), observed);
+        return new MergeResult(applied, observed);
+    }
+
+    /**
+     * 칸 하나의 작업 병합 - 반영된 작업 목록 반환 (요소마다 마지막으로 이긴 작업 하나)
+     */
+    private List<BoardOperation> mergeCell(String party, String raidName, List<BoardOperation> operations) {
+        BoardMerge merge = new BoardMerge();
+        Map<String, BoardClock> clocks = new HashMap<>();
+        for (BoardClock clock : boardClockRepository.findByIdAndRaidName(party, raidName)) {
+            clocks.put(clock.getElement(), clock);
+            merge.apply(party, raidName, clock.getElement(), clock.getLamport(), clock.getReplica(), "Y".equals(clock.getState()));
+        }
+
+        Map<String, BoardOperation> winners = new LinkedHashMap<>();
+        for (BoardOperation operation : operations) {
+            if (merge.apply(party, raidName, operation.element(), operation.getLamport(), operation.getReplica(), operation.value())) {
+                winners.put(operation.element(), operation);
+            }
+        }
+        if (winners.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, Schedule> rows = new LinkedHashMap<>();
+        for (Schedule schedule : scheduleRepository.findByIdAndRaidName(party, raidName)) {
+            rows.put(schedule.getCharacterName(), schedule);
+        }
+
+        // 칸 완료 여부 - 이긴 완료 작업이 있으면 그 값, 없으면 기존 행(없으면 마지막 완료 작업) 값
+        String isFinish;
+        if (winners.containsKey(BoardMerge.FINISH)) {
+            isFinish = merge.finished(party, raidName) ? "Y" : "N";
+            for (Schedule schedule : rows.values()) {
+                schedule.setIsFinish(isFinish);
+            }
+        } else if (!rows.isEmpty()) {
+            isFinish = rows.values().iterator().next().getIsFinish();
+        } else {
+            isFinish = merge.finished(party, raidName) ? "Y" : "N";
+        }
+
+        List<Schedule> added = new ArrayList<>();
+        List<Schedule> removed = new ArrayList<>();
+        List<BoardClock> newClocks = new ArrayList<>();
+        for (BoardOperation operation : winners.values()) {
+            String element = operation.element();
+            if (!BoardMerge.FINISH.equals(element)) {
+                Schedule existing = rows.get(element);
+                if (operation.value() && existing == null) {
+                    added.add(new Schedule(party, raidName, element, isFinish));
+                } else if (!operation.value() && existing != null) {
+                    removed.add(existing);
+                }
+            }
+
+            BoardClock clock = clocks.get(element);
+            if (clock == null) {
+                clock = new BoardClock(party, raidName, element);
+                newClocks.add(clock);
+            }
+            clock.setLamport(operation.getLamport());
+            clock.setReplica(operation.getReplica());
+            clock.setState(operation.value() ? "Y" : "N");
+        }
+        scheduleRepository.deleteAll(removed);
+        scheduleRepository.persistAll(added);
+        boardClockRepository.persistAll(newClocks);
+        return new ArrayList<>(winners.values());
+    }
+
+    /**
+     * 현재 서버 Lamport 시각 - 저장된 마지막 작업 시각과 이 인스턴스가 받은 시각 중 큰 값
+     */
+    public long currentLamport() {
+        return Math.max(lamport, boardClockRepository.findMaxLamport());
+    }
+
+    private void validate(int index, BoardOperation operation) {
+        if (operation == null) {
+            throw new BatchOperationException(index, "작업이 비어 있습니다.");
+        }
+        if (isBlank(operation.getParty()) || isBlank(operation.getRaidName())) {
+            throw new BatchOperationException(index, "party, raidName 값이 없습니다.");
+        }
+        if (!(operation instanceof BoardOperation.Finish) && isBlank(operation.element())) {
+            throw new BatchOperationException(index, "character 값이 없습니다.");
+        }
+        if (operation.getLamport() <= 0 || isBlank(operation.getReplica()) || operation.getReplica().length() > 64) {
+            throw new BatchOperationException(index, "작업 시각(lamport, replica)이 올바르지 않습니다.");
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    /**
+     * 병합 결과 - 반영된 작업(이전 작업에 밀린 작업은 제외)과 서버 Lamport 시각
+     */
+    public static class MergeResult {
+        private final List<BoardOperation> applied;
+        private final long lamport;
+
+        public MergeResult(List<BoardOperation> applied, long lamport) {
+            this.applied = applied;
+            this.lamport = lamport;
+        }
+
+        public List<BoardOperation> getApplied() { return applied; }
+        public long getLamport() { return lamport; }
+    }
+}
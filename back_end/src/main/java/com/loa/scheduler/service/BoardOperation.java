@@ -0,0 +1,94 @@
+package com.loa.scheduler.service;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.loa.scheduler.util.BoardMerge;
+
+/**
+ * 레이드 보드 작업(/api/board/ops) 한 건 - 칸 전체가 아니라 칸의 요소 하나만 바꾸는 작업
+ * 예: {"type": "add", "party": "1파티", "raidName": "카멘", "character": "캐릭터A", "lamport": 42, "replica": "tab-3f9a"}
+ *     {"type": "finish", "party": "1파티", "raidName": "카멘", "isFinish": true, "lamport": 43, "replica": "tab-3f9a"}
+ *
+ * lamport(논리 시각)와 replica(작업을 만든 클라이언트 id)로 같은 요소에 대한 작업의 선후를 정한다.
+ * 도착 순서와 관계없이 (lamport, replica) 가 가장 큰 작업이 이긴다.
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+@JsonSubTypes({
+    @JsonSubTypes.Type(value = BoardOperation.Add.class, name = "add"),
+    @JsonSubTypes.Type(value = BoardOperation.Remove.class, name = "remove"),
+    @JsonSubTypes.Type(value = BoardOperation.Finish.class, name = "finish")
+})
+public abstract class BoardOperation {
+
+    private String party;
+    private String raidName;
+    private long lamport;
+    private String replica;
+
+    /**
+     * 작업 대상 요소 - 캐릭터 이름, 완료 여부는 BoardMerge.FINISH (빈 문자열)
+     */
+    public abstract String element();
+
+    /**
+     * 요소의 새 값 - 배치 여부 또는 완료 여부
+     */
+    public abstract boolean value();
+
+    public String getParty() { return party; }
+    public void setParty(String party) { this.party = party; }
+    public String getRaidName() { return raidName; }
+    public void setRaidName(String raidName) { this.raidName = raidName; }
+    public long getLamport() { return lamport; }
+    public void setLamport(long lamport) { this.lamport = lamport; }
+    public String getReplica() { return replica; }
+    public void setReplica(String replica) { this.replica = replica; }
+
+    /**
+     * 칸에 캐릭터 배치
+     */
+    public static class Add extends BoardOperation {
+        private String character;
+
+        @Override
+        public String element() { return character; }
+
+        @Override
+        public boolean value() { return true; }
+
+        public String getCharacter() { return character; }
+        public void setCharacter(String character) { this.character = character; }
+    }
+
+    /**
+     * 칸에서 캐릭터 제외
+     */
+    public static class Remove extends BoardOperation {
+        private String character;
+
+        @Override
+        public String element() { return character; }
+
+        @Override
+        public boolean value() { return false; }
+
+        public String getCharacter() { return character; }
+        public void setCharacter(String character) { this.character = character; }
+    }
+
+    /**
+     * 칸 완료 상태 변경
+     */
+    public static class Finish extends BoardOperation {
+        private Boolean isFinish;
+
+        @Override
+        public String element() { return BoardMerge.FINISH; }
+
+        @Override
+        public boolean value() { return Boolean.TRUE.equals(isFinish); }
+
+        public Boolean getIsFinish() { return isFinish; }
+        public void setIsFinish(Boolean isFinish) { this.isFinish = isFinish; }
+    }
+}
@@ -0,0 +1,560 @@
+package com.loa.scheduler.service;
+
+import com.loa.scheduler.config.ClientIpResolver;
+import com.loa.scheduler.entity.Charactors;
+import com.loa.scheduler.entity.Raid;
+import com.loa.scheduler.entity.Schedule;
+import com.loa.scheduler.entity.User;
+import com.loa.scheduler.entity.UserSchedule;
+import com.loa.scheduler.repository.CharactorsRepository;
+import com.loa.scheduler.repository.RaidRepository;
+import com.loa.scheduler.repository.ScheduleRepository;
+import com.loa.scheduler.repository.UserRepository;
+import com.loa.scheduler.repository.UserScheduleRepository;
+import com.loa.scheduler.util.JournalRecord;
+import com.loa.scheduler.util.JournalSegments;
+import com.loa.scheduler.util.JournalTable;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 변경 저널 - 누가 언제 어떤 행을 바꿨는지 추가 전용 파일로 기록
+ * - 엔티티 저장/삭제는 ChangeJournalListener 가, 일괄 JPQL/네이티브 쿼리는 호출하는 쪽이 직접 기록
+ * - 트랜잭션 안의 기록은 모아두었다가 커밋된 경우에만 큐에 넣음 (롤백된 변경은 남지 않음)
+ * - 기록 순서 번호는 문장 실행 직후(행 잠금을 잡고 있는 동안) 받고, 쓰기 스레드가 번호 순으로 되돌려 씀
+ *   (커밋 후 큐에 넣는 순서는 잠금이 풀린 뒤라 같은 행을 바꾼 두 트랜잭션의 순서가 뒤바뀔 수 있음)
+ * - 쓰기 스레드 하나가 큐에 쌓인 레코드를 한 번에 쓰고 한 번만 디스크에 반영 (그룹 커밋, 요청 스레드는 기다리지 않음)
+ * - 저널이 비어 있으면 기동 시 현재 테이블 내용을 먼저 기록 (재생 시작점)
+ */
+@Service
+public class ChangeJournal {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeJournal.class);
+
+    // 작업자 표시 이름 (프론트엔드 접속 현황 이름, URL 인코딩)
+    public static final String USER_HEADER = "X-User-Name";
+    public static final String SYSTEM_ACTOR = "system";
+
+    private static final int MAX_USER_LENGTH = 32;
+
+    // 요청 밖(웹소켓, 스케줄 작업)에서 작업자 지정
+    private static final ThreadLocal<String> ACTOR = new ThreadLocal<>();
+
+    @Value("${journal.enabled:true}")
+    private boolean enabled;
+
+    @Value("${journal.dir:./data/journal}")
+    private String directory;
+
+    @Value("${journal.segment-bytes:16777216}")
+    private int segmentBytes;
+
+    @Value("${journal.queue-capacity:65536}")
+    private int queueCapacity;
+
+    @Value("${journal.batch-max:512}")
+    private int batchMax;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ClientIpResolver clientIpResolver;
+
+    @Autowired
+    private RaidRepository raidRepository;
+
+    @Autowired
+    private CharactorsRepository charactorsRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private UserScheduleRepository userScheduleRepository;
+
+    private JournalSegments segments;
+    private LinkedBlockingQueue<Ticketed> queue;
+    private Thread writer;
+    private volatile boolean running;
+
+    // 기록 순서 번호 (다음에 줄 번호 / 쓰기 스레드가 다음에 쓸 번호)
+    private final AtomicLong nextTicket = new AtomicLong();
+    private long nextToWrite;
+    // 앞 번호 트랜잭션이 아직 끝나지 않아 기다리는 레코드 (쓰기 스레드만 사용)
+    private final PriorityQueue<Ticketed> reorder = new PriorityQueue<>(Comparator.comparingLong(Ticketed::getTicket));
+
+    // flush 대기 (큐에 넣은 수 / 쓰기 스레드가 처리한 수)
+    private final AtomicLong enqueued = new AtomicLong();
+    private long processed;
+    private final ReentrantLock progressLock = new ReentrantLock();
+    private final Condition progressed = progressLock.newCondition();
+
+    private Counter writtenCounter;
+    private Counter failedCounter;
+    private DistributionSummary batchSummary;
+    private Timer forceTimer;
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!enabled) {
+            log.info("변경 저널 꺼짐 (journal.enabled=false)");
+            return;
+        }
+        segments = new JournalSegments(Path.of(directory), segmentBytes);
+        queue = new LinkedBlockingQueue<>(queueCapacity);
+
+        writtenCounter = Counter.builder("journal.records").tag("result", "written").register(meterRegistry);
+        failedCounter = Counter.builder("journal.records").tag("result", "failed").register(meterRegistry);
+        batchSummary = DistributionSummary.builder("journal.batch.size")
+            .description("그룹 커밋 한 번에 쓴 레코드 수")
+            .register(meterRegistry);
+        forceTimer = Timer.builder("journal.force").description("세그먼트 디스크 반영 시간").register(meterRegistry);
+        Gauge.builder("journal.queue.size", queue, LinkedBlockingQueue::size).register(meterRegistry);
+        Gauge.builder("journal.segments", segments, JournalSegments::segmentCount).register(meterRegistry);
+        Gauge.builder("journal.bytes", segments, JournalSegments::sizeBytes).register(meterRegistry);
+
+        running = true;
+        writer = new Thread(this::writeLoop, "change-journal-writer");
+        writer.setDaemon(true);
+        writer.start();
+
+        log.info("변경 저널 시작: {} (마지막 번호 {}, 세그먼트 {}개)", directory, segments.lastSeq(), segments.segmentCount());
+        if (segments.lastSeq() == 0) {
+            writeBaseline();
+        }
+    }
+
+    /**
+     * 종료 - 큐에 남은 레코드를 모두 쓴 뒤 쓰기 스레드 정리 (웹 서버가 요청 처리를 마친 뒤 호출됨)
+     */
+    @PreDestroy
+    public void stop() {
+        if (writer == null) {
+            return;
+        }
+        if (!flush(10_000)) {
+            log.warn("변경 저널 종료 시 쓰지 못한 레코드: {}건", queue.size());
+        }
+        running = false;
+        writer.interrupt();
+        try {
+            writer.join(5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        segments.close();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 변경 기록 - 트랜잭션 안이면 커밋 후에 큐에 넣음
+     * 엔티티 이벤트와 직접 기록 모두 문장 실행 뒤에 호출되므로 여기서 받은 순서 번호는 행 잠금을 잡은 순서와 같음
+     */
+    public void record(JournalRecord.Builder builder) {
+        if (!enabled) {
+            return;
+        }
+        Ticketed entry = new Ticketed(nextTicket.getAndIncrement(), builder.build(System.currentTimeMillis(), currentActor()));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(Collections.singletonList(entry));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<Ticketed> pending = (List<Ticketed>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<Ticketed> created = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ChangeJournal.this);
+                    if (status == STATUS_COMMITTED) {
+                        enqueue(created);
+                    } else {
+                        // 롤백된 기록도 번호는 돌려줘야 쓰기 스레드가 뒤 번호를 계속 기다리지 않음
+                        enqueue(created.stream().map(Ticketed::discarded).toList());
+                    }
+                }
+            });
+            pending = created;
+        }
+        pending.add(entry);
+    }
+
+    public void recordUpsert(Object entity) {
+        JournalRecord.Builder builder = upsertOf(entity);
+        if (builder != null) {
+            record(builder);
+        }
+    }
+
+    public void recordDelete(Object entity) {
+        JournalRecord.Builder builder = deleteOf(entity);
+        if (builder != null) {
+            record(builder);
+        }
+    }
+
+    /**
+     * 요청 밖에서 실행하는 변경의 작업자 지정 (웹소켓 명령, 주간 초기화 등)
+     */
+    public <T> T runAs(String actor, Supplier<T> action) {
+        String previous = ACTOR.get();
+        ACTOR.set(actor);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                ACTOR.remove();
+            } else {
+                ACTOR.set(previous);
+            }
+        }
+    }
+
+    /**
+     * 작업자 표시 - "이름@IP" (이름이 없으면 IP)
+     */
+    public static String actorOf(String encodedUser, String clientIp) {
+        if (encodedUser == null || encodedUser.isBlank()) {
+            return clientIp;
+        }
+        String user;
+        try {
+            user = URLDecoder.decode(encodedUser, StandardCharsets.UTF_8).trim();
+        } catch (IllegalArgumentException e) {
+            return clientIp;
+        }
+        if (user.isEmpty()) {
+            return clientIp;
+        }
+        if (user.length() > MAX_USER_LENGTH) {
+            user = user.substring(0, MAX_USER_LENGTH);
+        }
+        return user + "@" + clientIp;
+    }
+
+    /**
+     * 시각 범위 조회 (table, keyword 는 선택) - 번호 순
+     */
+    public List<JournalRecord> scan(long fromMillis, long toMillis, JournalTable table, String keyword, int limit) throws IOException {
+        if (!enabled) {
+            throw new IllegalStateException("변경 저널이 꺼져 있습니다.");
+        }
+        return segments.scan(fromMillis, toMillis,
+            record -> (table == null || record.getTable() == table) && (keyword == null || record.mentions(keyword)),
+            limit);
+    }
+
+    /**
+     * 디스크에 반영된 모든 레코드를 번호 순으로 전달 (재생용, 호출 전에 flush)
+     */
+    public void forEach(Consumer<JournalRecord> consumer) throws IOException {
+        if (!enabled) {
+            throw new IllegalStateException("변경 저널이 꺼져 있습니다.");
+        }
+        segments.forEach(consumer);
+    }
+
+    /**
+     * 지금까지 큐에 넣은 레코드가 모두 디스크에 반영될 때까지 대기 - 시간 안에 끝나면 true
+     */
+    public boolean flush(long timeoutMillis) {
+        if (!enabled) {
+            return true;
+        }
+        long target = enqueued.get();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        progressLock.lock();
+        try {
+            while (processed < target) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                progressed.awaitNanos(remaining);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            progressLock.unlock();
+        }
+    }
+
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", enabled);
+        if (enabled) {
+            status.put("lastSeq", segments.lastSeq());
+            status.put("segments", segments.segmentCount());
+            status.put("bytes", segments.sizeBytes());
+            status.put("queued", queue.size());
+        }
+        return status;
+    }
+
+    static JournalRecord.Builder upsertOf(Object entity) {
+        if (entity instanceof Raid raid) {
+            return JournalRecord.upsert(JournalTable.RAID)
+                .set("name", raid.getName())
+                .set("seq", raid.getSeq());
+        }
+        if (entity instanceof Charactors character) {
+            return JournalRecord.upsert(JournalTable.CHARACTORS)
+                .set("name", character.getName())
+                .set("is_supporter", character.getIsSupporter())
+                .set("user_id", character.getUserId())
+                .set("seq", character.getSeq());
+        }
+        if (entity instanceof User user) {
+            return JournalRecord.upsert(JournalTable.USER)
+                .set("name", user.getName())
+                .set("color", user.getColor())
+                .set("seq", user.getSeq())
+                .set("created_at", user.getCreatedAt())
+                .set("updated_at", user.getUpdatedAt());
+        }
+        if (entity instanceof Schedule schedule) {
+            return JournalRecord.upsert(JournalTable.RAID_SCHEDULE)
+                .set("id", schedule.getId())
+                .set("raid_name", schedule.getRaidName())
+                .set("character_name", schedule.getCharacterName())
+                .set("is_finish", schedule.getIsFinish());
+        }
+        if (entity instanceof UserSchedule userSchedule) {
+            return JournalRecord.upsert(JournalTable.USER_SCHEDULE)
+                .set("id", userSchedule.getId())
+                .set("user_id", userSchedule.getUserId())
+                .set("day_of_week", userSchedule.getDayOfWeek())
+                .set("week_start", userSchedule.getWeekStart())
+                .set("week_number", userSchedule.getLegacyWeekNumber())
+                .set("schedule_text", userSchedule.getScheduleText())
+                .set("enabled", userSchedule.getEnabled())
+                .set("created_at", userSchedule.getCreatedAt())
+                .set("updated_at", userSchedule.getUpdatedAt());
+        }
+        return null;
+    }
+
+    static JournalRecord.Builder deleteOf(Object entity) {
+        if (entity instanceof Raid raid) {
+            return JournalRecord.delete(JournalTable.RAID).where("name", raid.getName());
+        }
+        if (entity instanceof Charactors character) {
+            return JournalRecord.delete(JournalTable.CHARACTORS).where("name", character.getName());
+        }
+        if (entity instanceof User user) {
+            return JournalRecord.delete(JournalTable.USER).where("name", user.getName());
+        }
+        if (entity instanceof Schedule schedule) {
+            return JournalRecord.delete(JournalTable.RAID_SCHEDULE)
+                .where("id", schedule.getId())
+                .where("raid_name", schedule.getRaidName())
+                .where("character_name", schedule.getCharacterName());
+        }
+        if (entity instanceof UserSchedule userSchedule) {
+            return JournalRecord.delete(JournalTable.USER_SCHEDULE).where("id", userSchedule.getId());
+        }
+        return null;
+    }
+
+    private String currentActor() {
+        String actor = ACTOR.get();
+        if (actor != null) {
+            return actor;
+        }
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            HttpServletRequest request = servletAttributes.getRequest();
+            return actorOf(request.getHeader(USER_HEADER), clientIpResolver.resolve(request));
+        }
+        return SYSTEM_ACTOR;
+    }
+
+    private void enqueue(List<Ticketed> entries) {
+        boolean interrupted = false;
+        for (Ticketed entry : entries) {
+            enqueued.incrementAndGet();
+            // 디스크가 밀려 큐가 가득 차면 요청 스레드도 기다림 (기록을 버리지 않음)
+            // 번호가 하나라도 빠지면 쓰기 스레드가 뒤 번호를 쓰지 못하므로 인터럽트돼도 끝까지 넣고 상태만 되돌림
+            while (true) {
+                try {
+                    queue.put(entry);
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 현재 테이블 내용을 UPSERT 로 기록 (빈 저널의 재생 시작점)
+     */
+    private void writeBaseline() {
+        String previous = ACTOR.get();
+        ACTOR.set(SYSTEM_ACTOR + ":baseline");
+        try {
+            int rows = 0;
+            for (List<?> entities : List.of(raidRepository.findAll(), userRepository.findAll(), charactorsRepository.findAll(),
+                    scheduleRepository.findAll(), userScheduleRepository.findAll())) {
+                for (Object entity : entities) {
+                    recordUpsert(entity);
+                    rows++;
+                }
+            }
+            log.info("변경 저널 시작점 기록: {}행", rows);
+        } finally {
+            if (previous == null) {
+                ACTOR.remove();
+            } else {
+                ACTOR.set(previous);
+            }
+        }
+    }
+
+    private void writeLoop() {
+        List<Ticketed> drained = new ArrayList<>(batchMax);
+        List<JournalRecord> batch = new ArrayList<>(batchMax);
+        while (running) {
+            int consumed = 0;
+            try {
+                Ticketed first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                drained.add(first);
+                queue.drainTo(drained, batchMax - 1);
+                reorder.addAll(drained);
+                // 번호가 이어지는 레코드만 씀 - 앞 번호 트랜잭션이 아직 끝나지 않았으면 다음 묶음까지 기다림
+                while (!reorder.isEmpty() && reorder.peek().getTicket() == nextToWrite) {
+                    Ticketed next = reorder.poll();
+                    nextToWrite++;
+                    consumed++;
+                    if (next.getRecord() != null) {
+                        batch.add(next.getRecord());
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    writeBatch(batch);
+                }
+            } catch (InterruptedException e) {
+                // 종료 - stop() 에서 이미 flush 함
+                break;
+            } catch (RuntimeException e) {
+                log.error("변경 저널 쓰기 스레드 오류", e);
+            } finally {
+                markProcessed(consumed);
+                drained.clear();
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 묶음 쓰기 후 한 번만 디스크 반영 - 디스크 오류면 잠시 뒤 남은 레코드부터 다시 시도
+     */
+    private void writeBatch(List<JournalRecord> batch) throws InterruptedException {
+        int index = 0;
+        int skipped = 0;
+        while (index < batch.size()) {
+            JournalRecord record = batch.get(index);
+            try {
+                segments.append(record);
+                index++;
+            } catch (IllegalArgumentException e) {
+                // 세그먼트보다 큰 레코드 - 다시 시도해도 실패하므로 건너뜀
+                failedCounter.increment();
+                log.error("변경 저널 레코드 건너뜀 [{} {}]: {}", record.getOp(), record.getTable().getTableName(), e.getMessage());
+                index++;
+                skipped++;
+            } catch (IOException e) {
+                log.error("변경 저널 쓰기 실패, 1초 후 재시도 (남은 {}건): {}", batch.size() - index, e.getMessage());
+                Thread.sleep(1000);
+            }
+        }
+        forceTimer.record(segments::force);
+        batchSummary.record(batch.size());
+        writtenCounter.increment(batch.size() - skipped);
+    }
+
+    private void markProcessed(int count) {
+        if (count == 0) {
+            return;
+        }
+        progressLock.lock();
+        try {
+            processed += count;
+            progressed.signalAll();
+        } finally {
+            progressLock.unlock();
+        }
+    }
+
+    /**
+     * 순서 번호가 붙은 레코드 (record 가 null 이면 롤백된 기록 - 번호만 넘기고 쓰지 않음)
+     */
+    private static final class Ticketed {
+        private final long ticket;
+        private final JournalRecord record;
+
+        Ticketed(long ticket, JournalRecord record) {
+            this.ticket = ticket;
+            this.record = record;
+        }
+
+        long getTicket() { return ticket; }
+        JournalRecord getRecord() { return record; }
+
+        Ticketed discarded() {
+            return new Ticketed(ticket, null);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.loa.scheduler.service;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * 엔티티 저장/삭제를 변경 저널에 기록 (@EntityListeners 로 등록, Hibernate 가 스프링 빈으로 생성)
+ * EntityManagerFactory 생성 중에 만들어지므로 ChangeJournal 은 처음 기록할 때 가져옴
+ */
+public class ChangeJournalListener {
+
+    @Autowired
+    private ObjectProvider<ChangeJournal> changeJournal;
+
+    @PostPersist
+    @PostUpdate
+    public void afterSave(Object entity) {
+        changeJournal.getObject().recordUpsert(entity);
+    }
+
+    @PostRemove
+    public void afterRemove(Object entity) {
+        changeJournal.getObject().recordDelete(entity);
+    }
+}
@@ -0,0 +1,117 @@
+package com.loa.scheduler.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loa.scheduler.service.JsonResponseCache.CachedBody;
+import com.loa.scheduler.util.ReadWriteRouting;
+import com.loa.scheduler.util.RequestTrace;
+import com.loa.scheduler.util.SingleFlight;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 목록 조회 응답 합치기와 캐시
+ * 브로드캐스트 직후 모든 클라이언트가 같은 목록을 동시에 다시 조회하므로,
+ * (조회 키, 데이터 버전) 이 같은 동시 요청은 DB 조회와 JSON 직렬화를 한 번만 하고 같은 바이트를 응답한다.
+ * 직렬화 결과는 gzip 으로 압축해 JsonResponseCache 에 보관하고, 버전이 바뀔 때까지 그대로 출력 스트림에 쓴다.
+ */
+@Service
+public class CoalescedReadService {
+
+    public static final String VERSION_HEADER = "X-Data-Version";
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private JsonResponseCache responseCache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final SingleFlight<String, CachedBody> singleFlight = new SingleFlight<>();
+
+    public CoalescedReadService(MeterRegistry meterRegistry) {
+        FunctionCounter.builder("http.server.requests.coalesced", singleFlight, SingleFlight::sharedCount)
+            .description("다른 요청의 조회 결과를 공유받은 목록 조회 수")
+            .register(meterRegistry);
+        Gauge.builder("http.server.requests.coalescing", singleFlight, SingleFlight::inFlightCount)
+            .description("진행 중인 합쳐진 목록 조회 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 목록 조회 응답 쓰기 - 버전은 조회 전에 읽는다 (조회 중 커밋된 쓰기는 다음 버전 키로 새로 조회)
+     *
+     * @param resource DataVersionService 리소스 이름
+     * @param key      같은 리소스 안에서 조회 조건 구분 (예: 주차)
+     * @param query    DB 조회
+     */
+    public void write(String resource, String key, Supplier<?> query,
+                      HttpServletRequest request, HttpServletResponse response) throws IOException {
+        long version = dataVersionService.current(resource);
+        String cacheKey = resource + ":" + key;
+
+        CachedBody body = responseCache.get(cacheKey, version);
+        if (body == null) {
+            body = singleFlight.execute(cacheKey + ":" + version, () -> {
+                // 복제본 라우팅 시에도 캐시를 채우는 조회는 primary 에서 (복제 지연으로 이전 데이터를 새 버전으로 캐시하지 않도록)
+                // 버전당 한 번만 조회하므로 primary 부하는 크지 않음
+                CachedBody loaded = CachedBody.of(version, serialize(resource, ReadWriteRouting.onPrimary(query)));
+                responseCache.put(cacheKey, loaded);
+                return loaded;
+            });
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(VERSION_HEADER, String.valueOf(version));
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (acceptsGzip(request)) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            response.setContentLength(body.getGzipped().length);
+            response.getOutputStream().write(body.getGzipped());
+            return;
+        }
+
+        // gzip 을 받지 않는 클라이언트는 압축을 풀면서 전송
+        response.setContentLength(body.getLength());
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body.getGzipped()))) {
+            OutputStream out = response.getOutputStream();
+            in.transferTo(out);
+        }
+    }
+
+    public void write(String resource, Supplier<?> query,
+                      HttpServletRequest request, HttpServletResponse response) throws IOException {
+        write(resource, "all", query, request, response);
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+    }
+
+    private byte[] serialize(String resource, Object value) {
+        try (RequestTrace.Span span = RequestTrace.span(RequestTrace.CATEGORY_SERIALIZATION, resource)) {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(resource + " 목록 직렬화 실패", e);
+        }
+    }
+}
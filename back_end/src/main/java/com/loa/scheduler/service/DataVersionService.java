@@ -0,0 +1,85 @@
+package com.loa.scheduler.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 목록 조회 대상 데이터의 버전 관리
+ * 쓰기가 커밋될 때마다 해당 리소스 버전을 올리고, 조회 쪽은 버전을 키로 같은 결과를 공유한다.
+ * 버전은 이 인스턴스 안에서만 증가하며 시작 시각(ms)에서 출발해 재시작 후에도 이전 값과 겹치지 않는다.
+ */
+@Service
+public class DataVersionService {
+
+    public static final String RAID = "raid";
+    public static final String USER = "user";
+    public static final String CHARACTORS = "charactors";
+    public static final String SCHEDULE = "schedule";
+    public static final String USER_SCHEDULE = "user_schedule";
+
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final long initialVersion = System.currentTimeMillis();
+
+    /**
+     * SSE 이벤트 종류로 바뀐 리소스 판단 (user-schedule- 을 user- 보다 먼저 확인)
+     */
+    public static List<String> resourcesOf(String eventType) {
+        if (eventType.startsWith("character-")) {
+            return List.of(CHARACTORS);
+        }
+        if (eventType.startsWith("raid-")) {
+            return List.of(RAID);
+        }
+        if (eventType.startsWith("schedule-")) {
+            return List.of(SCHEDULE);
+        }
+        if (eventType.startsWith("user-schedule-")) {
+            return List.of(USER_SCHEDULE);
+        }
+        if (eventType.startsWith("user-")) {
+            return List.of(USER);
+        }
+        if ("week-advanced".equals(eventType)) {
+            return List.of(USER_SCHEDULE, SCHEDULE);
+        }
+        return Collections.emptyList();
+    }
+
+    public long current(String resource) {
+        return counter(resource).get();
+    }
+
+    /**
+     * 버전 증가 - 트랜잭션 안이면 커밋 후에 올려서 커밋 전 데이터가 새 버전으로 공유되지 않게 한다
+     */
+    public void bump(String resource) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    counter(resource).incrementAndGet();
+                }
+            });
+            return;
+        }
+        counter(resource).incrementAndGet();
+    }
+
+    /**
+     * 즉시 버전 증가 후 새 버전 반환 (커밋 이후 호출용)
+     */
+    public long bumpNow(String resource) {
+        return counter(resource).incrementAndGet();
+    }
+
+    private AtomicLong counter(String resource) {
+        return versions.computeIfAbsent(resource, key -> new AtomicLong(initialVersion));
+    }
+}
@@ -0,0 +1,128 @@
+package com.loa.scheduler.service;
+
+import com.loa.scheduler.config.EmbeddedDatabaseConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 내장 DB 스냅샷 (embedded 프로필)
+ * - H2 BACKUP 으로 실행 중에도 일관된 zip 을 만들고, 다 만든 뒤 이름을 바꿔 이전 스냅샷을 교체
+ * - 데이터 버전이 지난 스냅샷 이후 바뀐 경우에만 생성 (주기 실행, 종료 시 한 번 더)
+ * - 복원은 시작 시 EmbeddedDatabaseConfig 가 처리
+ */
+@Service
+@Profile("embedded")
+public class EmbeddedSnapshotService {
+
+    private static final Logger log = LoggerFactory.getLogger(EmbeddedSnapshotService.class);
+
+    private static final List<String> RESOURCES = List.of(DataVersionService.RAID, DataVersionService.USER,
+        DataVersionService.CHARACTORS, DataVersionService.SCHEDULE, DataVersionService.USER_SCHEDULE);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${embedded.data-dir:./data/db}")
+    private String dataDir;
+
+    @Value("${embedded.snapshot-enabled:true}")
+    private boolean enabled;
+
+    private Path snapshot;
+    private Timer snapshotTimer;
+
+    // 스냅샷 생성은 한 번에 하나씩 (주기 실행과 종료 시 실행이 겹치지 않도록)
+    private final ReentrantLock lock = new ReentrantLock();
+    // 마지막 스냅샷 시점의 데이터 버전 합
+    private long snapshotVersion;
+
+    @PostConstruct
+    void init() {
+        snapshot = Path.of(dataDir).resolve(EmbeddedDatabaseConfig.SNAPSHOT_FILE);
+        snapshotTimer = Timer.builder("embedded.snapshot")
+            .description("내장 DB 스냅샷 생성 시간")
+            .register(meterRegistry);
+        snapshotVersion = currentVersion();
+    }
+
+    @Scheduled(fixedDelayString = "${embedded.snapshot-interval-ms:600000}",
+               initialDelayString = "${embedded.snapshot-interval-ms:600000}")
+    public void scheduledSnapshot() {
+        if (enabled) {
+            snapshotIfChanged();
+        }
+    }
+
+    @PreDestroy
+    void snapshotOnShutdown() {
+        if (enabled) {
+            snapshotIfChanged();
+        }
+    }
+
+    /**
+     * 지난 스냅샷 이후 변경이 있었으면 (또는 스냅샷이 없으면) 생성 - 생성했으면 true
+     */
+    public boolean snapshotIfChanged() {
+        lock.lock();
+        try {
+            // 생성 중에 들어온 변경은 다음 번에 다시 반영되도록 시작 전 버전을 기록
+            long version = currentVersion();
+            if (version == snapshotVersion && Files.exists(snapshot)) {
+                return false;
+            }
+            snapshotTimer.record(this::writeSnapshot);
+            snapshotVersion = version;
+            return true;
+        } catch (RuntimeException e) {
+            log.error("내장 DB 스냅샷 생성 실패: {}", e.getMessage());
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void writeSnapshot() {
+        Path temp = snapshot.resolveSibling(snapshot.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(snapshot.getParent());
+            Files.deleteIfExists(temp);
+            jdbcTemplate.execute("BACKUP TO '" + temp.toAbsolutePath().toString().replace("'", "''") + "'");
+            Files.move(temp, snapshot, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            log.info("내장 DB 스냅샷 생성: {} ({} KB)", snapshot, Files.size(snapshot) / 1024);
+        } catch (IOException e) {
+            throw new IllegalStateException("스냅샷 파일 교체 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private long currentVersion() {
+        long sum = 0;
+        for (String resource : RESOURCES) {
+            sum += dataVersionService.current(resource);
+        }
+        return sum;
+    }
+}
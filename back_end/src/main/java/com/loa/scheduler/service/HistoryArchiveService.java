@@ -0,0 +1,230 @@
+package com.loa.scheduler.service;
+
+import com.loa.scheduler.entity.CharacterClearStat;
+import com.loa.scheduler.entity.Schedule;
+import com.loa.scheduler.entity.UserAvailabilityStat;
+import com.loa.scheduler.entity.UserSchedule;
+import com.loa.scheduler.entity.WeeklyArchive;
+import com.loa.scheduler.entity.WeeklyArchiveId;
+import com.loa.scheduler.repository.CharacterClearStatRepository;
+import com.loa.scheduler.repository.ScheduleRepository;
+import com.loa.scheduler.repository.UserAvailabilityStatRepository;
+import com.loa.scheduler.repository.UserScheduleRepository;
+import com.loa.scheduler.repository.WeeklyArchiveRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 주간 기록 보관
+ * 주간 초기화 직전에 지난 주차의 raid_schedule / user_schedule 을 압축 스냅샷으로 남기고,
+ * 분석용 집계(캐릭터 클리어율, 유저 가용 요일)를 같은 트랜잭션에서 갱신한다.
+ * 조회 API 는 집계 테이블만 읽으므로 원본 기록을 스캔하지 않는다.
+ */
+@Service
+public class HistoryArchiveService {
+
+    private static final char FIELD_SEPARATOR = '\t';
+    private static final char ROW_SEPARATOR = '\n';
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private UserScheduleRepository userScheduleRepository;
+
+    @Autowired
+    private WeeklyArchiveRepository weeklyArchiveRepository;
+
+    @Autowired
+    private CharacterClearStatRepository characterClearStatRepository;
+
+    @Autowired
+    private UserAvailabilityStatRepository userAvailabilityStatRepository;
+
+    /**
+     * 지난 주차 보관 (이미 보관된 종류는 건너뜀)
+     * @return 보관된 행 수
+     */
+    @Transactional
+    public long archiveWeek(LocalDate weekStart) {
+        return archiveRaidSchedules(weekStart) + archiveUserSchedules(weekStart);
+    }
+
+    private long archiveRaidSchedules(LocalDate weekStart) {
+        if (weeklyArchiveRepository.existsById(new WeeklyArchiveId(weekStart, WeeklyArchive.KIND_RAID_SCHEDULE))) {
+            return 0;
+        }
+
+        List<Schedule> schedules = scheduleRepository.findAll();
+        List<String[]> rows = new ArrayList<>(schedules.size());
+        Map<String, long[]> perCharacter = new HashMap<>(); // [배치 수, 완료 수]
+        for (Schedule schedule : schedules) {
+            rows.add(new String[] {schedule.getId(), schedule.getRaidName(), schedule.getCharacterName(), schedule.getIsFinish()});
+            long[] counts = perCharacter.computeIfAbsent(schedule.getCharacterName(), key -> new long[2]);
+            counts[0]++;
+            if ("Y".equals(schedule.getIsFinish())) {
+                counts[1]++;
+            }
+        }
+
+        weeklyArchiveRepository.save(new WeeklyArchive(weekStart, WeeklyArchive.KIND_RAID_SCHEDULE, rows.size(), encode(rows)));
+
+        // 캐릭터별 누적 집계 갱신
+        Map<String, CharacterClearStat> stats = new HashMap<>();
+        characterClearStatRepository.findAllById(perCharacter.keySet())
+            .forEach(stat -> stats.put(stat.getCharacterName(), stat));
+        for (Map.Entry<String, long[]> entry : perCharacter.entrySet()) {
+            CharacterClearStat stat = stats.computeIfAbsent(entry.getKey(), CharacterClearStat::new);
+            stat.addWeek(weekStart, entry.getValue()[0], entry.getValue()[1]);
+        }
+        characterClearStatRepository.saveAll(stats.values());
+
+        return rows.size();
+    }
+
+    private long archiveUserSchedules(LocalDate weekStart) {
+        if (weeklyArchiveRepository.existsById(new WeeklyArchiveId(weekStart, WeeklyArchive.KIND_USER_SCHEDULE))) {
+            return 0;
+        }
+
+        List<UserSchedule> schedules = userScheduleRepository.findByWeekStart(weekStart);
+        List<String[]> rows = new ArrayList<>(schedules.size());
+        Map<String, int[]> perUser = new HashMap<>(); // [가능 요일 수, 일정 입력 요일 수]
+        for (UserSchedule schedule : schedules) {
+            String text = schedule.getScheduleText() != null ? schedule.getScheduleText() : "";
+            rows.add(new String[] {schedule.getUserId(), schedule.getDayOfWeek(), schedule.getEnabled(), text});
+            int[] counts = perUser.computeIfAbsent(schedule.getUserId(), key -> new int[2]);
+            if ("Y".equals(schedule.getEnabled())) {
+                counts[0]++;
+            }
+            if (!text.isBlank()) {
+                counts[1]++;
+            }
+        }
+
+        weeklyArchiveRepository.save(new WeeklyArchive(weekStart, WeeklyArchive.KIND_USER_SCHEDULE, rows.size(), encode(rows)));
+
+        List<UserAvailabilityStat> stats = new ArrayList<>(perUser.size());
+        for (Map.Entry<String, int[]> entry : perUser.entrySet()) {
+            stats.add(new UserAvailabilityStat(entry.getKey(), weekStart, entry.getValue()[0], entry.getValue()[1]));
+        }
+        userAvailabilityStatRepository.saveAll(stats);
+
+        return rows.size();
+    }
+
+    @Transactional(readOnly = true)
+    public List<CharacterClearStat> getClearRates() {
+        return characterClearStatRepository.findAllOrderByClearedCount();
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<CharacterClearStat> getClearRate(String characterName) {
+        return characterClearStatRepository.findById(characterName);
+    }
+
+    @Transactional(readOnly = true)
+    public List<UserAvailabilityStat> getAvailabilityTrend(String userId, LocalDate from) {
+        return userAvailabilityStatRepository.findByUserIdAndWeekStartGreaterThanEqualOrderByWeekStartAsc(userId, from);
+    }
+
+    @Transactional(readOnly = true)
+    public List<UserAvailabilityStat> getAvailabilityTrends(LocalDate from) {
+        return userAvailabilityStatRepository.findByWeekStartGreaterThanEqualOrderByUserIdAscWeekStartAsc(from);
+    }
+
+    /**
+     * 보관된 스냅샷 원본 행 조회 (탭 구분 필드 배열)
+     */
+    @Transactional(readOnly = true)
+    public Optional<List<String[]>> getSnapshot(LocalDate weekStart, String kind) {
+        return weeklyArchiveRepository.findById(new WeeklyArchiveId(weekStart, kind))
+            .map(archive -> decode(archive.getPayload()));
+    }
+
+    /**
+     * 행 목록을 탭/줄바꿈 구분 텍스트로 만든 뒤 gzip 압축
+     * 필드 안의 탭, 줄바꿈, 역슬래시는 escape 처리
+     */
+    static byte[] encode(List<String[]> rows) {
+        StringBuilder text = new StringBuilder(rows.size() * 32);
+        for (String[] row : rows) {
+            for (int i = 0; i < row.length; i++) {
+                if (i > 0) {
+                    text.append(FIELD_SEPARATOR);
+                }
+                appendEscaped(text, row[i] != null ? row[i] : "");
+            }
+            text.append(ROW_SEPARATOR);
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(text.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static List<String[]> decode(byte[] payload) {
+        String text;
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            text = new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        List<String[]> rows = new ArrayList<>();
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\\' && i + 1 < text.length()) {
+                char next = text.charAt(++i);
+                field.append(next == 't' ? '\t' : next == 'n' ? '\n' : next);
+            } else if (c == FIELD_SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == ROW_SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+                rows.add(fields.toArray(new String[0]));
+                fields.clear();
+            } else {
+                field.append(c);
+            }
+        }
+        return rows;
+    }
+
+    private static void appendEscaped(StringBuilder text, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\t') {
+                text.append("\\t");
+            } else if (c == '\n') {
+                text.append("\\n");
+            } else if (c == '\\') {
+                text.append("\\\\");
+            } else {
+                text.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.loa.scheduler.service;
+
+import java.util.Optional;
+
+/**
+ * Idempotency-Key 응답 저장소
+ * 기본 구현은 InMemoryIdempotencyStore 이며, 다중 노드 환경에서는 공유 저장소 구현으로 교체한다.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * 완료된 응답 조회 (처리 중이거나 만료된 키는 빈 값)
+     */
+    Optional<StoredResponse> find(String key);
+
+    /**
+     * 처리 중이거나 완료된 키의 요청 본문 해시 (없거나 만료된 키는 빈 값)
+     */
+    Optional<String> requestHash(String key);
+
+    /**
+     * 키 선점 (요청 본문 해시와 함께) - 이미 처리 중이거나 완료된 키면 false
+     */
+    boolean reserve(String key, String requestHash);
+
+    /**
+     * 처리 완료된 응답 저장
+     */
+    void complete(String key, StoredResponse response);
+
+    /**
+     * 선점 해제 (처리 실패 시 재시도 허용)
+     */
+    void release(String key);
+
+    /**
+     * 재생용으로 저장되는 응답
+     */
+    class StoredResponse {
+        private final int status;
+        private final String contentType;
+        private final byte[] body;
+        private final String requestHash;
+
+        public StoredResponse(int status, String contentType, byte[] body, String requestHash) {
+            this.status = status;
+            this.contentType = contentType;
+            this.body = body;
+            this.requestHash = requestHash;
+        }
+
+        public int getStatus() { return status; }
+        public String getContentType() { return contentType; }
+        public byte[] getBody() { return body; }
+        public String getRequestHash() { return requestHash; }
+    }
+}
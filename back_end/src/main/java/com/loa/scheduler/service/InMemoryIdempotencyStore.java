@@ -0,0 +1,171 @@
+package com.loa.scheduler.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 단일 노드용 Idempotency-Key 저장소
+ * - 최대 엔트리 수 제한 (초과 시 오래된 완료 키부터 제거, 처리 중인 키는 제거하지 않음)
+ * - TTL 경과한 키는 조회/저장 시점에 제거
+ */
+@Component
+@ConditionalOnProperty(name = "idempotency.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    // 삽입 순서 기록 (용량 초과 시 오래된 키부터 제거) - 선점마다 자리 하나, 완료된 엔트리도 같은 자리를 이어받음
+    private final ConcurrentLinkedQueue<Slot> insertionOrder = new ConcurrentLinkedQueue<>();
+
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    public InMemoryIdempotencyStore(
+            @Value("${idempotency.ttl-seconds:600}") long ttlSeconds,
+            @Value("${idempotency.max-entries:10000}") int maxEntries) {
+        this.ttlMillis = ttlSeconds * 1000L;
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public Optional<StoredResponse> find(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            entries.remove(key, entry);
+            return Optional.empty();
+        }
+        return Optional.ofNullable(entry.response);
+    }
+
+    @Override
+    public Optional<String> requestHash(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null || entry.isExpired(System.currentTimeMillis())) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(entry.requestHash);
+    }
+
+    @Override
+    public boolean reserve(String key, String requestHash) {
+        long now = System.currentTimeMillis();
+        Slot slot = new Slot(key);
+        Entry reserved = new Entry(null, requestHash, now + ttlMillis, slot);
+
+        while (true) {
+            Entry existing = entries.putIfAbsent(key, reserved);
+            if (existing == null) {
+                break;
+            }
+            if (!existing.isExpired(now)) {
+                return false;
+            }
+            // 만료된 키는 새 선점으로 교체 (이전 자리는 줄에서 제거)
+            if (entries.replace(key, existing, reserved)) {
+                insertionOrder.remove(existing.slot);
+                break;
+            }
+        }
+
+        insertionOrder.add(slot);
+        evictIfFull(now);
+        return true;
+    }
+
+    @Override
+    public void complete(String key, StoredResponse response) {
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+        Slot fresh = new Slot(key);
+        Entry completed = entries.compute(key, (k, existing) ->
+            new Entry(response, response.getRequestHash(), expiresAt, existing != null ? existing.slot : fresh));
+        // 선점 없이 완료된 키 (선점이 이미 제거된 경우)는 새 자리를 줄에 넣음
+        if (completed.slot == fresh) {
+            insertionOrder.add(fresh);
+        }
+    }
+
+    @Override
+    public void release(String key) {
+        // 처리 중인 키만 해제 - 자리도 함께 빼야 같은 키를 다시 선점했을 때 줄에 두 번 들어가지 않음
+        Entry existing = entries.get(key);
+        if (existing != null && existing.response == null && entries.remove(key, existing)) {
+            insertionOrder.remove(existing.slot);
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 용량 초과 시 삽입 순서대로 제거 - 처리 중인 키는 건너뜀
+     * (처리 중인 키를 지우면 동시에 들어온 재시도가 쓰기를 다시 실행함)
+     * 처리 중인 키만 남아 있으면 잠시 상한을 넘는 것을 허용
+     * 맵의 엔트리가 그 자리의 것이 아니면(해제 후 다시 선점 등) 이전 자리이므로 줄에서만 제거
+     */
+    private void evictIfFull(long now) {
+        if (entries.size() > maxEntries) {
+            Iterator<Slot> iterator = insertionOrder.iterator();
+            while (entries.size() > maxEntries && iterator.hasNext()) {
+                Slot slot = iterator.next();
+                Entry entry = entries.get(slot.key);
+                if (entry == null || entry.slot != slot) {
+                    iterator.remove();
+                } else if (entry.response != null || entry.isExpired(now)) {
+                    iterator.remove();
+                    entries.remove(slot.key, entry);
+                }
+            }
+        }
+
+        // 큐 앞쪽의 만료/제거된 키 정리 (큐가 맵보다 커지지 않도록)
+        Slot head;
+        while ((head = insertionOrder.peek()) != null) {
+            Entry entry = entries.get(head.key);
+            boolean current = entry != null && entry.slot == head;
+            if (current && !entry.isExpired(now)) {
+                return;
+            }
+            insertionOrder.remove(head);
+            if (current) {
+                entries.remove(head.key, entry);
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final StoredResponse response; // null 이면 처리 중
+        private final String requestHash;
+        private final long expiresAt;
+        private final Slot slot; // 줄에서의 자리
+
+        private Entry(StoredResponse response, String requestHash, long expiresAt, Slot slot) {
+            this.response = response;
+            this.requestHash = requestHash;
+            this.expiresAt = expiresAt;
+            this.slot = slot;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+
+    // 삽입 순서 줄의 자리 (같은 키라도 선점마다 다른 객체 - 동일성으로 비교)
+    private static final class Slot {
+        private final String key;
+
+        private Slot(String key) {
+            this.key = key;
+        }
+    }
+}
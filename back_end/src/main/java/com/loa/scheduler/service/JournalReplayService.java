@@ -0,0 +1,193 @@
+package com.loa.scheduler.service;
+
+import com.loa.scheduler.util.JournalRecord;
+import com.loa.scheduler.util.JournalTable;
+import com.loa.scheduler.util.JournalTable.Column;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 변경 저널 재생 - 저널 기록만으로 레이드/캐릭터/유저/스케줄/유저 일정 테이블을 다시 만듦
+ * - 다섯 테이블을 비운 뒤 기록 순서대로 JDBC 로 적용 (엔티티 리스너를 거치지 않으므로 재생 중 저널에 다시 기록되지 않음)
+ * - until 을 주면 그 시각까지의 기록만 적용 (특정 시점으로 되돌리기)
+ * - 전체가 한 트랜잭션이라 도중에 실패하면 기존 데이터가 그대로 남음
+ */
+@Service
+public class JournalReplayService {
+
+    private static final Logger log = LoggerFactory.getLogger(JournalReplayService.class);
+
+    // 저널을 디스크에 반영할 때까지 기다리는 최대 시간
+    private static final long FLUSH_TIMEOUT_MILLIS = 10_000;
+
+    @Autowired
+    private ChangeJournal changeJournal;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 재생 실행 - 테이블별 적용 건수 (until 이 null 이면 전체)
+     */
+    public Map<String, Integer> replay(LocalDateTime until) {
+        if (!changeJournal.isEnabled()) {
+            throw new IllegalStateException("변경 저널이 꺼져 있습니다.");
+        }
+        if (!changeJournal.flush(FLUSH_TIMEOUT_MILLIS)) {
+            throw new IllegalStateException("저널 기록이 끝나지 않아 재생할 수 없습니다.");
+        }
+        long untilMillis = until == null ? Long.MAX_VALUE
+            : until.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        Map<JournalTable, Integer> applied = new EnumMap<>(JournalTable.class);
+        transactionTemplate.executeWithoutResult(status -> {
+            for (JournalTable table : JournalTable.values()) {
+                jdbcTemplate.update("DELETE FROM " + table.getTableName());
+                applied.put(table, 0);
+            }
+            try {
+                changeJournal.forEach(record -> {
+                    if (record.getTimestamp() <= untilMillis) {
+                        apply(record);
+                        applied.merge(record.getTable(), 1, Integer::sum);
+                    }
+                });
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            restartUserScheduleIdentity();
+        });
+
+        for (String resource : List.of(DataVersionService.RAID, DataVersionService.CHARACTORS, DataVersionService.USER,
+                DataVersionService.SCHEDULE, DataVersionService.USER_SCHEDULE)) {
+            dataVersionService.bump(resource);
+        }
+
+        Map<String, Integer> result = new LinkedHashMap<>();
+        applied.forEach((table, count) -> result.put(table.getTableName(), count));
+        log.info("변경 저널 재생 완료 (기준 시각 {}): {}", until == null ? "전체" : until, result);
+        return result;
+    }
+
+    private void apply(JournalRecord record) {
+        JournalTable table = record.getTable();
+        List<Column> columns = table.getColumns();
+        switch (record.getOp()) {
+            case UPSERT -> {
+                // 키로 지운 뒤 삽입
+                List<Object> keyArgs = new ArrayList<>();
+                StringBuilder where = new StringBuilder();
+                for (int i = 0; i < table.getKeyColumns(); i++) {
+                    appendCondition(where, columns.get(i).getName() + " = ?");
+                    keyArgs.add(toJdbc(record.setValue(i)));
+                }
+                jdbcTemplate.update("DELETE FROM " + table.getTableName() + where, keyArgs.toArray());
+
+                StringBuilder names = new StringBuilder();
+                StringBuilder marks = new StringBuilder();
+                Object[] values = new Object[columns.size()];
+                for (int i = 0; i < columns.size(); i++) {
+                    names.append(i == 0 ? "" : ", ").append(columns.get(i).getName());
+                    marks.append(i == 0 ? "?" : ", ?");
+                    values[i] = toJdbc(record.setValue(i));
+                }
+                jdbcTemplate.update("INSERT INTO " + table.getTableName() + " (" + names + ") VALUES (" + marks + ")", values);
+            }
+            case DELETE -> {
+                List<Object> args = new ArrayList<>();
+                String where = whereClause(record, columns, args);
+                jdbcTemplate.update("DELETE FROM " + table.getTableName() + where, args.toArray());
+            }
+            case UPDATE -> {
+                List<Object> args = new ArrayList<>();
+                StringBuilder set = new StringBuilder();
+                for (int i = 0; i < columns.size(); i++) {
+                    if (record.hasSet(i)) {
+                        set.append(set.length() == 0 ? " SET " : ", ").append(columns.get(i).getName()).append(" = ?");
+                        args.add(toJdbc(record.setValue(i)));
+                    }
+                }
+                String where = whereClause(record, columns, args);
+                jdbcTemplate.update("UPDATE " + table.getTableName() + set + where, args.toArray());
+            }
+        }
+    }
+
+    private static String whereClause(JournalRecord record, List<Column> columns, List<Object> args) {
+        StringBuilder where = new StringBuilder();
+        for (int i = 0; i < columns.size(); i++) {
+            if (!record.hasWhere(i)) {
+                continue;
+            }
+            String name = columns.get(i).getName();
+            Object value = record.whereValue(i);
+            if (value == null) {
+                appendCondition(where, name + " IS NULL");
+            } else {
+                appendCondition(where, name + (record.isLess(i) ? " < ?" : " = ?"));
+                args.add(toJdbc(value));
+            }
+        }
+        return where.toString();
+    }
+
+    private static void appendCondition(StringBuilder where, String condition) {
+        where.append(where.length() == 0 ? " WHERE " : " AND ").append(condition);
+    }
+
+    private static Object toJdbc(Object value) {
+        if (value instanceof LocalDate date) {
+            return Date.valueOf(date);
+        }
+        if (value instanceof LocalDateTime dateTime) {
+            return Timestamp.valueOf(dateTime);
+        }
+        return value;
+    }
+
+    /**
+     * H2 는 id 를 직접 넣어도 IDENTITY 값이 따라오지 않으므로 최대값 다음으로 맞춤 (MariaDB 는 자동으로 맞춰짐)
+     */
+    private void restartUserScheduleIdentity() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+            connection.getMetaData().getDatabaseProductName());
+        if (!"H2".equalsIgnoreCase(product)) {
+            return;
+        }
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM user_schedule", Long.class);
+        jdbcTemplate.execute("ALTER TABLE user_schedule ALTER COLUMN id RESTART WITH " + (maxId + 1));
+    }
+}
@@ -0,0 +1,170 @@
+package com.loa.scheduler.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 목록 조회 응답 캐시 - 직렬화 후 gzip 으로 압축한 JSON 바이트를 (조회 키, 데이터 버전) 별로 보관
+ * - 조회 키마다 가장 최근 버전 하나만 보관하고, 쓰기로 버전이 바뀌면 다음 조회에서 버린다.
+ * - 보관 바이트 합계가 response-cache.max-bytes 를 넘으면 오래된 항목부터 제거
+ * - 다른 인스턴스의 쓰기나 복제본 지연은 버전에 반영되지 않으므로 response-cache.max-age-ms 가 지나면 다시 조회
+ */
+@Component
+public class JsonResponseCache {
+
+    private final Map<String, CachedBody> entries = new ConcurrentHashMap<>();
+    private final AtomicLong totalBytes = new AtomicLong();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private final boolean enabled;
+    private final long maxBytes;
+    private final long maxAgeNanos;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    public JsonResponseCache(
+            MeterRegistry meterRegistry,
+            @Value("${response-cache.enabled:true}") boolean enabled,
+            @Value("${response-cache.max-bytes:8388608}") long maxBytes,
+            @Value("${response-cache.max-age-ms:10000}") long maxAgeMs) {
+        this.enabled = enabled;
+        this.maxBytes = maxBytes;
+        this.maxAgeNanos = TimeUnit.MILLISECONDS.toNanos(maxAgeMs);
+
+        Gauge.builder("http.server.response_cache.bytes", totalBytes, AtomicLong::get)
+            .description("목록 조회 응답 캐시가 보관 중인 압축 바이트 수")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        Gauge.builder("http.server.response_cache.entries", entries, Map::size)
+            .description("목록 조회 응답 캐시 항목 수")
+            .register(meterRegistry);
+        this.hitCounter = Counter.builder("http.server.response_cache.requests").tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder("http.server.response_cache.requests").tag("result", "miss").register(meterRegistry);
+        this.evictionCounter = Counter.builder("http.server.response_cache.evictions")
+            .description("용량 초과로 제거된 응답 캐시 항목 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 해당 버전의 응답 조회 - 없거나 버전/유효 시간이 지난 항목이면 null
+     */
+    public CachedBody get(String key, long version) {
+        if (!enabled) {
+            return null;
+        }
+        CachedBody body = entries.get(key);
+        if (body == null) {
+            missCounter.increment();
+            return null;
+        }
+        if (body.version != version || System.nanoTime() - body.createdNanos > maxAgeNanos) {
+            remove(key, body);
+            missCounter.increment();
+            return null;
+        }
+        hitCounter.increment();
+        return body;
+    }
+
+    /**
+     * 응답 보관 - 이미 더 최신 버전이 있으면 보관하지 않음
+     */
+    public void put(String key, CachedBody body) {
+        if (!enabled || body.gzipped.length > maxBytes) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            CachedBody previous = entries.get(key);
+            if (previous != null && previous.version > body.version) {
+                return;
+            }
+            if (previous != null) {
+                remove(key, previous);
+            }
+            while (totalBytes.get() + body.gzipped.length > maxBytes && !entries.isEmpty()) {
+                evictOldest();
+            }
+            entries.put(key, body);
+            totalBytes.addAndGet(body.gzipped.length);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void clear() {
+        writeLock.lock();
+        try {
+            entries.clear();
+            totalBytes.set(0);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public long totalBytes() {
+        return totalBytes.get();
+    }
+
+    private void remove(String key, CachedBody body) {
+        if (entries.remove(key, body)) {
+            totalBytes.addAndGet(-body.gzipped.length);
+        }
+    }
+
+    private void evictOldest() {
+        entries.entrySet().stream()
+            .min(Comparator.comparingLong(entry -> entry.getValue().createdNanos))
+            .ifPresent(entry -> {
+                remove(entry.getKey(), entry.getValue());
+                evictionCounter.increment();
+            });
+    }
+
+    /**
+     * 압축된 JSON 응답 본문
+     */
+    public static final class CachedBody {
+        private final long version;
+        private final byte[] gzipped;
+        private final int length;
+        private final long createdNanos = System.nanoTime();
+
+        private CachedBody(long version, byte[] gzipped, int length) {
+            this.version = version;
+            this.gzipped = gzipped;
+            this.length = length;
+        }
+
+        public static CachedBody of(long version, byte[] json) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(json.length / 4, 64));
+            try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+                gzip.write(json);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return new CachedBody(version, buffer.toByteArray(), json.length);
+        }
+
+        public long getVersion() { return version; }
+        public byte[] getGzipped() { return gzipped; }
+        /** 압축 전 JSON 바이트 수 */
+        public int getLength() { return length; }
+    }
+}
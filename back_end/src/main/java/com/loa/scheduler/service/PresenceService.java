@@ -0,0 +1,255 @@
+package com.loa.scheduler.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * 접속 현황 (누가 어느 파티/레이드/스케줄 칸/유저 일정을 보고 있거나 편집 중인지) - 메모리에만 보관
+ * - 탭(sessionId)마다 하나의 항목, 마지막 갱신 후 TTL 이 지나면 만료
+ * - 갱신 순서로 연결된 LinkedHashMap 이라 갱신, 만료, 용량 초과 제거가 모두 O(1) (가장 오래된 항목이 맨 앞)
+ * - 바뀐 항목만 모아두었다가 SSE 하트비트 때 변경분(delta)으로 전송 (전체 목록은 처음 접속 시 조회)
+ *
+ * 변경분 형식: {"seq":12,"set":[["sessionId","유저","e","schedule:1파티-카멘"]],"del":["sessionId"]}
+ *            (모드 v = 보는 중, e = 편집 중) 또는 모아둔 변경이 너무 많으면 {"seq":13,"reset":true} → 전체 목록 다시 조회
+ */
+@Service
+public class PresenceService {
+
+    public static final String MODE_VIEWING = "v";
+    public static final String MODE_EDITING = "e";
+
+    // 대상: 종류:이름 (예: party:1파티, raid:카멘, schedule:1파티-카멘, user-schedule:혀니-월)
+    private static final Pattern TARGET = Pattern.compile("^(board|party|raid|schedule|user-schedule):[^\\u0000-\\u001f]{1,100}$");
+
+    private static final ObjectMapper deltaMapper = new ObjectMapper();
+
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final int maxPending;
+
+    // sessionId -> 항목 (갱신 순서, 맨 앞이 가장 오래 갱신되지 않은 항목)
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    // 마지막 전송 이후 바뀐 항목 (null 값은 삭제)
+    private final LinkedHashMap<String, Entry> pending = new LinkedHashMap<>();
+    private boolean reset = false;
+    private long seq = 0;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Counter expiredCounter;
+    private final Counter evictedCounter;
+
+    public PresenceService(
+            MeterRegistry meterRegistry,
+            @Value("${presence.ttl-seconds:90}") long ttlSeconds,
+            @Value("${presence.max-entries:500}") int maxEntries,
+            @Value("${presence.max-pending:1000}") int maxPending) {
+        this.ttlMillis = ttlSeconds * 1000L;
+        this.maxEntries = maxEntries;
+        this.maxPending = maxPending;
+        Gauge.builder("presence.entries", this, PresenceService::size)
+            .description("접속 현황 항목 수")
+            .register(meterRegistry);
+        this.expiredCounter = Counter.builder("presence.removed").tag("reason", "expired").register(meterRegistry);
+        this.evictedCounter = Counter.builder("presence.removed").tag("reason", "capacity").register(meterRegistry);
+    }
+
+    /**
+     * 항목 갱신 - 내용이 바뀌었으면 true (같은 내용이면 만료 시각만 연장)
+     */
+    public boolean update(String sessionId, String user, String mode, String target) {
+        validate(sessionId, user, mode, target);
+        long now = System.currentTimeMillis();
+        lock.lock();
+        try {
+            Entry previous = entries.get(sessionId);
+            Entry entry = new Entry(sessionId, user, mode, target, now + ttlMillis);
+            entries.put(sessionId, entry);
+            if (previous != null && previous.sameAs(entry)) {
+                return false;
+            }
+            markChanged(sessionId, entry);
+            if (previous == null && entries.size() > maxEntries) {
+                // 용량 초과 - 가장 오래 갱신되지 않은 항목 제거
+                Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+                String evicted = eldest.next().getKey();
+                eldest.remove();
+                markChanged(evicted, null);
+                evictedCounter.increment();
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 항목 삭제 (탭 종료) - 있었으면 true
+     */
+    public boolean leave(String sessionId) {
+        lock.lock();
+        try {
+            if (entries.remove(sessionId) == null) {
+                return false;
+            }
+            markChanged(sessionId, null);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 전체 목록과 현재 변경분 번호 - 이후 seq + 1 부터의 변경분을 적용하면 됨
+     */
+    public Map<String, Object> snapshot() {
+        lock.lock();
+        try {
+            expire(System.currentTimeMillis());
+            List<List<String>> list = new ArrayList<>(entries.size());
+            for (Entry entry : entries.values()) {
+                list.add(entry.compact());
+            }
+            Map<String, Object> snapshot = new LinkedHashMap<>();
+            snapshot.put("seq", seq);
+            snapshot.put("entries", list);
+            return snapshot;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 만료 처리 후 모아둔 변경분을 꺼냄 (하트비트마다 호출) - 바뀐 것이 없으면 null
+     */
+    public String drainDelta() {
+        Map<String, Object> delta = new LinkedHashMap<>();
+        lock.lock();
+        try {
+            expire(System.currentTimeMillis());
+            if (pending.isEmpty() && !reset) {
+                return null;
+            }
+            delta.put("seq", ++seq);
+            if (reset) {
+                delta.put("reset", true);
+            } else {
+                List<List<String>> set = new ArrayList<>();
+                List<String> del = new ArrayList<>();
+                pending.forEach((sessionId, entry) -> {
+                    if (entry == null) {
+                        del.add(sessionId);
+                    } else {
+                        set.add(entry.compact());
+                    }
+                });
+                if (!set.isEmpty()) {
+                    delta.put("set", set);
+                }
+                if (!del.isEmpty()) {
+                    delta.put("del", del);
+                }
+            }
+            pending.clear();
+            reset = false;
+        } finally {
+            lock.unlock();
+        }
+        try {
+            return deltaMapper.writeValueAsString(delta);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("접속 현황 변경분 생성 실패", e);
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 맨 앞부터 만료된 항목 제거 - 갱신 순서라 만료되지 않은 항목을 만나면 멈춤
+     */
+    private void expire(long now) {
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Entry> eldest = iterator.next();
+            if (eldest.getValue().expiresAt > now) {
+                break;
+            }
+            iterator.remove();
+            markChanged(eldest.getKey(), null);
+            expiredCounter.increment();
+        }
+    }
+
+    private void markChanged(String sessionId, Entry entry) {
+        if (reset) {
+            return;
+        }
+        pending.put(sessionId, entry);
+        if (pending.size() > maxPending) {
+            // 변경분이 너무 많으면 목록 대신 전체 재조회 안내 (메모리 상한 유지)
+            pending.clear();
+            reset = true;
+        }
+    }
+
+    private static void validate(String sessionId, String user, String mode, String target) {
+        if (sessionId == null || sessionId.isBlank() || sessionId.length() > 64) {
+            throw new IllegalArgumentException("sessionId 가 올바르지 않습니다.");
+        }
+        if (user == null || user.isBlank() || user.length() > 32) {
+            throw new IllegalArgumentException("user 가 올바르지 않습니다.");
+        }
+        if (!MODE_VIEWING.equals(mode) && !MODE_EDITING.equals(mode)) {
+            throw new IllegalArgumentException("mode 는 v(보는 중) 또는 e(편집 중)여야 합니다.");
+        }
+        if (target == null || !TARGET.matcher(target).matches()) {
+            throw new IllegalArgumentException("target 이 올바르지 않습니다: " + target);
+        }
+    }
+
+    private static final class Entry {
+        private final String sessionId;
+        private final String user;
+        private final String mode;
+        private final String target;
+        private final long expiresAt;
+
+        private Entry(String sessionId, String user, String mode, String target, long expiresAt) {
+            this.sessionId = sessionId;
+            this.user = user;
+            this.mode = mode;
+            this.target = target;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean sameAs(Entry other) {
+            return user.equals(other.user) && mode.equals(other.mode) && Objects.equals(target, other.target);
+        }
+
+        private List<String> compact() {
+            return List.of(sessionId, user, mode, target);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.loa.scheduler.service;
+
+import com.loa.scheduler.util.TokenBucketLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 속도 제한 - 클라이언트 IP 와 엔드포인트 종류(조회/쓰기/SSE·웹소켓 연결)별 토큰 버킷
+ * REST 요청은 RateLimitFilter 가, 필터를 거치지 않는 웹소켓 편집 명령은 EditSocketHandler 가 같은 버킷을 사용한다.
+ */
+@Service
+public class RateLimitService {
+
+    public enum EndpointClass { READ, WRITE, STREAM }
+
+    private final boolean enabled;
+    private final Map<EndpointClass, TokenBucketLimiter> limiters = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> allowedCounters = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> rejectedCounters = new EnumMap<>(EndpointClass.class);
+
+    public RateLimitService(
+            MeterRegistry meterRegistry,
+            @Value("${rate-limit.enabled:true}") boolean enabled,
+            @Value("${rate-limit.read.permits-per-second:20}") double readRate,
+            @Value("${rate-limit.read.burst:60}") int readBurst,
+            @Value("${rate-limit.write.permits-per-second:10}") double writeRate,
+            @Value("${rate-limit.write.burst:30}") int writeBurst,
+            @Value("${rate-limit.stream.permits-per-second:0.5}") double streamRate,
+            @Value("${rate-limit.stream.burst:10}") int streamBurst,
+            @Value("${rate-limit.max-buckets:10000}") int maxBuckets,
+            @Value("${rate-limit.stripes:16}") int stripes) {
+        this.enabled = enabled;
+        limiters.put(EndpointClass.READ, new TokenBucketLimiter(readRate, readBurst, maxBuckets, stripes));
+        limiters.put(EndpointClass.WRITE, new TokenBucketLimiter(writeRate, writeBurst, maxBuckets, stripes));
+        limiters.put(EndpointClass.STREAM, new TokenBucketLimiter(streamRate, streamBurst, maxBuckets, stripes));
+
+        limiters.forEach((endpointClass, limiter) -> {
+            String tag = endpointClass.name().toLowerCase(Locale.ROOT);
+            allowedCounters.put(endpointClass,
+                Counter.builder("ratelimit.requests").tag("class", tag).tag("result", "allowed").register(meterRegistry));
+            rejectedCounters.put(endpointClass,
+                Counter.builder("ratelimit.requests").tag("class", tag).tag("result", "rejected").register(meterRegistry));
+            Gauge.builder("ratelimit.buckets", limiter, TokenBucketLimiter::size)
+                .tag("class", tag)
+                .description("클라이언트별 토큰 버킷 수")
+                .register(meterRegistry);
+            FunctionCounter.builder("ratelimit.buckets.evicted", limiter, TokenBucketLimiter::evictedCount)
+                .tag("class", tag)
+                .register(meterRegistry);
+            FunctionCounter.builder("ratelimit.buckets.overflow", limiter, TokenBucketLimiter::overflowCount)
+                .tag("class", tag)
+                .description("버킷 수 상한으로 공용 버킷을 사용한 요청 수")
+                .register(meterRegistry);
+        });
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 토큰 하나 사용 - 허용이면 0, 거부면 재시도까지 기다릴 시간(초)
+     */
+    public long tryAcquire(EndpointClass endpointClass, String clientIp) {
+        if (!enabled) {
+            return 0;
+        }
+        long waitNanos = limiters.get(endpointClass).tryAcquire(clientIp);
+        if (waitNanos == 0) {
+            allowedCounters.get(endpointClass).increment();
+            return 0;
+        }
+        rejectedCounters.get(endpointClass).increment();
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+    }
+
+    public static String rejectionMessage(long retryAfterSeconds) {
+        return "요청이 너무 많습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요.";
+    }
+
+    /**
+     * 한동안 요청이 없어 가득 찬 버킷 정리 (메모리 반환)
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.evict-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        if (!enabled) {
+            return;
+        }
+        limiters.values().forEach(TokenBucketLimiter::evictIdle);
+    }
+}
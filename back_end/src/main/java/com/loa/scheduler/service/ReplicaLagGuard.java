@@ -0,0 +1,66 @@
+package com.loa.scheduler.service;
+
+import com.loa.scheduler.config.ClientIpResolver;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 복제 지연 대비 - 쓰기를 한 클라이언트를 잠시 primary 에 고정
+ * 쓰기 직후 같은 클라이언트의 재조회가 아직 반영되지 않은 복제본을 읽지 않도록 한다.
+ * 클라이언트는 X-Client-Id 헤더, 없으면 IP 로 구분한다.
+ */
+@Service
+@Profile("replica")
+public class ReplicaLagGuard {
+
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+
+    // 클라이언트 -> 고정 만료 시각 (ms)
+    private final ConcurrentHashMap<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    @Autowired
+    private ClientIpResolver clientIpResolver;
+
+    @Value("${replica.pin-window-ms:3000}")
+    private long pinWindowMillis;
+
+    public String clientKey(HttpServletRequest request) {
+        String clientId = request.getHeader(CLIENT_ID_HEADER);
+        if (clientId != null && !clientId.isBlank()) {
+            return "id:" + clientId.trim();
+        }
+
+        return "ip:" + clientIpResolver.resolve(request);
+    }
+
+    public boolean isPinned(String clientKey) {
+        Long until = pinnedUntil.get(clientKey);
+        if (until == null) {
+            return false;
+        }
+        if (until <= System.currentTimeMillis()) {
+            pinnedUntil.remove(clientKey, until);
+            return false;
+        }
+        return true;
+    }
+
+    public void recordWrite(String clientKey) {
+        pinnedUntil.put(clientKey, System.currentTimeMillis() + pinWindowMillis);
+    }
+
+    /**
+     * 만료된 고정 정리 (다시 요청하지 않은 클라이언트)
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        pinnedUntil.values().removeIf(until -> until <= now);
+    }
+}
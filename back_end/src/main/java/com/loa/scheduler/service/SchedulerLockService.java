@@ -0,0 +1,256 @@
+package com.loa.scheduler.service;
+
+import com.loa.scheduler.entity.SchedulerLock;
+import com.loa.scheduler.repository.SchedulerLockRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * DB 기반 스케줄 작업 리더 잠금
+ * - 여러 인스턴스 중 잠금을 가져간 한 노드만 작업을 실행
+ * - 잠금은 lease 방식 (DB 행 잠금이나 커넥션을 작업 동안 잡고 있지 않음)
+ * - 작업 중에는 별도 스레드가 lease/3 간격으로 짧은 트랜잭션으로 연장
+ * - fencing token 으로 lease 를 잃은 뒤의 늦은 쓰기를 막을 수 있음 (쓰기 트랜잭션 안에서 fence 호출)
+ *
+ * lease 시각은 각 노드의 시계를 사용하므로 노드 간 시계 차이보다 lease 를 충분히 길게 잡는다.
+ */
+@Service
+public class SchedulerLockService {
+
+    private static final Logger log = LoggerFactory.getLogger(SchedulerLockService.class);
+
+    @Autowired
+    private SchedulerLockRepository schedulerLockRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // 노드 식별자 (미설정 시 호스트명 + 임의값, 같은 JVM 의 컨텍스트끼리도 구분됨)
+    @Value("${scheduler-lock.owner:}")
+    private String configuredOwner;
+
+    private String owner;
+
+    private TransactionTemplate transactionTemplate;
+
+    // lease 연장 전용 스레드
+    private final ScheduledExecutorService renewalScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "scheduler-lock-renewal");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        owner = (configuredOwner == null || configuredOwner.isBlank()) ? defaultOwner() : configuredOwner;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        renewalScheduler.shutdownNow();
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    /**
+     * 잠금 획득 시도 - 다른 노드가 유효한 lease 를 가지고 있으면 빈 값
+     */
+    public Optional<LockLease> tryAcquire(String name, Duration lease) {
+        long now = System.currentTimeMillis();
+        Integer updated = transactionTemplate.execute(status ->
+            schedulerLockRepository.acquire(name, owner, now, now + lease.toMillis()));
+
+        if (updated == null || updated == 0) {
+            if (!createLockRowIfAbsent(name)) {
+                return Optional.empty();
+            }
+            // 행을 새로 만들었으면 한 번 더 시도
+            long retryNow = System.currentTimeMillis();
+            updated = transactionTemplate.execute(status ->
+                schedulerLockRepository.acquire(name, owner, retryNow, retryNow + lease.toMillis()));
+            if (updated == null || updated == 0) {
+                return Optional.empty();
+            }
+        }
+
+        Optional<Long> token = transactionTemplate.execute(status ->
+            schedulerLockRepository.findValidToken(name, owner, System.currentTimeMillis()));
+        return token.map(value -> new LockLease(name, owner, value, lease));
+    }
+
+    /**
+     * lease 연장 - 이미 다른 노드가 가져갔으면 false
+     */
+    public boolean renew(LockLease lease) {
+        long now = System.currentTimeMillis();
+        Integer updated = transactionTemplate.execute(status -> schedulerLockRepository.renew(
+            lease.getName(), lease.getOwner(), lease.getToken(), now, now + lease.getDuration().toMillis()));
+        boolean renewed = updated != null && updated > 0;
+        if (!renewed) {
+            lease.markLost();
+        }
+        return renewed;
+    }
+
+    /**
+     * 잠금 해제
+     */
+    public void release(LockLease lease) {
+        transactionTemplate.executeWithoutResult(status ->
+            schedulerLockRepository.release(lease.getName(), lease.getOwner(), lease.getToken()));
+        lease.markLost();
+    }
+
+    /**
+     * fencing 확인 - 아직 이 lease 가 유효한지 DB 에서 확인
+     */
+    public boolean isHeld(LockLease lease) {
+        if (lease.isLost()) {
+            return false;
+        }
+        Optional<Long> token = transactionTemplate.execute(status -> schedulerLockRepository.findValidToken(
+            lease.getName(), lease.getOwner(), System.currentTimeMillis()));
+        boolean held = token.isPresent() && token.get() == lease.getToken();
+        if (!held) {
+            lease.markLost();
+        }
+        return held;
+    }
+
+    /**
+     * 호출한 트랜잭션 안에서 fencing 확인 - token 이 같을 때만 lease 를 연장하고,
+     * 이 UPDATE 가 잠금 행을 커밋까지 잡고 있어 그동안 다른 노드가 잠금을 가져가지 못함
+     * @throws IllegalStateException lease 를 잃었으면 (트랜잭션 롤백)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void fence(LockLease lease) {
+        long now = System.currentTimeMillis();
+        int updated = lease.isLost() ? 0 : schedulerLockRepository.renew(
+            lease.getName(), lease.getOwner(), lease.getToken(), now, now + lease.getDuration().toMillis());
+        if (updated == 0) {
+            lease.markLost();
+            throw new IllegalStateException("스케줄 잠금을 잃었습니다 [" + lease.getName() + "] (token " + lease.getToken() + ")");
+        }
+    }
+
+    /**
+     * 잠금을 획득한 경우에만 작업 실행 (작업 중 lease 자동 연장, 종료 시 해제)
+     * @return 작업을 실행했으면 true, 다른 노드가 잠금을 가지고 있으면 false
+     */
+    public boolean runExclusive(String name, Duration lease, Consumer<LockLease> task) {
+        Optional<LockLease> acquired = tryAcquire(name, lease);
+        if (acquired.isEmpty()) {
+            return false;
+        }
+
+        LockLease lockLease = acquired.get();
+        long renewIntervalMillis = Math.max(lease.toMillis() / 3, 1);
+        AtomicReference<ScheduledFuture<?>> renewal = new AtomicReference<>();
+        renewal.set(renewalScheduler.scheduleAtFixedRate(() -> {
+            try {
+                if (!renew(lockLease)) {
+                    // 다른 노드가 가져간 잠금은 다시 연장하지 않음 (작업은 다음 fence 에서 중단됨)
+                    log.warn("스케줄 잠금을 잃어 연장을 중단합니다 [{}] (token {})", name, lockLease.getToken());
+                    renewal.get().cancel(false);
+                }
+            } catch (Exception e) {
+                log.warn("스케줄 잠금 연장 실패 [{}]: {}", name, e.getMessage());
+            }
+        }, renewIntervalMillis, renewIntervalMillis, TimeUnit.MILLISECONDS));
+
+        try {
+            task.accept(lockLease);
+            return true;
+        } finally {
+            renewal.get().cancel(false);
+            try {
+                release(lockLease);
+            } catch (Exception e) {
+                log.warn("스케줄 잠금 해제 실패 [{}]: {}", name, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 잠금 행이 없으면 생성 - 새로 만들었거나 동시에 다른 노드가 만들었으면 true
+     */
+    private boolean createLockRowIfAbsent(String name) {
+        try {
+            Boolean exists = transactionTemplate.execute(status -> schedulerLockRepository.existsById(name));
+            if (Boolean.TRUE.equals(exists)) {
+                return false;
+            }
+            transactionTemplate.executeWithoutResult(status ->
+                schedulerLockRepository.saveAndFlush(new SchedulerLock(name)));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return true;
+        }
+    }
+
+    private static String defaultOwner() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + ":" + UUID.randomUUID();
+    }
+
+    /**
+     * 획득한 잠금 정보
+     */
+    public static class LockLease {
+        private final String name;
+        private final String owner;
+        private final long token;
+        private final Duration duration;
+        private volatile boolean lost;
+
+        LockLease(String name, String owner, long token, Duration duration) {
+            this.name = name;
+            this.owner = owner;
+            this.token = token;
+            this.duration = duration;
+        }
+
+        public String getName() { return name; }
+        public String getOwner() { return owner; }
+        public long getToken() { return token; }
+        public Duration getDuration() { return duration; }
+
+        // 연장 실패 등으로 lease 를 잃었는지 (DB 확인 없이 빠르게 판단)
+        public boolean isLost() { return lost; }
+
+        void markLost() {
+            this.lost = true;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.loa.scheduler.service;
+
+import com.loa.scheduler.util.RequestTrace;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 완료된 요청 trace 보관 (로컬 exporter)
+ * - 최근 요청 ring buffer (잠금 없음)
+ * - 가장 느린 N개 요청 (구간 트리 포함)
+ * - 기준 시간을 넘은 요청은 구간별 소요 시간을 로그로 남김
+ */
+@Component
+public class TraceCollector {
+
+    private static final Logger traceLog = LoggerFactory.getLogger("com.loa.scheduler.trace");
+
+    private final AtomicReferenceArray<RequestTrace> recent;
+    private final AtomicLong recentIndex = new AtomicLong();
+
+    private final int slowestSize;
+    private final PriorityQueue<RequestTrace> slowest; // 가장 빠른 요청이 head
+    private final ReentrantLock slowestLock = new ReentrantLock();
+    // 목록이 가득 찼을 때 이보다 빠른 요청은 잠금 없이 건너뜀
+    private volatile long slowestThresholdNanos;
+
+    private final long logThresholdNanos;
+
+    public TraceCollector(
+            @Value("${tracing.recent-size:100}") int recentSize,
+            @Value("${tracing.slowest-size:20}") int slowestSize,
+            @Value("${tracing.log-threshold-ms:1000}") long logThresholdMs) {
+        this.recent = new AtomicReferenceArray<>(Math.max(recentSize, 1));
+        this.slowestSize = Math.max(slowestSize, 1);
+        this.slowest = new PriorityQueue<>(this.slowestSize + 1, Comparator.comparingLong(RequestTrace::getDurationNanos));
+        this.logThresholdNanos = logThresholdMs * 1_000_000L;
+    }
+
+    public void offer(RequestTrace trace) {
+        recent.set((int) (recentIndex.getAndIncrement() % recent.length()), trace);
+
+        long duration = trace.getDurationNanos();
+        if (duration > slowestThresholdNanos) {
+            slowestLock.lock();
+            try {
+                slowest.add(trace);
+                if (slowest.size() > slowestSize) {
+                    slowest.poll();
+                }
+                if (slowest.size() == slowestSize) {
+                    slowestThresholdNanos = slowest.peek().getDurationNanos();
+                }
+            } finally {
+                slowestLock.unlock();
+            }
+        }
+
+        if (duration >= logThresholdNanos && traceLog.isInfoEnabled()) {
+            traceLog.info("느린 요청 [{}] {} {} {}ms {}", trace.getCorrelationId(), trace.getMethod(), trace.getUri(),
+                duration / 1_000_000, trace.phaseMillis());
+        }
+    }
+
+    /**
+     * 느린 순서로 정렬된 요청 목록
+     */
+    public List<RequestTrace> getSlowest() {
+        List<RequestTrace> result;
+        slowestLock.lock();
+        try {
+            result = new ArrayList<>(slowest);
+        } finally {
+            slowestLock.unlock();
+        }
+        result.sort(Comparator.comparingLong(RequestTrace::getDurationNanos).reversed());
+        return result;
+    }
+
+    /**
+     * 최근 요청 (최신 순)
+     */
+    public List<RequestTrace> getRecent() {
+        List<RequestTrace> result = new ArrayList<>(recent.length());
+        long end = recentIndex.get();
+        for (long i = end - 1; i >= Math.max(end - recent.length(), 0); i--) {
+            RequestTrace trace = recent.get((int) (i % recent.length()));
+            if (trace != null) {
+                result.add(trace);
+            }
+        }
+        return result;
+    }
+
+    public void clear() {
+        slowestLock.lock();
+        try {
+            slowest.clear();
+            slowestThresholdNanos = 0;
+        } finally {
+            slowestLock.unlock();
+        }
+        for (int i = 0; i < recent.length(); i++) {
+            recent.set(i, null);
+        }
+    }
+}
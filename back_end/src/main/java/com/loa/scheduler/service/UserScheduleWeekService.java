@@ -0,0 +1,94 @@
+package com.loa.scheduler.service;
+
+import com.loa.scheduler.repository.UserScheduleRepository;
+import com.loa.scheduler.util.JournalRecord;
+import com.loa.scheduler.util.JournalTable;
+import com.loa.scheduler.util.RaidWeek;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * 유저 일정 주차 관리
+ * 일정은 레이드 주차 시작일(week_start)로 저장되고, 현재/다음 주차는 조회 시점에 계산한다.
+ * 따라서 주차 전환 때 행을 옮기지 않고, 보관 기간이 지난 주차만 정리한다.
+ */
+@Service
+public class UserScheduleWeekService {
+
+    private static final Logger log = LoggerFactory.getLogger(UserScheduleWeekService.class);
+
+    @Autowired
+    private UserScheduleRepository userScheduleRepository;
+
+    @Autowired
+    private ChangeJournal changeJournal;
+
+    // 현재 주차부터 몇 주차까지 조회/저장 가능한지 (기본 2 = 이번 주, 다음 주)
+    @Value("${user-schedule.horizon-weeks:2}")
+    private int horizonWeeks;
+
+    // 지난 주차 보관 기간 (주)
+    @Value("${user-schedule.retention-weeks:8}")
+    private int retentionWeeks;
+
+    public LocalDate currentWeekStart() {
+        return RaidWeek.currentWeekStart();
+    }
+
+    /**
+     * 조회 범위의 마지막 주차 시작일
+     */
+    public LocalDate lastVisibleWeekStart(LocalDate currentWeekStart) {
+        return RaidWeek.weekStartOfSlot(horizonWeeks, currentWeekStart);
+    }
+
+    /**
+     * 상대 주차 번호(1 = 이번 주)를 주차 시작일로 변환 - 범위를 벗어나면 빈 값
+     */
+    public Optional<LocalDate> weekStartOfSlot(Integer weekNumber) {
+        int slot = weekNumber != null ? weekNumber : 1;
+        if (slot < 1 || slot > horizonWeeks) {
+            return Optional.empty();
+        }
+        return Optional.of(RaidWeek.weekStartOfSlot(slot, currentWeekStart()));
+    }
+
+    /**
+     * 이 날짜 이전 주차는 삭제 대상
+     */
+    public LocalDate purgeCutoff(LocalDate currentWeekStart) {
+        return currentWeekStart.minusWeeks(retentionWeeks);
+    }
+
+    /**
+     * 기동 시 week_start 가 없는 기존 데이터 이관
+     * 기존 week_number 는 마지막 주차 전환 기준의 상대 주차이므로 현재 주차 기준으로 변환
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillWeekStart() {
+        LocalDate current = currentWeekStart();
+        int migrated = 0;
+        for (int slot = 1; slot <= Math.max(horizonWeeks, 2); slot++) {
+            LocalDate weekStart = RaidWeek.weekStartOfSlot(slot, current);
+            int count = userScheduleRepository.assignWeekStartToLegacy(slot, weekStart);
+            if (count > 0) {
+                changeJournal.record(JournalRecord.update(JournalTable.USER_SCHEDULE)
+                    .where("week_start", null).where("week_number", slot).set("week_start", weekStart));
+            }
+            migrated += count;
+        }
+        if (migrated > 0) {
+            log.info("유저 일정 week_start 이관 완료: {}건", migrated);
+        }
+    }
+}
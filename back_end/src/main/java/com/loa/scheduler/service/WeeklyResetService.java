@@ -0,0 +1,345 @@
+package com.loa.scheduler.service;
+
+import com.loa.scheduler.entity.WeeklyResetRun;
+import com.loa.scheduler.repository.BoardClockRepository;
+import com.loa.scheduler.repository.ScheduleRepository;
+import com.loa.scheduler.repository.UserScheduleRepository;
+import com.loa.scheduler.repository.WeeklyResetRunRepository;
+import com.loa.scheduler.service.SchedulerLockService.LockLease;
+import com.loa.scheduler.util.JournalRecord;
+import com.loa.scheduler.util.JournalTable;
+import com.loa.scheduler.util.RaidWeek;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 주간 초기화 엔진
+ * - 지난 주차 기록 보관, 레이드 완료 상태 초기화, 보관 기간이 지난 유저 일정 정리를 한 곳에서 처리
+ *   (유저 일정은 주차 시작일로 저장되므로 주차 전환 자체는 행을 옮기지 않음)
+ * - 스케줄 잠금을 가진 한 노드만 실행하고, weekly_reset_run 기록으로 주차당 한 번만 실행
+ *   (중단 시 남은 단계부터 이어서 실행)
+ * - 각 단계는 chunk 단위 트랜잭션으로 나눠서 user_schedule 잠금 시간을 짧게 유지
+ */
+@Service
+public class WeeklyResetService {
+
+    private static final Logger log = LoggerFactory.getLogger(WeeklyResetService.class);
+
+    public static final String TRIGGER_SCHEDULED = "SCHEDULED";
+    public static final String TRIGGER_MANUAL = "MANUAL";
+
+    // 실행 단계
+    // 실행 순서 중요: 완료 상태를 초기화하기 전에 지난 주차를 보관해야 함
+    private static final String STEP_ARCHIVE = "ARCHIVE";
+    private static final String STEP_FINISH_RESET = "FINISH_RESET";
+    private static final String STEP_PURGE_EXPIRED = "PURGE_EXPIRED";
+    private static final List<String> STEPS = List.of(STEP_ARCHIVE, STEP_FINISH_RESET, STEP_PURGE_EXPIRED);
+
+    private static final String LOCK_NAME = "weekly-reset";
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private UserScheduleRepository userScheduleRepository;
+
+    @Autowired
+    private BoardClockRepository boardClockRepository;
+
+    @Autowired
+    private WeeklyResetRunRepository weeklyResetRunRepository;
+
+    @Autowired
+    private UserScheduleWeekService userScheduleWeekService;
+
+    @Autowired
+    private HistoryArchiveService historyArchiveService;
+
+    @Autowired
+    private SchedulerLockService schedulerLockService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private ChangeJournal changeJournal;
+
+    // chunk 당 최대 처리 행 수
+    @Value("${weekly-reset.chunk-size:500}")
+    private int chunkSize;
+
+    // RUNNING 상태로 이 시간 이상 지난 기록은 중단된 실행으로 보고 이어서 실행
+    @Value("${weekly-reset.stale-minutes:30}")
+    private long staleMinutes;
+
+    // 스케줄 잠금 lease (작업 중에는 자동 연장됨)
+    @Value("${weekly-reset.lock-lease-seconds:120}")
+    private long lockLeaseSeconds;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 매주 수요일 오전 5시에 주간 초기화 실행
+     * cron: 초 분 시 일 월 요일
+     */
+    @Scheduled(cron = "0 0 5 * * WED", zone = "Asia/Seoul")
+    public void scheduledReset() {
+        try {
+            ResetResult result = runWeeklyReset(TRIGGER_SCHEDULED);
+            log.info("주간 초기화 배치 결과: {}", result.getMessage());
+        } catch (Exception e) {
+            log.error("주간 초기화 배치 실행 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 현재 레이드 주차의 초기화 실행
+     * 다른 노드가 실행 중이거나 이미 완료된 주차면 건너뜀
+     */
+    public ResetResult runWeeklyReset(String trigger) {
+        AtomicReference<ResetResult> result = new AtomicReference<>();
+        boolean ran = schedulerLockService.runExclusive(LOCK_NAME, Duration.ofSeconds(lockLeaseSeconds),
+            lease -> result.set(runUnderLock(trigger, lease)));
+        if (!ran) {
+            return ResetResult.skipped(RaidWeek.weekKey(RaidWeek.currentWeekStart()));
+        }
+        return result.get();
+    }
+
+    private ResetResult runUnderLock(String trigger, LockLease lease) {
+        LocalDate weekStart = RaidWeek.weekStartOf(ZonedDateTime.now(RaidWeek.ZONE));
+        String weekKey = RaidWeek.weekKey(weekStart);
+        LocalDate purgeCutoff = userScheduleWeekService.purgeCutoff(weekStart);
+
+        Optional<WeeklyResetRun> claimed = claim(weekKey, trigger, lease);
+        if (claimed.isEmpty()) {
+            return ResetResult.skipped(weekKey);
+        }
+
+        WeeklyResetRun run = claimed.get();
+        long startNanos = System.nanoTime();
+        String outcome = "failure";
+        try {
+            for (String step : STEPS) {
+                if (isStepDone(run, step)) {
+                    continue;
+                }
+                long rows = STEP_ARCHIVE.equals(step)
+                    ? runArchive(weekStart.minusWeeks(1), lease)
+                    : runChunked(step, purgeCutoff, lease);
+                addRows(run, step, rows);
+                run.setCompletedStep(step);
+                run = saveRun(run);
+            }
+
+            long durationMs = (System.nanoTime() - startNanos) / 1_000_000;
+            run.setStatus(WeeklyResetRun.STATUS_COMPLETED);
+            run.setFinishedAt(LocalDateTime.now());
+            run.setDurationMs(durationMs);
+            run = saveRun(run);
+            outcome = "success";
+            return ResetResult.executed(run);
+        } finally {
+            Timer.builder("weekly.reset.duration")
+                .tag("trigger", trigger)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 실행 기록 선점 - 신규 주차면 RUNNING 으로 insert, 완료/진행 중이면 빈 값
+     */
+    private Optional<WeeklyResetRun> claim(String weekKey, String trigger, LockLease lease) {
+        try {
+            return transactionTemplate.execute(status -> {
+                Optional<WeeklyResetRun> existing = weeklyResetRunRepository.findById(weekKey);
+                if (existing.isEmpty()) {
+                    WeeklyResetRun created = new WeeklyResetRun(weekKey, trigger);
+                    created.setFencingToken(lease.getToken());
+                    return Optional.of(weeklyResetRunRepository.saveAndFlush(created));
+                }
+
+                WeeklyResetRun run = existing.get();
+                if (run.isCompleted()) {
+                    return Optional.<WeeklyResetRun>empty();
+                }
+                // 이전 실행 노드가 잠금을 잃었으면 (더 작은 token) 바로 재개, 아니면 오래된 경우에만 재개
+                boolean previousLeaseLost = run.getFencingToken() != null && run.getFencingToken() < lease.getToken();
+                if (!previousLeaseLost && run.getStartedAt().isAfter(LocalDateTime.now().minusMinutes(staleMinutes))) {
+                    // 다른 실행이 진행 중
+                    return Optional.<WeeklyResetRun>empty();
+                }
+
+                // 중단된 실행 - 남은 단계부터 재개
+                run.setStartedAt(LocalDateTime.now());
+                run.setTriggerType(trigger);
+                run.setFencingToken(lease.getToken());
+                return Optional.of(weeklyResetRunRepository.saveAndFlush(run));
+            });
+        } catch (DataIntegrityViolationException | ObjectOptimisticLockingFailureException e) {
+            // 동시에 다른 실행이 먼저 기록함
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 지난 주차 스냅샷 보관 (fencing 확인과 같은 한 트랜잭션)
+     */
+    private long runArchive(LocalDate previousWeekStart, LockLease lease) {
+        Long rows = transactionTemplate.execute(status -> {
+            schedulerLockService.fence(lease);
+            return historyArchiveService.archiveWeek(previousWeekStart);
+        });
+        long archived = rows != null ? rows : 0;
+        meterRegistry.counter("weekly.reset.rows", "step", STEP_ARCHIVE).increment(archived);
+        return archived;
+    }
+
+    /**
+     * 단계별 chunk 반복 실행 - 처리 행 수가 chunk 크기보다 작으면 종료
+     */
+    private long runChunked(String step, LocalDate purgeCutoff, LockLease lease) {
+        long total = 0;
+        while (true) {
+            // fencing - chunk 와 같은 트랜잭션에서 token 을 확인하므로 잠금을 잃었으면 이 chunk 도 롤백됨
+            Integer rows = transactionTemplate.execute(status -> {
+                schedulerLockService.fence(lease);
+                return executeChunk(step, purgeCutoff);
+            });
+            int affected = rows != null ? rows : 0;
+            total += affected;
+            if (affected < chunkSize) {
+                break;
+            }
+        }
+        meterRegistry.counter("weekly.reset.rows", "step", step).increment(total);
+        return total;
+    }
+
+    private int executeChunk(String step, LocalDate purgeCutoff) {
+        // 브로드캐스트 없이 바뀌는 데이터이므로 chunk 커밋마다 목록 조회 버전을 직접 올림
+        switch (step) {
+            case STEP_FINISH_RESET: {
+                dataVersionService.bump(DataVersionService.SCHEDULE);
+                int rows = scheduleRepository.resetIsFinishChunk(chunkSize);
+                if (rows > 0) {
+                    changeJournal.record(JournalRecord.update(JournalTable.RAID_SCHEDULE).set("is_finish", "N"));
+                }
+                // 마지막 chunk 에서 보드 완료 여부 시각도 삭제 (지난주 완료 작업이 초기화된 값을 이기지 않도록)
+                if (rows < chunkSize) {
+                    boardClockRepository.deleteAllFinish();
+                }
+                return rows;
+            }
+            case STEP_PURGE_EXPIRED: {
+                dataVersionService.bump(DataVersionService.USER_SCHEDULE);
+                int rows = userScheduleRepository.deleteExpiredChunk(purgeCutoff, chunkSize);
+                if (rows > 0) {
+                    changeJournal.record(JournalRecord.delete(JournalTable.USER_SCHEDULE).whereLess("week_start", purgeCutoff));
+                }
+                return rows;
+            }
+            default:
+                throw new IllegalStateException("알 수 없는 주간 초기화 단계: " + step);
+        }
+    }
+
+    private boolean isStepDone(WeeklyResetRun run, String step) {
+        if (run.getCompletedStep() == null) {
+            return false;
+        }
+        return STEPS.indexOf(step) <= STEPS.indexOf(run.getCompletedStep());
+    }
+
+    private void addRows(WeeklyResetRun run, String step, long rows) {
+        switch (step) {
+            case STEP_ARCHIVE:
+                run.setArchivedRows(rows);
+                break;
+            case STEP_FINISH_RESET:
+                run.setFinishResetRows(run.getFinishResetRows() + rows);
+                break;
+            case STEP_PURGE_EXPIRED:
+                run.setDeletedRows(run.getDeletedRows() + rows);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private WeeklyResetRun saveRun(WeeklyResetRun run) {
+        return transactionTemplate.execute(status -> weeklyResetRunRepository.save(run));
+    }
+
+    /**
+     * 주간 초기화 실행 결과
+     */
+    public static class ResetResult {
+        private final String weekKey;
+        private final boolean executed;
+        private final WeeklyResetRun run;
+
+        private ResetResult(String weekKey, boolean executed, WeeklyResetRun run) {
+            this.weekKey = weekKey;
+            this.executed = executed;
+            this.run = run;
+        }
+
+        static ResetResult executed(WeeklyResetRun run) {
+            return new ResetResult(run.getWeekKey(), true, run);
+        }
+
+        static ResetResult skipped(String weekKey) {
+            return new ResetResult(weekKey, false, null);
+        }
+
+        public String getWeekKey() { return weekKey; }
+        public boolean isExecuted() { return executed; }
+        public WeeklyResetRun getRun() { return run; }
+
+        public String getMessage() {
+            if (!executed) {
+                return weekKey + " 주차 초기화는 이미 완료되었거나 진행 중입니다.";
+            }
+            return weekKey + " 주차 초기화 완료 (지난 주차 보관 " + (run.getArchivedRows() != null ? run.getArchivedRows() : 0)
+                + "건, 완료상태 초기화 " + run.getFinishResetRows()
+                + "건, 지난 유저 일정 정리 " + run.getDeletedRows()
+                + "건, " + run.getDurationMs() + "ms)";
+        }
+    }
+}
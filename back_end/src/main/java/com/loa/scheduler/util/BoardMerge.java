@@ -0,0 +1,90 @@
+package com.loa.scheduler.util;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 레이드 보드 병합 - 칸(파티, 레이드)의 요소마다 last-writer-wins 레지스터 하나
+ * - 요소는 캐릭터 이름(배치 여부) 또는 FINISH(완료 여부)
+ * - 같은 요소에 대한 작업은 (lamport, replica) 가 큰 쪽이 이김 → 적용 순서와 관계없이 같은 결과로 수렴
+ * - 같은 시각의 작업을 다시 적용하면 무시 (재전송, 중복 수신에 안전)
+ *
+ * 서버(BoardMergeService)는 요청마다 DB 의 시각으로 채워서 쓰고, 테스트는 적용 순서를 바꿔가며 결과를 비교한다.
+ */
+public class BoardMerge {
+
+    // 칸 완료 여부 요소 (캐릭터 이름은 비어 있을 수 없으므로 겹치지 않음)
+    public static final String FINISH = "";
+
+    // 칸(파티, 레이드) -> 요소 -> 마지막 작업
+    private final Map<List<String>, Map<String, Register>> cells = new HashMap<>();
+
+    /**
+     * 작업 적용 - 기존 값보다 나중 작업이면 반영하고 true (이전 작업이거나 같은 작업이면 false)
+     */
+    public boolean apply(String party, String raidName, String element, long lamport, String replica, boolean value) {
+        Map<String, Register> cell = cells.computeIfAbsent(List.of(party, raidName), key -> new HashMap<>());
+        Register current = cell.get(element);
+        if (current != null && compare(lamport, replica, current.lamport, current.replica) <= 0) {
+            return false;
+        }
+        cell.put(element, new Register(lamport, replica, value));
+        return true;
+    }
+
+    /**
+     * 두 작업 시각 비교 - Lamport 시각, 같으면 replica 문자열 순
+     */
+    public static int compare(long lamport, String replica, long otherLamport, String otherReplica) {
+        int order = Long.compare(lamport, otherLamport);
+        return order != 0 ? order : replica.compareTo(otherReplica);
+    }
+
+    /**
+     * 칸에 배치된 캐릭터 (이름 순)
+     */
+    public Set<String> members(String party, String raidName) {
+        Set<String> members = new TreeSet<>();
+        cells.getOrDefault(List.of(party, raidName), Map.of()).forEach((element, register) -> {
+            if (!FINISH.equals(element) && register.value) {
+                members.add(element);
+            }
+        });
+        return members;
+    }
+
+    /**
+     * 칸 완료 여부 (완료 작업이 없었으면 false)
+     */
+    public boolean finished(String party, String raidName) {
+        Register register = cells.getOrDefault(List.of(party, raidName), Map.of()).get(FINISH);
+        return register != null && register.value;
+    }
+
+    /**
+     * 전체 상태 - "파티/레이드/요소" -> "값@lamport:replica" (수렴 여부 비교용, 키 순 정렬)
+     */
+    public Map<String, String> snapshot() {
+        Map<String, String> snapshot = new TreeMap<>();
+        cells.forEach((cell, registers) -> registers.forEach((element, register) ->
+            snapshot.put(cell.get(0) + "/" + cell.get(1) + "/" + element,
+                (register.value ? "Y" : "N") + "@" + register.lamport + ":" + register.replica)));
+        return snapshot;
+    }
+
+    private static final class Register {
+        private final long lamport;
+        private final String replica;
+        private final boolean value;
+
+        private Register(long lamport, String replica, boolean value) {
+            this.lamport = lamport;
+            this.replica = replica;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,371 @@
+package com.loa.scheduler.util;
+
+import com.loa.scheduler.util.JournalTable.Column;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 변경 저널 레코드 하나 - 행 단위 저장(UPSERT), 조건 삭제(DELETE), 조건 수정(UPDATE)
+ * 컬럼은 JournalTable 의 번호 비트마스크로, 값은 컬럼 타입별 가변 길이 정수/UTF-8 로 저장해 행 하나가 수십 바이트 수준.
+ *
+ * 본문 형식: seq, 시각(ms), 작업, 테이블, 조건 마스크, "<" 조건 마스크, 변경 마스크, null 마스크(조건/변경), 작업자, 값...
+ */
+public final class JournalRecord {
+
+    public enum Op {
+        UPSERT(1), DELETE(2), UPDATE(3);
+
+        private final int code;
+
+        Op(int code) {
+            this.code = code;
+        }
+
+        static Op fromCode(int code) {
+            for (Op op : values()) {
+                if (op.code == code) {
+                    return op;
+                }
+            }
+            throw new IllegalArgumentException("알 수 없는 저널 작업 코드: " + code);
+        }
+    }
+
+    private static final int MAX_ACTOR_LENGTH = 100;
+
+    private final long seq;
+    private final long timestamp;
+    private final Op op;
+    private final JournalTable table;
+    private final String actor;
+    private final int whereMask;
+    private final int lessMask;
+    private final int setMask;
+    private final Object[] whereValues;
+    private final Object[] setValues;
+
+    private JournalRecord(long seq, long timestamp, Op op, JournalTable table, String actor,
+                          int whereMask, int lessMask, int setMask, Object[] whereValues, Object[] setValues) {
+        this.seq = seq;
+        this.timestamp = timestamp;
+        this.op = op;
+        this.table = table;
+        this.actor = actor;
+        this.whereMask = whereMask;
+        this.lessMask = lessMask;
+        this.setMask = setMask;
+        this.whereValues = whereValues;
+        this.setValues = setValues;
+    }
+
+    public static Builder upsert(JournalTable table) { return new Builder(Op.UPSERT, table); }
+    public static Builder delete(JournalTable table) { return new Builder(Op.DELETE, table); }
+    public static Builder update(JournalTable table) { return new Builder(Op.UPDATE, table); }
+
+    public long getSeq() { return seq; }
+    public long getTimestamp() { return timestamp; }
+    public Op getOp() { return op; }
+    public JournalTable getTable() { return table; }
+    public String getActor() { return actor; }
+
+    public boolean hasWhere(int column) { return (whereMask & (1 << column)) != 0; }
+    public boolean isLess(int column) { return (lessMask & (1 << column)) != 0; }
+    public boolean hasSet(int column) { return (setMask & (1 << column)) != 0; }
+    public Object whereValue(int column) { return whereValues[column]; }
+    public Object setValue(int column) { return setValues[column]; }
+
+    /**
+     * 저널 파일에 쓸 때 번호 부여
+     */
+    public JournalRecord withSeq(long seq) {
+        return new JournalRecord(seq, timestamp, op, table, actor, whereMask, lessMask, setMask, whereValues, setValues);
+    }
+
+    /**
+     * 조건 또는 변경 값 중 하나라도 value 와 같으면 true (조회 API 의 검색어 필터)
+     */
+    public boolean mentions(String value) {
+        for (int i = 0; i < whereValues.length; i++) {
+            if ((hasWhere(i) && value.equals(String.valueOf(whereValues[i])))
+                    || (hasSet(i) && value.equals(String.valueOf(setValues[i])))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("seq", seq);
+        map.put("time", Instant.ofEpochMilli(timestamp).toString());
+        map.put("actor", actor);
+        map.put("op", op.name().toLowerCase());
+        map.put("table", table.getTableName());
+        Map<String, Object> where = new LinkedHashMap<>();
+        Map<String, Object> set = new LinkedHashMap<>();
+        for (int i = 0; i < table.getColumns().size(); i++) {
+            String name = table.getColumns().get(i).getName();
+            if (hasWhere(i)) {
+                where.put(isLess(i) ? name + "<" : name, jsonValue(whereValues[i]));
+            }
+            if (hasSet(i)) {
+                set.put(name, jsonValue(setValues[i]));
+            }
+        }
+        if (!where.isEmpty()) {
+            map.put("where", where);
+        }
+        if (!set.isEmpty()) {
+            map.put("set", set);
+        }
+        return map;
+    }
+
+    private static Object jsonValue(Object value) {
+        return value instanceof LocalDate || value instanceof LocalDateTime ? value.toString() : value;
+    }
+
+    // ---- 인코딩 ----
+
+    public byte[] encode() {
+        Output out = new Output(64);
+        out.putLong(seq);
+        out.putLong(timestamp);
+        out.put(op.code);
+        out.put(table.getCode());
+        out.putShort(whereMask);
+        out.putShort(lessMask);
+        out.putShort(setMask);
+        out.putShort(nullMask(whereMask, whereValues));
+        out.putShort(nullMask(setMask, setValues));
+        out.putString(actor);
+        writeValues(out, whereMask, whereValues);
+        writeValues(out, setMask, setValues);
+        return out.toByteArray();
+    }
+
+    public static JournalRecord decode(ByteBuffer body) {
+        try {
+            long seq = body.getLong();
+            long timestamp = body.getLong();
+            Op op = Op.fromCode(body.get());
+            JournalTable table = JournalTable.fromCode(body.get());
+            int whereMask = body.getShort() & 0xFFFF;
+            int lessMask = body.getShort() & 0xFFFF;
+            int setMask = body.getShort() & 0xFFFF;
+            int whereNulls = body.getShort() & 0xFFFF;
+            int setNulls = body.getShort() & 0xFFFF;
+            String actor = readString(body);
+            Object[] whereValues = readValues(body, table, whereMask, whereNulls);
+            Object[] setValues = readValues(body, table, setMask, setNulls);
+            return new JournalRecord(seq, timestamp, op, table, actor, whereMask, lessMask, setMask, whereValues, setValues);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("저널 레코드가 잘렸습니다.", e);
+        }
+    }
+
+    private int nullMask(int mask, Object[] values) {
+        int nulls = 0;
+        for (int i = 0; i < values.length; i++) {
+            if ((mask & (1 << i)) != 0 && values[i] == null) {
+                nulls |= 1 << i;
+            }
+        }
+        return nulls;
+    }
+
+    private void writeValues(Output out, int mask, Object[] values) {
+        for (int i = 0; i < values.length; i++) {
+            if ((mask & (1 << i)) == 0 || values[i] == null) {
+                continue;
+            }
+            Object value = values[i];
+            switch (table.getColumns().get(i).getType()) {
+                case STRING -> out.putString((String) value);
+                case NUMBER -> out.putVarLong((Long) value);
+                case DATE -> out.putVarLong(((LocalDate) value).toEpochDay());
+                case DATE_TIME -> {
+                    LocalDateTime dateTime = (LocalDateTime) value;
+                    out.putVarLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+                    out.putVarLong(dateTime.getNano());
+                }
+            }
+        }
+    }
+
+    private static Object[] readValues(ByteBuffer in, JournalTable table, int mask, int nulls) {
+        Object[] values = new Object[table.getColumns().size()];
+        for (int i = 0; i < values.length; i++) {
+            if ((mask & (1 << i)) == 0 || (nulls & (1 << i)) != 0) {
+                continue;
+            }
+            values[i] = switch (table.getColumns().get(i).getType()) {
+                case STRING -> readString(in);
+                case NUMBER -> readVarLong(in);
+                case DATE -> LocalDate.ofEpochDay(readVarLong(in));
+                case DATE_TIME -> LocalDateTime.ofEpochSecond(readVarLong(in), (int) readVarLong(in), ZoneOffset.UTC);
+            };
+        }
+        return values;
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = (int) readVarLong(in);
+        if (length < 0 || length > in.remaining()) {
+            throw new IllegalArgumentException("저널 레코드 문자열 길이가 올바르지 않습니다: " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // zigzag 가변 길이 정수 (작은 수는 1~2바이트)
+    private static long readVarLong(ByteBuffer in) {
+        long raw = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            raw |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (raw >>> 1) ^ -(raw & 1);
+            }
+        }
+        throw new IllegalArgumentException("저널 레코드 정수 형식이 올바르지 않습니다.");
+    }
+
+    private static final class Output {
+        private byte[] buffer;
+        private int size;
+
+        private Output(int capacity) {
+            this.buffer = new byte[capacity];
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+            }
+        }
+
+        private void put(int value) {
+            ensure(1);
+            buffer[size++] = (byte) value;
+        }
+
+        private void putShort(int value) {
+            put(value >>> 8);
+            put(value);
+        }
+
+        private void putLong(long value) {
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                put((int) (value >>> shift));
+            }
+        }
+
+        private void putVarLong(long value) {
+            long raw = (value << 1) ^ (value >> 63);
+            while ((raw & ~0x7FL) != 0) {
+                put((int) ((raw & 0x7F) | 0x80));
+                raw >>>= 7;
+            }
+            put((int) raw);
+        }
+
+        private void putString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            putVarLong(bytes.length);
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buffer, size, bytes.length);
+            size += bytes.length;
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+    }
+
+    /**
+     * 레코드 작성 - 값은 컬럼 타입에 맞춰 String / Integer·Long / LocalDate / LocalDateTime
+     */
+    public static final class Builder {
+        private final Op op;
+        private final JournalTable table;
+        private int whereMask;
+        private int lessMask;
+        private int setMask;
+        private final Object[] whereValues;
+        private final Object[] setValues;
+
+        private Builder(Op op, JournalTable table) {
+            this.op = op;
+            this.table = table;
+            this.whereValues = new Object[table.getColumns().size()];
+            this.setValues = new Object[table.getColumns().size()];
+        }
+
+        public JournalTable getTable() { return table; }
+
+        /**
+         * 조건 (null 이면 IS NULL)
+         */
+        public Builder where(String column, Object value) {
+            int index = table.indexOf(column);
+            whereMask |= 1 << index;
+            whereValues[index] = normalize(table.getColumns().get(index), value);
+            return this;
+        }
+
+        public Builder whereLess(String column, Object value) {
+            if (value == null) {
+                throw new IllegalArgumentException("'<' 조건 값은 null 일 수 없습니다: " + column);
+            }
+            where(column, value);
+            lessMask |= 1 << table.indexOf(column);
+            return this;
+        }
+
+        public Builder set(String column, Object value) {
+            int index = table.indexOf(column);
+            setMask |= 1 << index;
+            setValues[index] = normalize(table.getColumns().get(index), value);
+            return this;
+        }
+
+        public JournalRecord build(long timestamp, String actor) {
+            int allColumns = (1 << table.getColumns().size()) - 1;
+            if (op == Op.UPSERT && (setMask != allColumns || whereMask != 0)) {
+                throw new IllegalStateException(table.getTableName() + " UPSERT 는 모든 컬럼 값이 필요합니다.");
+            }
+            if (op == Op.DELETE && setMask != 0) {
+                throw new IllegalStateException("DELETE 에는 변경 값을 지정할 수 없습니다.");
+            }
+            if (op == Op.UPDATE && setMask == 0) {
+                throw new IllegalStateException("UPDATE 에는 변경 값이 필요합니다.");
+            }
+            String safeActor = actor == null ? "" : actor.length() > MAX_ACTOR_LENGTH ? actor.substring(0, MAX_ACTOR_LENGTH) : actor;
+            return new JournalRecord(0, timestamp, op, table, safeActor, whereMask, lessMask, setMask,
+                whereValues.clone(), setValues.clone());
+        }
+
+        private static Object normalize(Column column, Object value) {
+            if (value == null) {
+                return null;
+            }
+            return switch (column.getType()) {
+                case STRING -> value.toString();
+                case NUMBER -> ((Number) value).longValue();
+                case DATE -> (LocalDate) value;
+                case DATE_TIME -> (LocalDateTime) value;
+            };
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package com.loa.scheduler.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.zip.CRC32;
+
+/**
+ * 변경 저널 세그먼트 파일 (추가 전용)
+ * - 세그먼트는 고정 크기 파일을 메모리 매핑해서 쓰고, 다음 레코드가 들어가지 않으면 새 파일로 넘어감
+ * - 파일 이름은 첫 레코드 번호 (segment-00000000000000000001.log)
+ * - 레코드: [본문 길이 int][CRC32 int][본문] - 길이 0 이면 파일 끝, CRC 가 맞지 않거나 번호가 이어지지 않으면
+ *   기록 중 종료된 것으로 보고 그 앞까지만 사용 (기동 시 뒷부분을 0 으로 지움)
+ *
+ * append/force/close 는 쓰기 스레드 하나에서만 호출하고, scan 은 어느 스레드에서나 호출할 수 있다.
+ * scan 은 force 가 끝난(디스크에 반영된) 레코드까지만 읽는다.
+ */
+public final class JournalSegments implements Closeable {
+
+    private static final int MAGIC = 0x4C4F414A; // "LOAJ"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+    private static final int FRAME_BYTES = 8;
+    private static final String PREFIX = "segment-";
+    private static final String SUFFIX = ".log";
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final List<Segment> segments = new CopyOnWriteArrayList<>();
+
+    // 쓰기 스레드 전용
+    private MappedByteBuffer active;
+    private volatile long lastSeq;
+
+    public JournalSegments(Path directory, int segmentBytes) throws IOException {
+        if (segmentBytes < 4096) {
+            throw new IllegalArgumentException("세그먼트 크기는 4096 바이트 이상이어야 합니다.");
+        }
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        Files.createDirectories(directory);
+        recover();
+    }
+
+    public long lastSeq() {
+        return lastSeq;
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    public long sizeBytes() {
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.durableEnd;
+        }
+        return size;
+    }
+
+    /**
+     * 레코드 추가 (번호 부여) - 디스크 반영은 force 에서
+     */
+    public JournalRecord append(JournalRecord record) throws IOException {
+        JournalRecord numbered = record.withSeq(lastSeq + 1);
+        byte[] body = numbered.encode();
+        int frameLength = FRAME_BYTES + body.length;
+        if (frameLength > segmentBytes - HEADER_BYTES) {
+            throw new IllegalArgumentException("저널 레코드가 세그먼트보다 큽니다: " + frameLength + " 바이트");
+        }
+        // 남은 공간이 부족하면 (끝 표시 길이 0 자리 포함) 새 세그먼트
+        if (active == null || active.remaining() < frameLength + 4) {
+            rotate(numbered.getSeq());
+        }
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        active.putInt(body.length);
+        active.putInt((int) crc.getValue());
+        active.put(body);
+
+        Segment current = last();
+        current.writtenEnd = active.position();
+        current.pendingTimestamp(numbered.getTimestamp());
+        lastSeq = numbered.getSeq();
+        return numbered;
+    }
+
+    /**
+     * 쓴 레코드를 디스크에 반영하고 scan 대상에 포함 (그룹 커밋 단위로 한 번)
+     */
+    public void force() {
+        if (active == null) {
+            return;
+        }
+        Segment current = last();
+        if (current.durableEnd == current.writtenEnd) {
+            return;
+        }
+        active.force();
+        current.publish();
+    }
+
+    /**
+     * 시각 범위 [fromMillis, toMillis] 의 레코드를 번호 순으로 조회 (limit 건까지)
+     */
+    public List<JournalRecord> scan(long fromMillis, long toMillis, Predicate<JournalRecord> filter, int limit) throws IOException {
+        List<JournalRecord> result = new ArrayList<>();
+        for (Segment segment : segments) {
+            if (result.size() >= limit) {
+                break;
+            }
+            // 시각 범위가 겹치지 않는 세그먼트는 읽지 않음
+            if (segment.durableEnd <= HEADER_BYTES || segment.maxTimestamp < fromMillis || segment.minTimestamp > toMillis) {
+                continue;
+            }
+            read(segment.path, segment.durableEnd, record -> {
+                if (record.getTimestamp() >= fromMillis && record.getTimestamp() <= toMillis && filter.test(record)) {
+                    result.add(record);
+                }
+                return result.size() < limit;
+            });
+        }
+        return result;
+    }
+
+    /**
+     * 모든 레코드를 번호 순으로 전달 (재생용)
+     */
+    public void forEach(Consumer<JournalRecord> consumer) throws IOException {
+        for (Segment segment : segments) {
+            read(segment.path, segment.durableEnd, record -> {
+                consumer.accept(record);
+                return true;
+            });
+        }
+    }
+
+    @Override
+    public void close() {
+        force();
+        active = null;
+    }
+
+    private Segment last() {
+        return segments.get(segments.size() - 1);
+    }
+
+    private void rotate(long firstSeq) throws IOException {
+        force();
+        Path path = directory.resolve(String.format("%s%020d%s", PREFIX, firstSeq, SUFFIX));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            active = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        }
+        active.putInt(MAGIC);
+        active.putInt(VERSION);
+        active.putLong(firstSeq);
+        active.force();
+        Segment segment = new Segment(path);
+        segment.writtenEnd = HEADER_BYTES;
+        segment.durableEnd = HEADER_BYTES;
+        segments.add(segment);
+    }
+
+    /**
+     * 기동 시 기존 세그먼트를 읽어 마지막 번호와 쓰기 위치를 찾음
+     */
+    private void recover() throws IOException {
+        List<Path> paths = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+            stream.forEach(paths::add);
+        }
+        paths.sort(null);
+
+        for (int i = 0; i < paths.size(); i++) {
+            Path path = paths.get(i);
+            Segment segment = new Segment(path);
+            boolean isLast = i == paths.size() - 1;
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+                channel.read(header, 0);
+                header.flip();
+                if (isLast && isBlank(header)) {
+                    // 새 세그먼트를 만들던 중 종료 - 다음 기록 때 다시 만듦
+                    channel.close();
+                    Files.delete(path);
+                    break;
+                }
+                if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC || header.getInt() != VERSION) {
+                    throw new IOException("저널 세그먼트 형식이 올바르지 않습니다: " + path);
+                }
+                long firstSeq = header.getLong();
+                if (lastSeq != 0 && firstSeq != lastSeq + 1) {
+                    throw new IOException("저널 세그먼트 번호가 이어지지 않습니다: " + path + " (이전 마지막 번호 " + lastSeq + ")");
+                }
+
+                ByteBuffer content = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                long expectedSeq = firstSeq;
+                int end = HEADER_BYTES;
+                content.position(HEADER_BYTES);
+                JournalRecord record;
+                while ((record = next(content, expectedSeq)) != null) {
+                    segment.pendingTimestamp(record.getTimestamp());
+                    expectedSeq++;
+                    end = content.position();
+                }
+                segment.writtenEnd = end;
+                segment.publish();
+                lastSeq = expectedSeq - 1;
+
+                if (isLast) {
+                    // 기록 중 종료로 남은 뒷부분은 지우고 이어서 씀
+                    active = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+                    if (hasTrailingBytes(content, end)) {
+                        for (int p = end; p < active.capacity(); p++) {
+                            active.put(p, (byte) 0);
+                        }
+                        active.force();
+                    }
+                    active.position(end);
+                }
+            }
+            segments.add(segment);
+        }
+    }
+
+    private static boolean isBlank(ByteBuffer header) {
+        for (int p = 0; p < header.limit(); p++) {
+            if (header.get(p) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasTrailingBytes(ByteBuffer content, int end) {
+        for (int p = end; p < content.limit(); p++) {
+            if (content.get(p) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 세그먼트를 읽기 전용으로 매핑해서 레코드를 하나씩 전달 (세그먼트 전체를 힙에 복사하지 않음)
+     * visitor 가 false 를 돌려주면 나머지는 읽지 않음
+     */
+    private static void read(Path path, int durableEnd, Predicate<JournalRecord> visitor) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer content = channel.map(FileChannel.MapMode.READ_ONLY, 0, durableEnd);
+            long expectedSeq = content.getLong(8);
+            content.position(HEADER_BYTES);
+            JournalRecord record;
+            while ((record = next(content, expectedSeq)) != null) {
+                if (!visitor.test(record)) {
+                    return;
+                }
+                expectedSeq++;
+            }
+        }
+    }
+
+    /**
+     * 다음 레코드 (끝, 잘린 레코드, CRC 불일치, 번호 불연속이면 null - 위치는 그대로)
+     */
+    private static JournalRecord next(ByteBuffer content, long expectedSeq) {
+        int start = content.position();
+        if (content.remaining() < FRAME_BYTES) {
+            return null;
+        }
+        int length = content.getInt(start);
+        int checksum = content.getInt(start + 4);
+        if (length <= 0 || length > content.remaining() - FRAME_BYTES) {
+            return null;
+        }
+        CRC32 crc = new CRC32();
+        ByteBuffer body = content.slice(start + FRAME_BYTES, length);
+        crc.update(body.duplicate());
+        if ((int) crc.getValue() != checksum) {
+            return null;
+        }
+        JournalRecord record;
+        try {
+            record = JournalRecord.decode(body);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (record.getSeq() != expectedSeq) {
+            return null;
+        }
+        content.position(start + FRAME_BYTES + length);
+        return record;
+    }
+
+    private static final class Segment {
+        private final Path path;
+        // 쓰기 스레드가 쓴 위치와 디스크에 반영된(scan 에 보이는) 위치
+        private int writtenEnd;
+        private volatile int durableEnd;
+        private long pendingMin = Long.MAX_VALUE;
+        private long pendingMax = Long.MIN_VALUE;
+        private volatile long minTimestamp = Long.MAX_VALUE;
+        private volatile long maxTimestamp = Long.MIN_VALUE;
+
+        private Segment(Path path) {
+            this.path = path;
+        }
+
+        private void pendingTimestamp(long timestamp) {
+            pendingMin = Math.min(pendingMin, timestamp);
+            pendingMax = Math.max(pendingMax, timestamp);
+        }
+
+        // 시각 범위를 먼저 넓힌 뒤 위치 공개 (scan 이 새 레코드를 시각 범위로 건너뛰지 않도록)
+        private void publish() {
+            minTimestamp = pendingMin;
+            maxTimestamp = pendingMax;
+            durableEnd = writtenEnd;
+        }
+    }
+}
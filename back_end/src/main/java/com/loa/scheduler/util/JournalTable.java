@@ -0,0 +1,88 @@
+package com.loa.scheduler.util;
+
+import java.util.List;
+
+/**
+ * 변경 저널에 기록하는 테이블과 컬럼 (기록 시 컬럼 이름 대신 번호로 저장)
+ * 컬럼 순서는 기존 저널 파일 해석에 쓰이므로 바꾸지 말고 뒤에만 추가한다.
+ */
+public enum JournalTable {
+
+    RAID(1, "raid", 1,
+        Column.string("name"), Column.number("seq")),
+    CHARACTORS(2, "charactors", 1,
+        Column.string("name"), Column.string("is_supporter"), Column.string("user_id"), Column.number("seq")),
+    USER(3, "user", 1,
+        Column.string("name"), Column.string("color"), Column.number("seq"),
+        Column.dateTime("created_at"), Column.dateTime("updated_at")),
+    RAID_SCHEDULE(4, "raid_schedule", 3,
+        Column.string("id"), Column.string("raid_name"), Column.string("character_name"), Column.string("is_finish")),
+    USER_SCHEDULE(5, "user_schedule", 1,
+        Column.number("id"), Column.string("user_id"), Column.string("day_of_week"), Column.date("week_start"),
+        Column.number("week_number"), Column.string("schedule_text"), Column.string("enabled"),
+        Column.dateTime("created_at"), Column.dateTime("updated_at"));
+
+    public enum Type { STRING, NUMBER, DATE, DATE_TIME }
+
+    private final int code;
+    private final String tableName;
+    private final int keyColumns;
+    private final List<Column> columns;
+
+    JournalTable(int code, String tableName, int keyColumns, Column... columns) {
+        this.code = code;
+        this.tableName = tableName;
+        this.keyColumns = keyColumns;
+        this.columns = List.of(columns);
+    }
+
+    public int getCode() { return code; }
+    public String getTableName() { return tableName; }
+    public int getKeyColumns() { return keyColumns; }
+    public List<Column> getColumns() { return columns; }
+
+    public int indexOf(String columnName) {
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i).getName().equals(columnName)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException(tableName + " 에 없는 컬럼입니다: " + columnName);
+    }
+
+    public static JournalTable fromCode(int code) {
+        for (JournalTable table : values()) {
+            if (table.code == code) {
+                return table;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 저널 테이블 코드: " + code);
+    }
+
+    public static JournalTable fromName(String tableName) {
+        for (JournalTable table : values()) {
+            if (table.tableName.equalsIgnoreCase(tableName)) {
+                return table;
+            }
+        }
+        throw new IllegalArgumentException("저널에 기록하지 않는 테이블입니다: " + tableName);
+    }
+
+    public static final class Column {
+        private final String name;
+        private final Type type;
+
+        private Column(String name, Type type) {
+            this.name = name;
+            this.type = type;
+        }
+
+        static Column string(String name) { return new Column(name, Type.STRING); }
+        static Column number(String name) { return new Column(name, Type.NUMBER); }
+        static Column date(String name) { return new Column(name, Type.DATE); }
+        static Column dateTime(String name) { return new Column(name, Type.DATE_TIME); }
+
+        public String getName() { return name; }
+        public Type getType() { return type; }
+    }
+}
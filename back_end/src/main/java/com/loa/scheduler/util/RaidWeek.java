@@ -0,0 +1,66 @@
+package com.loa.scheduler.util;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.IsoFields;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 레이드 주차 계산 유틸
+ * 로스트아크 주간 초기화는 매주 수요일 오전 5시(KST)이므로
+ * 수요일 05:00 이전은 직전 주차로 취급한다.
+ */
+public final class RaidWeek {
+
+    public static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    public static final DayOfWeek RESET_DAY = DayOfWeek.WEDNESDAY;
+    public static final LocalTime RESET_TIME = LocalTime.of(5, 0);
+
+    private RaidWeek() {}
+
+    /**
+     * 주어진 시각이 속한 레이드 주차의 시작일 (수요일)
+     */
+    public static LocalDate weekStartOf(ZonedDateTime time) {
+        ZonedDateTime kst = time.withZoneSameInstant(ZONE);
+        LocalDate weekStart = kst.toLocalDate().with(TemporalAdjusters.previousOrSame(RESET_DAY));
+        if (kst.toLocalDate().equals(weekStart) && kst.toLocalTime().isBefore(RESET_TIME)) {
+            weekStart = weekStart.minusWeeks(1);
+        }
+        return weekStart;
+    }
+
+    /**
+     * 현재 레이드 주차의 시작일
+     */
+    public static LocalDate currentWeekStart() {
+        return weekStartOf(ZonedDateTime.now(ZONE));
+    }
+
+    /**
+     * 기준 주차 대비 상대 주차 번호 (기준 주차 = 1, 다음 주차 = 2, 지난 주차 = 0 이하)
+     */
+    public static int slotOf(LocalDate weekStart, LocalDate baseWeekStart) {
+        return (int) ChronoUnit.WEEKS.between(baseWeekStart, weekStart) + 1;
+    }
+
+    /**
+     * 상대 주차 번호에 해당하는 주차 시작일
+     */
+    public static LocalDate weekStartOfSlot(int slot, LocalDate baseWeekStart) {
+        return baseWeekStart.plusWeeks(slot - 1L);
+    }
+
+    /**
+     * 레이드 주차 키 (ISO 주차 기준, 예: 2026-W42)
+     */
+    public static String weekKey(LocalDate weekStart) {
+        return String.format("%d-W%02d",
+            weekStart.get(IsoFields.WEEK_BASED_YEAR),
+            weekStart.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+    }
+}
@@ -0,0 +1,68 @@
+package com.loa.scheduler.util;
+
+import java.util.function.Supplier;
+
+/**
+ * 요청 단위 읽기/쓰기 라우팅 상태
+ * - primaryPinned: 이 클라이언트가 방금 쓰기를 해서 복제 지연 동안 읽기도 primary 로 보냄
+ * - written: 이 요청이 primary 에서 쓰기 트랜잭션을 사용했는지 (요청이 끝나면 클라이언트 고정 시작)
+ * - onPrimary: 특정 작업 동안 읽기도 primary 로 보냄 (여러 클라이언트가 공유하는 캐시를 채우는 조회)
+ * 요청 밖(스케줄 작업 등)에서는 상태가 없고 읽기 전용 트랜잭션은 복제본으로 간다.
+ */
+public final class ReadWriteRouting {
+
+    private static final ThreadLocal<ReadWriteRouting> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    private final boolean primaryPinned;
+    private boolean written;
+
+    private ReadWriteRouting(boolean primaryPinned) {
+        this.primaryPinned = primaryPinned;
+    }
+
+    public static ReadWriteRouting begin(boolean primaryPinned) {
+        ReadWriteRouting routing = new ReadWriteRouting(primaryPinned);
+        CURRENT.set(routing);
+        return routing;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public static boolean isPrimaryPinned() {
+        ReadWriteRouting routing = CURRENT.get();
+        return routing != null && routing.primaryPinned;
+    }
+
+    /**
+     * 작업 동안 읽기 전용 트랜잭션도 primary 에서 실행 (작업 안에서 트랜잭션이 시작되어야 함)
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        if (isPrimaryForced()) {
+            return work.get();
+        }
+        PRIMARY_FORCED.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            PRIMARY_FORCED.remove();
+        }
+    }
+
+    public static boolean isPrimaryForced() {
+        return Boolean.TRUE.equals(PRIMARY_FORCED.get());
+    }
+
+    static void markWritten() {
+        ReadWriteRouting routing = CURRENT.get();
+        if (routing != null) {
+            routing.written = true;
+        }
+    }
+
+    public boolean hasWritten() {
+        return written;
+    }
+}
@@ -0,0 +1,51 @@
+package com.loa.scheduler.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본, 나머지는 primary 로 보내는 DataSource
+ * 트랜잭션 속성이 정해진 뒤 커넥션을 고르도록 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private final Counter primaryCounter;
+    private final Counter replicaCounter;
+    private final Counter pinnedCounter;
+    private final Counter forcedCounter;
+
+    public ReadWriteRoutingDataSource(MeterRegistry meterRegistry) {
+        this.primaryCounter = Counter.builder("datasource.routing").tag("target", PRIMARY).tag("reason", "write").register(meterRegistry);
+        this.replicaCounter = Counter.builder("datasource.routing").tag("target", REPLICA).tag("reason", "read_only").register(meterRegistry);
+        this.pinnedCounter = Counter.builder("datasource.routing").tag("target", PRIMARY).tag("reason", "pinned").register(meterRegistry);
+        this.forcedCounter = Counter.builder("datasource.routing").tag("target", PRIMARY).tag("reason", "forced").register(meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            // 방금 쓰기를 한 클라이언트는 복제 지연 동안 primary 에서 읽음
+            if (ReadWriteRouting.isPrimaryPinned()) {
+                pinnedCounter.increment();
+                return PRIMARY;
+            }
+            if (ReadWriteRouting.isPrimaryForced()) {
+                forcedCounter.increment();
+                return PRIMARY;
+            }
+            replicaCounter.increment();
+            return REPLICA;
+        }
+
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            ReadWriteRouting.markWritten();
+        }
+        primaryCounter.increment();
+        return PRIMARY;
+    }
+}
@@ -0,0 +1,231 @@
+package com.loa.scheduler.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청 단위 경량 추적
+ * 요청 스레드에 묶인 trace 에 구간(span)을 트리 형태로 기록한다.
+ * 현재 trace 가 없으면(스케줄 작업 등) 구간 기록은 아무 일도 하지 않는다.
+ *
+ * 구간 분류: db(리포지토리 호출), serialization(응답 JSON), sse(브로드캐스트)
+ */
+public final class RequestTrace {
+
+    public static final String CATEGORY_DB = "db";
+    public static final String CATEGORY_SERIALIZATION = "serialization";
+    public static final String CATEGORY_SSE = "sse";
+
+    // 한 요청에서 기록하는 최대 구간 수 (N+1 요청이 메모리를 과하게 쓰지 않도록)
+    private static final int MAX_SPANS = 256;
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+    private final String correlationId;
+    private final String method;
+    private final String uri;
+    private final long startEpochMillis = System.currentTimeMillis();
+    private final long startNanos = System.nanoTime();
+    private final List<SpanRecord> spans = new ArrayList<>();
+
+    // 현재 열려 있는 가장 안쪽 구간 (-1 이면 요청 루트)
+    private int openSpan = -1;
+    private int droppedSpans;
+    private long durationNanos = -1;
+    private int status;
+
+    private RequestTrace(String correlationId, String method, String uri) {
+        this.correlationId = correlationId;
+        this.method = method;
+        this.uri = uri;
+    }
+
+    /**
+     * 현재 스레드에서 추적 시작
+     */
+    public static RequestTrace begin(String correlationId, String method, String uri) {
+        RequestTrace trace = new RequestTrace(correlationId, method, uri);
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    public static RequestTrace current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 추적 종료 - 이후에는 변경되지 않음
+     */
+    public void end(int status) {
+        this.status = status;
+        this.durationNanos = System.nanoTime() - startNanos;
+        if (CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * 구간 시작 (try-with-resources 로 닫음)
+     */
+    public static Span span(String category, String name) {
+        RequestTrace trace = CURRENT.get();
+        if (trace == null || trace.spans.size() >= MAX_SPANS) {
+            if (trace != null) {
+                trace.droppedSpans++;
+            }
+            return Span.NOOP;
+        }
+        SpanRecord record = new SpanRecord(category, name, trace.openSpan, trace.depthOf(trace.openSpan) + 1,
+            System.nanoTime() - trace.startNanos);
+        trace.spans.add(record);
+        trace.openSpan = trace.spans.size() - 1;
+        return new Span(trace, trace.openSpan);
+    }
+
+    /**
+     * 이미 끝난 구간 기록 (시작 시점을 알 수 없고 소요 시간만 아는 경우)
+     */
+    public static void recordCompleted(String category, String name, long durationNanos) {
+        RequestTrace trace = CURRENT.get();
+        if (trace == null) {
+            return;
+        }
+        if (trace.spans.size() >= MAX_SPANS) {
+            trace.droppedSpans++;
+            return;
+        }
+        long endOffset = System.nanoTime() - trace.startNanos;
+        SpanRecord record = new SpanRecord(category, name, trace.openSpan, trace.depthOf(trace.openSpan) + 1,
+            Math.max(endOffset - durationNanos, 0));
+        record.durationNanos = durationNanos;
+        trace.spans.add(record);
+    }
+
+    private int depthOf(int index) {
+        return index < 0 ? -1 : spans.get(index).depth;
+    }
+
+    public String getCorrelationId() { return correlationId; }
+    public String getMethod() { return method; }
+    public String getUri() { return uri; }
+    public int getStatus() { return status; }
+    public long getDurationNanos() { return durationNanos; }
+    public long getStartEpochMillis() { return startEpochMillis; }
+    public List<SpanRecord> getSpans() { return Collections.unmodifiableList(spans); }
+
+    /**
+     * 분류별 소요 시간 (ms) - 같은 분류 구간이 중첩되면 바깥 구간만 합산
+     */
+    public Map<String, Double> phaseMillis() {
+        Map<String, Double> phases = new LinkedHashMap<>();
+        double categorized = 0;
+        for (SpanRecord span : spans) {
+            if (span.durationNanos < 0 || hasAncestorOfCategory(span)) {
+                continue;
+            }
+            double millis = span.durationNanos / 1e6;
+            phases.merge(span.category, millis, Double::sum);
+            if (span.parent < 0) {
+                categorized += millis;
+            }
+        }
+        if (durationNanos >= 0) {
+            phases.put("other", Math.max(durationNanos / 1e6 - categorized, 0));
+        }
+        return phases;
+    }
+
+    private boolean hasAncestorOfCategory(SpanRecord span) {
+        for (int parent = span.parent; parent >= 0; parent = spans.get(parent).parent) {
+            if (spans.get(parent).category.equals(span.category)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 조회 API 용 표현 (구간은 시작 순서, depth 로 트리 표현)
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("correlationId", correlationId);
+        map.put("method", method);
+        map.put("uri", uri);
+        map.put("status", status);
+        map.put("startedAt", startEpochMillis);
+        map.put("durationMs", durationNanos / 1e6);
+        map.put("phases", phaseMillis());
+        List<Map<String, Object>> spanList = new ArrayList<>(spans.size());
+        for (SpanRecord span : spans) {
+            Map<String, Object> spanMap = new LinkedHashMap<>();
+            spanMap.put("category", span.category);
+            spanMap.put("name", span.name);
+            spanMap.put("depth", span.depth);
+            spanMap.put("startMs", span.startOffsetNanos / 1e6);
+            spanMap.put("durationMs", span.durationNanos / 1e6);
+            spanList.add(spanMap);
+        }
+        map.put("spans", spanList);
+        if (droppedSpans > 0) {
+            map.put("droppedSpans", droppedSpans);
+        }
+        return map;
+    }
+
+    /**
+     * 구간 기록
+     */
+    public static final class SpanRecord {
+        private final String category;
+        private final String name;
+        private final int parent;
+        private final int depth;
+        private final long startOffsetNanos;
+        private long durationNanos = -1; // 열려 있으면 -1
+
+        private SpanRecord(String category, String name, int parent, int depth, long startOffsetNanos) {
+            this.category = category;
+            this.name = name;
+            this.parent = parent;
+            this.depth = depth;
+            this.startOffsetNanos = startOffsetNanos;
+        }
+
+        public String getCategory() { return category; }
+        public String getName() { return name; }
+        public int getDepth() { return depth; }
+        public long getStartOffsetNanos() { return startOffsetNanos; }
+        public long getDurationNanos() { return durationNanos; }
+    }
+
+    /**
+     * 열린 구간 - close() 로 종료
+     */
+    public static final class Span implements AutoCloseable {
+        static final Span NOOP = new Span(null, -1);
+
+        private final RequestTrace trace;
+        private final int index;
+
+        private Span(RequestTrace trace, int index) {
+            this.trace = trace;
+            this.index = index;
+        }
+
+        @Override
+        public void close() {
+            if (trace == null) {
+                return;
+            }
+            SpanRecord record = trace.spans.get(index);
+            if (record.durationNanos < 0) {
+                record.durationNanos = System.nanoTime() - trace.startNanos - record.startOffsetNanos;
+                trace.openSpan = record.parent;
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.loa.scheduler.util;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 고빈도 로그 카테고리 샘플링 (logback turbo filter)
+ * loggerPrefix 로 시작하는 로거의 INFO 이하 이벤트를 sampleRate 건 중 1건만 기록한다.
+ * WARN 이상은 항상 기록하며, 이벤트 객체가 만들어지기 전에 판단하므로 버려지는 로그는 할당이 없다.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private String loggerPrefix;
+    private int sampleRate = 1;
+
+    private final AtomicLong counter = new AtomicLong();
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (sampleRate <= 1 || level == null || loggerPrefix == null
+                || level.isGreaterOrEqual(Level.WARN) || !logger.getName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+        // 레벨상 어차피 기록되지 않는 호출은 샘플 카운트에서 제외
+        // (logger.isEnabledFor 는 turbo filter 를 다시 호출하므로 사용하지 않음)
+        if (!level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        return counter.getAndIncrement() % sampleRate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    public String getLoggerPrefix() {
+        return loggerPrefix;
+    }
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(int sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+}
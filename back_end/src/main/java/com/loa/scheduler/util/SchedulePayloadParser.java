@@ -0,0 +1,61 @@
+package com.loa.scheduler.util;
+
+import com.loa.scheduler.entity.Schedule;
+import com.loa.scheduler.entity.ScheduleId;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 프론트엔드 스케줄 일괄 저장 요청 변환
+ * { "schedules": { "1파티-하기르": [{ "name": "캐릭터" }, ...] }, "scheduleFinish": { "1파티-하기르": true } }
+ * 형태를 raid_schedule 행(파티, 레이드, 캐릭터, 완료 여부)으로 펼친다.
+ */
+public final class SchedulePayloadParser {
+
+    private SchedulePayloadParser() {}
+
+    /**
+     * 같은 키(파티, 레이드, 캐릭터)가 중복되면 마지막 값으로
+     */
+    public static Map<ScheduleId, Schedule> parse(Map<String, Object> scheduleData) {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> schedules = (Map<String, Object>) scheduleData.get("schedules");
+        @SuppressWarnings("unchecked")
+        Map<String, Boolean> scheduleFinish = (Map<String, Boolean>) scheduleData.get("scheduleFinish");
+        if (schedules == null) {
+            throw new IllegalArgumentException("schedules 가 없습니다.");
+        }
+
+        Map<ScheduleId, Schedule> result = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : schedules.entrySet()) {
+            String key = entry.getKey(); // "1파티-하기르" 형태
+            String[] parts = key.split("-");
+            if (parts.length != 2) {
+                continue;
+            }
+            String partyName = parts[0];
+            String raidName = parts[1];
+
+            @SuppressWarnings("unchecked")
+            List<Map<String, Object>> characters = (List<Map<String, Object>>) entry.getValue();
+            if (characters == null) {
+                continue;
+            }
+
+            // 완료 상태 확인
+            String isFinish = (scheduleFinish != null && Boolean.TRUE.equals(scheduleFinish.get(key))) ? "Y" : "N";
+
+            // 각 캐릭터를 별도 행으로
+            for (Map<String, Object> character : characters) {
+                String characterName = (String) character.get("name");
+                if (characterName != null && !characterName.trim().isEmpty()) {
+                    result.put(new ScheduleId(partyName, raidName, characterName),
+                        new Schedule(partyName, raidName, characterName, isFinish));
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,60 @@
+package com.loa.scheduler.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 요청을 한 번의 계산으로 합치기 (single-flight)
+ * 처음 들어온 요청이 계산하고, 계산 중에 들어온 요청은 그 결과를 기다려 함께 받는다.
+ * 결과는 보관하지 않으므로 계산이 끝난 뒤 들어온 요청은 새로 계산한다.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder shared = new LongAdder();
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            shared.increment();
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                // 계산한 요청과 같은 예외를 그대로 전달
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                throw e;
+            }
+        }
+
+        try {
+            V value = loader.get();
+            created.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    /**
+     * 다른 요청의 결과를 공유받은 요청 수 (누적)
+     */
+    public long sharedCount() {
+        return shared.sum();
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+}
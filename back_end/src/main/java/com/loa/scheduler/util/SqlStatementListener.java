@@ -0,0 +1,69 @@
+package com.loa.scheduler.util;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * JDBC 프록시 리스너 - 실행된 SQL 수, 행 수, JDBC 시간을 현재 측정 구간에 누적
+ */
+public class SqlStatementListener implements QueryExecutionListener, MethodExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlStatementStats stats = SqlStatementStats.current();
+        if (stats != null) {
+            stats.queryStarted();
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlStatementStats stats = SqlStatementStats.current();
+        if (stats != null) {
+            stats.queryFinished(updatedRows(execInfo.getResult()));
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    /**
+     * ResultSet.next() 가 true 를 반환할 때마다 조회 행 수 증가
+     */
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (!(executionContext.getTarget() instanceof ResultSet)
+                || !"next".equals(executionContext.getMethod().getName())
+                || !Boolean.TRUE.equals(executionContext.getResult())) {
+            return;
+        }
+        SqlStatementStats stats = SqlStatementStats.current();
+        if (stats != null) {
+            stats.rowRead();
+        }
+    }
+
+    private static long updatedRows(Object result) {
+        if (result instanceof Integer) {
+            return Math.max((Integer) result, 0);
+        }
+        if (result instanceof Long) {
+            return Math.max((Long) result, 0);
+        }
+        if (result instanceof int[]) {
+            long sum = 0;
+            for (int count : (int[]) result) {
+                sum += Math.max(count, 0);
+            }
+            return sum;
+        }
+        return 0;
+    }
+}
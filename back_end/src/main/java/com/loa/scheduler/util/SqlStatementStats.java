@@ -0,0 +1,81 @@
+package com.loa.scheduler.util;
+
+/**
+ * 요청(또는 측정 구간) 단위 SQL 실행 통계
+ * JDBC 프록시 리스너가 현재 스레드의 측정 구간에 누적한다.
+ * 구간은 중첩 가능하며, 안쪽 구간이 끝나면 바깥 구간에 합산된다.
+ */
+public final class SqlStatementStats {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private final SqlStatementStats parent;
+    private int statements;
+    private long rows;
+    private long jdbcNanos;
+
+    // beforeQuery ~ afterQuery 사이 시작 시각
+    private long queryStartNanos;
+
+    private SqlStatementStats(SqlStatementStats parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * 현재 스레드에서 측정 시작
+     */
+    public static SqlStatementStats begin() {
+        SqlStatementStats stats = new SqlStatementStats(CURRENT.get());
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * 측정 종료 - 바깥 구간이 있으면 합산 후 복원
+     */
+    public static SqlStatementStats end(SqlStatementStats stats) {
+        if (stats.parent != null) {
+            stats.parent.statements += stats.statements;
+            stats.parent.rows += stats.rows;
+            stats.parent.jdbcNanos += stats.jdbcNanos;
+            CURRENT.set(stats.parent);
+        } else {
+            CURRENT.remove();
+        }
+        return stats;
+    }
+
+    /**
+     * 현재 측정 구간 (없으면 null)
+     */
+    public static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+
+    void queryStarted() {
+        queryStartNanos = System.nanoTime();
+    }
+
+    void queryFinished(long affectedRows) {
+        statements++;
+        rows += affectedRows;
+        if (queryStartNanos != 0) {
+            jdbcNanos += System.nanoTime() - queryStartNanos;
+            queryStartNanos = 0;
+        }
+    }
+
+    void rowRead() {
+        rows++;
+    }
+
+    // JDBC 실행 횟수 (배치 실행은 1회)
+    public int getStatements() { return statements; }
+
+    // 조회된 행 + 변경된 행 수
+    public long getRows() { return rows; }
+
+    public long getJdbcNanos() { return jdbcNanos; }
+
+    public long getJdbcMillis() { return jdbcNanos / 1_000_000; }
+}
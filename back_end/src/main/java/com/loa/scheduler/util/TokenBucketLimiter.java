@@ -0,0 +1,150 @@
+package com.loa.scheduler.util;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 클라이언트별 토큰 버킷 (락 없음)
+ * - 버킷 상태는 "버킷이 가득 차는 시각" long 하나 (GCRA) → 토큰 차감/보충이 CAS 한 번
+ * - 키를 해시로 여러 조각(stripe)에 나눠 보관, 조각마다 버킷 수 상한
+ * - 조각이 가득 차면 그 조각만 훑어 가득 찬(한동안 요청이 없던) 버킷을 제거 - 새 버킷과 같은 상태라 잃는 정보 없음
+ * - 그래도 자리가 없으면 새 클라이언트들은 공용 버킷 하나를 나눠 씀 (메모리 상한 유지, 제한은 계속 적용)
+ */
+public final class TokenBucketLimiter {
+
+    private final long intervalNanos;  // 토큰 1개 보충 간격
+    private final long burstNanos;     // 버킷 크기만큼의 보충 시간
+    private final int maxBucketsPerStripe;
+    private final Stripe[] stripes;
+    private final AtomicLong overflowBucket;
+    private final LongSupplier clock;
+
+    private final AtomicLong evicted = new AtomicLong();
+    private final AtomicLong overflowed = new AtomicLong();
+
+    public TokenBucketLimiter(double permitsPerSecond, int burst, int maxBuckets, int stripeCount) {
+        this(permitsPerSecond, burst, maxBuckets, stripeCount, System::nanoTime);
+    }
+
+    public TokenBucketLimiter(double permitsPerSecond, int burst, int maxBuckets, int stripeCount, LongSupplier clock) {
+        if (permitsPerSecond <= 0 || burst < 1 || maxBuckets < 1 || stripeCount < 1) {
+            throw new IllegalArgumentException("토큰 버킷 설정이 올바르지 않습니다.");
+        }
+        this.intervalNanos = Math.max(1L, (long) (1_000_000_000L / permitsPerSecond));
+        this.burstNanos = intervalNanos * burst;
+        // 조각 수는 2의 거듭제곱 (해시 & mask)
+        int count = Integer.highestOneBit(stripeCount);
+        if (count < stripeCount) {
+            count <<= 1;
+        }
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.maxBucketsPerStripe = Math.max(1, maxBuckets / count);
+        this.clock = clock;
+        this.overflowBucket = new AtomicLong(clock.getAsLong());
+    }
+
+    /**
+     * 토큰 1개 사용 - 허용이면 0, 거부면 다음 토큰까지 남은 시간(ns)
+     * 거부된 요청은 토큰을 쓰지 않음 (계속 재시도해도 대기 시간이 늘어나지 않음)
+     */
+    public long tryAcquire(String key) {
+        long now = clock.getAsLong();
+        return consume(bucket(key, now), now);
+    }
+
+    /**
+     * 가득 찬 버킷 제거 (주기 실행) - 제거한 수
+     */
+    public int evictIdle() {
+        long now = clock.getAsLong();
+        int removed = 0;
+        for (Stripe stripe : stripes) {
+            removed += stripe.sweep(now);
+        }
+        return removed;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.buckets.size();
+        }
+        return size;
+    }
+
+    public long evictedCount() {
+        return evicted.get();
+    }
+
+    public long overflowCount() {
+        return overflowed.get();
+    }
+
+    private AtomicLong bucket(String key, long now) {
+        Stripe stripe = stripes[spread(key.hashCode()) & (stripes.length - 1)];
+        AtomicLong bucket = stripe.buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (stripe.buckets.size() >= maxBucketsPerStripe) {
+            stripe.sweep(now);
+            if (stripe.buckets.size() >= maxBucketsPerStripe) {
+                overflowed.incrementAndGet();
+                return overflowBucket;
+            }
+        }
+        // 처음 보는 클라이언트는 가득 찬 버킷으로 시작
+        return stripe.buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+    }
+
+    private long consume(AtomicLong bucket, long now) {
+        while (true) {
+            long fullAt = bucket.get();
+            long next = (fullAt - now > 0 ? fullAt : now) + intervalNanos;
+            long wait = next - now - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(fullAt, next)) {
+                return 0;
+            }
+        }
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private final class Stripe {
+        private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+        // 한 조각을 동시에 여러 스레드가 훑지 않도록 (이미 훑는 중이면 건너뜀)
+        private final AtomicBoolean sweeping = new AtomicBoolean();
+
+        private int sweep(long now) {
+            if (!sweeping.compareAndSet(false, true)) {
+                return 0;
+            }
+            try {
+                int removed = 0;
+                Iterator<Map.Entry<String, AtomicLong>> iterator = buckets.entrySet().iterator();
+                while (iterator.hasNext()) {
+                    Map.Entry<String, AtomicLong> entry = iterator.next();
+                    if (entry.getValue().get() - now <= 0 && buckets.remove(entry.getKey(), entry.getValue())) {
+                        removed++;
+                    }
+                }
+                evicted.addAndGet(removed);
+                return removed;
+            } finally {
+                sweeping.set(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.loa.scheduler.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 내장 DB 스냅샷 복원 - DB 파일이 없을 때만 복원하고, 실패해도 반쪽 파일을 남기지 않는지 확인
+ */
+class EmbeddedDatabaseConfigTest {
+
+    @TempDir
+    Path dataDir;
+
+    @Test
+    void restoresDatabaseFileFromSnapshot() throws IOException {
+        byte[] content = randomBytes(64 * 1024);
+        writeSnapshot(EmbeddedDatabaseConfig.DATABASE_FILE, content);
+
+        EmbeddedDatabaseConfig.restoreIfMissing(dataDir);
+
+        assertThat(Files.readAllBytes(database())).isEqualTo(content);
+        assertThat(restoreTemp()).doesNotExist();
+    }
+
+    @Test
+    void existingDatabaseIsNotOverwritten() throws IOException {
+        writeSnapshot(EmbeddedDatabaseConfig.DATABASE_FILE, randomBytes(1024));
+        Files.write(database(), new byte[] {1, 2, 3});
+
+        EmbeddedDatabaseConfig.restoreIfMissing(dataDir);
+
+        assertThat(Files.readAllBytes(database())).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void snapshotWithoutDatabaseEntryIsSkipped() throws IOException {
+        writeSnapshot("other.mv.db", randomBytes(1024));
+
+        EmbeddedDatabaseConfig.restoreIfMissing(dataDir);
+
+        assertThat(database()).doesNotExist();
+    }
+
+    @Test
+    void truncatedSnapshotLeavesNoPartialFile() throws IOException {
+        Path snapshot = writeSnapshot(EmbeddedDatabaseConfig.DATABASE_FILE, randomBytes(256 * 1024));
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() / 2);
+        }
+
+        assertThatThrownBy(() -> EmbeddedDatabaseConfig.restoreIfMissing(dataDir))
+            .isInstanceOf(UncheckedIOException.class);
+        assertThat(database()).doesNotExist();
+        assertThat(restoreTemp()).doesNotExist();
+    }
+
+    private Path writeSnapshot(String entryName, byte[] content) throws IOException {
+        Path snapshot = dataDir.resolve(EmbeddedDatabaseConfig.SNAPSHOT_FILE);
+        Files.createDirectories(snapshot.getParent());
+        try (OutputStream out = Files.newOutputStream(snapshot); ZipOutputStream zip = new ZipOutputStream(out)) {
+            zip.putNextEntry(new ZipEntry(entryName));
+            zip.write(content);
+            zip.closeEntry();
+        }
+        return snapshot;
+    }
+
+    private Path database() {
+        return dataDir.resolve(EmbeddedDatabaseConfig.DATABASE_FILE);
+    }
+
+    private Path restoreTemp() {
+        return dataDir.resolve(EmbeddedDatabaseConfig.DATABASE_FILE + ".restore");
+    }
+
+    // 압축되지 않는 내용 (잘린 스냅샷이 항목 중간에서 끝나도록)
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(50).nextBytes(bytes);
+        return bytes;
+    }
+}
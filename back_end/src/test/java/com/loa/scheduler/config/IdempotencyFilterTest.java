@@ -0,0 +1,88 @@
+package com.loa.scheduler.config;
+
+import com.loa.scheduler.repository.UserRepository;
+import com.loa.scheduler.service.IdempotencyStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Idempotency-Key - 재시도는 저장된 응답으로 재생(쓰기 1회), 처리 중인 키는 409,
+ * 같은 키를 다른 본문으로 재사용하면 422
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class IdempotencyFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void clean() {
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void retryWithSameKeyReplaysStoredResponse() throws Exception {
+        String body = "{\"name\":\"재시도유저\",\"color\":\"#ffffff\",\"seq\":1}";
+        MvcResult first = mockMvc.perform(post("/api/user").header(IdempotencyFilter.HEADER, "key-replay")
+                .contentType(MediaType.APPLICATION_JSON).content(body))
+            .andExpect(status().isOk())
+            .andReturn();
+
+        // 컨트롤러가 다시 실행됐다면 이미 있는 이름이라 409
+        MvcResult second = mockMvc.perform(post("/api/user").header(IdempotencyFilter.HEADER, "key-replay")
+                .contentType(MediaType.APPLICATION_JSON).content(body))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Idempotent-Replayed", "true"))
+            .andReturn();
+
+        assertThat(second.getResponse().getContentAsString()).isEqualTo(first.getResponse().getContentAsString());
+        assertThat(userRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void sameKeyWithDifferentBodyIsRejected() throws Exception {
+        mockMvc.perform(post("/api/user").header(IdempotencyFilter.HEADER, "key-mismatch")
+                .contentType(MediaType.APPLICATION_JSON).content("{\"name\":\"첫번째\",\"color\":\"#ffffff\",\"seq\":1}"))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/user").header(IdempotencyFilter.HEADER, "key-mismatch")
+                .contentType(MediaType.APPLICATION_JSON).content("{\"name\":\"두번째\",\"color\":\"#ffffff\",\"seq\":2}"))
+            .andExpect(status().isUnprocessableEntity());
+
+        assertThat(userRepository.existsByName("두번째")).isFalse();
+    }
+
+    @Test
+    void inFlightKeyIsRejectedWithConflict() throws Exception {
+        String body = "{\"name\":\"처리중유저\",\"color\":\"#ffffff\",\"seq\":1}";
+        // 다른 요청이 같은 키로 처리 중인 상태
+        assertThat(idempotencyStore.reserve("POST /api/user key-in-flight", null)).isTrue();
+
+        mockMvc.perform(post("/api/user").header(IdempotencyFilter.HEADER, "key-in-flight")
+                .contentType(MediaType.APPLICATION_JSON).content(body))
+            .andExpect(status().isConflict());
+        assertThat(userRepository.existsByName("처리중유저")).isFalse();
+
+        idempotencyStore.release("POST /api/user key-in-flight");
+    }
+}
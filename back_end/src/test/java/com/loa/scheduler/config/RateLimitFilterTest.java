@@ -0,0 +1,132 @@
+package com.loa.scheduler.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.WebSocket;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청 속도 제한 - 쓰기 버킷 하나(토큰 1개)를 REST 요청과 웹소켓 편집 명령이 함께 사용
+ * 테스트마다 다른 클라이언트 IP (로컬 프록시에서 온 X-Forwarded-For) 로 버킷을 나눔
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "rate-limit.enabled=true",
+    "rate-limit.write.burst=1",
+    "rate-limit.write.permits-per-second=0.001"
+})
+@ActiveProfiles("test")
+class RateLimitFilterTest {
+
+    private static final String ORIGIN = "http://localhost:19014";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    void rejectedRequestCarriesCorsHeaders() throws Exception {
+        assertThat(post("203.0.113.1").statusCode()).isNotEqualTo(429);
+
+        // 브라우저가 429 와 Retry-After 를 읽으려면 CORS 헤더가 있어야 함
+        HttpResponse<String> rejected = post("203.0.113.1");
+        assertThat(rejected.statusCode()).isEqualTo(429);
+        assertThat(rejected.headers().firstValue(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN)).hasValue(ORIGIN);
+        assertThat(rejected.headers().firstValue(HttpHeaders.RETRY_AFTER)).isPresent();
+    }
+
+    @Test
+    void socketCommandsShareTheWriteBucket() throws Exception {
+        Client client = new Client("203.0.113.2");
+        try {
+            // 토큰 하나를 명령 하나가 사용 (작업이 비어 거절되어도 실행은 시도했으므로 사용)
+            client.send(Map.of("id", "c1", "type", "board", "operations", List.of()));
+            assertThat(client.next().has("retryAfter")).isFalse();
+
+            client.send(Map.of("id", "c2", "type", "board", "operations", List.of()));
+            JsonNode limited = client.next();
+            assertThat(limited.get("type").asText()).isEqualTo("error");
+            assertThat(limited.get("id").asText()).isEqualTo("c2");
+            assertThat(limited.get("retryAfter").asLong()).isPositive();
+
+            // ping 은 토큰을 쓰지 않음
+            client.send(Map.of("id", "p1", "type", "ping"));
+            assertThat(client.next().get("type").asText()).isEqualTo("pong");
+        } finally {
+            client.close();
+        }
+
+        // 같은 IP 의 REST 쓰기도 같은 버킷
+        assertThat(post("203.0.113.2").statusCode()).isEqualTo(429);
+    }
+
+    private HttpResponse<String> post(String clientIp) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/board/ops"))
+            .header(HttpHeaders.ORIGIN, ORIGIN)
+            .header("X-Forwarded-For", clientIp)
+            .header(HttpHeaders.CONTENT_TYPE, "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString("{\"operations\": []}"))
+            .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private class Client implements WebSocket.Listener {
+
+        private final BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+        private final StringBuilder partial = new StringBuilder();
+        private final WebSocket socket;
+
+        Client(String clientIp) throws Exception {
+            socket = httpClient.newWebSocketBuilder()
+                .header("X-Forwarded-For", clientIp)
+                .buildAsync(URI.create("ws://localhost:" + port + "/api/ws"), this)
+                .get(5, TimeUnit.SECONDS);
+        }
+
+        void send(Object command) throws Exception {
+            socket.sendText(objectMapper.writeValueAsString(command), true).get(5, TimeUnit.SECONDS);
+        }
+
+        JsonNode next() throws Exception {
+            String message = messages.poll(5, TimeUnit.SECONDS);
+            assertThat(message).as("웹소켓 메시지 수신").isNotNull();
+            return objectMapper.readTree(message);
+        }
+
+        void close() {
+            socket.sendClose(WebSocket.NORMAL_CLOSURE, "").join();
+        }
+
+        @Override
+        public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+            partial.append(data);
+            if (last) {
+                messages.add(partial.toString());
+                partial.setLength(0);
+            }
+            webSocket.request(1);
+            return null;
+        }
+    }
+}
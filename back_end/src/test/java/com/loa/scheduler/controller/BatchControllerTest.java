@@ -0,0 +1,109 @@
+package com.loa.scheduler.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loa.scheduler.entity.Charactors;
+import com.loa.scheduler.entity.Schedule;
+import com.loa.scheduler.repository.CharactorsRepository;
+import com.loa.scheduler.repository.ScheduleRepository;
+import com.loa.scheduler.service.DataVersionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.loa.scheduler.support.QueryBudget.assertStatementsAtMost;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 일괄 작업 API (/api/batch)
+ * 드래그 한 번(파티 간 이동 + 캐릭터 순서 변경)이 한 트랜잭션, 한 번의 변경 이벤트로 처리되는지 확인
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BatchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private CharactorsRepository charactorsRepository;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @BeforeEach
+    void seed() {
+        scheduleRepository.deleteAllInBatch();
+        charactorsRepository.deleteAllInBatch();
+        charactorsRepository.saveAll(List.of(
+            new Charactors("캐릭터A", "N", "유저1", 1),
+            new Charactors("캐릭터B", "N", "유저1", 2),
+            new Charactors("캐릭터C", "Y", "유저2", 1)));
+        scheduleRepository.saveAll(List.of(
+            new Schedule("1파티", "카멘", "캐릭터A", "N"),
+            new Schedule("1파티", "카멘", "캐릭터B", "N")));
+    }
+
+    @Test
+    void dragAcrossPartiesRunsAsOneBatch() throws Exception {
+        long scheduleVersion = dataVersionService.current(DataVersionService.SCHEDULE);
+        long charactorsVersion = dataVersionService.current(DataVersionService.CHARACTORS);
+
+        List<Map<String, Object>> operations = List.of(
+            Map.of("type", "schedule-replace", "party", "1파티", "raidName", "카멘", "characters", List.of("캐릭터B"), "isFinish", false),
+            Map.of("type", "schedule-replace", "party", "2파티", "raidName", "카멘", "characters", List.of("캐릭터A", "캐릭터C"), "isFinish", false),
+            Map.of("type", "character-update", "name", "캐릭터A", "seq", 3));
+
+        // 칸별 조회 2 + 캐릭터 조회 1 + 배치 실행 (DELETE, INSERT, UPDATE) + 칸별 보드 시각 삭제 2
+        assertStatementsAtMost(8, () -> mockMvc.perform(post("/api/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("operations", operations))))
+            .andExpect(status().isOk()));
+
+        assertThat(scheduleRepository.findByIdAndRaidName("1파티", "카멘"))
+            .extracting(Schedule::getCharacterName).containsExactly("캐릭터B");
+        assertThat(scheduleRepository.findByIdAndRaidName("2파티", "카멘"))
+            .extracting(Schedule::getCharacterName).containsExactlyInAnyOrder("캐릭터A", "캐릭터C");
+        assertThat(charactorsRepository.findById("캐릭터A").orElseThrow().getSeq()).isEqualTo(3);
+
+        // 변경 이벤트 한 번 - 바뀐 리소스마다 버전이 한 번씩만 오름
+        assertThat(dataVersionService.current(DataVersionService.SCHEDULE)).isEqualTo(scheduleVersion + 1);
+        assertThat(dataVersionService.current(DataVersionService.CHARACTORS)).isEqualTo(charactorsVersion + 1);
+    }
+
+    @Test
+    void failedOperationRollsBackWholeBatch() throws Exception {
+        long scheduleVersion = dataVersionService.current(DataVersionService.SCHEDULE);
+
+        List<Map<String, Object>> operations = List.of(
+            Map.of("type", "schedule-replace", "party", "1파티", "raidName", "카멘", "characters", List.of()),
+            Map.of("type", "character-update", "name", "없는캐릭터", "seq", 1));
+
+        MvcResult result = mockMvc.perform(post("/api/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("operations", operations))))
+            .andExpect(status().isBadRequest())
+            .andReturn();
+
+        assertThat(objectMapper.readTree(result.getResponse().getContentAsByteArray()).get("index").asInt()).isEqualTo(1);
+        assertThat(scheduleRepository.findByIdAndRaidName("1파티", "카멘")).hasSize(2);
+        assertThat(dataVersionService.current(DataVersionService.SCHEDULE)).isEqualTo(scheduleVersion);
+    }
+}
@@ -0,0 +1,249 @@
+package com.loa.scheduler.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loa.scheduler.entity.BoardClock;
+import com.loa.scheduler.entity.Schedule;
+import com.loa.scheduler.repository.BoardClockRepository;
+import com.loa.scheduler.repository.ScheduleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 레이드 보드 작업 API (/api/board/ops)
+ * 같은 칸을 동시에 편집한 두 멤버의 변경이 모두 남는지, 작업 도착 순서와 관계없이 같은 보드가 되는지 확인
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BoardControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private BoardClockRepository boardClockRepository;
+
+    @BeforeEach
+    void seed() {
+        reset();
+    }
+
+    @Test
+    void concurrentEditsOnSameCellBothSurvive() throws Exception {
+        // 두 멤버가 같은 화면(캐릭터A, 캐릭터B)에서 각각 추가와 제외
+        send(List.of(add("캐릭터C", 1, "tab-a")), status().isOk());
+        send(List.of(remove("캐릭터A", 1, "tab-b")), status().isOk());
+
+        assertThat(members()).containsExactlyInAnyOrder("캐릭터B", "캐릭터C");
+    }
+
+    @Test
+    void olderOperationIsNotApplied() throws Exception {
+        send(List.of(remove("캐릭터A", 5, "tab-a")), status().isOk());
+
+        // 제외보다 먼저 만들어졌지만 늦게 도착한 추가 - 반영하지 않고 서버 시각을 돌려줌
+        JsonNode body = send(List.of(add("캐릭터A", 3, "tab-b")), status().isOk());
+        assertThat(body.get("applied").asInt()).isZero();
+        assertThat(body.get("lamport").asLong()).isGreaterThanOrEqualTo(5);
+        assertThat(members()).containsExactly("캐릭터B");
+    }
+
+    @Test
+    void shuffledArrivalOrdersConverge() throws Exception {
+        List<Map<String, Object>> operations = List.of(
+            add("캐릭터C", 1, "tab-a"),
+            remove("캐릭터A", 2, "tab-a"),
+            add("캐릭터A", 2, "tab-b"),
+            finish(true, 3, "tab-b"),
+            remove("캐릭터C", 3, "tab-c"),
+            add("캐릭터D", 4, "tab-c"),
+            finish(false, 4, "tab-a"),
+            remove("캐릭터B", 5, "tab-b"));
+
+        List<String> expected = null;
+        Random random = new Random(46);
+        for (int round = 0; round < 5; round++) {
+            reset();
+            List<Map<String, Object>> shuffled = new ArrayList<>(operations);
+            Collections.shuffle(shuffled, random);
+            for (Map<String, Object> operation : shuffled) {
+                send(List.of(operation), status().isOk());
+            }
+
+            List<String> board = new ArrayList<>();
+            for (Schedule schedule : scheduleRepository.findByIdAndRaidName("1파티", "카멘")) {
+                board.add(schedule.getCharacterName() + ":" + schedule.getIsFinish());
+            }
+            Collections.sort(board);
+            if (expected == null) {
+                expected = board;
+            }
+            assertThat(board).as("도착 순서 %s", shuffled).isEqualTo(expected);
+        }
+        assertThat(expected).containsExactly("캐릭터A:N", "캐릭터D:N");
+    }
+
+    @Test
+    void operationWithoutStampIsRejected() throws Exception {
+        JsonNode body = send(List.of(Map.of("type", "add", "party", "1파티", "raidName", "카멘", "character", "캐릭터C")),
+            status().isBadRequest());
+
+        assertThat(body.get("index").asInt()).isZero();
+        assertThat(members()).containsExactlyInAnyOrder("캐릭터A", "캐릭터B");
+    }
+
+    @Test
+    void operationFarAheadOfServerClockIsRejected() throws Exception {
+        long server = send(List.of(add("캐릭터C", 10, "tab-a")), status().isOk()).get("lamport").asLong();
+
+        // 서버 시각보다 허용 범위를 넘게 앞선 작업 - 반영하면 이후 모든 작업이 밀림
+        JsonNode body = send(List.of(add("캐릭터D", server + 1, "tab-b"), add("캐릭터E", server + 100_001, "tab-b")),
+            status().isBadRequest());
+
+        assertThat(body.get("index").asInt()).isEqualTo(1);
+        assertThat(members()).containsExactlyInAnyOrder("캐릭터A", "캐릭터B", "캐릭터C");
+        assertThat(send(List.of(add("캐릭터E", server + 100_000, "tab-b")), status().isOk()).get("applied").asInt()).isEqualTo(1);
+    }
+
+    @Test
+    void serverClockIsRefreshedFromStoredClocksBeforeRejecting() throws Exception {
+        long server = send(List.of(add("캐릭터C", 10, "tab-a")), status().isOk()).get("lamport").asLong();
+
+        // 이 인스턴스를 거치지 않고 저장된 시각 (다른 인스턴스의 병합)
+        BoardClock clock = new BoardClock("2파티", "카멘", "캐릭터X");
+        clock.setLamport(server + 100_000);
+        clock.setReplica("other-node");
+        clock.setState("Y");
+        boardClockRepository.save(clock);
+
+        // 캐시된 서버 시각으로는 허용 범위를 넘지만 저장된 시각 기준으로는 범위 안
+        JsonNode body = send(List.of(add("캐릭터D", server + 150_000, "tab-b")), status().isOk());
+        assertThat(body.get("applied").asInt()).isEqualTo(1);
+        assertThat(body.get("lamport").asLong()).isEqualTo(server + 150_000);
+        assertThat(members()).containsExactlyInAnyOrder("캐릭터A", "캐릭터B", "캐릭터C", "캐릭터D");
+    }
+
+    @Test
+    void finishToggleAndFullSaveClearBoardClocks() throws Exception {
+        send(List.of(add("캐릭터C", 1, "tab-a"), finish(true, 2, "tab-a")), status().isOk());
+
+        mockMvc.perform(put("/api/Schedule/finish/1파티/카멘")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"isFinish\": false}"))
+            .andExpect(status().isOk());
+        assertThat(boardClockRepository.findByIdAndRaidName("1파티", "카멘"))
+            .extracting(BoardClock::getElement)
+            .containsExactly("캐릭터C");
+
+        mockMvc.perform(post("/api/Schedule/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"schedules\": {}}"))
+            .andExpect(status().isOk());
+        assertThat(boardClockRepository.count()).isZero();
+    }
+
+    @Test
+    void batchReplaceClearsCellClocksBeforeNextBoardOp() throws Exception {
+        // 보드 작업으로 캐릭터A 제외와 완료 처리가 높은 시각으로 남아 있음
+        send(List.of(remove("캐릭터A", 100, "tab-a"), finish(true, 100, "tab-a")), status().isOk());
+
+        // 일괄 작업으로 칸 전체를 다시 정함 (캐릭터A 복귀, 미완료)
+        List<Map<String, Object>> operations = List.of(
+            Map.of("type", "schedule-replace", "party", "1파티", "raidName", "카멘",
+                "characters", List.of("캐릭터A", "캐릭터B", "캐릭터D"), "isFinish", false));
+        mockMvc.perform(post("/api/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("operations", operations))))
+            .andExpect(status().isOk());
+        assertThat(boardClockRepository.findByIdAndRaidName("1파티", "카멘")).isEmpty();
+
+        // 이후 보드 작업은 일괄 작업 결과 위에 합쳐짐 - 캐릭터A와 미완료 상태가 유지됨
+        JsonNode body = send(List.of(add("캐릭터C", 2, "tab-b")), status().isOk());
+        assertThat(body.get("applied").asInt()).isEqualTo(1);
+        assertThat(members()).containsExactlyInAnyOrder("캐릭터A", "캐릭터B", "캐릭터C", "캐릭터D");
+        assertThat(scheduleRepository.findByIdAndRaidName("1파티", "카멘"))
+            .extracting(Schedule::getIsFinish)
+            .containsOnly("N");
+        assertThat(boardClockRepository.findByIdAndRaidName("1파티", "카멘"))
+            .extracting(BoardClock::getElement)
+            .containsExactly("캐릭터C");
+    }
+
+    @Test
+    void freshTabStampsAfterServerClock() throws Exception {
+        // 다른 탭이 오래 편집해서 칸에 높은 시각이 남아 있음
+        send(List.of(remove("캐릭터A", 500, "tab-a")), status().isOk());
+
+        // 기록이 없는 새 탭: 조회한 서버 시각 다음 시각으로 같은 요소를 다시 추가
+        String response = mockMvc.perform(get("/api/board/clock"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        long clock = objectMapper.readTree(response).get("lamport").asLong();
+        assertThat(clock).isGreaterThanOrEqualTo(500);
+
+        JsonNode body = send(List.of(add("캐릭터A", clock + 1, "tab-new")), status().isOk());
+        assertThat(body.get("applied").asInt()).isEqualTo(1);
+        assertThat(members()).containsExactlyInAnyOrder("캐릭터A", "캐릭터B");
+    }
+
+    private void reset() {
+        scheduleRepository.deleteAllInBatch();
+        boardClockRepository.deleteAllInBatch();
+        scheduleRepository.saveAll(List.of(
+            new Schedule("1파티", "카멘", "캐릭터A", "N"),
+            new Schedule("1파티", "카멘", "캐릭터B", "N")));
+    }
+
+    private JsonNode send(List<Map<String, Object>> operations, ResultMatcher expected) throws Exception {
+        String response = mockMvc.perform(post("/api/board/ops")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("operations", operations))))
+            .andExpect(expected)
+            .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response);
+    }
+
+    private List<String> members() {
+        return scheduleRepository.findByIdAndRaidName("1파티", "카멘").stream()
+            .map(Schedule::getCharacterName)
+            .toList();
+    }
+
+    private static Map<String, Object> add(String character, long lamport, String replica) {
+        return Map.of("type", "add", "party", "1파티", "raidName", "카멘", "character", character, "lamport", lamport, "replica", replica);
+    }
+
+    private static Map<String, Object> remove(String character, long lamport, String replica) {
+        return Map.of("type", "remove", "party", "1파티", "raidName", "카멘", "character", character, "lamport", lamport, "replica", replica);
+    }
+
+    private static Map<String, Object> finish(boolean isFinish, long lamport, String replica) {
+        return Map.of("type", "finish", "party", "1파티", "raidName", "카멘", "isFinish", isFinish, "lamport", lamport, "replica", replica);
+    }
+}
@@ -0,0 +1,190 @@
+package com.loa.scheduler.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loa.scheduler.config.IdempotencyFilter;
+import com.loa.scheduler.repository.ScheduleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.options;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.request;
+
+/**
+ * CORS 정책과 preflight 캐시 확인
+ * 브라우저처럼 preflight 결과를 Access-Control-Max-Age 동안 캐시하면서
+ * 드래그 앤 드롭 저장 한 번에 드는 HTTP 왕복 수를 센다 (개별 REST 요청, /api/batch 일괄 작업).
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CorsPreflightTest {
+
+    private static final String ORIGIN = "http://localhost:19014";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    private Browser browser;
+
+    @BeforeEach
+    void setUp() {
+        scheduleRepository.deleteAllInBatch();
+        browser = new Browser();
+    }
+
+    @Test
+    void preflightIsCachedAcrossDragDropSaves() throws Exception {
+        // 첫 저장: DELETE, POST 각각 preflight 1번 + 실제 요청 (DELETE 1, 캐릭터 3명 POST 3)
+        browser.resetCount();
+        dragDropSave("1파티", "카멘", List.of("캐릭터A", "캐릭터B", "캐릭터C"));
+        assertThat(browser.preflights).isEqualTo(2);
+        assertThat(browser.roundTrips()).isEqualTo(6);
+
+        // 같은 칸 다시 저장: preflight 캐시로 OPTIONS 없음
+        browser.resetCount();
+        dragDropSave("1파티", "카멘", List.of("캐릭터A", "캐릭터D", "캐릭터C"));
+        assertThat(browser.preflights).isZero();
+        assertThat(browser.roundTrips()).isEqualTo(4);
+
+        // 다른 칸: DELETE 는 URL 이 달라 preflight 1번, POST 는 캐시 사용
+        browser.resetCount();
+        dragDropSave("2파티", "카멘", List.of("캐릭터A"));
+        assertThat(browser.preflights).isEqualTo(1);
+        assertThat(browser.roundTrips()).isEqualTo(3);
+    }
+
+    @Test
+    void batchSaveNeedsOneRequestPerDrop() throws Exception {
+        // 첫 저장만 preflight 1번, 이후에는 어느 칸이든 URL 이 같아 요청 1번
+        browser.resetCount();
+        batchSave("1파티", "카멘", List.of("캐릭터A", "캐릭터B", "캐릭터C"));
+        assertThat(browser.preflights).isEqualTo(1);
+        assertThat(browser.roundTrips()).isEqualTo(2);
+
+        browser.resetCount();
+        batchSave("2파티", "카멘", List.of("캐릭터A"));
+        assertThat(browser.preflights).isZero();
+        assertThat(browser.roundTrips()).isEqualTo(1);
+
+        assertThat(scheduleRepository.count()).isEqualTo(4);
+    }
+
+    @Test
+    void preflightAdvertisesLongMaxAge() throws Exception {
+        MvcResult result = mockMvc.perform(options("/api/Schedule")
+                .header(HttpHeaders.ORIGIN, ORIGIN)
+                .header(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, "POST")
+                .header(HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS, "content-type,idempotency-key"))
+            .andReturn();
+
+        assertThat(result.getResponse().getStatus()).isEqualTo(200);
+        assertThat(result.getResponse().getHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN)).isEqualTo(ORIGIN);
+        assertThat(result.getResponse().getHeader(HttpHeaders.ACCESS_CONTROL_MAX_AGE)).isEqualTo("86400");
+    }
+
+    @Test
+    void unknownOriginIsRejected() throws Exception {
+        MvcResult result = mockMvc.perform(options("/api/Schedule")
+                .header(HttpHeaders.ORIGIN, "http://evil.example")
+                .header(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, "POST"))
+            .andReturn();
+
+        assertThat(result.getResponse().getStatus()).isEqualTo(403);
+    }
+
+    /**
+     * 개별 REST 요청으로 저장: 칸 삭제 후 캐릭터별 생성
+     */
+    private void dragDropSave(String party, String raid, List<String> characters) throws Exception {
+        browser.send(HttpMethod.DELETE, "/api/Schedule/party/" + party + "/raid/" + raid, null);
+        for (String character : characters) {
+            browser.send(HttpMethod.POST, "/api/Schedule", Map.of(
+                "id", party, "raidName", raid, "characterName", character, "isFinish", "N"));
+        }
+    }
+
+    /**
+     * 프론트엔드 saveScheduleChange 와 같은 요청: 칸 교체 작업 하나를 /api/batch 로 전송
+     */
+    private void batchSave(String party, String raid, List<String> characters) throws Exception {
+        browser.send(HttpMethod.POST, "/api/batch", Map.of("operations", List.of(Map.of(
+            "type", "schedule-replace", "party", party, "raidName", raid, "characters", characters, "isFinish", false))));
+    }
+
+    /**
+     * 브라우저 CORS 동작 흉내 (api.js 처럼 Content-Type: application/json, 쓰기는 Idempotency-Key 포함)
+     * 단순 요청이 아니므로 (메서드, URL, 헤더) 별로 preflight 를 보내고 max-age 동안 캐시한다.
+     */
+    private class Browser {
+        private final Map<String, Long> preflightCache = new HashMap<>(); // 키 -> 만료 시각 (ms)
+        private int preflights;
+        private int requests;
+
+        void send(HttpMethod method, String path, Object body) throws Exception {
+            String requestHeaders = method == HttpMethod.GET ? "accept,content-type" : "accept,content-type,idempotency-key";
+            String cacheKey = method + " " + path + " " + requestHeaders;
+
+            Long expiresAt = preflightCache.get(cacheKey);
+            if (expiresAt == null || expiresAt <= System.currentTimeMillis()) {
+                preflights++;
+                MvcResult preflight = mockMvc.perform(options(path)
+                        .header(HttpHeaders.ORIGIN, ORIGIN)
+                        .header(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, method.name())
+                        .header(HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS, requestHeaders))
+                    .andReturn();
+                assertThat(preflight.getResponse().getStatus()).as("preflight " + cacheKey).isEqualTo(200);
+
+                // max-age 가 없으면 브라우저 기본값 5초
+                String maxAge = preflight.getResponse().getHeader(HttpHeaders.ACCESS_CONTROL_MAX_AGE);
+                long maxAgeSeconds = maxAge != null ? Long.parseLong(maxAge) : 5;
+                preflightCache.put(cacheKey, System.currentTimeMillis() + maxAgeSeconds * 1000);
+            }
+
+            requests++;
+            MockHttpServletRequestBuilder builder = request(method, path)
+                .header(HttpHeaders.ORIGIN, ORIGIN)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON);
+            if (method != HttpMethod.GET) {
+                builder.header(IdempotencyFilter.HEADER, UUID.randomUUID().toString());
+            }
+            if (body != null) {
+                builder.content(objectMapper.writeValueAsBytes(body));
+            }
+            MvcResult result = mockMvc.perform(builder).andReturn();
+            assertThat(result.getResponse().getStatus()).as(method + " " + path).isLessThan(400);
+            assertThat(result.getResponse().getHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN)).isEqualTo(ORIGIN);
+        }
+
+        int roundTrips() {
+            return preflights + requests;
+        }
+
+        void resetCount() {
+            preflights = 0;
+            requests = 0;
+        }
+    }
+}
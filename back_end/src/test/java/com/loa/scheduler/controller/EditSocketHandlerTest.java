@@ -0,0 +1,192 @@
+package com.loa.scheduler.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loa.scheduler.entity.Schedule;
+import com.loa.scheduler.repository.ScheduleRepository;
+import com.loa.scheduler.service.DataVersionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 편집 웹소켓 (/api/ws)
+ * 명령 하나에 ack 하나, 변경 이벤트는 명령을 보낸 연결을 포함한 모든 연결에 전달되는지 확인
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class EditSocketHandlerTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    private Client editor;
+    private Client viewer;
+
+    @BeforeEach
+    void connect() throws Exception {
+        scheduleRepository.deleteAllInBatch();
+        scheduleRepository.save(new Schedule("1파티", "카멘", "캐릭터A", "N"));
+        editor = new Client();
+        viewer = new Client();
+    }
+
+    @AfterEach
+    void close() {
+        editor.close();
+        viewer.close();
+    }
+
+    @Test
+    void commandIsAckedWithNewVersionAndBroadcast() throws Exception {
+        long scheduleVersion = dataVersionService.current(DataVersionService.SCHEDULE);
+
+        editor.send(Map.of("id", "c1", "type", "batch", "operations", List.of(
+            Map.of("type", "schedule-replace", "party", "1파티", "raidName", "카멘", "characters", List.of("캐릭터B"), "isFinish", false))));
+
+        // 보낸 연결: 변경 이벤트 후 ack
+        JsonNode event = editor.next();
+        assertThat(event.get("type").asText()).isEqualTo("event");
+        assertThat(event.get("event").asText()).isEqualTo("batch-saved");
+        JsonNode ack = editor.next();
+        assertThat(ack.get("type").asText()).isEqualTo("ack");
+        assertThat(ack.get("id").asText()).isEqualTo("c1");
+        assertThat(ack.get("versions").get(DataVersionService.SCHEDULE).asLong()).isEqualTo(scheduleVersion + 1);
+
+        // 다른 연결: 같은 버전의 변경 이벤트
+        JsonNode broadcast = viewer.next();
+        assertThat(broadcast.get("event").asText()).isEqualTo("batch-saved");
+        assertThat(broadcast.get("data").get("versions").get(DataVersionService.SCHEDULE).asLong()).isEqualTo(scheduleVersion + 1);
+        assertThat(broadcast.get("data").has("refetchDelayMs")).isTrue();
+
+        assertThat(scheduleRepository.findByIdAndRaidName("1파티", "카멘"))
+            .extracting(Schedule::getCharacterName).containsExactly("캐릭터B");
+    }
+
+    @Test
+    void failedCommandIsRejectedOnlyToSender() throws Exception {
+        editor.send(Map.of("id", "c2", "type", "batch", "operations", List.of(
+            Map.of("type", "character-update", "name", "없는캐릭터", "seq", 1))));
+
+        JsonNode error = editor.next();
+        assertThat(error.get("type").asText()).isEqualTo("error");
+        assertThat(error.get("id").asText()).isEqualTo("c2");
+        assertThat(error.get("index").asInt()).isZero();
+
+        // 실패한 명령은 변경 이벤트 없음
+        viewer.send(Map.of("id", "p1", "type", "ping"));
+        assertThat(viewer.next().get("type").asText()).isEqualTo("pong");
+    }
+
+    @Test
+    void resentCommandIdFromSameClientIsAppliedOnce() throws Exception {
+        Map<String, Object> command = Map.of("id", "c1", "type", "batch", "operations", List.of(
+            Map.of("type", "schedule-replace", "party", "1파티", "raidName", "카멘", "characters", List.of("캐릭터B"), "isFinish", false)));
+
+        Client first = new Client("?client=tab-resend");
+        String firstAck;
+        try {
+            first.send(command);
+            assertThat(first.next().get("type").asText()).isEqualTo("event");
+            firstAck = first.nextRaw();
+        } finally {
+            first.close();
+        }
+        long versionAfterFirst = dataVersionService.current(DataVersionService.SCHEDULE);
+        assertThat(viewer.next().get("event").asText()).isEqualTo("batch-saved");
+        assertThat(editor.next().get("event").asText()).isEqualTo("batch-saved");
+
+        // 재연결 후 같은 명령을 다시 보냄 - 실행/브로드캐스트 없이 처음 ack 그대로
+        Client second = new Client("?client=tab-resend");
+        try {
+            second.send(command);
+            assertThat(second.nextRaw()).isEqualTo(firstAck);
+        } finally {
+            second.close();
+        }
+        assertThat(dataVersionService.current(DataVersionService.SCHEDULE)).isEqualTo(versionAfterFirst);
+
+        // 다른 클라이언트의 같은 명령 id 는 별개 명령
+        editor.send(command);
+        assertThat(editor.next().get("type").asText()).isEqualTo("event");
+        assertThat(editor.next().get("type").asText()).isEqualTo("ack");
+        assertThat(viewer.next().get("event").asText()).isEqualTo("batch-saved");
+    }
+
+    /**
+     * JDK WebSocket 클라이언트 - 받은 텍스트 메시지를 순서대로 큐에 쌓음
+     */
+    private class Client implements WebSocket.Listener {
+
+        private final BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+        private final StringBuilder partial = new StringBuilder();
+        private final WebSocket socket;
+
+        Client() throws Exception {
+            this("");
+        }
+
+        Client(String query) throws Exception {
+            socket = HttpClient.newHttpClient().newWebSocketBuilder()
+                .buildAsync(URI.create("ws://localhost:" + port + "/api/ws" + query), this)
+                .get(5, TimeUnit.SECONDS);
+            // 서버가 연결을 등록한 뒤에 테스트 시작
+            send(Map.of("id", "open", "type", "ping"));
+            assertThat(next().get("type").asText()).isEqualTo("pong");
+        }
+
+        void send(Object command) throws Exception {
+            socket.sendText(objectMapper.writeValueAsString(command), true).get(5, TimeUnit.SECONDS);
+        }
+
+        JsonNode next() throws Exception {
+            return objectMapper.readTree(nextRaw());
+        }
+
+        String nextRaw() throws Exception {
+            String message = messages.poll(5, TimeUnit.SECONDS);
+            assertThat(message).as("웹소켓 메시지 수신").isNotNull();
+            return message;
+        }
+
+        void close() {
+            socket.sendClose(WebSocket.NORMAL_CLOSURE, "").join();
+        }
+
+        @Override
+        public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+            partial.append(data);
+            if (last) {
+                messages.add(partial.toString());
+                partial.setLength(0);
+            }
+            webSocket.request(1);
+            return null;
+        }
+    }
+}
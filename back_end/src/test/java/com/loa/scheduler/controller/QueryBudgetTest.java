@@ -0,0 +1,187 @@
+package com.loa.scheduler.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loa.scheduler.config.SqlStatementFilter;
+import com.loa.scheduler.entity.Charactors;
+import com.loa.scheduler.entity.Raid;
+import com.loa.scheduler.entity.User;
+import com.loa.scheduler.entity.UserSchedule;
+import com.loa.scheduler.repository.CharactorsRepository;
+import com.loa.scheduler.repository.RaidRepository;
+import com.loa.scheduler.repository.ScheduleRepository;
+import com.loa.scheduler.repository.UserRepository;
+import com.loa.scheduler.repository.UserScheduleRepository;
+import com.loa.scheduler.service.UserScheduleWeekService;
+import com.loa.scheduler.util.SqlStatementStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.loa.scheduler.support.QueryBudget.assertStatementsAtMost;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 일괄 처리 API 의 SQL 실행 수 budget
+ * 요소 수에 비례해서 SQL 이 늘어나면(N+1) 실패한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class QueryBudgetTest {
+
+    private static final int SIZE = 30;
+    private static final String[] DAYS = {"WEDNESDAY", "THURSDAY", "FRIDAY", "SATURDAY", "SUNDAY", "MONDAY"};
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RaidRepository raidRepository;
+
+    @Autowired
+    private CharactorsRepository charactorsRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private UserScheduleRepository userScheduleRepository;
+
+    @Autowired
+    private UserScheduleWeekService userScheduleWeekService;
+
+    @BeforeEach
+    void seed() {
+        scheduleRepository.deleteAllInBatch();
+        userScheduleRepository.deleteAllInBatch();
+        charactorsRepository.deleteAllInBatch();
+        raidRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+
+        List<Raid> raids = new ArrayList<>();
+        List<Charactors> characters = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            Raid raid = new Raid("raid-" + i);
+            raid.setSeq((long) i);
+            raids.add(raid);
+            characters.add(new Charactors("char-" + i, "N", "user-" + (i % 5), i));
+        }
+        raidRepository.saveAll(raids);
+        charactorsRepository.saveAll(characters);
+
+        LocalDate weekStart = userScheduleWeekService.currentWeekStart();
+        List<UserSchedule> userSchedules = new ArrayList<>();
+        for (int u = 0; u < 5; u++) {
+            userRepository.save(new User("user-" + u, "#000000", u));
+            for (String day : DAYS) {
+                UserSchedule schedule = new UserSchedule("user-" + u, day, 1, "", "Y");
+                schedule.setWeekStart(weekStart);
+                userSchedules.add(schedule);
+            }
+        }
+        userScheduleRepository.saveAll(userSchedules);
+    }
+
+    @Test
+    void raidOrderUpdateDoesNotQueryPerRaid() throws Exception {
+        List<Map<String, Object>> updates = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            updates.add(Map.of("name", "raid-" + i, "seq", SIZE - i));
+        }
+
+        assertStatementsAtMost(4, () -> mockMvc.perform(put("/api/raid/order")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updates)))
+            .andExpect(status().isOk()));
+
+        assertThat(raidRepository.findById("raid-0").orElseThrow().getSeq()).isEqualTo(SIZE);
+    }
+
+    @Test
+    void characterBatchDoesNotQueryPerCharacter() throws Exception {
+        List<Charactors> characters = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            characters.add(new Charactors("char-" + i, "Y", "user-" + (i % 5), i));
+        }
+
+        assertStatementsAtMost(4, () -> mockMvc.perform(put("/api/charactors/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(characters)))
+            .andExpect(status().isOk()));
+
+        assertThat(charactorsRepository.findById("char-0").orElseThrow().getIsSupporter()).isEqualTo("Y");
+    }
+
+    @Test
+    void userScheduleBatchDoesNotQueryPerDay() throws Exception {
+        List<Map<String, Object>> schedules = new ArrayList<>();
+        for (int u = 0; u < 5; u++) {
+            for (String day : DAYS) {
+                schedules.add(Map.of("userId", "user-" + u, "dayOfWeek", day, "weekNumber", 1,
+                    "scheduleText", "21시", "enabled", "Y"));
+            }
+        }
+
+        assertStatementsAtMost(4, () -> mockMvc.perform(post("/api/user_schedule/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(schedules)))
+            .andExpect(status().isOk()));
+
+        assertThat(userScheduleRepository.findAll())
+            .hasSize(5 * DAYS.length)
+            .allMatch(schedule -> "21시".equals(schedule.getScheduleText()));
+    }
+
+    @Test
+    void scheduleBatchDoesNotQueryPerRow() throws Exception {
+        Map<String, Object> schedules = new LinkedHashMap<>();
+        Map<String, Boolean> finish = new HashMap<>();
+        for (int p = 0; p < 3; p++) {
+            List<Map<String, Object>> members = new ArrayList<>();
+            for (int i = 0; i < SIZE / 3; i++) {
+                members.add(Map.of("name", "char-" + (p * (SIZE / 3) + i)));
+            }
+            schedules.put(p + "파티-raid-" + p, members);
+            finish.put(p + "파티-raid-" + p, p == 0);
+        }
+
+        assertStatementsAtMost(4, () -> mockMvc.perform(post("/api/Schedule/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("schedules", schedules, "scheduleFinish", finish))))
+            .andExpect(status().isOk()));
+
+        assertThat(scheduleRepository.count()).isEqualTo(SIZE);
+    }
+
+    @Test
+    void responseHeadersReportStatementsAndRows() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/raid")).andExpect(status().isOk()).andReturn();
+
+        assertThat(result.getResponse().getHeader(SqlStatementFilter.HEADER_STATEMENTS)).isEqualTo("1");
+        assertThat(result.getResponse().getHeader(SqlStatementFilter.HEADER_ROWS)).isEqualTo(String.valueOf(SIZE));
+        assertThat(SqlStatementStats.current()).isNull();
+    }
+}
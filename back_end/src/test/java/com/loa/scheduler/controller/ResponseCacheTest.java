@@ -0,0 +1,134 @@
+package com.loa.scheduler.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loa.scheduler.entity.Raid;
+import com.loa.scheduler.repository.RaidRepository;
+import com.loa.scheduler.repository.ScheduleRepository;
+import com.loa.scheduler.service.CoalescedReadService;
+import com.loa.scheduler.service.JsonResponseCache;
+import com.loa.scheduler.util.SqlStatementStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static com.loa.scheduler.support.QueryBudget.measure;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 목록 조회 응답 캐시 확인
+ * 같은 데이터 버전의 두 번째 조회는 SQL 없이 캐시된 gzip 바이트를 그대로 응답하고,
+ * 쓰기 API 가 버전을 올리면 다시 조회한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ResponseCacheTest {
+
+    private static final int SIZE = 30;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RaidRepository raidRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private JsonResponseCache responseCache;
+
+    @BeforeEach
+    void seed() {
+        scheduleRepository.deleteAllInBatch();
+        raidRepository.deleteAllInBatch();
+        List<Raid> raids = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            Raid raid = new Raid("raid-" + i);
+            raid.setSeq((long) i);
+            raids.add(raid);
+        }
+        raidRepository.saveAll(raids);
+        // 리포지토리로 직접 넣은 데이터는 버전이 바뀌지 않으므로 캐시를 비움
+        responseCache.clear();
+    }
+
+    @AfterEach
+    void clearCache() {
+        responseCache.clear();
+    }
+
+    @Test
+    void sameVersionIsServedFromCacheWithoutQuery() throws Exception {
+        MvcResult[] results = new MvcResult[2];
+        SqlStatementStats first = measure(() -> results[0] = getRaids(true));
+        SqlStatementStats second = measure(() -> results[1] = getRaids(true));
+
+        assertThat(first.getStatements()).isEqualTo(1);
+        assertThat(second.getStatements()).isZero();
+
+        assertThat(results[1].getResponse().getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(results[1].getResponse().getHeader(CoalescedReadService.VERSION_HEADER))
+            .isEqualTo(results[0].getResponse().getHeader(CoalescedReadService.VERSION_HEADER));
+        assertThat(results[1].getResponse().getContentAsByteArray()).isEqualTo(results[0].getResponse().getContentAsByteArray());
+        assertThat(gunzip(results[1])).hasSize(SIZE);
+        assertThat(responseCache.totalBytes()).isEqualTo(results[1].getResponse().getContentAsByteArray().length);
+    }
+
+    @Test
+    void clientWithoutGzipGetsPlainJson() throws Exception {
+        getRaids(true);
+        MvcResult result = getRaids(false);
+
+        assertThat(result.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(objectMapper.readTree(result.getResponse().getContentAsByteArray())).hasSize(SIZE);
+    }
+
+    @Test
+    void writeInvalidatesCachedResponse() throws Exception {
+        MvcResult before = getRaids(true);
+
+        mockMvc.perform(post("/api/raid")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("name", "raid-new", "seq", SIZE))))
+            .andExpect(status().isOk());
+
+        MvcResult after = getRaids(true);
+        assertThat(after.getResponse().getHeader(CoalescedReadService.VERSION_HEADER))
+            .isNotEqualTo(before.getResponse().getHeader(CoalescedReadService.VERSION_HEADER));
+        assertThat(gunzip(after)).hasSize(SIZE + 1);
+    }
+
+    private MvcResult getRaids(boolean gzip) throws Exception {
+        return mockMvc.perform(gzip ? get("/api/raid").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate") : get("/api/raid"))
+            .andExpect(status().isOk())
+            .andReturn();
+    }
+
+    private JsonNode gunzip(MvcResult result) throws Exception {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            return objectMapper.readTree(in);
+        }
+    }
+}
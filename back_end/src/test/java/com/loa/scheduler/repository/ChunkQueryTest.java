@@ -0,0 +1,94 @@
+package com.loa.scheduler.repository;
+
+import com.loa.scheduler.entity.Schedule;
+import com.loa.scheduler.entity.UserSchedule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주간 초기화에 쓰는 네이티브 chunk 쿼리 (UPDATE/DELETE ... LIMIT)
+ * MariaDB 문법이므로 테스트 DB(H2 MariaDB 모드)에서도 그대로 실행되는지, chunk 마다 최대 limit 행만 바뀌는지 확인
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ChunkQueryTest {
+
+    private static final int CHUNK_SIZE = 3;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private UserScheduleRepository userScheduleRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void clear() {
+        scheduleRepository.deleteAllInBatch();
+        userScheduleRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void resetIsFinishChunkUpdatesAtMostLimitRows() {
+        List<Schedule> schedules = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            schedules.add(new Schedule((1 + i % 3) + "파티", "카멘", "캐릭터" + i, "Y"));
+        }
+        schedules.add(new Schedule("1파티", "에키드나", "캐릭터A", "N"));
+        scheduleRepository.saveAll(schedules);
+
+        // 이미 'N' 인 행은 다시 세지 않으므로 같은 쿼리를 반복하면 끝남
+        assertThat(runChunks(() -> scheduleRepository.resetIsFinishChunk(CHUNK_SIZE))).containsExactly(3, 3, 1, 0);
+        assertThat(scheduleRepository.findAll()).extracting(Schedule::getIsFinish).containsOnly("N");
+    }
+
+    @Test
+    void deleteExpiredChunkDeletesOnlyOlderWeeks() {
+        LocalDate cutoff = LocalDate.of(2026, 10, 14);
+        List<UserSchedule> rows = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            rows.add(userSchedule("유저" + i, cutoff.minusWeeks(1 + i)));
+        }
+        rows.add(userSchedule("유저0", cutoff));
+        rows.add(userSchedule("유저1", cutoff.plusWeeks(1)));
+        userScheduleRepository.saveAll(rows);
+
+        assertThat(runChunks(() -> userScheduleRepository.deleteExpiredChunk(cutoff, CHUNK_SIZE))).containsExactly(3, 2, 0);
+        assertThat(userScheduleRepository.findAll()).extracting(UserSchedule::getWeekStart)
+            .containsExactlyInAnyOrder(cutoff, cutoff.plusWeeks(1));
+    }
+
+    /**
+     * 주간 초기화처럼 chunk 하나를 트랜잭션 하나로 실행 - 영향받은 행 수가 0 이 될 때까지
+     */
+    private List<Integer> runChunks(IntSupplier chunk) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<Integer> counts = new ArrayList<>();
+        int rows;
+        do {
+            rows = transactionTemplate.execute(status -> chunk.getAsInt());
+            counts.add(rows);
+        } while (rows > 0);
+        return counts;
+    }
+
+    private static UserSchedule userSchedule(String userId, LocalDate weekStart) {
+        UserSchedule schedule = new UserSchedule(userId, "수", 1, "20:00", "Y");
+        schedule.setWeekStart(weekStart);
+        return schedule;
+    }
+}
@@ -0,0 +1,127 @@
+package com.loa.scheduler.service;
+
+import com.loa.scheduler.entity.CharacterClearStat;
+import com.loa.scheduler.entity.Schedule;
+import com.loa.scheduler.entity.UserAvailabilityStat;
+import com.loa.scheduler.entity.UserSchedule;
+import com.loa.scheduler.entity.WeeklyArchive;
+import com.loa.scheduler.repository.CharacterClearStatRepository;
+import com.loa.scheduler.repository.ScheduleRepository;
+import com.loa.scheduler.repository.UserAvailabilityStatRepository;
+import com.loa.scheduler.repository.UserScheduleRepository;
+import com.loa.scheduler.repository.WeeklyArchiveRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주간 기록 보관 - 스냅샷 인코딩 왕복, 보관 단계의 스냅샷/집계 갱신과 중복 보관 방지
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class HistoryArchiveServiceTest {
+
+    private static final LocalDate WEEK = LocalDate.of(2026, 10, 7);
+
+    @Autowired
+    private HistoryArchiveService historyArchiveService;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private UserScheduleRepository userScheduleRepository;
+
+    @Autowired
+    private WeeklyArchiveRepository weeklyArchiveRepository;
+
+    @Autowired
+    private CharacterClearStatRepository characterClearStatRepository;
+
+    @Autowired
+    private UserAvailabilityStatRepository userAvailabilityStatRepository;
+
+    @BeforeEach
+    void clean() {
+        weeklyArchiveRepository.deleteAllInBatch();
+        characterClearStatRepository.deleteAllInBatch();
+        userAvailabilityStatRepository.deleteAllInBatch();
+        scheduleRepository.deleteAllInBatch();
+        userScheduleRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void encodeDecodeRoundTripKeepsSeparatorsInFields() {
+        List<String[]> rows = new ArrayList<>();
+        rows.add(new String[] {"파티1", "카멘", "캐릭터A", "Y"});
+        rows.add(new String[] {"탭\t포함", "줄\n바꿈", "역슬래시\\끝\\", ""});
+        rows.add(new String[] {"\\t 는 글자 그대로", "\\n", "", "N"});
+
+        List<String[]> decoded = HistoryArchiveService.decode(HistoryArchiveService.encode(rows));
+
+        assertThat(decoded).hasSize(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            assertThat(decoded.get(i)).containsExactly(rows.get(i));
+        }
+    }
+
+    @Test
+    void nullFieldsAreStoredAsEmpty() {
+        List<String[]> decoded = HistoryArchiveService.decode(
+            HistoryArchiveService.encode(List.<String[]>of(new String[] {"유저1", null, "Y"})));
+
+        assertThat(decoded).hasSize(1);
+        assertThat(decoded.get(0)).containsExactly("유저1", "", "Y");
+    }
+
+    @Test
+    void archiveWeekStoresSnapshotsAndAggregatesOnce() {
+        scheduleRepository.saveAll(List.of(
+            new Schedule("파티1", "카멘", "캐릭터A", "Y"),
+            new Schedule("파티1", "에키드나", "캐릭터A", "N"),
+            new Schedule("파티2", "카멘", "캐릭터B", "Y")));
+        userScheduleRepository.saveAll(List.of(
+            userSchedule("유저1", "월", "Y", "21:00", WEEK),
+            userSchedule("유저1", "화", "Y", "", WEEK),
+            userSchedule("유저1", "수", "N", "", WEEK),
+            // 다른 주차는 보관 대상 아님
+            userSchedule("유저1", "목", "Y", "22:00", WEEK.plusWeeks(1))));
+
+        assertThat(historyArchiveService.archiveWeek(WEEK)).isEqualTo(3 + 3);
+
+        assertThat(historyArchiveService.getSnapshot(WEEK, WeeklyArchive.KIND_RAID_SCHEDULE).orElseThrow())
+            .extracting(row -> String.join("|", row))
+            .containsExactlyInAnyOrder("파티1|카멘|캐릭터A|Y", "파티1|에키드나|캐릭터A|N", "파티2|카멘|캐릭터B|Y");
+        assertThat(historyArchiveService.getSnapshot(WEEK, WeeklyArchive.KIND_USER_SCHEDULE).orElseThrow())
+            .hasSize(3);
+
+        CharacterClearStat statA = historyArchiveService.getClearRate("캐릭터A").orElseThrow();
+        assertThat(statA.getAssignedCount()).isEqualTo(2);
+        assertThat(statA.getClearedCount()).isEqualTo(1);
+        assertThat(statA.getLastWeekStart()).isEqualTo(WEEK);
+
+        List<UserAvailabilityStat> trend = historyArchiveService.getAvailabilityTrend("유저1", WEEK);
+        assertThat(trend).hasSize(1);
+        assertThat(trend.get(0).getEnabledDays()).isEqualTo(2);
+        assertThat(trend.get(0).getScheduledDays()).isEqualTo(1);
+
+        // 같은 주차를 다시 보관해도 스냅샷/집계는 한 번만 반영
+        assertThat(historyArchiveService.archiveWeek(WEEK)).isZero();
+        assertThat(historyArchiveService.getClearRate("캐릭터A").orElseThrow().getAssignedCount()).isEqualTo(2);
+        assertThat(weeklyArchiveRepository.count()).isEqualTo(2);
+    }
+
+    private static UserSchedule userSchedule(String userId, String day, String enabled, String text, LocalDate weekStart) {
+        UserSchedule schedule = new UserSchedule(userId, day, 1, text, enabled);
+        schedule.setWeekStart(weekStart);
+        return schedule;
+    }
+}
@@ -0,0 +1,77 @@
+package com.loa.scheduler.service;
+
+import com.loa.scheduler.service.IdempotencyStore.StoredResponse;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 메모리 Idempotency-Key 저장소 - 용량 초과 시 완료된 키만 오래된 순으로 제거하고 처리 중인 키는 남기는지 확인
+ */
+class InMemoryIdempotencyStoreTest {
+
+    private static StoredResponse ok(String hash) {
+        return new StoredResponse(200, "application/json", "{}".getBytes(), hash);
+    }
+
+    @Test
+    void evictionSkipsInFlightReservations() {
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(600, 2);
+
+        assertThat(store.reserve("pending", "h0")).isTrue();
+        assertThat(store.reserve("done-1", "h1")).isTrue();
+        store.complete("done-1", ok("h1"));
+        assertThat(store.reserve("done-2", "h2")).isTrue();
+
+        // 가장 오래된 키는 처리 중이라 남고, 그다음 완료된 키가 제거됨
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.reserve("pending", "h0")).isFalse();
+        assertThat(store.find("done-1")).isEmpty();
+        assertThat(store.requestHash("pending")).contains("h0");
+    }
+
+    @Test
+    void onlyPendingEntriesMayExceedCapacity() {
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(600, 1);
+
+        assertThat(store.reserve("a", "ha")).isTrue();
+        assertThat(store.reserve("b", "hb")).isTrue();
+        // 둘 다 처리 중 - 어느 쪽도 제거하면 안 됨
+        assertThat(store.size()).isEqualTo(2);
+
+        store.complete("a", ok("ha"));
+        assertThat(store.reserve("c", "hc")).isTrue();
+        assertThat(store.find("a")).isEmpty();
+        assertThat(store.reserve("b", "hb")).isFalse();
+    }
+
+    @Test
+    void releasedKeyReservedAgainKeepsItsNewPosition() {
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(600, 2);
+
+        // 실패한 요청은 선점을 해제하고, 재시도가 같은 키를 다시 선점
+        assertThat(store.reserve("retried", "h1")).isTrue();
+        store.release("retried");
+        assertThat(store.reserve("older", "h2")).isTrue();
+        store.complete("older", ok("h2"));
+        assertThat(store.reserve("retried", "h1")).isTrue();
+        store.complete("retried", ok("h1"));
+
+        // 용량 초과 - 해제 전의 이전 자리가 아니라 실제로 더 오래된 키가 제거됨
+        assertThat(store.reserve("newest", "h3")).isTrue();
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.find("older")).isEmpty();
+        assertThat(store.find("retried")).isPresent();
+    }
+
+    @Test
+    void completedResponseKeepsRequestHash() {
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(600, 10);
+        store.reserve("key", "hash");
+        store.complete("key", ok("hash"));
+
+        assertThat(store.find("key")).isPresent();
+        assertThat(store.requestHash("key")).contains("hash");
+        assertThat(store.reserve("key", "other")).isFalse();
+    }
+}
@@ -0,0 +1,142 @@
+package com.loa.scheduler.service;
+
+import com.loa.scheduler.entity.Charactors;
+import com.loa.scheduler.entity.Schedule;
+import com.loa.scheduler.repository.CharactorsRepository;
+import com.loa.scheduler.repository.ScheduleRepository;
+import com.loa.scheduler.util.JournalRecord;
+import com.loa.scheduler.util.JournalTable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 변경 저널 재생 - 기록한 변경을 재생했을 때 테이블이 같은 시점의 내용으로 돌아오는지 확인
+ * (저널은 테스트마다 빈 임시 디렉터리에 쓰고, 시작 시 기존 행은 시작점으로 기록됨)
+ */
+@SpringBootTest(properties = "journal.enabled=true")
+@ActiveProfiles("test")
+@DirtiesContext
+class JournalReplayServiceTest {
+
+    @TempDir
+    static Path journalDir;
+
+    @DynamicPropertySource
+    static void journalProperties(DynamicPropertyRegistry registry) {
+        registry.add("journal.dir", () -> journalDir.toString());
+    }
+
+    @Autowired
+    private JournalReplayService journalReplayService;
+
+    @Autowired
+    private ChangeJournal changeJournal;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private CharactorsRepository charactorsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void replayRestoresRowsUpToCutoff() throws Exception {
+        scheduleRepository.saveAll(List.of(
+            new Schedule("1파티", "카멘", "캐릭터A", "N"),
+            new Schedule("1파티", "카멘", "캐릭터B", "N"),
+            new Schedule("2파티", "에키드나", "캐릭터C", "N")));
+        assertThat(changeJournal.flush(5000)).isTrue();
+        List<Map<String, Object>> atCutoff = schedules();
+
+        Thread.sleep(20);
+        LocalDateTime cutoff = LocalDateTime.now();
+        Thread.sleep(20);
+
+        // 기준 시각 이후 변경 - 엔티티 삭제, 저장, 일괄 UPDATE (직접 기록)
+        scheduleRepository.delete(scheduleRepository.findByIdAndRaidName("1파티", "카멘").get(0));
+        scheduleRepository.save(new Schedule("3파티", "카멘", "캐릭터D", "N"));
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            scheduleRepository.updateIsFinishByIdAndRaidName("2파티", "에키드나", "Y");
+            changeJournal.record(JournalRecord.update(JournalTable.RAID_SCHEDULE)
+                .where("id", "2파티").where("raid_name", "에키드나").set("is_finish", "Y"));
+        });
+        List<Map<String, Object>> latest = schedules();
+        assertThat(latest).isNotEqualTo(atCutoff);
+
+        journalReplayService.replay(cutoff);
+        assertThat(schedules()).isEqualTo(atCutoff);
+
+        journalReplayService.replay(null);
+        assertThat(schedules()).isEqualTo(latest);
+    }
+
+    @Test
+    void concurrentUpdatesOfSameRowReplayInLockOrder() throws Exception {
+        charactorsRepository.saveAll(List.of(
+            new Charactors("동시A", "N", "유저1", 0),
+            new Charactors("동시B", "N", "유저1", 0)));
+
+        // 여러 스레드가 같은 두 행을 번갈아 갱신 - 행 잠금 때문에 커밋 순서가 정해지고, 저널도 그 순서여야 함
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < 4; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 1; i <= 50; i++) {
+                        String name = i % 2 == 0 ? "동시A" : "동시B";
+                        int seq = thread * 1000 + i;
+                        transactionTemplate.executeWithoutResult(status ->
+                            charactorsRepository.findById(name).orElseThrow().setSeq(seq));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(changeJournal.flush(5000)).isTrue();
+        List<Map<String, Object>> latest = charactors();
+
+        journalReplayService.replay(null);
+        assertThat(charactors()).isEqualTo(latest);
+    }
+
+    private List<Map<String, Object>> charactors() {
+        return jdbcTemplate.queryForList("SELECT name, is_supporter, user_id, seq FROM charactors ORDER BY name");
+    }
+
+    private List<Map<String, Object>> schedules() {
+        return jdbcTemplate.queryForList(
+            "SELECT id, raid_name, character_name, is_finish FROM raid_schedule ORDER BY id, raid_name, character_name");
+    }
+}
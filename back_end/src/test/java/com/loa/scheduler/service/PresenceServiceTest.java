@@ -0,0 +1,85 @@
+package com.loa.scheduler.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 접속 현황 변경분, 만료, 용량 제한
+ * 하트비트 사이의 변경은 탭마다 마지막 상태 하나로 합쳐지고, 항목 수와 모아둔 변경 수가 상한을 넘지 않는지 확인
+ */
+class PresenceServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void changesBetweenHeartbeatsAreCoalescedPerSession() throws Exception {
+        PresenceService presence = new PresenceService(new SimpleMeterRegistry(), 90, 10, 100);
+
+        assertThat(presence.update("tab-1", "혀니", "v", "party:1파티")).isTrue();
+        assertThat(presence.update("tab-1", "혀니", "e", "schedule:1파티-카멘")).isTrue();
+        assertThat(presence.update("tab-2", "샷건", "v", "raid:카멘")).isTrue();
+        // 같은 내용은 만료 시각만 연장 (변경분 없음)
+        assertThat(presence.update("tab-2", "샷건", "v", "raid:카멘")).isFalse();
+
+        JsonNode delta = objectMapper.readTree(presence.drainDelta());
+        assertThat(delta.get("seq").asLong()).isEqualTo(1);
+        assertThat(delta.get("set")).hasSize(2);
+        assertThat(delta.get("set").get(0).toString()).isEqualTo("[\"tab-1\",\"혀니\",\"e\",\"schedule:1파티-카멘\"]");
+        assertThat(delta.has("del")).isFalse();
+
+        // 바뀐 것이 없으면 하트비트에 싣지 않음
+        assertThat(presence.drainDelta()).isNull();
+
+        presence.leave("tab-1");
+        JsonNode leave = objectMapper.readTree(presence.drainDelta());
+        assertThat(leave.get("seq").asLong()).isEqualTo(2);
+        assertThat(leave.get("del").get(0).asText()).isEqualTo("tab-1");
+        assertThat(presence.snapshot().get("entries")).isEqualTo(List.of(List.of("tab-2", "샷건", "v", "raid:카멘")));
+    }
+
+    @Test
+    void expiredEntriesAreRemovedAtHeartbeat() throws Exception {
+        PresenceService presence = new PresenceService(new SimpleMeterRegistry(), 0, 10, 100);
+        presence.update("tab-1", "혀니", "v", "board:전체");
+
+        // 알린 뒤 같은 하트비트 안에 만료 - 추가와 삭제가 삭제 하나로 합쳐짐
+        JsonNode delta = objectMapper.readTree(presence.drainDelta());
+        assertThat(delta.has("set")).isFalse();
+        assertThat(delta.get("del").get(0).asText()).isEqualTo("tab-1");
+        assertThat(presence.size()).isZero();
+    }
+
+    @Test
+    void memoryStaysBounded() throws Exception {
+        PresenceService presence = new PresenceService(new SimpleMeterRegistry(), 90, 3, 5);
+        for (int i = 0; i < 10; i++) {
+            presence.update("tab-" + i, "유저" + i, "v", "party:1파티");
+        }
+
+        // 가장 오래 갱신되지 않은 탭부터 제거
+        assertThat(presence.size()).isEqualTo(3);
+        assertThat(presence.snapshot().get("entries").toString()).contains("tab-9").doesNotContain("tab-0");
+
+        // 모아둔 변경이 상한을 넘으면 목록 대신 전체 재조회 안내
+        JsonNode delta = objectMapper.readTree(presence.drainDelta());
+        assertThat(delta.get("reset").asBoolean()).isTrue();
+        assertThat(delta.has("set")).isFalse();
+    }
+
+    @Test
+    void invalidTargetIsRejected() {
+        PresenceService presence = new PresenceService(new SimpleMeterRegistry(), 90, 3, 5);
+
+        assertThatThrownBy(() -> presence.update("tab-1", "혀니", "v", "somewhere"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> presence.update("tab-1", "혀니", "x", "party:1파티"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
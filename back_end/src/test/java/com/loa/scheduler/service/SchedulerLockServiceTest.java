@@ -0,0 +1,160 @@
+package com.loa.scheduler.service;
+
+import com.loa.scheduler.SchedulerApplication;
+import com.loa.scheduler.service.SchedulerLockService.LockLease;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 같은 DB 를 공유하는 두 애플리케이션 컨텍스트(= 두 노드)로 리더 잠금 동작 확인
+ */
+class SchedulerLockServiceTest {
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode();
+        nodeB = startNode();
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    private static ConfigurableApplicationContext startNode() {
+        return new SpringApplicationBuilder(SchedulerApplication.class)
+            .web(WebApplicationType.NONE)
+            .profiles("test")
+            .run();
+    }
+
+    private static SchedulerLockService lockService(ConfigurableApplicationContext node) {
+        return node.getBean(SchedulerLockService.class);
+    }
+
+    @Test
+    void onlyOneNodeHoldsTheLock() {
+        SchedulerLockService a = lockService(nodeA);
+        SchedulerLockService b = lockService(nodeB);
+        assertThat(a.getOwner()).isNotEqualTo(b.getOwner());
+
+        Optional<LockLease> leaseA = a.tryAcquire("test-exclusive", Duration.ofSeconds(30));
+        assertThat(leaseA).isPresent();
+        assertThat(b.tryAcquire("test-exclusive", Duration.ofSeconds(30))).isEmpty();
+
+        a.release(leaseA.get());
+        Optional<LockLease> leaseB = b.tryAcquire("test-exclusive", Duration.ofSeconds(30));
+        assertThat(leaseB).isPresent();
+        assertThat(leaseB.get().getToken()).isGreaterThan(leaseA.get().getToken());
+        b.release(leaseB.get());
+    }
+
+    @Test
+    void expiredLeaseIsTakenOverAndOldHolderIsFenced() throws InterruptedException {
+        SchedulerLockService a = lockService(nodeA);
+        SchedulerLockService b = lockService(nodeB);
+
+        LockLease leaseA = a.tryAcquire("test-expiry", Duration.ofMillis(200)).orElseThrow();
+        Thread.sleep(300);
+
+        LockLease leaseB = b.tryAcquire("test-expiry", Duration.ofSeconds(30)).orElseThrow();
+        assertThat(a.isHeld(leaseA)).isFalse();
+        assertThat(a.renew(leaseA)).isFalse();
+        assertThat(b.isHeld(leaseB)).isTrue();
+        b.release(leaseB);
+    }
+
+    @Test
+    void fenceInsideTransactionRejectsTakenOverLease() throws InterruptedException {
+        SchedulerLockService a = lockService(nodeA);
+        SchedulerLockService b = lockService(nodeB);
+        TransactionTemplate txA = new TransactionTemplate(nodeA.getBean(PlatformTransactionManager.class));
+
+        LockLease leaseA = a.tryAcquire("test-fence", Duration.ofMillis(200)).orElseThrow();
+        txA.executeWithoutResult(status -> a.fence(leaseA));
+
+        Thread.sleep(300);
+        LockLease leaseB = b.tryAcquire("test-fence", Duration.ofSeconds(30)).orElseThrow();
+
+        assertThatThrownBy(() -> txA.executeWithoutResult(status -> a.fence(leaseA)))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(leaseA.isLost()).isTrue();
+        assertThat(b.isHeld(leaseB)).isTrue();
+        b.release(leaseB);
+    }
+
+    @Test
+    void leaseIsRenewedWhileTaskRuns() {
+        SchedulerLockService a = lockService(nodeA);
+        SchedulerLockService b = lockService(nodeB);
+
+        boolean ran = a.runExclusive("test-renewal", Duration.ofMillis(300), lease -> {
+            sleep(700);
+            assertThat(a.isHeld(lease)).isTrue();
+            assertThat(b.tryAcquire("test-renewal", Duration.ofSeconds(30))).isEmpty();
+        });
+        assertThat(ran).isTrue();
+    }
+
+    @Test
+    void concurrentTriggersRunTaskOnce() throws Exception {
+        SchedulerLockService a = lockService(nodeA);
+        SchedulerLockService b = lockService(nodeB);
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<Boolean> ranA = pool.submit(() -> {
+                start.await();
+                return a.runExclusive("test-trigger", Duration.ofSeconds(30), lease -> {
+                    executions.incrementAndGet();
+                    sleep(300);
+                });
+            });
+            Future<Boolean> ranB = pool.submit(() -> {
+                start.await();
+                return b.runExclusive("test-trigger", Duration.ofSeconds(30), lease -> {
+                    executions.incrementAndGet();
+                    sleep(300);
+                });
+            });
+            start.countDown();
+
+            assertThat(ranA.get(10, TimeUnit.SECONDS) ^ ranB.get(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(executions.get()).isEqualTo(1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
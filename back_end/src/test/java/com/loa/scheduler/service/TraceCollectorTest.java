@@ -0,0 +1,78 @@
+package com.loa.scheduler.service;
+
+import com.loa.scheduler.util.RequestTrace;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * trace 보관 - 최근 요청 ring buffer 와 가장 느린 N개 유지
+ */
+class TraceCollectorTest {
+
+    /**
+     * 소요 시간이 긴 순서대로 만든 trace (먼저 시작한 trace 를 나중에 종료)
+     */
+    private static List<RequestTrace> tracesSlowestFirst(int count) {
+        List<RequestTrace> traces = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            traces.add(RequestTrace.begin("trace-" + i, "GET", "/api/" + i));
+            waitForClockTick();
+        }
+        for (int i = count - 1; i >= 0; i--) {
+            traces.get(i).end(200);
+            waitForClockTick();
+        }
+        return traces;
+    }
+
+    private static void waitForClockTick() {
+        long now = System.nanoTime();
+        while (System.nanoTime() == now) {
+            Thread.onSpinWait();
+        }
+    }
+
+    @Test
+    void recentKeepsLatestInRing() {
+        TraceCollector collector = new TraceCollector(3, 10, Long.MAX_VALUE / 1_000_000);
+        List<RequestTrace> traces = tracesSlowestFirst(5);
+        traces.forEach(collector::offer);
+
+        assertThat(collector.getRecent()).extracting(RequestTrace::getCorrelationId)
+            .containsExactly("trace-4", "trace-3", "trace-2");
+    }
+
+    @Test
+    void slowestKeepsLongestTraces() {
+        TraceCollector collector = new TraceCollector(10, 3, Long.MAX_VALUE / 1_000_000);
+        List<RequestTrace> traces = tracesSlowestFirst(6);
+        // 빠른 요청부터 들어와도 느린 요청이 밀어냄
+        for (int i = traces.size() - 1; i >= 0; i--) {
+            collector.offer(traces.get(i));
+        }
+
+        assertThat(collector.getSlowest()).extracting(RequestTrace::getCorrelationId)
+            .containsExactly("trace-0", "trace-1", "trace-2");
+    }
+
+    @Test
+    void fasterTracesDoNotEvictOnceFull() {
+        TraceCollector collector = new TraceCollector(10, 2, Long.MAX_VALUE / 1_000_000);
+        List<RequestTrace> traces = tracesSlowestFirst(4);
+        collector.offer(traces.get(0));
+        collector.offer(traces.get(1));
+        collector.offer(traces.get(3));
+        collector.offer(traces.get(2));
+
+        assertThat(collector.getSlowest()).extracting(RequestTrace::getCorrelationId)
+            .containsExactly("trace-0", "trace-1");
+
+        collector.clear();
+        assertThat(collector.getSlowest()).isEmpty();
+        assertThat(collector.getRecent()).isEmpty();
+    }
+}
@@ -0,0 +1,74 @@
+package com.loa.scheduler.service;
+
+import com.loa.scheduler.entity.UserSchedule;
+import com.loa.scheduler.repository.UserScheduleRepository;
+import com.loa.scheduler.util.RaidWeek;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기존 상대 주차(week_number) 데이터의 week_start 이관
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class UserScheduleWeekServiceTest {
+
+    @Autowired
+    private UserScheduleWeekService userScheduleWeekService;
+
+    @Autowired
+    private UserScheduleRepository userScheduleRepository;
+
+    @BeforeEach
+    void clean() {
+        userScheduleRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void legacySlotsAreMappedToWeekStart() {
+        LocalDate current = RaidWeek.currentWeekStart();
+        LocalDate alreadyMigrated = current.minusWeeks(3);
+        UserSchedule migrated = new UserSchedule("유저1", "월", 1, "이관됨", "Y");
+        migrated.setWeekStart(alreadyMigrated);
+        userScheduleRepository.saveAll(List.of(
+            new UserSchedule("유저1", "수", 1, "이번 주", "Y"),
+            new UserSchedule("유저1", "목", 2, "다음 주", "Y"),
+            migrated));
+
+        userScheduleWeekService.backfillWeekStart();
+
+        Map<String, LocalDate> weekStarts = userScheduleRepository.findAll().stream()
+            .collect(Collectors.toMap(UserSchedule::getScheduleText, UserSchedule::getWeekStart));
+        assertThat(weekStarts).containsEntry("이번 주", current)
+            .containsEntry("다음 주", current.plusWeeks(1))
+            .containsEntry("이관됨", alreadyMigrated);
+
+        // 이미 이관된 행은 다시 바꾸지 않음
+        userScheduleWeekService.backfillWeekStart();
+        assertThat(userScheduleRepository.findAll()).extracting(UserSchedule::getWeekStart)
+            .containsExactlyInAnyOrder(current, current.plusWeeks(1), alreadyMigrated);
+    }
+
+    @Test
+    void relativeSlotIsComputedOnLoad() {
+        LocalDate current = RaidWeek.currentWeekStart();
+        UserSchedule next = new UserSchedule("유저1", "금", 1, "다음 주", "Y");
+        next.setWeekStart(current.plusWeeks(1));
+        userScheduleRepository.save(next);
+
+        assertThat(userScheduleRepository.findByWeekStart(current.plusWeeks(1)))
+            .extracting(UserSchedule::getWeekNumber).containsExactly(2);
+        assertThat(userScheduleWeekService.weekStartOfSlot(2)).contains(current.plusWeeks(1));
+        assertThat(userScheduleWeekService.weekStartOfSlot(3)).isEmpty();
+    }
+}
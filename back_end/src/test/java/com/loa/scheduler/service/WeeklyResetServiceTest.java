@@ -0,0 +1,136 @@
+package com.loa.scheduler.service;
+
+import com.loa.scheduler.entity.Schedule;
+import com.loa.scheduler.entity.UserSchedule;
+import com.loa.scheduler.entity.WeeklyResetRun;
+import com.loa.scheduler.repository.ScheduleRepository;
+import com.loa.scheduler.repository.UserScheduleRepository;
+import com.loa.scheduler.repository.WeeklyArchiveRepository;
+import com.loa.scheduler.repository.WeeklyResetRunRepository;
+import com.loa.scheduler.service.WeeklyResetService.ResetResult;
+import com.loa.scheduler.util.RaidWeek;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주간 초기화 - 주차당 한 번 선점, chunk 반복, 중단된 실행 재개
+ * chunk 크기를 작게 잡아 여러 chunk 로 나뉘는 경우를 확인
+ */
+@SpringBootTest(properties = "weekly-reset.chunk-size=3")
+@ActiveProfiles("test")
+class WeeklyResetServiceTest {
+
+    @Autowired
+    private WeeklyResetService weeklyResetService;
+
+    @Autowired
+    private WeeklyResetRunRepository weeklyResetRunRepository;
+
+    @Autowired
+    private WeeklyArchiveRepository weeklyArchiveRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private UserScheduleRepository userScheduleRepository;
+
+    @Autowired
+    private UserScheduleWeekService userScheduleWeekService;
+
+    private LocalDate weekStart;
+
+    @BeforeEach
+    void seed() {
+        weeklyResetRunRepository.deleteAllInBatch();
+        weeklyArchiveRepository.deleteAllInBatch();
+        scheduleRepository.deleteAllInBatch();
+        userScheduleRepository.deleteAllInBatch();
+
+        weekStart = RaidWeek.currentWeekStart();
+        // chunk 크기(3)의 배수가 아닌 행 수 - 마지막 chunk 가 덜 찬 경우까지 확인
+        List<Schedule> schedules = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            schedules.add(new Schedule("파티" + i, "카멘", "캐릭터" + i, "Y"));
+        }
+        schedules.add(new Schedule("파티", "카멘", "미완료캐릭터", "N"));
+        scheduleRepository.saveAll(schedules);
+
+        LocalDate expired = userScheduleWeekService.purgeCutoff(weekStart).minusWeeks(1);
+        List<UserSchedule> userSchedules = new ArrayList<>();
+        for (String day : List.of("월", "화", "수", "목", "금")) {
+            userSchedules.add(userSchedule("유저1", day, expired));
+        }
+        userSchedules.add(userSchedule("유저1", "월", weekStart));
+        userScheduleRepository.saveAll(userSchedules);
+    }
+
+    @Test
+    void resetRunsAllChunksOncePerWeek() {
+        ResetResult first = weeklyResetService.runWeeklyReset(WeeklyResetService.TRIGGER_MANUAL);
+        assertThat(first.isExecuted()).isTrue();
+        assertThat(first.getWeekKey()).isEqualTo(RaidWeek.weekKey(weekStart));
+        assertThat(first.getRun().getFinishResetRows()).isEqualTo(7);
+        assertThat(first.getRun().getDeletedRows()).isEqualTo(5);
+
+        assertThat(scheduleRepository.findAll()).allMatch(schedule -> "N".equals(schedule.getIsFinish()));
+        assertThat(userScheduleRepository.findAll()).extracting(UserSchedule::getWeekStart).containsOnly(weekStart);
+
+        WeeklyResetRun run = weeklyResetRunRepository.findById(first.getWeekKey()).orElseThrow();
+        assertThat(run.isCompleted()).isTrue();
+        assertThat(run.getFencingToken()).isNotNull();
+
+        // 같은 주차는 다시 실행하지 않음
+        scheduleRepository.save(new Schedule("파티0", "카멘", "캐릭터0", "Y"));
+        ResetResult second = weeklyResetService.runWeeklyReset(WeeklyResetService.TRIGGER_SCHEDULED);
+        assertThat(second.isExecuted()).isFalse();
+        assertThat(scheduleRepository.findAll()).anyMatch(schedule -> "Y".equals(schedule.getIsFinish()));
+    }
+
+    @Test
+    void runningClaimFromAnotherNodeIsNotTakenOver() {
+        WeeklyResetRun running = new WeeklyResetRun(RaidWeek.weekKey(weekStart), WeeklyResetService.TRIGGER_SCHEDULED);
+        running.setFencingToken(Long.MAX_VALUE);
+        weeklyResetRunRepository.saveAndFlush(running);
+
+        ResetResult result = weeklyResetService.runWeeklyReset(WeeklyResetService.TRIGGER_MANUAL);
+
+        assertThat(result.isExecuted()).isFalse();
+        assertThat(scheduleRepository.findAll()).filteredOn(schedule -> "Y".equals(schedule.getIsFinish())).hasSize(7);
+    }
+
+    @Test
+    void staleRunResumesFromNextStep() {
+        // 완료 상태 초기화까지 끝내고 중단된 실행
+        WeeklyResetRun stale = new WeeklyResetRun(RaidWeek.weekKey(weekStart), WeeklyResetService.TRIGGER_SCHEDULED);
+        stale.setCompletedStep("FINISH_RESET");
+        stale.setFinishResetRows(4);
+        stale.setStartedAt(LocalDateTime.now().minusHours(2));
+        weeklyResetRunRepository.saveAndFlush(stale);
+
+        ResetResult result = weeklyResetService.runWeeklyReset(WeeklyResetService.TRIGGER_MANUAL);
+
+        assertThat(result.isExecuted()).isTrue();
+        assertThat(result.getRun().getTriggerType()).isEqualTo(WeeklyResetService.TRIGGER_MANUAL);
+        assertThat(result.getRun().getFinishResetRows()).isEqualTo(4);
+        assertThat(result.getRun().getDeletedRows()).isEqualTo(5);
+        // 끝난 단계는 다시 실행하지 않음
+        assertThat(scheduleRepository.findAll()).filteredOn(schedule -> "Y".equals(schedule.getIsFinish())).hasSize(7);
+    }
+
+    private static UserSchedule userSchedule(String userId, String day, LocalDate weekStart) {
+        UserSchedule schedule = new UserSchedule(userId, day, 1, "20:00", "Y");
+        schedule.setWeekStart(weekStart);
+        return schedule;
+    }
+}
@@ -0,0 +1,43 @@
+package com.loa.scheduler.support;
+
+import com.loa.scheduler.util.SqlStatementStats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트용 SQL 실행 수 측정/검증
+ * 측정 구간 안에서 실행된 JDBC 문(배치 실행은 1회)을 센다. MockMvc 요청도 같은 스레드에서 실행되므로 그대로 측정된다.
+ */
+public final class QueryBudget {
+
+    private QueryBudget() {}
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    /**
+     * 작업 실행 중 SQL 통계 측정
+     */
+    public static SqlStatementStats measure(Action action) throws Exception {
+        SqlStatementStats stats = SqlStatementStats.begin();
+        try {
+            action.run();
+        } finally {
+            SqlStatementStats.end(stats);
+        }
+        return stats;
+    }
+
+    /**
+     * 작업 실행 중 SQL 실행 수가 budget 이하인지 검증
+     */
+    public static SqlStatementStats assertStatementsAtMost(int budget, Action action) throws Exception {
+        SqlStatementStats stats = measure(action);
+        assertThat(stats.getStatements())
+            .as("SQL 실행 수 (budget %d)", budget)
+            .isLessThanOrEqualTo(budget);
+        return stats;
+    }
+}
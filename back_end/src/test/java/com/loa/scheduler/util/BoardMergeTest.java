@@ -0,0 +1,126 @@
+package com.loa.scheduler.util;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Combinators;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 레이드 보드 병합 속성 테스트
+ * 무작위 보드 작업 목록을 순서를 섞어 적용해도 같은 보드가 되는지, 중복 작업이 결과를 바꾸지 않는지 확인
+ */
+class BoardMergeTest {
+
+    private static final String RAID = "카멘";
+
+    @Property
+    void anyOrderConverges(@ForAll("operations") List<Op> operations, @ForAll Random random) {
+        List<Op> shuffled = new ArrayList<>(operations);
+        Collections.shuffle(shuffled, random);
+
+        assertThat(applyAll(shuffled).snapshot()).isEqualTo(applyAll(operations).snapshot());
+    }
+
+    @Property
+    void duplicatesAreIgnored(@ForAll("operations") List<Op> operations, @ForAll Random random) {
+        BoardMerge merge = applyAll(operations);
+        Map<String, String> before = merge.snapshot();
+
+        // 재전송, 다른 경로로 같은 작업을 다시 받은 경우
+        List<Op> resent = new ArrayList<>(operations);
+        Collections.shuffle(resent, random);
+        for (Op op : resent) {
+            assertThat(op.applyTo(merge)).isFalse();
+        }
+        assertThat(merge.snapshot()).isEqualTo(before);
+    }
+
+    @Property
+    void latestOperationWinsPerElement(@ForAll("operations") List<Op> operations) {
+        BoardMerge merge = applyAll(operations);
+
+        // 요소마다 (lamport, replica) 가 가장 큰 작업
+        Map<String, Op> latest = new HashMap<>();
+        for (Op op : operations) {
+            latest.merge(op.party + "/" + op.element, op,
+                (a, b) -> BoardMerge.compare(a.lamport, a.replica, b.lamport, b.replica) >= 0 ? a : b);
+        }
+
+        for (String party : List.of("1파티", "2파티")) {
+            Set<String> members = new TreeSet<>();
+            boolean finished = false;
+            for (Op op : latest.values()) {
+                if (!op.party.equals(party)) {
+                    continue;
+                }
+                if (BoardMerge.FINISH.equals(op.element)) {
+                    finished = op.value;
+                } else if (op.value) {
+                    members.add(op.element);
+                }
+            }
+            assertThat(merge.members(party, RAID)).isEqualTo(members);
+            assertThat(merge.finished(party, RAID)).isEqualTo(finished);
+        }
+    }
+
+    /**
+     * 두 파티, 캐릭터 3명과 완료 여부, 클라이언트 3개 - 작업 시각은 클라이언트마다 겹치지 않음 (Lamport 시각)
+     */
+    @Provide
+    Arbitrary<List<Op>> operations() {
+        Arbitrary<Op> op = Combinators.combine(
+            Arbitraries.of("1파티", "2파티"),
+            Arbitraries.of("캐릭터A", "캐릭터B", "캐릭터C", BoardMerge.FINISH),
+            Arbitraries.longs().between(1, 20),
+            Arbitraries.of("tab-a", "tab-b", "tab-c"),
+            Arbitraries.of(true, false)).as(Op::new);
+        return op.list().ofMaxSize(40).uniqueElements(o -> o.lamport + ":" + o.replica);
+    }
+
+    private static BoardMerge applyAll(List<Op> operations) {
+        BoardMerge merge = new BoardMerge();
+        for (Op op : operations) {
+            op.applyTo(merge);
+        }
+        return merge;
+    }
+
+    static final class Op {
+        final String party;
+        final String element;
+        final long lamport;
+        final String replica;
+        final boolean value;
+
+        Op(String party, String element, long lamport, String replica, boolean value) {
+            this.party = party;
+            this.element = element;
+            this.lamport = lamport;
+            this.replica = replica;
+            this.value = value;
+        }
+
+        boolean applyTo(BoardMerge merge) {
+            return merge.apply(party, RAID, element, lamport, replica, value);
+        }
+
+        @Override
+        public String toString() {
+            return party + "/" + (element.isEmpty() ? "finish" : element) + "=" + value + "@" + lamport + ":" + replica;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.loa.scheduler.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 변경 저널 레코드 인코딩 - 작업 종류, 컬럼 타입, null, '<' 조건, 작업자가 그대로 돌아오는지 확인
+ */
+class JournalRecordTest {
+
+    @Test
+    void upsertRoundTripsEveryColumnType() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 10, 14, 5, 0, 0, 123_000_000);
+        JournalRecord record = JournalRecord.upsert(JournalTable.USER_SCHEDULE)
+            .set("id", 42)
+            .set("user_id", "혀니")
+            .set("day_of_week", "수")
+            .set("week_start", LocalDate.of(2026, 10, 14))
+            .set("week_number", 1)
+            .set("schedule_text", null)
+            .set("enabled", "Y")
+            .set("created_at", createdAt)
+            .set("updated_at", createdAt.plusSeconds(-1))
+            .build(1_760_000_000_000L, "혀니@127.0.0.1")
+            .withSeq(7);
+
+        JournalRecord decoded = roundTrip(record);
+
+        assertThat(decoded.getSeq()).isEqualTo(7);
+        assertThat(decoded.getTimestamp()).isEqualTo(1_760_000_000_000L);
+        assertThat(decoded.getOp()).isEqualTo(JournalRecord.Op.UPSERT);
+        assertThat(decoded.getTable()).isEqualTo(JournalTable.USER_SCHEDULE);
+        assertThat(decoded.getActor()).isEqualTo("혀니@127.0.0.1");
+        assertThat(decoded.toMap()).isEqualTo(record.toMap());
+        assertThat(decoded.setValue(JournalTable.USER_SCHEDULE.indexOf("id"))).isEqualTo(42L);
+        assertThat(decoded.setValue(JournalTable.USER_SCHEDULE.indexOf("created_at"))).isEqualTo(createdAt);
+        assertThat(decoded.hasSet(JournalTable.USER_SCHEDULE.indexOf("schedule_text"))).isTrue();
+        assertThat(decoded.setValue(JournalTable.USER_SCHEDULE.indexOf("schedule_text"))).isNull();
+    }
+
+    @Test
+    void conditionalRecordsRoundTrip() {
+        JournalRecord purge = JournalRecord.delete(JournalTable.USER_SCHEDULE)
+            .whereLess("week_start", LocalDate.of(2026, 1, 1))
+            .where("user_id", null)
+            .build(1L, "system");
+        JournalRecord decodedPurge = roundTrip(purge);
+        int weekStart = JournalTable.USER_SCHEDULE.indexOf("week_start");
+        int userId = JournalTable.USER_SCHEDULE.indexOf("user_id");
+        assertThat(decodedPurge.isLess(weekStart)).isTrue();
+        assertThat(decodedPurge.whereValue(weekStart)).isEqualTo(LocalDate.of(2026, 1, 1));
+        assertThat(decodedPurge.hasWhere(userId)).isTrue();
+        assertThat(decodedPurge.isLess(userId)).isFalse();
+        assertThat(decodedPurge.whereValue(userId)).isNull();
+
+        JournalRecord finish = JournalRecord.update(JournalTable.RAID_SCHEDULE)
+            .where("id", "1파티").where("raid_name", "카멘").set("is_finish", "Y")
+            .build(2L, "");
+        JournalRecord decodedFinish = roundTrip(finish);
+        assertThat(decodedFinish.getOp()).isEqualTo(JournalRecord.Op.UPDATE);
+        assertThat(decodedFinish.toMap()).isEqualTo(finish.toMap());
+        assertThat(decodedFinish.hasSet(JournalTable.RAID_SCHEDULE.indexOf("id"))).isFalse();
+        assertThat(decodedFinish.mentions("카멘")).isTrue();
+    }
+
+    @Test
+    void truncatedBodyIsRejected() {
+        byte[] body = JournalRecord.delete(JournalTable.RAID_SCHEDULE).where("id", "1파티").build(1L, "system").encode();
+
+        assertThatThrownBy(() -> JournalRecord.decode(ByteBuffer.wrap(body, 0, body.length - 2)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static JournalRecord roundTrip(JournalRecord record) {
+        return JournalRecord.decode(ByteBuffer.wrap(record.encode()));
+    }
+}
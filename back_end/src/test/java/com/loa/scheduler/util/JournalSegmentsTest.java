@@ -0,0 +1,135 @@
+package com.loa.scheduler.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 변경 저널 세그먼트 - 기록/조회, 세그먼트 교체, 다시 열었을 때 이어 쓰기,
+ * 기록 중 종료로 잘린 뒷부분 무시를 확인
+ */
+class JournalSegmentsTest {
+
+    private static final int SEGMENT_BYTES = 4096;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void appendRotateAndReopen() throws IOException {
+        try (JournalSegments segments = new JournalSegments(directory, SEGMENT_BYTES)) {
+            for (int i = 0; i < 300; i++) {
+                segments.append(move("1파티", "카멘", "캐릭터" + i, i));
+            }
+            segments.force();
+            assertThat(segments.lastSeq()).isEqualTo(300);
+            assertThat(segments.segmentCount()).isGreaterThan(1);
+        }
+
+        try (JournalSegments segments = new JournalSegments(directory, SEGMENT_BYTES)) {
+            assertThat(segments.lastSeq()).isEqualTo(300);
+            JournalRecord appended = segments.append(move("2파티", "에키드나", "캐릭터300", 300));
+            segments.force();
+            assertThat(appended.getSeq()).isEqualTo(301);
+
+            List<JournalRecord> all = new ArrayList<>();
+            segments.forEach(all::add);
+            assertThat(all).hasSize(301);
+            for (int i = 0; i < all.size(); i++) {
+                assertThat(all.get(i).getSeq()).isEqualTo(i + 1);
+            }
+            assertThat(all.get(300).mentions("에키드나")).isTrue();
+        }
+    }
+
+    @Test
+    void scanByTimeRangeAndFilter() throws IOException {
+        try (JournalSegments segments = new JournalSegments(directory, SEGMENT_BYTES)) {
+            for (int i = 0; i < 200; i++) {
+                segments.append(move(i % 2 == 0 ? "1파티" : "2파티", "카멘", "캐릭터" + i, i * 1000L));
+            }
+            segments.append(JournalRecord.delete(JournalTable.USER_SCHEDULE)
+                .whereLess("week_start", LocalDate.of(2026, 1, 1))
+                .build(500_000L, "system"));
+            segments.force();
+
+            List<JournalRecord> range = segments.scan(10_000, 19_000, record -> true, 1000);
+            assertThat(range).hasSize(10);
+            assertThat(range.get(0).getTimestamp()).isEqualTo(10_000);
+
+            List<JournalRecord> party = segments.scan(0, Long.MAX_VALUE, record -> record.mentions("2파티"), 1000);
+            assertThat(party).hasSize(100);
+            assertThat(segments.scan(0, Long.MAX_VALUE, record -> true, 5)).hasSize(5);
+
+            JournalRecord purge = segments.scan(500_000, 500_000, record -> record.getTable() == JournalTable.USER_SCHEDULE, 10).get(0);
+            int weekStart = JournalTable.USER_SCHEDULE.indexOf("week_start");
+            assertThat(purge.isLess(weekStart)).isTrue();
+            assertThat(purge.whereValue(weekStart)).isEqualTo(LocalDate.of(2026, 1, 1));
+        }
+    }
+
+    @Test
+    void tornTailIsIgnoredAndOverwritten() throws IOException {
+        try (JournalSegments segments = new JournalSegments(directory, SEGMENT_BYTES)) {
+            for (int i = 0; i < 5; i++) {
+                segments.append(move("1파티", "카멘", "캐릭터" + i, i));
+            }
+            // force 전에는 조회되지 않음
+            assertThat(segments.scan(0, Long.MAX_VALUE, record -> true, 1000)).isEmpty();
+            segments.force();
+            assertThat(segments.scan(0, Long.MAX_VALUE, record -> true, 1000)).hasSize(5);
+        }
+
+        // 마지막 레코드 본문 일부를 깨뜨림 (기록 중 종료)
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.sorted().reduce((first, second) -> second).orElseThrow();
+        }
+        int end = lastRecordEnd(segment);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {0x7f, 0x7f, 0x7f}), end - 3);
+        }
+
+        try (JournalSegments segments = new JournalSegments(directory, SEGMENT_BYTES)) {
+            assertThat(segments.lastSeq()).isEqualTo(4);
+            segments.append(move("3파티", "카멘", "캐릭터9", 9));
+            segments.force();
+
+            List<JournalRecord> all = new ArrayList<>();
+            segments.forEach(all::add);
+            assertThat(all).hasSize(5);
+            assertThat(all.get(4).mentions("3파티")).isTrue();
+        }
+    }
+
+    private static JournalRecord move(String party, String raid, String character, long timestamp) {
+        return JournalRecord.upsert(JournalTable.RAID_SCHEDULE)
+            .set("id", party)
+            .set("raid_name", raid)
+            .set("character_name", character)
+            .set("is_finish", "N")
+            .build(timestamp, "테스터@127.0.0.1");
+    }
+
+    // 헤더 뒤 [길이][CRC][본문] 을 따라가 마지막 레코드 끝 위치를 찾음
+    private static int lastRecordEnd(Path segment) throws IOException {
+        ByteBuffer content = ByteBuffer.wrap(Files.readAllBytes(segment));
+        int position = 16;
+        while (content.getInt(position) > 0) {
+            position += 8 + content.getInt(position);
+        }
+        return position;
+    }
+}
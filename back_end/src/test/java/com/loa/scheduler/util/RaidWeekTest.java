@@ -0,0 +1,59 @@
+package com.loa.scheduler.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 레이드 주차 경계 - 수요일 05:00 KST 전후, 다른 시간대 입력, 상대 주차 변환
+ */
+class RaidWeekTest {
+
+    private static final LocalDate WEDNESDAY = LocalDate.of(2026, 10, 14);
+
+    private static ZonedDateTime kst(int month, int day, int hour, int minute) {
+        return LocalDateTime.of(2026, month, day, hour, minute).atZone(RaidWeek.ZONE);
+    }
+
+    @Test
+    void wednesdayBeforeFiveBelongsToPreviousWeek() {
+        assertThat(RaidWeek.weekStartOf(kst(10, 14, 4, 59))).isEqualTo(WEDNESDAY.minusWeeks(1));
+        assertThat(RaidWeek.weekStartOf(kst(10, 14, 5, 0))).isEqualTo(WEDNESDAY);
+    }
+
+    @Test
+    void tuesdayNightIsStillPreviousWeek() {
+        assertThat(RaidWeek.weekStartOf(kst(10, 20, 23, 59))).isEqualTo(WEDNESDAY);
+        assertThat(RaidWeek.weekStartOf(kst(10, 21, 4, 59))).isEqualTo(WEDNESDAY);
+        assertThat(RaidWeek.weekStartOf(kst(10, 21, 5, 0))).isEqualTo(WEDNESDAY.plusWeeks(1));
+    }
+
+    @Test
+    void otherZonesAreConvertedToKst() {
+        // 화요일 20:00 UTC = 수요일 05:00 KST
+        ZonedDateTime utc = LocalDateTime.of(2026, 10, 13, 20, 0).atZone(ZoneOffset.UTC);
+        assertThat(RaidWeek.weekStartOf(utc)).isEqualTo(WEDNESDAY);
+        assertThat(RaidWeek.weekStartOf(utc.minusMinutes(1))).isEqualTo(WEDNESDAY.minusWeeks(1));
+    }
+
+    @Test
+    void slotAndWeekStartAreInverse() {
+        assertThat(RaidWeek.weekStartOfSlot(1, WEDNESDAY)).isEqualTo(WEDNESDAY);
+        assertThat(RaidWeek.weekStartOfSlot(2, WEDNESDAY)).isEqualTo(WEDNESDAY.plusWeeks(1));
+        for (int slot = -3; slot <= 3; slot++) {
+            assertThat(RaidWeek.slotOf(RaidWeek.weekStartOfSlot(slot, WEDNESDAY), WEDNESDAY)).isEqualTo(slot);
+        }
+    }
+
+    @Test
+    void weekKeyUsesIsoWeekOfTheWednesday() {
+        assertThat(RaidWeek.weekKey(WEDNESDAY)).isEqualTo("2026-W42");
+        // 연말 - 2025-12-31(수)은 ISO 2026년 1주차
+        assertThat(RaidWeek.weekKey(LocalDate.of(2025, 12, 31))).isEqualTo("2026-W01");
+    }
+}
@@ -0,0 +1,113 @@
+package com.loa.scheduler.util;
+
+import com.loa.scheduler.SchedulerApplication;
+import com.loa.scheduler.service.ReplicaLagGuard;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 인메모리 DB 를 primary / 복제본으로 두고 replica 프로필 라우팅 확인
+ * 각 DB 에 자신을 나타내는 행을 넣어 두고 어느 쪽에서 읽었는지 본다.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private static final String H2_OPTIONS = ";MODE=MariaDB;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1";
+
+    private static ConfigurableApplicationContext context;
+    private static JdbcTemplate jdbcTemplate;
+    private static PlatformTransactionManager transactionManager;
+
+    @BeforeAll
+    static void start() {
+        context = new SpringApplicationBuilder(SchedulerApplication.class)
+            .web(WebApplicationType.NONE)
+            .profiles("test", "replica")
+            .properties(
+                "spring.datasource.url=jdbc:h2:mem:loa_scheduler_primary" + H2_OPTIONS,
+                "replica.datasource.url=jdbc:h2:mem:loa_scheduler_replica" + H2_OPTIONS,
+                "replica.datasource.driver-class-name=org.h2.Driver",
+                "replica.datasource.username=sa",
+                "replica.datasource.password=")
+            .run();
+
+        for (String target : new String[] {"primary", "replica"}) {
+            JdbcTemplate targetTemplate = new JdbcTemplate(context.getBean(target + "DataSource", DataSource.class));
+            targetTemplate.execute("CREATE TABLE routing_marker (source VARCHAR(20))");
+            targetTemplate.update("INSERT INTO routing_marker VALUES (?)", target);
+        }
+
+        jdbcTemplate = new JdbcTemplate(context.getBean(DataSource.class));
+        transactionManager = context.getBean(PlatformTransactionManager.class);
+    }
+
+    @AfterAll
+    static void stop() {
+        context.close();
+    }
+
+    private static String readSource(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> jdbcTemplate.queryForObject("SELECT source FROM routing_marker", String.class));
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplica() {
+        assertThat(readSource(true)).isEqualTo("replica");
+    }
+
+    @Test
+    void readWriteTransactionGoesToPrimary() {
+        ReadWriteRouting routing = ReadWriteRouting.begin(false);
+        try {
+            assertThat(readSource(false)).isEqualTo("primary");
+            assertThat(routing.hasWritten()).isTrue();
+        } finally {
+            ReadWriteRouting.end();
+        }
+    }
+
+    @Test
+    void pinnedClientReadsFromPrimary() {
+        ReadWriteRouting routing = ReadWriteRouting.begin(true);
+        try {
+            assertThat(readSource(true)).isEqualTo("primary");
+            assertThat(routing.hasWritten()).isFalse();
+        } finally {
+            ReadWriteRouting.end();
+        }
+    }
+
+    @Test
+    void onPrimaryReadsFromPrimaryOnlyInsideWork() {
+        ReadWriteRouting.begin(false);
+        try {
+            // 캐시를 채우는 조회
+            assertThat(ReadWriteRouting.onPrimary(() -> readSource(true))).isEqualTo("primary");
+            assertThat(ReadWriteRouting.isPrimaryForced()).isFalse();
+            assertThat(readSource(true)).isEqualTo("replica");
+        } finally {
+            ReadWriteRouting.end();
+        }
+    }
+
+    @Test
+    void writePinsOnlyThatClient() {
+        ReplicaLagGuard guard = context.getBean(ReplicaLagGuard.class);
+        guard.recordWrite("ip:10.0.0.1");
+
+        assertThat(guard.isPinned("ip:10.0.0.1")).isTrue();
+        assertThat(guard.isPinned("ip:10.0.0.2")).isFalse();
+    }
+}
@@ -0,0 +1,89 @@
+package com.loa.scheduler.util;
+
+import com.loa.scheduler.util.RequestTrace.SpanRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 요청 trace - 분류별 소요 시간 합산 규칙과 구간 수 상한
+ * 소요 시간을 아는 구간은 recordCompleted 로 넣어 값을 고정한다.
+ */
+class RequestTraceTest {
+
+    private static final double EPSILON = 1e-9;
+
+    @AfterEach
+    void clearThread() {
+        RequestTrace current = RequestTrace.current();
+        if (current != null) {
+            current.end(0);
+        }
+    }
+
+    @Test
+    void nestedSpansOfSameCategoryAreCountedOnce() {
+        RequestTrace trace = RequestTrace.begin("trace-1", "POST", "/api/batch");
+        RequestTrace.recordCompleted(RequestTrace.CATEGORY_DB, "findAll", 2_000_000);
+        try (RequestTrace.Span sse = RequestTrace.span(RequestTrace.CATEGORY_SSE, "broadcast")) {
+            // 다른 분류 안의 db 구간은 db 로 합산
+            RequestTrace.recordCompleted(RequestTrace.CATEGORY_DB, "version", 1_000_000);
+        }
+        try (RequestTrace.Span db = RequestTrace.span(RequestTrace.CATEGORY_DB, "saveAll")) {
+            // 같은 분류 안쪽 구간은 바깥 구간에 이미 포함
+            RequestTrace.recordCompleted(RequestTrace.CATEGORY_DB, "insert", 3_000_000);
+        }
+        trace.end(200);
+
+        List<SpanRecord> spans = trace.getSpans();
+        assertThat(spans).extracting(SpanRecord::getName).containsExactly("findAll", "broadcast", "version", "saveAll", "insert");
+        assertThat(spans).extracting(SpanRecord::getDepth).containsExactly(0, 0, 1, 0, 1);
+        long sseNanos = spans.get(1).getDurationNanos();
+        long saveAllNanos = spans.get(3).getDurationNanos();
+
+        Map<String, Double> phases = trace.phaseMillis();
+        assertThat(phases.get(RequestTrace.CATEGORY_DB)).isCloseTo((2_000_000 + 1_000_000 + saveAllNanos) / 1e6, within(EPSILON));
+        assertThat(phases.get(RequestTrace.CATEGORY_SSE)).isCloseTo(sseNanos / 1e6, within(EPSILON));
+        // other 는 최상위 구간만 뺀 나머지 (중첩 구간을 두 번 빼지 않음)
+        double rootMillis = (2_000_000 + sseNanos + saveAllNanos) / 1e6;
+        assertThat(phases.get("other")).isCloseTo(Math.max(trace.getDurationNanos() / 1e6 - rootMillis, 0), within(EPSILON));
+    }
+
+    @Test
+    void openSpansAreLeftOutOfPhases() {
+        RequestTrace trace = RequestTrace.begin("trace-2", "GET", "/api/raid");
+        RequestTrace.span(RequestTrace.CATEGORY_SERIALIZATION, "json");
+        trace.end(200);
+
+        assertThat(trace.phaseMillis()).containsOnlyKeys("other");
+    }
+
+    @Test
+    void spansWithoutTraceAreIgnored() {
+        try (RequestTrace.Span span = RequestTrace.span(RequestTrace.CATEGORY_DB, "scheduled")) {
+            RequestTrace.recordCompleted(RequestTrace.CATEGORY_DB, "query", 1_000_000);
+        }
+        assertThat(RequestTrace.current()).isNull();
+    }
+
+    @Test
+    void spansBeyondLimitAreDropped() {
+        RequestTrace trace = RequestTrace.begin("trace-3", "GET", "/api/Schedule");
+        for (int i = 0; i < 300; i++) {
+            RequestTrace.recordCompleted(RequestTrace.CATEGORY_DB, "query", 1_000);
+        }
+        try (RequestTrace.Span span = RequestTrace.span(RequestTrace.CATEGORY_DB, "late")) {
+            // 상한 이후 열린 구간도 기록되지 않음
+        }
+        trace.end(200);
+
+        assertThat(trace.getSpans()).hasSize(256);
+        assertThat(trace.toMap()).containsEntry("droppedSpans", 45);
+        assertThat(RequestTrace.current()).isNull();
+    }
+}
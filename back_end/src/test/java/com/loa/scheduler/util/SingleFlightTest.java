@@ -0,0 +1,90 @@
+package com.loa.scheduler.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 같은 키의 동시 요청이 계산 한 번을 공유하는지 확인
+ * 브로드캐스트 직후처럼 모든 요청이 동시에 들어오는 상황을 계산을 붙잡아 두는 방식으로 만든다.
+ */
+class SingleFlightTest {
+
+    private static final int CLIENTS = 20;
+
+    @Test
+    void concurrentCallsShareOneLoad() throws Exception {
+        SingleFlight<String, byte[]> singleFlight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            List<Future<byte[]>> results = new ArrayList<>();
+            for (int i = 0; i < CLIENTS; i++) {
+                results.add(pool.submit(() -> singleFlight.execute("raid:all:1", () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return "[]".getBytes();
+                })));
+            }
+
+            // 나머지 요청이 모두 진행 중인 계산에 합류할 때까지 대기
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (singleFlight.sharedCount() < CLIENTS - 1 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            byte[] first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<byte[]> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(first);
+            }
+            assertThat(loads.get()).isEqualTo(1);
+            assertThat(singleFlight.sharedCount()).isEqualTo(CLIENTS - 1);
+            assertThat(singleFlight.inFlightCount()).isZero();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void finishedLoadIsNotReused() {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+
+        singleFlight.execute("user:all:1", loads::incrementAndGet);
+        singleFlight.execute("user:all:1", loads::incrementAndGet);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void failureIsPropagatedAndKeyReleased() {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+
+        assertThatThrownBy(() -> singleFlight.execute("schedule:all:1", () -> {
+            throw new IllegalStateException("조회 실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(singleFlight.execute("schedule:all:1", () -> 1)).isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.loa.scheduler.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 토큰 버킷 - 버킷 크기만큼 연속 허용 후 보충 속도로 제한, 동시 요청에서도 토큰 수를 넘지 않는지,
+ * 버킷 수가 상한을 넘지 않는지 확인
+ */
+class TokenBucketLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void burstThenRefillRate() {
+        AtomicLong now = new AtomicLong(0);
+        TokenBucketLimiter limiter = new TokenBucketLimiter(2, 3, 100, 4, now::get);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("10.0.0.1")).isZero();
+        }
+        // 토큰 소진 - 다음 토큰까지 0.5초
+        assertThat(limiter.tryAcquire("10.0.0.1")).isEqualTo(SECOND / 2);
+        // 다른 클라이언트는 영향 없음
+        assertThat(limiter.tryAcquire("10.0.0.2")).isZero();
+
+        now.addAndGet(SECOND / 2);
+        assertThat(limiter.tryAcquire("10.0.0.1")).isZero();
+        assertThat(limiter.tryAcquire("10.0.0.1")).isPositive();
+    }
+
+    @Test
+    void concurrentRequestsNeverExceedBurst() throws Exception {
+        // 보충이 사실상 없는 설정 (시각 고정)
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, 50, 100, 4, () -> 0L);
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int i = 0; i < 8; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < 100; j++) {
+                        if (limiter.tryAcquire("10.0.0.1") == 0) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(allowed.get()).isEqualTo(50);
+    }
+
+    @Test
+    void bucketCountStaysBounded() {
+        AtomicLong now = new AtomicLong(0);
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, 1, 8, 2, now::get);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire("10.0.0." + i);
+        }
+        // 모두 토큰을 쓴 상태 - 상한을 넘는 클라이언트는 공용 버킷 사용
+        assertThat(limiter.size()).isLessThanOrEqualTo(8);
+        assertThat(limiter.overflowCount()).isPositive();
+
+        // 보충이 끝나 가득 찬 버킷은 정리
+        now.addAndGet(SECOND);
+        int evicted = limiter.evictIdle();
+        assertThat(evicted).isPositive();
+        assertThat(limiter.evictedCount()).isEqualTo(evicted);
+        assertThat(limiter.size()).isZero();
+    }
+}
@@ -1,6 +1,7 @@
-import { raidApi, characterApi, scheduleApi, userScheduleApi, userApi } from '@/services/api'
+import { raidApi, characterApi, scheduleApi, userScheduleApi, userApi, boardApi } from '@/services/api'
 import { defaultCharacters, defaultRaids, defaultUserSchedules, updateUserColors } from '@/utils/constants'
 import { findCharacterUserId, findCharacterIsSupporter } from '@/utils/characterHelpers'
+import boardOps from '@/utils/boardOps'
 import { calculateWeekInfo } from '@/utils/weekUtils'
 import { loadUserSchedules as utilLoadUserSchedules } from '@/utils/userScheduleHelpers'
 
@@ -115,6 +116,15 @@ export function useApiIntegration(appData) {
         // 상태 업데이트
         schedules.value = groupedSchedules
         scheduleFinish.value = groupedFinish
+        boardOps.resetSynced(groupedSchedules, groupedFinish)
+        
+        // 스케줄 조회 후 서버 시각을 받아야 그 스케줄에 반영된 작업보다 나중 시각으로 편집함
+        try {
+          const clock = await boardApi.getClock()
+          boardOps.observeLamport(clock.lamport)
+        } catch (err) {
+          console.warn('보드 시각 조회 실패 (첫 저장 응답으로 맞춤):', err)
+        }
         
       } catch (err) {
         console.warn('스케줄 API 실패, 빈 상태로 시작:', err)
@@ -139,6 +149,12 @@ export function useApiIntegration(appData) {
     }
   }
 
+  // 다른 멤버의 보드 작업(board-ops 이벤트)을 재조회 없이 반영
+  const applyBoardOps = (operations) => {
+    const changed = boardOps.applyRemoteOps(operations, schedules.value, scheduleFinish.value, characters)
+    console.log(`🧩 보드 작업 ${changed}/${(operations || []).length}건 반영`)
+  }
+
   // 레이드 데이터만 다시 로드하는 함수
   const loadRaids = async () => {
     try {
@@ -348,6 +364,7 @@ export function useApiIntegration(appData) {
     // API 통신 함수들
     loadData,
     loadRaids,
+    applyBoardOps,
     saveCharacters,
     saveAll,
     loadUserSchedules,
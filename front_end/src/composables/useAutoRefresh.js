@@ -1,11 +1,60 @@
 import { ref, onMounted, onUnmounted } from 'vue'
 import { api } from '@/services/api'
+import editSocket, { EDIT_SOCKET_ENABLED } from '@/services/editSocket'
 
-export function useAutoRefresh(loadDataFn) {
+// onBoardOps: 보드 작업(board-ops 이벤트)을 재조회 없이 화면에 반영하는 함수 (없으면 재조회)
+// onPresence: 하트비트에 실려 오는 접속 현황 변경분을 받는 함수
+export function useAutoRefresh(loadDataFn, onBoardOps = null, onPresence = null) {
   const lastUpdated = ref(null)
   const isCheckingUpdates = ref(false)
   const isSSEConnected = ref(false)
   let eventSource = null
+  let reconnectTimer = null
+  let refreshTimer = null
+  let socketUnsubscribers = []
+  // 보드 작업을 직접 반영한 직후의 lastUpdated 는 재조회하지 않음
+  let skipNextLastUpdated = false
+  
+  // 재연결 예약 - 지연 후 페이지가 보이는 상태에서만 재연결
+  const scheduleReconnect = (delayMs) => {
+    if (reconnectTimer) {
+      clearTimeout(reconnectTimer)
+    }
+    reconnectTimer = setTimeout(() => {
+      reconnectTimer = null
+      // 편집 웹소켓으로 이벤트를 받고 있으면 SSE 재연결 불필요
+      if (!eventSource && !document.hidden && !editSocket.isOpen()) {
+        console.log('🔄 SSE 재연결 시도...')
+        setupSSE()
+      }
+    }, delayMs)
+  }
+  
+  // 변경 이벤트 데이터의 재조회 지연 (서버가 클라이언트마다 무작위로 정함, 이전 형식이면 0)
+  const refetchDelayOf = (event) => {
+    try {
+      return Number(JSON.parse(event.data).refetchDelayMs) || 0
+    } catch (error) {
+      return 0
+    }
+  }
+  
+  // 보드 작업 이벤트 반영 - 반영했으면 true (이전 형식이거나 반영 함수가 없으면 false → 재조회)
+  const applyBoardOps = (data) => {
+    if (!onBoardOps || !Array.isArray(data.operations)) return false
+    onBoardOps(data.operations)
+    return true
+  }
+  
+  // 재조회 예약 - 모든 클라이언트가 같은 순간에 재조회하지 않도록 지연 후 실행
+  // 이미 예약되어 있으면 연달아 온 이벤트(변경 + lastUpdated)는 그 한 번의 재조회로 합침
+  const scheduleRefresh = (delayMs) => {
+    if (refreshTimer) return
+    refreshTimer = setTimeout(() => {
+      refreshTimer = null
+      triggerAutoRefresh()
+    }, delayMs)
+  }
   
   // 즉시 연결 정리 로직 - 페이지 언로드 시 SSE 연결 즉시 종료
   const handleBeforeUnload = () => {
@@ -58,6 +107,16 @@ export function useAutoRefresh(loadDataFn) {
         isSSEConnected.value = true
       })
       
+      // 접속 현황 변경분 (하트비트와 함께 전송됨)
+      eventSource.addEventListener('presence', (event) => {
+        if (!onPresence) return
+        try {
+          onPresence(JSON.parse(event.data))
+        } catch (error) {
+          console.warn('접속 현황 변경분 형식 오류:', event.data)
+        }
+      })
+      
       // 연결 성공 이벤트
       eventSource.addEventListener('connected', (event) => {
         console.log('✅ SSE 연결 확인:', event.data)
@@ -68,9 +127,11 @@ export function useAutoRefresh(loadDataFn) {
         const serverTimestamp = new Date(event.data)
         console.log('🕐 서버 업데이트 시간:', serverTimestamp)
         
-        if (lastUpdated.value && serverTimestamp > lastUpdated.value) {
+        if (skipNextLastUpdated) {
+          skipNextLastUpdated = false
+        } else if (lastUpdated.value && serverTimestamp > lastUpdated.value) {
           console.log('🔄 데이터 변화 감지됨, 자동 갱신 중...')
-          triggerAutoRefresh()
+          scheduleRefresh(0)
         }
         lastUpdated.value = serverTimestamp
       })
@@ -78,106 +139,140 @@ export function useAutoRefresh(loadDataFn) {
       // 캐릭터 관련 이벤트들
       eventSource.addEventListener('character-created', (event) => {
         console.log('👤 캐릭터 생성:', event.data)
-        triggerAutoRefresh()
+        scheduleRefresh(refetchDelayOf(event))
       })
       
       eventSource.addEventListener('character-updated', (event) => {
         console.log('✏️ 캐릭터 수정:', event.data)
-        triggerAutoRefresh()
+        scheduleRefresh(refetchDelayOf(event))
       })
       
       eventSource.addEventListener('character-deleted', (event) => {
         console.log('🗑️ 캐릭터 삭제:', event.data)
-        triggerAutoRefresh()
+        scheduleRefresh(refetchDelayOf(event))
       })
       
       eventSource.addEventListener('character-batch-saved', (event) => {
         console.log('💾 캐릭터 일괄저장:', event.data)
-        triggerAutoRefresh()
+        scheduleRefresh(refetchDelayOf(event))
       })
       
       // 스케줄 관련 이벤트들
       eventSource.addEventListener('schedule-created', (event) => {
         console.log('📅 스케줄 생성:', event.data)
-        triggerAutoRefresh()
+        scheduleRefresh(refetchDelayOf(event))
       })
       
       eventSource.addEventListener('schedule-batch-saved', (event) => {
         console.log('💾 스케줄 일괄저장:', event.data)
-        triggerAutoRefresh()
+        scheduleRefresh(refetchDelayOf(event))
       })
       
       eventSource.addEventListener('schedule-finish-updated', (event) => {
         console.log('✅ 스케줄 완료상태:', event.data)
-        triggerAutoRefresh()
+        scheduleRefresh(refetchDelayOf(event))
       })
       
       eventSource.addEventListener('schedule-deleted', (event) => {
         console.log('🗑️ 스케줄 삭제:', event.data)
-        triggerAutoRefresh()
+        scheduleRefresh(refetchDelayOf(event))
       })
       
       // 레이드 관련 이벤트들
       eventSource.addEventListener('raid-created', (event) => {
         console.log('🏔️ 레이드 생성:', event.data)
-        triggerAutoRefresh()
+        scheduleRefresh(refetchDelayOf(event))
       })
       
       eventSource.addEventListener('raid-updated', (event) => {
         console.log('✏️ 레이드 수정:', event.data)
-        triggerAutoRefresh()
+        scheduleRefresh(refetchDelayOf(event))
       })
       
       eventSource.addEventListener('raid-deleted', (event) => {
         console.log('🗑️ 레이드 삭제:', event.data)
-        triggerAutoRefresh()
+        scheduleRefresh(refetchDelayOf(event))
       })
       
       eventSource.addEventListener('raid-order-updated', (event) => {
         console.log('🔄 레이드 순서변경:', event.data)
-        triggerAutoRefresh()
+        scheduleRefresh(refetchDelayOf(event))
       })
       
       // 유저 일정 관련 이벤트들
       eventSource.addEventListener('user-schedule-created', (event) => {
         console.log('👤📅 유저일정 생성:', event.data)
-        triggerAutoRefresh()
+        scheduleRefresh(refetchDelayOf(event))
       })
       
       eventSource.addEventListener('user-schedule-updated', (event) => {
         console.log('✏️📅 유저일정 수정:', event.data)
-        triggerAutoRefresh()
+        scheduleRefresh(refetchDelayOf(event))
       })
       
       eventSource.addEventListener('user-schedule-deleted', (event) => {
         console.log('🗑️📅 유저일정 삭제:', event.data)
-        triggerAutoRefresh()
+        scheduleRefresh(refetchDelayOf(event))
       })
       
       eventSource.addEventListener('user-schedule-batch-saved', (event) => {
         console.log('💾📅 유저일정 일괄저장:', event.data)
-        triggerAutoRefresh()
+        scheduleRefresh(refetchDelayOf(event))
       })
       
       eventSource.addEventListener('week-advanced', (event) => {
         console.log('📅🔄 주차전환:', event.data)
-        triggerAutoRefresh()
+        scheduleRefresh(refetchDelayOf(event))
       })
       
       // 유저 관련 이벤트들
       eventSource.addEventListener('user-created', (event) => {
         console.log('👤 유저 생성:', event.data)
-        triggerAutoRefresh()
+        scheduleRefresh(refetchDelayOf(event))
       })
       
       eventSource.addEventListener('user-updated', (event) => {
         console.log('✏️ 유저 수정:', event.data)
-        triggerAutoRefresh()
+        scheduleRefresh(refetchDelayOf(event))
       })
       
       eventSource.addEventListener('user-deleted', (event) => {
         console.log('🗑️ 유저 삭제:', event.data)
-        triggerAutoRefresh()
+        scheduleRefresh(refetchDelayOf(event))
+      })
+      
+      // 보드 작업 (다른 멤버의 캐릭터 배치/제외, 완료 여부) - 받은 작업을 바로 반영
+      eventSource.addEventListener('board-ops', (event) => {
+        console.log('🧩 보드 작업:', event.data)
+        let data = {}
+        try {
+          data = JSON.parse(event.data)
+        } catch (error) {
+          // 형식 오류면 재조회
+        }
+        if (applyBoardOps(data)) {
+          skipNextLastUpdated = true
+        } else {
+          scheduleRefresh(refetchDelayOf(event))
+        }
+      })
+      
+      // 일괄 작업 (여러 종류의 변경을 한 번에 알림)
+      eventSource.addEventListener('batch-saved', (event) => {
+        console.log('💾 일괄 작업 저장:', event.data)
+        scheduleRefresh(refetchDelayOf(event))
+      })
+      
+      // 서버 종료(재배포) 안내 - 서버가 클라이언트마다 다르게 정한 지연 후 재연결 (동시 재연결 분산)
+      eventSource.addEventListener('reconnect', (event) => {
+        const delayMs = Number(event.data) || 5000
+        console.log(`🔁 서버 재시작 예정, ${delayMs}ms 후 재연결`)
+        isSSEConnected.value = false
+        if (eventSource) {
+          eventSource.close()
+          eventSource = null
+        }
+        scheduleReconnect(delayMs)
       })
       
       // 연결 에러 처리
@@ -191,13 +286,8 @@ export function useAutoRefresh(loadDataFn) {
           eventSource = null
         }
         
-        // 연결이 끊어지면 잠시 후 재연결 시도
-        setTimeout(() => {
-          if (!eventSource && !document.hidden) { // 페이지가 보이는 상태에서만 재연결
-            console.log('🔄 SSE 재연결 시도...')
-            setupSSE()
-          }
-        }, 5000)
+        // 연결이 끊어지면 잠시 후 재연결 시도 (서버가 갑자기 내려간 경우에도 동시에 몰리지 않도록 5~10초 분산)
+        scheduleReconnect(5000 + Math.floor(Math.random() * 5000))
       }
       
     } catch (error) {
@@ -207,6 +297,33 @@ export function useAutoRefresh(loadDataFn) {
     }
   }
   
+  // 편집 웹소켓 사용 시 변경 이벤트도 같은 연결로 받음 (SSE 연결 없이)
+  // 웹소켓이 끊겨 있는 동안에는 SSE 로 받고, 다시 연결되면 SSE 를 닫음
+  const setupEditSocket = () => {
+    socketUnsubscribers = [
+      editSocket.onChange((eventType, data) => {
+        if (eventType === 'presence') {
+          if (onPresence) onPresence(data)
+          return
+        }
+        console.log(`📨 웹소켓 변경 이벤트: ${eventType}`, data)
+        lastUpdated.value = new Date()
+        if (eventType === 'board-ops' && applyBoardOps(data)) return
+        scheduleRefresh(Number(data.refetchDelayMs) || 0)
+      }),
+      editSocket.onStatus((isOpen) => {
+        isSSEConnected.value = isOpen
+        if (isOpen && eventSource) {
+          eventSource.close()
+          eventSource = null
+        } else if (!isOpen && !eventSource && !document.hidden) {
+          setupSSE()
+        }
+      })
+    ]
+    editSocket.connect()
+  }
+  
   // SSE가 실패했을 때 폴백 폴링
   const setupFallbackPolling = () => {
     console.log('🔄 SSE 실패, 폴링 방식으로 전환')
@@ -259,7 +376,12 @@ export function useAutoRefresh(loadDataFn) {
   }
   
   // 자동저장 완료 후 체크
-  const checkAfterSave = async () => {
+  const checkAfterSave = async (type, options = {}) => {
+    // 저장한 작업 일부가 더 나중 작업에 밀렸으면 서버 상태로 다시 조회
+    if (options.stale) {
+      scheduleRefresh(0)
+      return
+    }
     // SSE가 연결되어 있으면 서버에서 자동으로 알림이 올 것이므로 별도 체크 불필요
     if (!isSSEConnected.value) {
       setTimeout(checkForUpdates, 1000)
@@ -284,7 +406,11 @@ export function useAutoRefresh(loadDataFn) {
     // 즉시 연결 정리 로직 - 페이지 가시성 변경 이벤트 등록
     document.addEventListener('visibilitychange', handleVisibilityChange)
     
-    setupSSE()
+    if (EDIT_SOCKET_ENABLED) {
+      setupEditSocket()
+    } else {
+      setupSSE()
+    }
   })
   
   onUnmounted(() => {
@@ -295,6 +421,23 @@ export function useAutoRefresh(loadDataFn) {
     window.removeEventListener('unload', handleBeforeUnload)
     document.removeEventListener('visibilitychange', handleVisibilityChange)
     
+    // 예약된 재연결, 재조회 취소
+    if (reconnectTimer) {
+      clearTimeout(reconnectTimer)
+      reconnectTimer = null
+    }
+    if (refreshTimer) {
+      clearTimeout(refreshTimer)
+      refreshTimer = null
+    }
+    
+    // 편집 웹소켓 구독 해제 후 연결 종료
+    socketUnsubscribers.forEach(unsubscribe => unsubscribe())
+    socketUnsubscribers = []
+    if (EDIT_SOCKET_ENABLED) {
+      editSocket.disconnect()
+    }
+    
     // SSE 연결 정리
     if (eventSource) {
       console.log('🔌 컴포넌트 언마운트로 인한 SSE 연결 종료')
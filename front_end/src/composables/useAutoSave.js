@@ -1,5 +1,7 @@
 import { ref, nextTick } from 'vue'
-import { raidApi, characterApi, scheduleApi, userScheduleApi } from '@/services/api'
+import { raidApi, characterApi, userScheduleApi, boardApi } from '@/services/api'
+import editSocket from '@/services/editSocket'
+import boardOps from '@/utils/boardOps'
 
 // Debounce 헬퍼 함수
 const debounce = (func, wait) => {
@@ -27,9 +29,9 @@ export function useAutoSave(onSaveComplete = null) {
   })
 
   // 저장 완료 시 콜백 호출
-  const handleSaveComplete = (type) => {
+  const handleSaveComplete = (type, options = {}) => {
     if (onSaveComplete) {
-      onSaveComplete(type)
+      onSaveComplete(type, options)
     }
   }
 
@@ -73,28 +75,36 @@ export function useAutoSave(onSaveComplete = null) {
       const [partyName, raidName] = scheduleKey.split('-')
       console.log(`💾 [스케줄 저장] API 호출 시작: ${partyName}파티 - ${raidName}레이드`)
       
-      // 기존 스케줄 삭제 후 새로 저장
-      console.log(`🔗 API: DELETE /schedule/party/${partyName}/raid/${raidName} (기존 스케줄 삭제)`)
-      await scheduleApi.deleteSchedulesByPartyAndRaid(partyName, raidName)
-      
-      // 새 스케줄 저장
-      if (characters && characters.length > 0) {
-        for (const character of characters) {
-          if (character.name && character.name.trim()) {
-            const scheduleData = {
-              id: partyName,
-              raidName: raidName,
-              characterName: character.name,
-              isFinish: isFinished ? 'Y' : 'N'
-            }
-            console.log(`🔗 API: POST /schedule (스케줄 생성 - ${character.name})`)
-            await scheduleApi.createSchedule(scheduleData)
-          }
+      // 칸 전체를 덮어쓰지 않고 바뀐 요소만 보드 작업으로 저장 (동시에 편집한 다른 멤버의 변경을 지우지 않음)
+      const characterNames = (characters || [])
+        .map(character => character.name && character.name.trim())
+        .filter(Boolean)
+      const { operations, commit } = boardOps.diffCell(scheduleKey, characterNames, isFinished)
+      if (operations.length === 0) {
+        setSavingState('schedule', false)
+        return
+      }
+      // 편집 웹소켓이 연결되어 있으면 그 연결로 보내고, 실패하면 REST 로 다시 보냄 (같은 시각의 작업이라 두 번 적용돼도 결과 같음)
+      let result = null
+      if (editSocket.isOpen()) {
+        try {
+          console.log(`🔗 WS: board (보드 작업 ${operations.length}건)`)
+          result = await editSocket.applyBoardOperations(operations)
+        } catch (error) {
+          if (error.rejected) throw error
+          console.warn('웹소켓 저장 실패, REST 로 재시도:', error.message)
         }
       }
+      if (!result) {
+        console.log(`🔗 API: POST /board/ops (보드 작업 ${operations.length}건)`)
+        result = await boardApi.applyOperations(operations)
+      }
+      commit()
+      boardOps.observeLamport(result.lamport)
       
       setSavingState('schedule', false)
-      handleSaveComplete('schedule')
+      // 더 나중 작업에 밀린 작업이 있으면 화면이 서버와 다르므로 다시 조회
+      handleSaveComplete('schedule', { stale: result.applied < operations.length })
       console.log(`✅ [스케줄 저장] 완료: ${partyName}파티 - ${raidName}레이드 (캐릭터 ${characters?.length || 0}명)`)
     } catch (error) {
       setSavingState('schedule', false, error.message)
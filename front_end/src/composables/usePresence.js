@@ -0,0 +1,145 @@
+import { ref, reactive, computed, onMounted, onUnmounted } from 'vue'
+import { presenceApi } from '@/services/api'
+import editSocket from '@/services/editSocket'
+
+// 접속 현황 - 이 탭이 보고 있거나 편집 중인 대상을 알리고, 다른 탭의 현황을 SSE 하트비트 변경분으로 유지
+// 대상 예: board:전체, schedule:1파티-카멘, user-schedule:혀니-월
+
+// 탭마다 다른 id
+const SESSION_ID = `tab-${Math.random().toString(36).slice(2, 10)}`
+// 표시 이름 (localStorage 'presenceUser', 없으면 익명)
+const USER_KEY = 'presenceUser'
+// 서버 만료(90초)보다 짧은 주기로 현재 상태를 다시 알림
+const KEEPALIVE_MS = 60000
+// 편집 표시 유지 시간 - 이후 다시 보는 중으로
+const EDITING_HOLD_MS = 15000
+
+export function usePresence() {
+  const entries = reactive({})  // sessionId -> { user, mode, target }
+  let seq = null
+  let loading = false
+  let current = null
+  let keepAliveTimer = null
+  let editingTimer = null
+
+  const presenceUser = ref(localStorage.getItem(USER_KEY) || '')
+  const userName = () => presenceUser.value || '익명'
+
+  // 전체 현황 조회 (처음, 변경분 번호가 건너뛰었거나 서버가 전체 재조회를 안내했을 때)
+  const loadSnapshot = async () => {
+    if (loading) return
+    loading = true
+    try {
+      const data = await presenceApi.getPresence()
+      Object.keys(entries).forEach(sessionId => delete entries[sessionId])
+      ;(data.entries || []).forEach(([sessionId, user, mode, target]) => {
+        entries[sessionId] = { user, mode, target }
+      })
+      seq = data.seq
+    } catch (error) {
+      console.warn('접속 현황 조회 실패:', error)
+    } finally {
+      loading = false
+    }
+  }
+
+  // 하트비트로 받은 변경분 적용 - 바뀐 탭만 갱신
+  const applyDelta = (delta) => {
+    if (seq === null) {
+      loadSnapshot()  // 처음 조회가 끝나지 않았거나 실패한 경우
+      return
+    }
+    if (delta.seq === seq) return  // 조회 결과에 이미 반영된 변경분
+    // 전체 재조회 안내, 놓친 변경분, 서버 재시작(번호가 처음부터 다시 시작) - 전체 다시 조회
+    if (delta.reset || delta.seq !== seq + 1) {
+      seq = null
+      loadSnapshot()
+      return
+    }
+    seq = delta.seq
+    ;(delta.set || []).forEach(([sessionId, user, mode, target]) => {
+      entries[sessionId] = { user, mode, target }
+    })
+    ;(delta.del || []).forEach(sessionId => {
+      delete entries[sessionId]
+    })
+  }
+
+  const send = async () => {
+    if (!current) return
+    try {
+      await presenceApi.updatePresence({ sessionId: SESSION_ID, user: userName(), ...current })
+    } catch (error) {
+      console.warn('접속 현황 갱신 실패:', error)
+    }
+  }
+
+  // 이 탭의 현황 알림 - mode: 'v'(보는 중) 또는 'e'(편집 중)
+  const announce = (mode, target) => {
+    if (current && current.mode === mode && current.target === target) return
+    current = { mode, target }
+    send()
+  }
+
+  // 표시 이름 변경 - 저장 후 현재 상태를 새 이름으로 다시 알리고, 웹소켓은 새 이름으로 다시 연결 (서버는 연결 시 이름을 기록)
+  const setUserName = (name) => {
+    const trimmed = (name || '').trim()
+    if (trimmed === presenceUser.value) return
+    if (trimmed) {
+      localStorage.setItem(USER_KEY, trimmed)
+    } else {
+      localStorage.removeItem(USER_KEY)
+    }
+    presenceUser.value = trimmed
+    send()
+    editSocket.reconnect()
+  }
+
+  // 편집 중 표시 - 한동안 편집이 없으면 보는 중으로 돌아감
+  const announceEditing = (target) => {
+    announce('e', target)
+    clearTimeout(editingTimer)
+    editingTimer = setTimeout(() => announce('v', 'board:전체'), EDITING_HOLD_MS)
+  }
+
+  // 다른 탭이 편집 중인 대상 -> 편집 중인 이름 목록
+  const editingByOthers = computed(() => {
+    const result = {}
+    Object.entries(entries).forEach(([sessionId, entry]) => {
+      if (sessionId === SESSION_ID || entry.mode !== 'e') return
+      ;(result[entry.target] = result[entry.target] || []).push(entry.user)
+    })
+    return result
+  })
+
+  const viewerCount = computed(() => Object.keys(entries).length)
+
+  const handleUnload = () => {
+    presenceApi.leave(SESSION_ID)
+  }
+
+  onMounted(() => {
+    loadSnapshot()
+    announce('v', 'board:전체')
+    keepAliveTimer = setInterval(send, KEEPALIVE_MS)
+    window.addEventListener('pagehide', handleUnload)
+  })
+
+  onUnmounted(() => {
+    clearInterval(keepAliveTimer)
+    clearTimeout(editingTimer)
+    window.removeEventListener('pagehide', handleUnload)
+    handleUnload()
+  })
+
+  return {
+    entries,
+    presenceUser,
+    setUserName,
+    editingByOthers,
+    viewerCount,
+    applyDelta,
+    announce,
+    announceEditing
+  }
+}
@@ -11,6 +11,48 @@ const fetchConfig = {
   }
 }
 
+// 쓰기 요청 재시도 횟수 (네트워크 오류, 요청 속도 제한(429) 시 재시도)
+const WRITE_RETRY_COUNT = 2
+// 429 응답의 Retry-After 대기 상한 (초) - 더 길면 재시도하지 않고 오류로 처리
+const MAX_RETRY_AFTER_SECONDS = 10
+
+// Idempotency-Key 생성
+const createIdempotencyKey = () => {
+  if (typeof crypto !== 'undefined' && crypto.randomUUID) {
+    return crypto.randomUUID()
+  }
+  return `${Date.now()}-${Math.random().toString(36).slice(2)}`
+}
+
+// 변경 기록(저널)에 남길 작업자 이름 (접속 현황 표시 이름, 헤더에는 ASCII 만 가능하므로 인코딩)
+const userNameHeader = () => {
+  const user = localStorage.getItem('presenceUser')
+  return user ? { 'X-User-Name': encodeURIComponent(user) } : {}
+}
+
+// 쓰기 요청용 fetch - 재시도 시 같은 Idempotency-Key를 보내 서버에서 중복 처리되지 않도록 함
+const fetchWithIdempotency = async (url, options) => {
+  const headers = { ...options.headers, ...userNameHeader(), 'Idempotency-Key': createIdempotencyKey() }
+  for (let attempt = 0; ; attempt++) {
+    let response
+    try {
+      response = await fetch(url, { ...options, headers })
+    } catch (error) {
+      // fetch는 네트워크 오류일 때만 reject됨
+      if (attempt >= WRITE_RETRY_COUNT) throw error
+      await new Promise(resolve => setTimeout(resolve, 300 * (attempt + 1)))
+      continue
+    }
+    // 요청 속도 제한 - 서버가 알려준 시간만큼 기다렸다가 같은 키로 재시도 (거부된 요청은 서버에 저장되지 않음)
+    const retryAfter = Number(response.headers.get('Retry-After'))
+    if (response.status !== 429 || attempt >= WRITE_RETRY_COUNT
+        || !(retryAfter > 0) || retryAfter > MAX_RETRY_AFTER_SECONDS) {
+      return response
+    }
+    await new Promise(resolve => setTimeout(resolve, retryAfter * 1000))
+  }
+}
+
 // 프론트엔드 → 백엔드 변환 (boolean → String)
 const convertToBackend = (character) => {
   return {
@@ -80,7 +122,7 @@ export const raidApi = {
     try {
       // seq는 백엔드에서 자동 설정되도록 name만 전송
       const raidData = { name: raidName }
-      const response = await fetch(`${API_BASE_URL}/raid`, {
+      const response = await fetchWithIdempotency(`${API_BASE_URL}/raid`, {
         ...fetchConfig,
         method: 'POST',
         body: JSON.stringify(raidData)
@@ -95,7 +137,7 @@ export const raidApi = {
   // 레이드 생성 (seq 지정)
   createRaidWithSeq: async (raidData) => {
     try {
-      const response = await fetch(`${API_BASE_URL}/raid`, {
+      const response = await fetchWithIdempotency(`${API_BASE_URL}/raid`, {
         ...fetchConfig,
         method: 'POST',
         body: JSON.stringify(raidData)
@@ -110,7 +152,7 @@ export const raidApi = {
   // 레이드 삭제
   deleteRaid: async (raidName) => {
     try {
-      const response = await fetch(`${API_BASE_URL}/raid/${encodeURIComponent(raidName)}`, {
+      const response = await fetchWithIdempotency(`${API_BASE_URL}/raid/${encodeURIComponent(raidName)}`, {
         ...fetchConfig,
         method: 'DELETE'
       })
@@ -124,7 +166,7 @@ export const raidApi = {
   // 레이드 순서 업데이트 (seq swap)
   updateRaidOrder: async (raidUpdates) => {
     try {
-      const response = await fetch(`${API_BASE_URL}/raid/order`, {
+      const response = await fetchWithIdempotency(`${API_BASE_URL}/raid/order`, {
         ...fetchConfig,
         method: 'PUT',
         body: JSON.stringify(raidUpdates)
@@ -139,7 +181,7 @@ export const raidApi = {
   // 개별 레이드 순서 업데이트 (즉시 저장용)
   updateRaidOrderSingle: async (raidName, newSeq) => {
     try {
-      const response = await fetch(`${API_BASE_URL}/raid/${encodeURIComponent(raidName)}/order`, {
+      const response = await fetchWithIdempotency(`${API_BASE_URL}/raid/${encodeURIComponent(raidName)}/order`, {
         ...fetchConfig,
         method: 'PUT',
         body: JSON.stringify({ seq: newSeq })
@@ -199,7 +241,7 @@ export const characterApi = {
   // 캐릭터 생성
   createCharacter: async (characterData) => {
     try {
-      const response = await fetch(`${API_BASE_URL}/charactors`, {
+      const response = await fetchWithIdempotency(`${API_BASE_URL}/charactors`, {
         ...fetchConfig,
         method: 'POST',
         body: JSON.stringify(convertToBackend(characterData))
@@ -214,7 +256,7 @@ export const characterApi = {
   // 캐릭터 삭제 (이름 기반)
   deleteCharacter: async (characterName) => {
     try {
-      const response = await fetch(`${API_BASE_URL}/charactors/${encodeURIComponent(characterName)}`, {
+      const response = await fetchWithIdempotency(`${API_BASE_URL}/charactors/${encodeURIComponent(characterName)}`, {
         ...fetchConfig,
         method: 'DELETE'
       })
@@ -228,7 +270,7 @@ export const characterApi = {
   // 캐릭터 업데이트 (개별 저장용)
   updateCharacter: async (characterName, characterData) => {
     try {
-      const response = await fetch(`${API_BASE_URL}/charactors/${encodeURIComponent(characterName)}`, {
+      const response = await fetchWithIdempotency(`${API_BASE_URL}/charactors/${encodeURIComponent(characterName)}`, {
         ...fetchConfig,
         method: 'PUT',
         body: JSON.stringify(convertToBackend(characterData))
@@ -244,7 +286,7 @@ export const characterApi = {
   saveAllCharacters: async (characters) => {
     try {
       const backendCharacters = characters.map(convertToBackend)
-      const response = await fetch(`${API_BASE_URL}/charactors/batch`, {
+      const response = await fetchWithIdempotency(`${API_BASE_URL}/charactors/batch`, {
         ...fetchConfig,
         method: 'PUT',
         body: JSON.stringify(backendCharacters)
@@ -276,7 +318,7 @@ export const scheduleApi = {
   // 스케줄 생성
   createSchedule: async (scheduleData) => {
     try {
-      const response = await fetch(`${API_BASE_URL}/Schedule`, {
+      const response = await fetchWithIdempotency(`${API_BASE_URL}/Schedule`, {
         ...fetchConfig,
         method: 'POST',
         body: JSON.stringify(scheduleData)
@@ -291,7 +333,7 @@ export const scheduleApi = {
   // 스케줄 일괄 저장 (프론트엔드 전체 스케줄 저장)
   saveAllSchedules: async (schedules, scheduleFinish) => {
     try {
-      const response = await fetch(`${API_BASE_URL}/Schedule/batch`, {
+      const response = await fetchWithIdempotency(`${API_BASE_URL}/Schedule/batch`, {
         ...fetchConfig,
         method: 'POST',
         body: JSON.stringify({
@@ -309,7 +351,7 @@ export const scheduleApi = {
   // 스케줄 완료 상태 업데이트
   updateScheduleFinish: async (partyName, raidName, isFinish) => {
     try {
-      const response = await fetch(`${API_BASE_URL}/Schedule/finish/${encodeURIComponent(partyName)}/${encodeURIComponent(raidName)}`, {
+      const response = await fetchWithIdempotency(`${API_BASE_URL}/Schedule/finish/${encodeURIComponent(partyName)}/${encodeURIComponent(raidName)}`, {
         ...fetchConfig,
         method: 'PUT',
         body: JSON.stringify({ isFinish: isFinish })
@@ -324,7 +366,7 @@ export const scheduleApi = {
   // 스케줄 삭제
   deleteSchedule: async (scheduleId) => {
     try {
-      const response = await fetch(`${API_BASE_URL}/Schedule/${scheduleId}`, {
+      const response = await fetchWithIdempotency(`${API_BASE_URL}/Schedule/${scheduleId}`, {
         ...fetchConfig,
         method: 'DELETE'
       })
@@ -338,7 +380,7 @@ export const scheduleApi = {
   // 특정 파티와 레이드의 스케줄 삭제
   deleteScheduleByPartyAndRaid: async (partyName, raidName) => {
     try {
-      const response = await fetch(`${API_BASE_URL}/Schedule/party/${encodeURIComponent(partyName)}/raid/${encodeURIComponent(raidName)}`, {
+      const response = await fetchWithIdempotency(`${API_BASE_URL}/Schedule/party/${encodeURIComponent(partyName)}/raid/${encodeURIComponent(raidName)}`, {
         ...fetchConfig,
         method: 'DELETE'
       })
@@ -352,7 +394,7 @@ export const scheduleApi = {
   // 특정 파티-레이드 조합의 모든 스케줄 삭제 (개별 저장용)
   deleteSchedulesByPartyAndRaid: async (partyName, raidName) => {
     try {
-      const response = await fetch(`${API_BASE_URL}/Schedule/party/${encodeURIComponent(partyName)}/raid/${encodeURIComponent(raidName)}`, {
+      const response = await fetchWithIdempotency(`${API_BASE_URL}/Schedule/party/${encodeURIComponent(partyName)}/raid/${encodeURIComponent(raidName)}`, {
         ...fetchConfig,
         method: 'DELETE'
       })
@@ -364,11 +406,79 @@ export const scheduleApi = {
   }
 }
 
+// 일괄 작업 API - 여러 쓰기 작업을 한 요청, 한 트랜잭션으로 실행 (변경 이벤트도 한 번)
+// operations 예: [{ type: 'schedule-replace', party: '1파티', raidName: '카멘', characters: ['캐릭터A'], isFinish: false }]
+export const batchApi = {
+  applyOperations: async (operations) => {
+    try {
+      const response = await fetchWithIdempotency(`${API_BASE_URL}/batch`, {
+        ...fetchConfig,
+        method: 'POST',
+        body: JSON.stringify({ operations })
+      })
+      return await handleResponse(response)
+    } catch (error) {
+      console.error('Error applying batch operations:', error)
+      throw error
+    }
+  }
+}
+
+// 레이드 보드 작업 API - 칸 전체 대신 요소 단위로 병합 (동시에 편집해도 서로의 변경을 덮어쓰지 않음)
+// operations 예: [{ type: 'add', party: '1파티', raidName: '카멘', character: '캐릭터A', lamport: 42, replica: 'tab-3f9a' }]
+export const boardApi = {
+  // 서버 Lamport 시각 - 첫 보드 작업 전에 받아서 기존 작업보다 나중 시각으로 보냄
+  getClock: async () => {
+    const response = await fetch(`${API_BASE_URL}/board/clock`, fetchConfig)
+    return await handleResponse(response)
+  },
+
+  applyOperations: async (operations) => {
+    try {
+      const response = await fetchWithIdempotency(`${API_BASE_URL}/board/ops`, {
+        ...fetchConfig,
+        method: 'POST',
+        body: JSON.stringify({ operations })
+      })
+      return await handleResponse(response)
+    } catch (error) {
+      console.error('Error applying board operations:', error)
+      throw error
+    }
+  }
+}
+
+// 접속 현황 API - 쓰기 작업이 아니므로 Idempotency-Key 없이 전송
+export const presenceApi = {
+  getPresence: async () => {
+    const response = await fetch(`${API_BASE_URL}/presence`, fetchConfig)
+    return await handleResponse(response)
+  },
+
+  updatePresence: async (presence) => {
+    const response = await fetch(`${API_BASE_URL}/presence`, {
+      ...fetchConfig,
+      method: 'POST',
+      body: JSON.stringify(presence)
+    })
+    return await handleResponse(response)
+  },
+
+  // 페이지 언로드 중에도 전송되도록 sendBeacon 사용
+  leave: (sessionId) => {
+    const body = new Blob([JSON.stringify({ sessionId })], { type: 'application/json' })
+    navigator.sendBeacon(`${API_BASE_URL}/presence/leave`, body)
+  }
+}
+
 // 전체 API 객체 내보내기
 export const api = {
   raid: raidApi,
   character: characterApi,
   schedule: scheduleApi,
+  batch: batchApi,
+  board: boardApi,
+  presence: presenceApi,
   
   // 마지막 업데이트 시간 조회 (폴백용)
   getLastUpdated: async () => {
@@ -416,7 +526,7 @@ export const userApi = {
   // 유저 생성
   createUser: async (userData) => {
     try {
-      const response = await fetch(`${API_BASE_URL}/user`, {
+      const response = await fetchWithIdempotency(`${API_BASE_URL}/user`, {
         ...fetchConfig,
         method: 'POST',
         body: JSON.stringify(userData)
@@ -431,7 +541,7 @@ export const userApi = {
   // 유저 수정
   updateUser: async (name, userData) => {
     try {
-      const response = await fetch(`${API_BASE_URL}/user/${encodeURIComponent(name)}`, {
+      const response = await fetchWithIdempotency(`${API_BASE_URL}/user/${encodeURIComponent(name)}`, {
         ...fetchConfig,
         method: 'PUT',
         body: JSON.stringify(userData)
@@ -446,7 +556,7 @@ export const userApi = {
   // 유저 삭제
   deleteUser: async (name) => {
     try {
-      const response = await fetch(`${API_BASE_URL}/user/${encodeURIComponent(name)}`, {
+      const response = await fetchWithIdempotency(`${API_BASE_URL}/user/${encodeURIComponent(name)}`, {
         ...fetchConfig,
         method: 'DELETE'
       })
@@ -486,7 +596,7 @@ export const userScheduleApi = {
   // 일정 저장 (생성/업데이트)
   saveUserSchedule: async (userId, dayOfWeek, scheduleData) => {
     try {
-      const response = await fetch(`${API_BASE_URL}/user_schedule`, {
+      const response = await fetchWithIdempotency(`${API_BASE_URL}/user_schedule`, {
         ...fetchConfig,
         method: 'POST',
         body: JSON.stringify({
@@ -506,7 +616,7 @@ export const userScheduleApi = {
   // 전체 일정 일괄 저장
   saveAllUserSchedules: async (userSchedules) => {
     try {
-      const response = await fetch(`${API_BASE_URL}/user_schedule/batch`, {
+      const response = await fetchWithIdempotency(`${API_BASE_URL}/user_schedule/batch`, {
       ...fetchConfig,
       method: 'POST',
       body: JSON.stringify(userSchedules)  // 직접 전송
@@ -521,7 +631,7 @@ export const userScheduleApi = {
   // 일정 삭제
   deleteUserSchedule: async (userId, dayOfWeek) => {
     try {
-      const response = await fetch(`${API_BASE_URL}/user_schedule/${encodeURIComponent(userId)}/${encodeURIComponent(dayOfWeek)}`, {
+      const response = await fetchWithIdempotency(`${API_BASE_URL}/user_schedule/${encodeURIComponent(userId)}/${encodeURIComponent(dayOfWeek)}`, {
         ...fetchConfig,
         method: 'DELETE'
       })
@@ -535,7 +645,7 @@ export const userScheduleApi = {
   // 주차 전환 (2주차 → 1주차, 기존 1주차 삭제)
   advanceWeek: async () => {
     try {
-      const response = await fetch(`${API_BASE_URL}/user_schedule/advance-week`, {
+      const response = await fetchWithIdempotency(`${API_BASE_URL}/user_schedule/advance-week`, {
         ...fetchConfig,
         method: 'POST'
       })
@@ -559,7 +669,7 @@ export const userScheduleApi = {
         enabled: isEnabled ? 'Y' : 'N'
       }
       
-      const response = await fetch(`${API_BASE_URL}/user_schedule/single`, {
+      const response = await fetchWithIdempotency(`${API_BASE_URL}/user_schedule/single`, {
         ...fetchConfig,
         method: 'POST',
         body: JSON.stringify(requestData)
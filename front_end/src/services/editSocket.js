@@ -0,0 +1,172 @@
+// 편집 웹소켓 (/api/ws) - 편집 명령 전송, 명령별 ack, 변경 이벤트 수신을 연결 하나로
+// VITE_EDIT_SOCKET=true 일 때만 사용 (아니면 REST + SSE)
+
+export const EDIT_SOCKET_ENABLED = import.meta.env.VITE_EDIT_SOCKET === 'true'
+
+const SOCKET_URL = process.env.NODE_ENV === 'production'
+  ? `${window.location.protocol === 'https:' ? 'wss:' : 'ws:'}//${window.location.host}/api/ws`  // nginx proxy
+  : 'ws://localhost:19013/api/ws'
+
+// ack 대기 시간, 연결 유지 ping 주기
+const COMMAND_TIMEOUT_MS = 10000
+const PING_INTERVAL_MS = 30000
+
+// 탭마다 한 번 만드는 클라이언트 id - 재연결 후 같은 명령 id 를 다시 보내도 서버가 한 번만 실행
+const CLIENT_ID = `${Date.now().toString(36)}-${Math.random().toString(36).slice(2, 10)}`
+
+let socket = null
+let commandSeq = 0
+let pingTimer = null
+let reconnectTimer = null
+const pending = new Map()         // 명령 id -> { resolve, reject, timer }
+const changeListeners = new Set()  // (eventType, data) => void
+const statusListeners = new Set()  // (isOpen) => void
+
+const notifyStatus = (isOpen) => {
+  statusListeners.forEach(listener => listener(isOpen))
+}
+
+const handleMessage = (event) => {
+  let message
+  try {
+    message = JSON.parse(event.data)
+  } catch (error) {
+    console.warn('웹소켓 메시지 형식 오류:', event.data)
+    return
+  }
+
+  if (message.type === 'event') {
+    changeListeners.forEach(listener => listener(message.event, message.data || {}))
+    return
+  }
+  // 접속 현황 변경분 (SSE presence 이벤트와 같은 데이터)
+  if (message.type === 'presence') {
+    changeListeners.forEach(listener => listener('presence', message.data || {}))
+    return
+  }
+
+  const command = pending.get(message.id)
+  if (!command) return
+  pending.delete(message.id)
+  clearTimeout(command.timer)
+  if (message.type === 'error') {
+    // 서버가 처리 후 거절한 명령 - REST 로 다시 보내도 같은 결과
+    // 속도 제한(retryAfter)은 실행하지 않은 것이므로 REST 로 다시 보냄 (REST 는 Retry-After 만큼 기다린 뒤 재시도)
+    const error = new Error(message.error || '명령 처리 실패')
+    error.rejected = !message.retryAfter
+    error.retryAfter = message.retryAfter
+    command.reject(error)
+  } else {
+    command.resolve(message)
+  }
+}
+
+// 연결 종료 - 대기 중인 명령은 실패 처리 (호출한 쪽에서 REST 로 다시 보냄)
+const handleClose = () => {
+  socket = null
+  clearInterval(pingTimer)
+  pingTimer = null
+  pending.forEach(command => {
+    clearTimeout(command.timer)
+    command.reject(new Error('웹소켓 연결 종료'))
+  })
+  pending.clear()
+  notifyStatus(false)
+
+  // 구독 중이면 재연결 (서버 재시작 시 동시에 몰리지 않도록 5~10초 분산)
+  if (changeListeners.size > 0 && !reconnectTimer) {
+    reconnectTimer = setTimeout(() => {
+      reconnectTimer = null
+      connect()
+    }, 5000 + Math.floor(Math.random() * 5000))
+  }
+}
+
+export const connect = () => {
+  if (!EDIT_SOCKET_ENABLED || socket) return
+  try {
+    // 변경 기록(저널)에 남길 작업자 이름 (접속 현황 표시 이름)
+    const user = localStorage.getItem('presenceUser')
+    const params = new URLSearchParams({ client: CLIENT_ID })
+    if (user) params.set('user', user)
+    socket = new WebSocket(`${SOCKET_URL}?${params}`)
+  } catch (error) {
+    console.error('❌ 웹소켓 설정 실패:', error)
+    socket = null
+    return
+  }
+  socket.onopen = () => {
+    console.log('🔗 웹소켓 연결 성공')
+    pingTimer = setInterval(() => sendCommand({ type: 'ping' }).catch(() => {}), PING_INTERVAL_MS)
+    notifyStatus(true)
+  }
+  socket.onmessage = handleMessage
+  socket.onclose = handleClose
+  socket.onerror = (error) => {
+    console.error('❌ 웹소켓 연결 에러:', error)
+  }
+}
+
+export const disconnect = () => {
+  clearTimeout(reconnectTimer)
+  reconnectTimer = null
+  if (socket) {
+    socket.onclose = null
+    socket.close()
+    handleClose()
+  }
+}
+
+// 연결 중이면 끊고 바로 다시 연결 (표시 이름이 바뀌었을 때 - 대기 중인 명령은 REST 로 다시 보냄)
+export const reconnect = () => {
+  if (!socket) return
+  disconnect()
+  clearTimeout(reconnectTimer)
+  reconnectTimer = null
+  connect()
+}
+
+export const isOpen = () => socket !== null && socket.readyState === WebSocket.OPEN
+
+const sendCommand = (command) => new Promise((resolve, reject) => {
+  if (!isOpen()) {
+    reject(new Error('웹소켓 연결 없음'))
+    return
+  }
+  const id = `c${++commandSeq}`
+  const timer = setTimeout(() => {
+    pending.delete(id)
+    reject(new Error('웹소켓 응답 시간 초과'))
+  }, COMMAND_TIMEOUT_MS)
+  pending.set(id, { resolve, reject, timer })
+  socket.send(JSON.stringify({ ...command, id }))
+})
+
+// 일괄 작업 전송 (/api/batch 와 같은 작업 목록) - ack 메시지(바뀐 리소스의 versions 포함)로 resolve
+export const applyOperations = (operations) => sendCommand({ type: 'batch', operations })
+
+// 보드 작업 전송 (/api/board/ops 와 같은 작업 목록) - ack 메시지(applied, lamport 포함)로 resolve
+export const applyBoardOperations = (operations) => sendCommand({ type: 'board', operations })
+
+// 변경 이벤트 구독 - 해제 함수 반환
+export const onChange = (listener) => {
+  changeListeners.add(listener)
+  return () => changeListeners.delete(listener)
+}
+
+// 연결 상태 구독 - 해제 함수 반환
+export const onStatus = (listener) => {
+  statusListeners.add(listener)
+  return () => statusListeners.delete(listener)
+}
+
+export default {
+  connect,
+  disconnect,
+  reconnect,
+  isOpen,
+  applyOperations,
+  applyBoardOperations,
+  onChange,
+  onStatus
+}
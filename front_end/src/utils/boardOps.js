@@ -0,0 +1,125 @@
+// 레이드 보드 작업 - 칸 전체 대신 요소(캐릭터 배치/제외, 완료 여부) 단위로 저장하고 받은 작업을 그대로 반영
+// 같은 요소에 대한 작업은 (lamport, replica) 가 큰 쪽이 이김 (서버 BoardMerge 와 같은 규칙)
+import { findCharacterUserId, findCharacterIsSupporter } from '@/utils/characterHelpers'
+
+// 완료 여부 요소 (서버 BoardMerge.FINISH)
+const FINISH = ''
+
+// 탭마다 다른 클라이언트 id - 같은 시각의 작업 순서를 정하는 데 사용
+const replica = `tab-${Math.random().toString(36).slice(2, 10)}`
+let lamport = 0
+
+const stamps = new Map()  // `${scheduleKey}/${요소}` -> 마지막으로 반영한 작업 { lamport, replica }
+const synced = new Map()  // scheduleKey -> 서버에 반영된 칸 상태 { members: Set, finished }
+
+const isNewer = (operation, stamp) =>
+  !stamp || operation.lamport > stamp.lamport ||
+  (operation.lamport === stamp.lamport && operation.replica > stamp.replica)
+
+// 서버 또는 다른 클라이언트의 시각을 받으면 그 이후로 시각을 맞춤 (Lamport 시각)
+export const observeLamport = (value) => {
+  lamport = Math.max(lamport, Number(value) || 0)
+}
+
+// 전체 조회 결과로 서버 상태 초기화 (loadData 후)
+export const resetSynced = (schedules, scheduleFinish) => {
+  synced.clear()
+  Object.keys(schedules).forEach(key => {
+    synced.set(key, {
+      members: new Set(schedules[key].map(character => character.name)),
+      finished: !!scheduleFinish[key]
+    })
+  })
+}
+
+// 칸의 현재 화면 상태와 서버 상태를 비교해서 보드 작업 목록 생성
+// commit 은 저장 성공 후 호출 (실패하면 다음 저장에서 같은 차이를 다시 보냄)
+export const diffCell = (scheduleKey, characterNames, isFinished) => {
+  const [party, raidName] = scheduleKey.split('-')
+  const previous = synced.get(scheduleKey) || { members: new Set(), finished: false }
+  const members = new Set(characterNames)
+  const operations = []
+
+  const stamp = (operation, element) => {
+    operation.lamport = ++lamport
+    operation.replica = replica
+    stamps.set(`${scheduleKey}/${element}`, { lamport: operation.lamport, replica })
+    operations.push(operation)
+  }
+
+  members.forEach(name => {
+    if (!previous.members.has(name)) {
+      stamp({ type: 'add', party, raidName, character: name }, name)
+    }
+  })
+  previous.members.forEach(name => {
+    if (!members.has(name)) {
+      stamp({ type: 'remove', party, raidName, character: name }, name)
+    }
+  })
+  if (!!isFinished !== previous.finished) {
+    stamp({ type: 'finish', party, raidName, isFinish: !!isFinished }, FINISH)
+  }
+
+  // 보낸 작업만 서버 상태에 반영 (저장 중에 받은 다른 클라이언트의 작업은 유지)
+  const commit = () => {
+    const state = synced.get(scheduleKey) || { members: new Set(), finished: false }
+    operations.forEach(operation => {
+      if (operation.type === 'add') state.members.add(operation.character)
+      else if (operation.type === 'remove') state.members.delete(operation.character)
+      else state.finished = operation.isFinish
+    })
+    synced.set(scheduleKey, state)
+  }
+  return { operations, commit }
+}
+
+// 다른 클라이언트가 반영한 보드 작업을 화면 상태에 적용 - 적용한 작업 수 반환
+// 내가 더 나중에 바꾼 요소(저장 중인 작업 포함)는 건너뜀
+export const applyRemoteOps = (operations, schedules, scheduleFinish, characters) => {
+  let changed = 0
+  ;(operations || []).forEach(operation => {
+    observeLamport(operation.lamport)
+    const scheduleKey = `${operation.party}-${operation.raidName}`
+    const element = operation.type === 'finish' ? FINISH : operation.character
+    const stampKey = `${scheduleKey}/${element}`
+    if (!isNewer(operation, stamps.get(stampKey))) return
+    stamps.set(stampKey, { lamport: operation.lamport, replica: operation.replica })
+
+    const state = synced.get(scheduleKey) || { members: new Set(), finished: false }
+    const list = schedules[scheduleKey] || []
+    if (operation.type === 'add') {
+      state.members.add(operation.character)
+      if (!list.some(character => character.name === operation.character)) {
+        schedules[scheduleKey] = [...list, {
+          name: operation.character,
+          scheduleId: Date.now() + Math.random(),
+          raidName: operation.raidName,
+          partyName: operation.party,
+          userId: findCharacterUserId(operation.character, characters),
+          isSupporter: findCharacterIsSupporter(operation.character, characters)
+        }]
+      }
+    } else if (operation.type === 'remove') {
+      state.members.delete(operation.character)
+      schedules[scheduleKey] = list.filter(character => character.name !== operation.character)
+    } else if (operation.type === 'finish') {
+      state.finished = !!operation.isFinish
+      if (operation.isFinish) {
+        scheduleFinish[scheduleKey] = true
+      } else {
+        delete scheduleFinish[scheduleKey]
+      }
+    }
+    synced.set(scheduleKey, state)
+    changed++
+  })
+  return changed
+}
+
+export default {
+  observeLamport,
+  resetSynced,
+  diffCell,
+  applyRemoteOps
+}
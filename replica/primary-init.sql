@@ -0,0 +1,4 @@
+-- 복제용 계정 (replica 프로필, docker compose --profile replica)
+-- MariaDB 데이터 볼륨을 처음 만들 때만 실행됩니다.
+CREATE USER IF NOT EXISTS 'repl'@'%' IDENTIFIED BY 'replpass';
+GRANT REPLICATION SLAVE ON *.* TO 'repl'@'%';
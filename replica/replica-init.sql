@@ -0,0 +1,10 @@
+-- 읽기 복제본 초기화 - primary(mariadb) 의 binlog 를 GTID 기준으로 처음부터 따라감
+-- 테이블은 백엔드 시작 시 primary 에서 생성되고 복제로 전달됩니다.
+CHANGE MASTER TO
+  MASTER_HOST = 'mariadb',
+  MASTER_PORT = 3306,
+  MASTER_USER = 'repl',
+  MASTER_PASSWORD = 'replpass',
+  MASTER_USE_GTID = slave_pos,
+  MASTER_CONNECT_RETRY = 10;
+START SLAVE;